@@ -0,0 +1,69 @@
+package seedu.address.logic.parser;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures {@link TuteeManagingSystemParser#parseCommand(String)} for a typical use of every command.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TuteeManagingSystemParserBenchmark {
+
+    private static final Map<String, String> COMMANDS = Map.ofEntries(
+            Map.entry("add", "add n/John Doe p/98765432 e/johnd@example.com a/311, Clementi Ave 2, #02-25 "
+                    + "s/Math sch/monday st/08:30 et/10:30 t/GoodEffort t/owesMoney"),
+            Map.entry("clear", "clear"),
+            Map.entry("copy", "copy 1 s/English sch/monday st/08:30 et/10:30"),
+            Map.entry("delete", "delete 1"),
+            Map.entry("edit", "edit 1 p/91234567 e/johndoe@example.com"),
+            Map.entry("exit", "exit"),
+            Map.entry("filter", "filter n/John s/Math sch/monday"),
+            Map.entry("find", "find alice bob charlie"),
+            Map.entry("fuzzyFind", "find --fuzzy alcie bob"),
+            Map.entry("help", "help"),
+            Map.entry("learn", "learn 1 l/Rational Number"),
+            Map.entry("list", "list"),
+            Map.entry("mark", "mark 1 2023-03-14"),
+            Map.entry("query", "query 1 2023-03-14"),
+            Map.entry("remark", "remark 1 r/Likes to swim."),
+            Map.entry("stats", "stats"),
+            Map.entry("unlearn", "unlearn 1 l/Rational Number"),
+            Map.entry("unmark", "unmark 1 2023-03-14"));
+
+    @Param({"add", "clear", "copy", "delete", "edit", "exit", "filter", "find", "fuzzyFind", "help", "learn", "list",
+        "mark", "query", "remark", "stats", "unlearn", "unmark"})
+    public String command;
+
+    private final TuteeManagingSystemParser parser = new TuteeManagingSystemParser();
+    private String commandText;
+
+    @Setup
+    public void setUp() {
+        commandText = COMMANDS.get(command);
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(commandText);
+    }
+}
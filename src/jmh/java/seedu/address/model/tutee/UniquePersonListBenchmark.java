@@ -0,0 +1,72 @@
+package seedu.address.model.tutee;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.tutee.fields.Phone;
+import seedu.address.model.util.SyntheticRoster;
+
+/**
+ * Measures adding, replacing and looking up a tutee in a {@link UniquePersonList} of {@code size} tutees.
+ * The list is restored after every operation, so every operation sees a list of the same size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private UniquePersonList list;
+    private Tutee absentTutee;
+    private Tutee middleTutee;
+    private Tutee editedMiddleTutee;
+
+    @Setup
+    public void setUp() throws IllegalValueException {
+        SyntheticRoster roster = new SyntheticRoster();
+        list = new UniquePersonList();
+        list.setPersons(roster.generate(size));
+        absentTutee = roster.tutee(size);
+        middleTutee = roster.tutee(size / 2);
+        editedMiddleTutee = new TuteeBuilder(middleTutee).withPhone(new Phone("61234567")).build();
+    }
+
+    @Benchmark
+    public void addThenRemove() {
+        list.add(absentTutee);
+        list.remove(absentTutee);
+    }
+
+    @Benchmark
+    public void setPersonThenRestore() {
+        list.setPerson(middleTutee, editedMiddleTutee);
+        list.setPerson(editedMiddleTutee, middleTutee);
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return list.contains(middleTutee);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return list.contains(absentTutee);
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.model.tutee.fields;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Attendance#markAttendance(LocalDate)} on an attendance of {@code attendanceCount} dates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AttendanceBenchmark {
+
+    private static final LocalDate FIRST_LESSON = LocalDate.of(2020, 1, 6);
+
+    @Param({"10", "100", "1000"})
+    public int attendanceCount;
+
+    private Attendance attendance;
+    private LocalDate newDate;
+
+    @Setup
+    public void setUp() {
+        Set<LocalDate> dates = new HashSet<>();
+        for (int week = 0; week < attendanceCount; week++) {
+            dates.add(FIRST_LESSON.plusWeeks(week));
+        }
+        attendance = new Attendance(dates);
+        newDate = FIRST_LESSON.plusWeeks(attendanceCount);
+    }
+
+    @Benchmark
+    public Attendance markAttendance() {
+        return attendance.markAttendance(newDate);
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.model.tutee.fields;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.util.SyntheticRoster;
+
+/**
+ * Measures {@link FieldContainsKeywordsPredicate#test(Tutee)} over {@code ROSTER_SIZE} tutees,
+ * with only a name keyword and with the values of one tutee for every field.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FieldContainsKeywordsPredicateBenchmark {
+
+    private static final int ROSTER_SIZE = 1000;
+
+    private List<Tutee> tutees;
+    private FieldContainsKeywordsPredicate namePredicate;
+    private FieldContainsKeywordsPredicate allFieldsPredicate;
+
+    @Setup
+    public void setUp() {
+        tutees = new SyntheticRoster().generate(ROSTER_SIZE);
+        namePredicate = new FieldContainsKeywordsPredicate(List.of("Tan"), "", "",
+                Collections.emptyList(), "", "", "", "", Collections.emptyList());
+        Tutee target = tutees.get(ROSTER_SIZE / 2);
+        allFieldsPredicate = new FieldContainsKeywordsPredicate(List.of(target.getName().fullName.split(" ")[0]),
+                target.getPhone().value, target.getEmail().value, List.of("Blk"),
+                target.getSubject().subject, target.getSchedule().schedule, target.getStartTime().startTime,
+                target.getEndTime().endTime,
+                target.getTags().stream().map(tag -> tag.tagName).collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public int testName() {
+        return count(namePredicate);
+    }
+
+    @Benchmark
+    public int testAllFields() {
+        return count(allFieldsPredicate);
+    }
+
+    private int count(FieldContainsKeywordsPredicate predicate) {
+        int matches = 0;
+        for (Tutee tutee : tutees) {
+            if (predicate.test(tutee)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
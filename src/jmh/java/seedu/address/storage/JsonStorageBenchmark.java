@@ -0,0 +1,71 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.TuteeManagingSystem;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.util.SyntheticRoster;
+
+/**
+ * Measures converting an address book of {@code size} tutees to and from JSON, the way
+ * {@link JsonAddressBookStorage} does, and converting a single {@link JsonAdaptedPerson} back to a tutee.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonStorageBenchmark {
+
+    @Param({"1000", "10000"})
+    public int size;
+
+    private TuteeManagingSystem tuteeManagingSystem;
+    private String json;
+    private JsonAdaptedPerson adaptedPerson;
+
+    @Setup
+    public void setUp() throws IOException {
+        SyntheticRoster roster = new SyntheticRoster();
+        tuteeManagingSystem = roster.generateTuteeManagingSystem(size);
+        json = JsonUtil.toJsonString(new JsonSerializableAddressBook(tuteeManagingSystem));
+        adaptedPerson = new JsonAdaptedPerson(roster.tutee(0));
+    }
+
+    @Benchmark
+    public String serialize() throws IOException {
+        return JsonUtil.toJsonString(new JsonSerializableAddressBook(tuteeManagingSystem));
+    }
+
+    @Benchmark
+    public TuteeManagingSystem deserialize() throws IOException, IllegalValueException {
+        return JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType();
+    }
+
+    @Benchmark
+    public TuteeManagingSystem roundTrip() throws IOException, IllegalValueException {
+        String serialized = JsonUtil.toJsonString(new JsonSerializableAddressBook(tuteeManagingSystem));
+        return JsonUtil.fromJsonString(serialized, JsonSerializableAddressBook.class).toModelType();
+    }
+
+    @Benchmark
+    public Tutee toModelType() throws IllegalValueException {
+        return adaptedPerson.toModelType();
+    }
+}
@@ -17,6 +17,7 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path flightRecordingPath;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,6 +27,17 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the file that a continuous flight recording should be written to, or null if none was requested.
+     */
+    public Path getFlightRecordingPath() {
+        return flightRecordingPath;
+    }
+
+    public void setFlightRecordingPath(Path flightRecordingPath) {
+        this.flightRecordingPath = flightRecordingPath;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -40,6 +52,14 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String flightRecordingParameter = namedParameters.get("flightRecording");
+        if (flightRecordingParameter != null && !FileUtil.isValidPath(flightRecordingParameter)) {
+            logger.warning("Invalid flight recording path " + flightRecordingParameter + ". Not recording.");
+            flightRecordingParameter = null;
+        }
+        appParameters.setFlightRecordingPath(
+                flightRecordingParameter != null ? Paths.get(flightRecordingParameter) : null);
+
         return appParameters;
     }
 
@@ -54,11 +74,12 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getFlightRecordingPath(), otherAppParameters.getFlightRecordingPath());
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, flightRecordingPath);
     }
 }
@@ -3,28 +3,38 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
+import seedu.address.api.ApiServer;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.DurabilityMode;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
+import seedu.address.commons.core.jfr.FlightRecording;
+import seedu.address.commons.core.jfr.StartupPhaseEvent;
+import seedu.address.commons.core.stats.PerformanceStats;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.CompressionUtil;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
-import seedu.address.model.ReadOnlyTuteeManagingSystem;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.TuteeManagingSystem;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.FileSyncer;
+import seedu.address.storage.JournalCompactor;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.SegmentedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -43,54 +53,92 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected JournalCompactor journalCompactor;
+    protected FileSyncer fileSyncer;
     protected Model model;
     protected Config config;
+    protected FlightRecording flightRecording;
+    protected PerformanceStats performanceStats;
+    protected ApiServer apiServer;
 
+    private long startupStart;
+
+    /**
+     * Reads the config and prefs, and sets up the app with no tutees.
+     * The tutees are loaded in the background once the window is shown.
+     */
     @Override
     public void init() throws Exception {
+        startupStart = System.nanoTime();
         logger.info("=============================[ Initializing TuteeManagingSystem ]===========================");
         super.init();
+        performanceStats = new PerformanceStats();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        if (appParameters.getFlightRecordingPath() != null) {
+            flightRecording = FlightRecording.start(appParameters.getFlightRecordingPath());
+        }
+        config = runPhase("config", () -> initConfig(appParameters.getConfigPath()));
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getTuteeManagingSystemPath());
+        UserPrefs userPrefs = runPhase("prefs", () -> initPrefs(userPrefsStorage));
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
-        initLogging(config);
+        runPhase("logging", () -> {
+            initLogging(config);
+            return null;
+        });
 
-        model = initModelManager(storage, userPrefs);
+        model = runPhase("model", () -> new ModelManager(new TuteeManagingSystem(), userPrefs, performanceStats,
+                Platform::runLater));
 
-        logic = new LogicManager(model, storage);
+        logic = runPhase("logic", () -> new LogicManager(model, storage));
 
         ui = new UiManager(logic);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Runs the startup phase {@code phase} and returns its result, recording it as a {@code StartupPhaseEvent}
+     * and in {@code performanceStats}.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        Optional<ReadOnlyTuteeManagingSystem> addressBookOptional;
-        ReadOnlyTuteeManagingSystem initialData;
-        try {
-            addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample TuteeManagingSystem");
-            }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty TuteeManagingSystem");
-            initialData = new TuteeManagingSystem();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty TuteeManagingSystem");
-            initialData = new TuteeManagingSystem();
-        }
+    private <T> T runPhase(String phase, Supplier<T> step) {
+        StartupPhaseEvent event = new StartupPhaseEvent(phase);
+        event.begin();
+        long start = System.nanoTime();
+        T result = step.get();
+        long nanos = System.nanoTime() - start;
+        event.commit();
 
-        return new ModelManager(initialData, userPrefs);
+        performanceStats.recordStartupPhase(phase, nanos);
+        logger.info(() -> String.format("Startup phase %s took %.2f ms", phase, PerformanceStats.toMillis(nanos)));
+        return result;
+    }
+
+    /**
+     * Returns the storage for the data file in {@code userPrefs}, laid out and forced to the disk as
+     * {@code userPrefs} specifies.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getTuteeManagingSystemPath();
+        logger.info("Using data file " + addressBookFilePath + " with storage layout " + userPrefs.getStorageLayout()
+                + ", compression " + userPrefs.getDataCompression() + " and durability "
+                + userPrefs.getDurabilityMode());
+        fileSyncer = new FileSyncer(userPrefs.getDurabilityMode(), userPrefs.getGroupCommitMillis(),
+                userPrefs.getGroupCommitCommands(), performanceStats);
+        switch (userPrefs.getStorageLayout()) {
+        case SEGMENTED:
+            return new SegmentedAddressBookStorage(addressBookFilePath, fileSyncer);
+        case JOURNALED:
+            JournaledAddressBookStorage journaledStorage = new JournaledAddressBookStorage(addressBookFilePath,
+                    userPrefs.getDataCompression(), userPrefs.getCompressionLevel(), fileSyncer);
+            journalCompactor = new JournalCompactor(journaledStorage);
+            journalCompactor.start(JournalCompactor.DEFAULT_CHECK_INTERVAL_MILLIS);
+            return journaledStorage;
+        default:
+            return new JsonAddressBookStorage(addressBookFilePath, userPrefs.getDataCompression(),
+                    userPrefs.getCompressionLevel(), fileSyncer);
+        }
     }
 
     private void initLogging(Config config) {
@@ -155,6 +203,22 @@ public class MainApp extends Application {
             initializedPrefs = new UserPrefs();
         }
 
+        if (!CompressionUtil.isValidLevel(initializedPrefs.getCompressionLevel())) {
+            logger.warning("Compression level " + initializedPrefs.getCompressionLevel() + " in " + prefsFilePath
+                    + " is not valid. Using the default compression level");
+            initializedPrefs.setCompressionLevel(CompressionUtil.DEFAULT_LEVEL);
+        }
+        if (initializedPrefs.getGroupCommitMillis() <= 0) {
+            logger.warning("Group commit interval " + initializedPrefs.getGroupCommitMillis() + " in " + prefsFilePath
+                    + " is not valid. Using the default group commit interval");
+            initializedPrefs.setGroupCommitMillis(DurabilityMode.DEFAULT_GROUP_COMMIT_MILLIS);
+        }
+        if (initializedPrefs.getGroupCommitCommands() <= 0) {
+            logger.warning("Group commit size " + initializedPrefs.getGroupCommitCommands() + " in " + prefsFilePath
+                    + " is not valid. Using the default group commit size");
+            initializedPrefs.setGroupCommitCommands(DurabilityMode.DEFAULT_GROUP_COMMIT_COMMANDS);
+        }
+
         //Update prefs file in case it was missing to begin with or there are new/unused fields
         try {
             storage.saveUserPrefs(initializedPrefs);
@@ -168,16 +232,69 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting TuteeManagingSystem " + MainApp.VERSION);
-        ui.start(primaryStage);
+        long loadStart = System.nanoTime();
+        logic.loadInBackground(() -> {
+            performanceStats.recordStartupPhase("data", System.nanoTime() - loadStart);
+            performanceStats.recordStartupPhase("total", System.nanoTime() - startupStart);
+            logger.info(() -> "Loaded all tutees. Startup: " + performanceStats.getStartupSummary());
+        });
+
+        runPhase("window", () -> {
+            ui.start(primaryStage);
+            return null;
+        });
+        performanceStats.recordStartupPhase("interactive", System.nanoTime() - startupStart);
+
+        if (config.getApiPort() != null) {
+            startApiServer(config.getApiPort());
+        }
+    }
+
+    /**
+     * Starts serving the API on {@code port}, with commands from it submitted to the model like every other write,
+     * and writes its token next to the data file.
+     */
+    private void startApiServer(int port) {
+        try {
+            apiServer = new ApiServer(logic, port, ApiServer.DEFAULT_THREADS);
+            Path tokenFile = logic.getAddressBookFilePath().resolveSibling(ApiServer.TOKEN_FILE_NAME);
+            apiServer.writeToken(tokenFile);
+            apiServer.start();
+            logger.info("API token written to " + tokenFile);
+        } catch (IOException e) {
+            logger.warning("Failed to start the API on port " + port + ": " + StringUtil.getDetails(e));
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping TMS ] =============================");
+        if (apiServer != null) {
+            apiServer.close();
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+
+        if (journalCompactor != null) {
+            journalCompactor.close();
+        }
+        if (fileSyncer != null) {
+            fileSyncer.close();
+        }
+
+        if (config.getStatsFilePath() != null) {
+            try {
+                performanceStats.writeCsv(config.getStatsFilePath());
+            } catch (IOException e) {
+                logger.warning("Failed to save command timings " + StringUtil.getDetails(e));
+            }
+        }
+
+        if (flightRecording != null) {
+            flightRecording.stop();
+        }
     }
 }
@@ -0,0 +1,411 @@
+package seedu.address.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.FilterCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * A JSON API over HTTP for other programs on this computer to read the tutees and run commands.
+ * <ul>
+ *     <li>{@code GET /tutees?filter=&offset=&limit=} lists the tutees matching {@code filter}, which takes the
+ *     arguments of the {@code filter} command, e.g. {@code s/Math sch/monday}.</li>
+ *     <li>{@code GET /attendance?date=yyyy-MM-dd} lists the tutees who attended on {@code date}.</li>
+ *     <li>{@code POST /commands} runs the command in the request body, as if it were typed into the app.</li>
+ * </ul>
+ * Every request must carry the token of this session as {@code Authorization: Bearer TOKEN}. The token is made up
+ * when the server is created and {@link #writeToken(Path) written} to a file only the user can read, so that web
+ * pages and other users cannot run commands. Requests with a {@code Host} or {@code Origin} other than this computer
+ * are also rejected, so that a web page cannot reach the server through a host name it controls.
+ * <p>
+ * Requests are handled by a pool of threads. Reads use the latest published snapshot of the tutees, so they run
+ * concurrently with each other and with commands without locking. Commands are {@link Logic#submit(String)
+ * submitted} to the thread that changes the model, in the same queue as every other write to it, so commands sent
+ * together run one after another in one task on that thread.
+ * Responses are written to the client as they are generated rather than built up in memory.
+ */
+public class ApiServer implements Closeable {
+
+    public static final int DEFAULT_THREADS = 4;
+    public static final int DEFAULT_LIMIT = 100;
+    public static final String TOKEN_FILE_NAME = "api-token";
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+    private static final DateTimeFormatter DATE_FORMATTER =
+            DateTimeFormatter.ofPattern(QueryCommand.EXPECTED_DATE_FORMAT);
+    private static final int MAX_COMMAND_BYTES = 64 * 1024;
+    private static final int TOKEN_BYTES = 32;
+    private static final String BEARER = "Bearer ";
+    private static final Set<String> LOOPBACK_HOSTS = Set.of("127.0.0.1", "localhost", "[::1]");
+
+    private final Logic logic;
+    private final HttpServer server;
+    private final ExecutorService handlers;
+    private final String token;
+
+    /**
+     * Creates a server on the loopback interface at {@code port}, or any free port if {@code port} is 0, that reads
+     * the tutees of {@code logic} and runs its commands. It handles requests on {@code threads} threads once
+     * {@link #start() started}.
+     */
+    public ApiServer(Logic logic, int port, int threads) throws IOException {
+        this.logic = requireNonNull(logic);
+        byte[] tokenBytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(tokenBytes);
+        token = Base64.getUrlEncoder().withoutPadding().encodeToString(tokenBytes);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        handlers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "api-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.setExecutor(handlers);
+        server.createContext("/tutees", exchange -> handle(exchange, "GET", this::listTutees));
+        server.createContext("/attendance", exchange -> handle(exchange, "GET", this::listAttendance));
+        server.createContext("/commands", exchange -> handle(exchange, "POST", this::runCommand));
+    }
+
+    public void start() {
+        server.start();
+        logger.info("API listening on " + server.getAddress());
+    }
+
+    /**
+     * Returns the port the server is listening on.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Returns the token requests must carry.
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Writes the token requests must carry to {@code file}, which only the user can read where the file system
+     * supports it.
+     */
+    public void writeToken(Path file) throws IOException {
+        requireNonNull(file);
+        FileUtil.createIfMissing(file);
+        if (Files.getFileStore(file).supportsFileAttributeView("posix")) {
+            Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-------"));
+        }
+        FileUtil.writeToFile(file, token);
+    }
+
+    /**
+     * Stops the server, waiting at most a second for the requests being handled to finish.
+     */
+    @Override
+    public void close() {
+        server.stop(1);
+        handlers.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange, String method, HttpHandler handler) throws IOException {
+        try {
+            if (!isFromThisComputer(exchange)) {
+                sendError(exchange, 403, "Requests must be sent to this computer by a program on it");
+                return;
+            }
+            if (!isAuthorized(exchange)) {
+                exchange.getResponseHeaders().set("WWW-Authenticate", "Bearer");
+                sendError(exchange, 401, "Send the token of this session as Authorization: Bearer TOKEN");
+                return;
+            }
+            if (!exchange.getRequestMethod().equals(method)) {
+                exchange.getResponseHeaders().set("Allow", method);
+                sendError(exchange, 405, "Use " + method);
+                return;
+            }
+            handler.handle(exchange);
+        } catch (BadRequestException e) {
+            sendError(exchange, 400, e.getMessage());
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Failed to handle " + exchange.getRequestURI() + ": " + StringUtil.getDetails(e));
+            throw e;
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Returns true if {@code exchange} was sent to this server by its loopback address, and not from a web page on
+     * another site.
+     */
+    private boolean isFromThisComputer(HttpExchange exchange) {
+        String host = exchange.getRequestHeaders().getFirst("Host");
+        if (host == null || !isThisServer(host)) {
+            return false;
+        }
+        String origin = exchange.getRequestHeaders().getFirst("Origin");
+        return origin == null || (origin.startsWith("http://") && isThisServer(origin.substring("http://".length())));
+    }
+
+    /**
+     * Returns true if {@code hostAndPort} names this server by a loopback host.
+     */
+    private boolean isThisServer(String hostAndPort) {
+        int colon = hostAndPort.lastIndexOf(':');
+        return colon > 0
+                && LOOPBACK_HOSTS.contains(hostAndPort.substring(0, colon).toLowerCase())
+                && hostAndPort.substring(colon + 1).equals(String.valueOf(getPort()));
+    }
+
+    private boolean isAuthorized(HttpExchange exchange) {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null || !authorization.startsWith(BEARER)) {
+            return false;
+        }
+        // Compared in constant time, so that the token cannot be guessed from how long a rejection takes
+        return MessageDigest.isEqual(authorization.substring(BEARER.length()).getBytes(StandardCharsets.UTF_8),
+                token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void listTutees(HttpExchange exchange) throws IOException {
+        Map<String, String> query = parseQuery(exchange);
+        Predicate<Tutee> predicate = parseFilter(query.get("filter"));
+        int offset = parseCount(query, "offset", 0);
+        int limit = parseCount(query, "limit", DEFAULT_LIMIT);
+
+        List<Tutee> tutees = logic.getTuteeSnapshot();
+        try (JsonGenerator json = startResponse(exchange, 200)) {
+            json.writeStartObject();
+            json.writeArrayFieldStart("tutees");
+            int matched = 0;
+            for (int i = 0; i < tutees.size(); i++) {
+                Tutee tutee = tutees.get(i);
+                if (!predicate.test(tutee)) {
+                    continue;
+                }
+                if (matched >= offset && matched - offset < limit) {
+                    writeTutee(json, i + 1, tutee);
+                }
+                matched++;
+            }
+            json.writeEndArray();
+            json.writeNumberField("offset", offset);
+            json.writeNumberField("total", matched);
+            json.writeEndObject();
+        }
+    }
+
+    private void listAttendance(HttpExchange exchange) throws IOException {
+        String date = parseQuery(exchange).get("date");
+        if (date == null) {
+            throw new BadRequestException("date is required");
+        }
+        LocalDate attendedOn;
+        try {
+            attendedOn = LocalDate.parse(date, DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("date must be in the format " + QueryCommand.EXPECTED_DATE_FORMAT);
+        }
+
+        List<Tutee> tutees = logic.getTuteeSnapshot();
+        try (JsonGenerator json = startResponse(exchange, 200)) {
+            json.writeStartObject();
+            json.writeStringField("date", date);
+            json.writeArrayFieldStart("attended");
+            for (int i = 0; i < tutees.size(); i++) {
+                Tutee tutee = tutees.get(i);
+                if (tutee.getAttendance().didAttend(attendedOn)) {
+                    json.writeStartObject();
+                    json.writeNumberField("index", i + 1);
+                    json.writeStringField("name", tutee.getName().toString());
+                    json.writeEndObject();
+                }
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+    }
+
+    private void runCommand(HttpExchange exchange) throws IOException {
+        String commandText = readBody(exchange).trim();
+        if (commandText.isEmpty()) {
+            throw new BadRequestException("The request body must be a command");
+        }
+
+        int status = 200;
+        String field = "feedback";
+        String message;
+        try {
+            CommandResult result = logic.submit(commandText).get();
+            message = result.getFeedbackToUser();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while running " + commandText, e);
+        } catch (ExecutionException e) {
+            if (!(e.getCause() instanceof CommandException) && !(e.getCause() instanceof ParseException)) {
+                throw new IOException("Failed to run " + commandText, e.getCause());
+            }
+            status = 400;
+            field = "error";
+            message = e.getCause().getMessage();
+        }
+
+        try (JsonGenerator json = startResponse(exchange, status)) {
+            json.writeStartObject();
+            json.writeStringField(field, message);
+            json.writeEndObject();
+        }
+    }
+
+    private static void writeTutee(JsonGenerator json, int index, Tutee tutee) throws IOException {
+        json.writeStartObject();
+        json.writeNumberField("index", index);
+        json.writeStringField("name", tutee.getName().toString());
+        json.writeStringField("phone", tutee.getPhone().toString());
+        json.writeStringField("email", tutee.getEmail().toString());
+        json.writeStringField("address", tutee.getAddress().toString());
+        json.writeStringField("subject", tutee.getSubject().toString());
+        json.writeStringField("schedule", tutee.getSchedule().toString());
+        json.writeStringField("startTime", tutee.getStartTime().toString());
+        json.writeStringField("endTime", tutee.getEndTime().toString());
+        json.writeArrayFieldStart("tags");
+        for (Tag tag : tutee.getTags()) {
+            json.writeString(tag.tagName);
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+    }
+
+    /**
+     * Sends the headers of a JSON response of unknown length, and returns a generator for its body.
+     */
+    private static JsonGenerator startResponse(HttpExchange exchange, int status) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, 0);
+        return JsonUtil.createGenerator(exchange.getResponseBody());
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        try (JsonGenerator json = startResponse(exchange, status)) {
+            json.writeStartObject();
+            json.writeStringField("error", message);
+            json.writeEndObject();
+        }
+    }
+
+    private static Predicate<Tutee> parseFilter(String filter) {
+        if (filter == null || filter.isBlank()) {
+            return tutee -> true;
+        }
+        try {
+            // The prefixes of the filter command must follow a space
+            return new FilterCommandParser().parse(" " + filter).getPredicate();
+        } catch (ParseException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+    }
+
+    private static int parseCount(Map<String, String> query, String name, int defaultCount) {
+        String value = query.get(name);
+        if (value == null) {
+            return defaultCount;
+        }
+        try {
+            int count = Integer.parseInt(value);
+            if (count >= 0) {
+                return count;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new BadRequestException(name + " must be a number that is not negative");
+    }
+
+    private static Map<String, String> parseQuery(HttpExchange exchange) {
+        Map<String, String> query = new HashMap<>();
+        String rawQuery = exchange.getRequestURI().getRawQuery();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String parameter : rawQuery.split("&")) {
+            int equals = parameter.indexOf('=');
+            if (equals < 0) {
+                query.put(decode(parameter), "");
+            } else {
+                query.put(decode(parameter.substring(0, equals)), decode(parameter.substring(equals + 1)));
+            }
+        }
+        return query;
+    }
+
+    private static String decode(String text) {
+        try {
+            return URLDecoder.decode(text, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException | IllegalArgumentException e) {
+            throw new BadRequestException("Malformed query: " + text);
+        }
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            byte[] bytes = body.readNBytes(MAX_COMMAND_BYTES + 1);
+            if (bytes.length > MAX_COMMAND_BYTES) {
+                throw new BadRequestException("The command is too long");
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Signals that a request cannot be handled as it was sent.
+     */
+    private static class BadRequestException extends RuntimeException {
+        BadRequestException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that hands log records to other handlers on a single background writer thread.
+ * Records are queued in a bounded ring buffer, so logging never waits for the console or the log file.
+ * If the buffer is full, new records are dropped and a warning with the number of dropped records is logged
+ * once there is space again.
+ */
+public class AsyncLogHandler extends Handler {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final long CLOSE_TIMEOUT_MILLIS = 2000;
+
+    private final Handler[] delegates;
+    private final LogRecord[] buffer;
+    private final Thread writer;
+
+    private int head;
+    private int size;
+    private int droppedCount;
+    private boolean isWriting;
+    private boolean isClosed;
+
+    /**
+     * Creates an {@code AsyncLogHandler} that queues up to {@code capacity} records for {@code delegates},
+     * and starts its writer thread.
+     */
+    public AsyncLogHandler(int capacity, Handler... delegates) {
+        checkArgument(capacity > 0, "Capacity must be positive");
+        requireNonNull(delegates);
+        this.delegates = delegates.clone();
+        buffer = new LogRecord[capacity];
+        writer = new Thread(this::runWriter, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (!isLoggable(record)) {
+            return;
+        }
+        // The caller is inferred from the stack, so it has to be found before the record leaves this thread
+        record.getSourceClassName();
+
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+            if (size == buffer.length) {
+                droppedCount++;
+                return;
+            }
+            buffer[(head + size) % buffer.length] = record;
+            size++;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Waits until every record queued so far has been written, for at most {@code CLOSE_TIMEOUT_MILLIS}.
+     */
+    @Override
+    public synchronized void flush() {
+        long deadline = System.currentTimeMillis() + CLOSE_TIMEOUT_MILLIS;
+        while ((size > 0 || isWriting) && writer.isAlive()) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return;
+            }
+            try {
+                wait(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Writes the records that are still queued, stops the writer thread and closes the handlers written to.
+     * Records published after this are ignored.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            isClosed = true;
+            notifyAll();
+        }
+        try {
+            writer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (Handler delegate : delegates) {
+            delegate.close();
+        }
+    }
+
+    /**
+     * Returns the number of records that were dropped and not yet reported.
+     */
+    public synchronized int getDroppedCount() {
+        return droppedCount;
+    }
+
+    private void runWriter() {
+        LogRecord[] batch = new LogRecord[buffer.length];
+        while (true) {
+            int batchSize;
+            int dropped;
+            synchronized (this) {
+                isWriting = false;
+                notifyAll();
+                while (size == 0 && !isClosed) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (size == 0) {
+                    return;
+                }
+                batchSize = takeAll(batch);
+                dropped = droppedCount;
+                droppedCount = 0;
+                isWriting = true;
+            }
+
+            if (dropped > 0) {
+                LogRecord warning = new LogRecord(Level.WARNING,
+                        dropped + " log records were dropped because the log buffer was full");
+                warning.setLoggerName(AsyncLogHandler.class.getSimpleName());
+                write(warning);
+            }
+            for (int i = 0; i < batchSize; i++) {
+                write(batch[i]);
+                batch[i] = null;
+            }
+            for (Handler delegate : delegates) {
+                delegate.flush();
+            }
+        }
+    }
+
+    /**
+     * Moves every queued record into {@code batch} and returns how many there were.
+     */
+    private int takeAll(LogRecord[] batch) {
+        int count = size;
+        for (int i = 0; i < count; i++) {
+            int index = (head + i) % buffer.length;
+            batch[i] = buffer[index];
+            buffer[index] = null;
+        }
+        head = (head + count) % buffer.length;
+        size = 0;
+        return count;
+    }
+
+    private void write(LogRecord record) {
+        for (Handler delegate : delegates) {
+            try {
+                delegate.publish(record);
+            } catch (RuntimeException e) {
+                reportError(null, e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+}
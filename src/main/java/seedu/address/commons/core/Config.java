@@ -15,6 +15,10 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    /** File that command timings are written to on exit, or null if they should not be written. */
+    private Path statsFilePath = null;
+    /** Local port that the HTTP API listens on, or null if there should be no API. */
+    private Integer apiPort = null;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +36,22 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public Path getStatsFilePath() {
+        return statsFilePath;
+    }
+
+    public void setStatsFilePath(Path statsFilePath) {
+        this.statsFilePath = statsFilePath;
+    }
+
+    public Integer getApiPort() {
+        return apiPort;
+    }
+
+    public void setApiPort(Integer apiPort) {
+        this.apiPort = apiPort;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +64,14 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && Objects.equals(statsFilePath, o.statsFilePath)
+                && Objects.equals(apiPort, o.apiPort);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, statsFilePath, apiPort);
     }
 
     @Override
@@ -0,0 +1,13 @@
+package seedu.address.commons.core;
+
+/**
+ * How the data file is compressed.
+ */
+public enum DataCompression {
+    /** Plain json. */
+    NONE,
+    /** Json compressed in the gzip format, readable by common archive tools. */
+    GZIP,
+    /** Json compressed in the zlib format, slightly smaller than gzip. */
+    DEFLATE
+}
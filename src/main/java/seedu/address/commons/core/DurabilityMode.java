@@ -0,0 +1,16 @@
+package seedu.address.commons.core;
+
+/**
+ * How soon saved data is forced to the disk, so that it survives the operating system crashing or losing power.
+ */
+public enum DurabilityMode {
+    /** Saved data is left for the operating system to write to the disk when it chooses. */
+    NEVER,
+    /** Saved data is forced to the disk before every command that changed it finishes. */
+    PER_COMMAND,
+    /** The data saved by many commands is forced to the disk together, every few milliseconds or commands. */
+    GROUP_COMMIT;
+
+    public static final long DEFAULT_GROUP_COMMIT_MILLIS = 100;
+    public static final int DEFAULT_GROUP_COMMIT_COMMANDS = 32;
+}
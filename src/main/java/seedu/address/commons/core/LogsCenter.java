@@ -1,9 +1,12 @@
 package seedu.address.commons.core;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
@@ -14,6 +17,9 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up tomaximum of 5 files.<br>
+ * Both are written to by an {@link AsyncLogHandler}, so logging never waits for the console or the disk.
+ * Messages that are expensive to build should be passed as a {@code Supplier}, e.g.
+ *   {@code logger.fine(() -> "..." + value)}, so that they are only built if their level is enabled.<br>
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
@@ -21,8 +27,7 @@ public class LogsCenter {
     private static final String LOG_FILE = "addressbook.log";
     private static Level currentLogLevel = Level.INFO;
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
-    private static FileHandler fileHandler;
-    private static ConsoleHandler consoleHandler;
+    private static AsyncLogHandler asyncHandler;
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
@@ -43,8 +48,7 @@ public class LogsCenter {
         logger.setUseParentHandlers(false);
 
         removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
+        addAsyncHandler(logger);
 
         return Logger.getLogger(name);
     }
@@ -59,17 +63,6 @@ public class LogsCenter {
         return getLogger(clazz.getSimpleName());
     }
 
-    /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
-     */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
-            consoleHandler = createConsoleHandler();
-        }
-        logger.addHandler(consoleHandler);
-    }
-
     /**
      * Remove all the handlers from {@code logger}.
      */
@@ -79,16 +72,28 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Adds the {@code asyncHandler} to the {@code logger}. <br>
+     * Creates the {@code asyncHandler}, writing to the console and the log file, if it is null.
      */
-    private static void addFileHandler(Logger logger) {
+    private static void addAsyncHandler(Logger logger) {
+        if (asyncHandler != null) {
+            logger.addHandler(asyncHandler);
+            return;
+        }
+
+        List<Handler> handlers = new ArrayList<>();
+        handlers.add(createConsoleHandler());
+        IOException fileHandlerException = null;
         try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
-            }
-            logger.addHandler(fileHandler);
+            handlers.add(createFileHandler());
         } catch (IOException e) {
+            fileHandlerException = e;
+        }
+        asyncHandler = new AsyncLogHandler(AsyncLogHandler.DEFAULT_CAPACITY, handlers.toArray(new Handler[0]));
+        asyncHandler.setLevel(currentLogLevel);
+        logger.addHandler(asyncHandler);
+
+        if (fileHandlerException != null) {
             logger.warning("Error adding file handler for logger.");
         }
     }
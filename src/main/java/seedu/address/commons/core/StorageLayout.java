@@ -0,0 +1,13 @@
+package seedu.address.commons.core;
+
+/**
+ * How the tutees are laid out in the data file.
+ */
+public enum StorageLayout {
+    /** All tutees in a single json file, rewritten on every save. */
+    JSON,
+    /** Tutees split into many small json files next to a manifest, so a save only rewrites the files that changed. */
+    SEGMENTED,
+    /** A snapshot of every tutee, and journals of the tutees changed since, folded into the snapshot over time. */
+    JOURNALED
+}
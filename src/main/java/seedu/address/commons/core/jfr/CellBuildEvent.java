@@ -0,0 +1,20 @@
+package seedu.address.commons.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for building the card of a tutee in the person list.
+ */
+@Name("seedu.address.CellBuild")
+@Label("Cell Build")
+@Category(FlightRecording.CATEGORY)
+@Description("Building the card of a tutee in the person list")
+public class CellBuildEvent extends Event {
+
+    @Label("Index")
+    public int index;
+}
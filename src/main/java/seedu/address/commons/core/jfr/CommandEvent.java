@@ -0,0 +1,29 @@
+package seedu.address.commons.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event for a command executed by {@code LogicManager}, covering parsing, execution and saving.
+ */
+@Name("seedu.address.Command")
+@Label("Command")
+@Category(FlightRecording.CATEGORY)
+@Description("A command entered by the user, from parsing to saving")
+public class CommandEvent extends Event {
+
+    @Label("Command Word")
+    public String commandWord;
+
+    @Label("Parse Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    public long parseDuration;
+
+    @Label("Execute Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    public long executeDuration;
+}
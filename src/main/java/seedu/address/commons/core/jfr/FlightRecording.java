@@ -0,0 +1,69 @@
+package seedu.address.commons.core.jfr;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.logging.Logger;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A continuous Flight Recorder recording of the app, written to a file when the app exits.
+ * Only the most recent {@link #MAX_AGE} of events, up to {@link #MAX_SIZE_BYTES}, are kept, so the recording can
+ * be left on for a whole session. The custom events of the app cost nothing while no recording is running.
+ */
+public class FlightRecording {
+
+    public static final String CATEGORY = "Tutee Managing System";
+
+    public static final Duration MAX_AGE = Duration.ofMinutes(30);
+    public static final long MAX_SIZE_BYTES = 50L * 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(FlightRecording.class);
+    private static final String CONFIGURATION_NAME = "default";
+
+    private final Recording recording;
+
+    private FlightRecording(Recording recording) {
+        this.recording = recording;
+    }
+
+    /**
+     * Starts a continuous recording that is written to {@code destination} when {@link #stop()} is called
+     * or the JVM exits. Returns null if the recording could not be started.
+     */
+    public static FlightRecording start(Path destination) {
+        requireNonNull(destination);
+        try {
+            FileUtil.createParentDirsOfFile(destination);
+            Recording recording = new Recording(Configuration.getConfiguration(CONFIGURATION_NAME));
+            recording.setName("TuteeManagingSystem");
+            recording.setToDisk(true);
+            recording.setMaxAge(MAX_AGE);
+            recording.setMaxSize(MAX_SIZE_BYTES);
+            recording.setDestination(destination);
+            recording.setDumpOnExit(true);
+            recording.start();
+            logger.info("Flight recording started, will be written to " + destination);
+            return new FlightRecording(recording);
+        } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+            logger.warning("Failed to start flight recording: " + StringUtil.getDetails(e));
+            return null;
+        }
+    }
+
+    /**
+     * Stops the recording and writes it to its destination.
+     */
+    public void stop() {
+        recording.stop();
+        recording.close();
+    }
+}
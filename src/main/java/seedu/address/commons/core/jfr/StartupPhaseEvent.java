@@ -0,0 +1,24 @@
+package seedu.address.commons.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for one phase of {@code MainApp#init()}.
+ */
+@Name("seedu.address.StartupPhase")
+@Label("Startup Phase")
+@Category(FlightRecording.CATEGORY)
+@Description("One phase of starting up the app")
+public class StartupPhaseEvent extends Event {
+
+    @Label("Phase")
+    public String phase;
+
+    public StartupPhaseEvent(String phase) {
+        this.phase = phase;
+    }
+}
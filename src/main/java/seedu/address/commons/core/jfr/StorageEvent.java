@@ -0,0 +1,35 @@
+package seedu.address.commons.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for reading or saving the address book data file.
+ */
+@Name("seedu.address.Storage")
+@Label("Storage")
+@Category(FlightRecording.CATEGORY)
+@Description("Reading or saving the data file")
+public class StorageEvent extends Event {
+
+    public static final String READ = "read";
+    public static final String SAVE = "save";
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("File Size")
+    @DataAmount
+    public long bytes;
+
+    @Label("Tutee Count")
+    public int tuteeCount;
+
+    public StorageEvent(String operation) {
+        this.operation = operation;
+    }
+}
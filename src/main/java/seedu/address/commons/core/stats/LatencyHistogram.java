@@ -0,0 +1,80 @@
+package seedu.address.commons.core.stats;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * Records durations in a fixed number of log-linear buckets, in the style of an HDR histogram.
+ * Durations below 64 ns are recorded exactly. Larger durations are grouped into 32 buckets per power of two,
+ * so percentiles are reported with a relative error of at most about 3%, using constant memory no matter how
+ * many durations are recorded.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT / 2;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (Long.SIZE - SUB_BUCKET_BITS) * HALF_SUB_BUCKET_COUNT;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long maxValue;
+
+    /**
+     * Records a duration of {@code nanos} nanoseconds.
+     */
+    public synchronized void record(long nanos) {
+        checkArgument(nanos >= 0, "Duration cannot be negative");
+        counts[bucketOf(nanos)]++;
+        totalCount++;
+        maxValue = Math.max(maxValue, nanos);
+    }
+
+    public synchronized long getCount() {
+        return totalCount;
+    }
+
+    public synchronized long getMax() {
+        return maxValue;
+    }
+
+    /**
+     * Returns the smallest recorded duration, in nanoseconds, that {@code percentile} percent of the recorded
+     * durations do not exceed, up to the precision of the buckets. Returns 0 if nothing was recorded.
+     */
+    public synchronized long getPercentile(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "Percentile must be between 0 and 100");
+        if (totalCount == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += counts[bucket];
+            if (seen >= target) {
+                return Math.min(highestValueIn(bucket), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    private static int bucketOf(long nanos) {
+        if (nanos < SUB_BUCKET_COUNT) {
+            return (int) nanos;
+        }
+        int highestBit = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+        int shift = highestBit - SUB_BUCKET_BITS + 1;
+        int subBucket = (int) (nanos >>> shift) - HALF_SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT + (shift - 1) * HALF_SUB_BUCKET_COUNT + subBucket;
+    }
+
+    private static long highestValueIn(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int offset = bucket - SUB_BUCKET_COUNT;
+        int shift = offset / HALF_SUB_BUCKET_COUNT + 1;
+        long subBucket = offset % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
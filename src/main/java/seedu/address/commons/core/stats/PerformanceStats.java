@@ -0,0 +1,196 @@
+package seedu.address.commons.core.stats;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.commons.core.DurabilityMode;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Collects how long each phase of handling a command takes, in one {@code LatencyHistogram} per command word
+ * and phase, how long each phase of starting up the app took, and how long forcing saved files to the disk takes
+ * under each {@code DurabilityMode}.
+ */
+public class PerformanceStats {
+
+    /**
+     * The phases of handling a command that are timed.
+     */
+    public enum Phase {
+        PARSE, EXECUTE, SAVE, UI_REFRESH
+    }
+
+    public static final String CSV_HEADER = "command,phase,count,p50_ms,p95_ms,p99_ms,max_ms";
+    public static final String STARTUP = "startup";
+    public static final String FSYNC = "fsync";
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final String WHITESPACE = "\\s+";
+
+    private final Map<String, Map<Phase, LatencyHistogram>> histograms = new TreeMap<>();
+    private final Map<String, Long> startupPhases = new LinkedHashMap<>();
+    private final Map<DurabilityMode, LatencyHistogram> syncs = new EnumMap<>(DurabilityMode.class);
+    private final Map<DurabilityMode, Long> syncedCommands = new EnumMap<>(DurabilityMode.class);
+    private volatile long lastSaveNanos = -1;
+    private long savedBytes;
+
+    /**
+     * Records that {@code phase} of handling a {@code commandWord} command took {@code nanos} nanoseconds.
+     */
+    public synchronized void record(String commandWord, Phase phase, long nanos) {
+        requireAllNonNull(commandWord, phase);
+        histograms.computeIfAbsent(commandWord, unused -> new EnumMap<>(Phase.class))
+                .computeIfAbsent(phase, unused -> new LatencyHistogram())
+                .record(nanos);
+        if (phase == Phase.SAVE) {
+            lastSaveNanos = nanos;
+        }
+    }
+
+    /**
+     * Records that the startup phase {@code phase} took {@code nanos} nanoseconds.
+     * Phases are reported in the order they were first recorded. Recording a phase again replaces its duration.
+     */
+    public synchronized void recordStartupPhase(String phase, long nanos) {
+        requireNonNull(phase);
+        startupPhases.put(phase, nanos);
+    }
+
+    /**
+     * Records that forcing saved files to the disk under {@code mode} took {@code nanos} nanoseconds, and covered
+     * the saves of {@code commands} commands.
+     */
+    public synchronized void recordSync(DurabilityMode mode, long nanos, int commands) {
+        requireNonNull(mode);
+        syncs.computeIfAbsent(mode, unused -> new LatencyHistogram()).record(nanos);
+        syncedCommands.merge(mode, (long) commands, Long::sum);
+    }
+
+    /**
+     * Returns the number of times saved files were forced to the disk under {@code mode}.
+     */
+    public synchronized long getSyncCount(DurabilityMode mode) {
+        LatencyHistogram histogram = syncs.get(mode);
+        return histogram == null ? 0 : histogram.getCount();
+    }
+
+    /**
+     * Returns the number of commands whose saves were forced to the disk under {@code mode}.
+     */
+    public synchronized long getSyncedCommandCount(DurabilityMode mode) {
+        return syncedCommands.getOrDefault(mode, 0L);
+    }
+
+    /**
+     * Returns how long each startup phase took, in nanoseconds, in the order they were recorded.
+     */
+    public synchronized Map<String, Long> getStartupPhases() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(startupPhases));
+    }
+
+    /**
+     * Returns how long each startup phase took in milliseconds, on one line, or an empty string if no startup
+     * phase was recorded.
+     */
+    public synchronized String getStartupSummary() {
+        StringBuilder builder = new StringBuilder();
+        startupPhases.forEach((phase, nanos) -> builder.append(builder.length() == 0 ? "" : ", ")
+                .append(String.format("%s %.2f ms", phase, toMillis(nanos))));
+        return builder.toString();
+    }
+
+    /**
+     * Records that a save wrote {@code bytes} bytes, over every file it wrote to.
+     */
+    public synchronized void recordSavedBytes(long bytes) {
+        savedBytes += bytes;
+    }
+
+    /**
+     * Returns the number of bytes written by every save recorded so far.
+     */
+    public synchronized long getSavedBytes() {
+        return savedBytes;
+    }
+
+    /**
+     * Returns how long the last save took, in nanoseconds, or -1 if nothing has been saved yet.
+     */
+    public long getLastSaveNanos() {
+        return lastSaveNanos;
+    }
+
+    /**
+     * Returns the command word of {@code commandText}, the way the parser would see it.
+     */
+    public static String getCommandWord(String commandText) {
+        requireNonNull(commandText);
+        return commandText.trim().split(WHITESPACE, 2)[0];
+    }
+
+    /**
+     * Returns one line for every command word and phase that was timed, with its percentiles in milliseconds,
+     * followed by one line for every {@code DurabilityMode} saved files were forced under, with the number of
+     * commands each fsync covered.
+     */
+    public synchronized String getSummary() {
+        StringBuilder builder = new StringBuilder();
+        histograms.forEach((commandWord, phases) -> phases.forEach((phase, histogram) ->
+                builder.append(String.format("%-8s %-10s n=%d p50=%.2f p95=%.2f p99=%.2f max=%.2f ms%n",
+                        commandWord, phase.name().toLowerCase(), histogram.getCount(),
+                        toMillis(histogram.getPercentile(50)), toMillis(histogram.getPercentile(95)),
+                        toMillis(histogram.getPercentile(99)), toMillis(histogram.getMax())))));
+        syncs.forEach((mode, histogram) -> builder.append(String.format(
+                "%-8s %-10s n=%d p50=%.2f p95=%.2f p99=%.2f max=%.2f ms, %.1f commands/fsync%n",
+                FSYNC, mode.name().toLowerCase(), histogram.getCount(), toMillis(histogram.getPercentile(50)),
+                toMillis(histogram.getPercentile(95)), toMillis(histogram.getPercentile(99)),
+                toMillis(histogram.getMax()), (double) syncedCommands.get(mode) / histogram.getCount())));
+        return builder.toString();
+    }
+
+    /**
+     * Returns the same figures as {@link #getSummary()} in CSV format, starting with {@link #CSV_HEADER}.
+     * Durability modes are listed with {@link #FSYNC} as their command, followed by one line for every startup
+     * phase with {@link #STARTUP} as its command.
+     */
+    public synchronized String toCsv() {
+        StringBuilder builder = new StringBuilder(CSV_HEADER).append('\n');
+        histograms.forEach((commandWord, phases) -> phases.forEach((phase, histogram) ->
+                builder.append(String.format(Locale.ROOT, "%s,%s,%d,%.3f,%.3f,%.3f,%.3f\n",
+                        commandWord, phase.name().toLowerCase(), histogram.getCount(),
+                        toMillis(histogram.getPercentile(50)), toMillis(histogram.getPercentile(95)),
+                        toMillis(histogram.getPercentile(99)), toMillis(histogram.getMax())))));
+        syncs.forEach((mode, histogram) -> builder.append(String.format(Locale.ROOT,
+                "%s,%s,%d,%.3f,%.3f,%.3f,%.3f\n", FSYNC, mode.name().toLowerCase(), histogram.getCount(),
+                toMillis(histogram.getPercentile(50)), toMillis(histogram.getPercentile(95)),
+                toMillis(histogram.getPercentile(99)), toMillis(histogram.getMax()))));
+        startupPhases.forEach((phase, nanos) -> builder.append(String.format(Locale.ROOT,
+                "%1$s,%2$s,1,%3$.3f,%3$.3f,%3$.3f,%3$.3f\n", STARTUP, phase, toMillis(nanos))));
+        return builder.toString();
+    }
+
+    /**
+     * Writes {@link #toCsv()} to {@code file}, replacing its contents.
+     */
+    public void writeCsv(Path file) throws IOException {
+        requireNonNull(file);
+        FileUtil.createIfMissing(file);
+        FileUtil.writeToFile(file, toCsv());
+    }
+
+    /**
+     * Converts {@code nanos} nanoseconds to milliseconds.
+     */
+    public static double toMillis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,135 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import seedu.address.commons.core.DataCompression;
+
+/**
+ * Opens files for streaming through a compressor or decompressor, without holding the whole file in memory.
+ */
+public class CompressionUtil {
+
+    public static final int MIN_LEVEL = Deflater.NO_COMPRESSION;
+    public static final int MAX_LEVEL = Deflater.BEST_COMPRESSION;
+    public static final int DEFAULT_LEVEL = 6;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int GZIP_MAGIC_FIRST = 0x1f;
+    private static final int GZIP_MAGIC_SECOND = 0x8b;
+    private static final int ZLIB_DEFLATE_METHOD = 8;
+    private static final int ZLIB_HEADER_CHECK = 31;
+
+    /**
+     * Returns true if {@code level} is a valid compression level.
+     */
+    public static boolean isValidLevel(int level) {
+        return level >= MIN_LEVEL && level <= MAX_LEVEL;
+    }
+
+    /**
+     * Opens {@code file} for writing, compressing what is written with {@code compression} at {@code level}.
+     * Creates the file and its parent directories if they do not exist, and overwrites the file if it does.
+     */
+    public static OutputStream openForWriting(Path file, DataCompression compression, int level)
+            throws IOException {
+        requireAllNonNull(file, compression);
+        AppUtil.checkArgument(isValidLevel(level), "Compression level must be from " + MIN_LEVEL + " to "
+                + MAX_LEVEL);
+
+        FileUtil.createParentDirsOfFile(file);
+        OutputStream out = Channels.newOutputStream(FileUtil.openForWriting(file));
+        switch (compression) {
+        case GZIP:
+            return new GZIPOutputStream(out, BUFFER_SIZE) {
+                {
+                    def.setLevel(level);
+                }
+            };
+        case DEFLATE:
+            return new LevelDeflaterOutputStream(out, level);
+        default:
+            return new BufferedOutputStream(out, BUFFER_SIZE);
+        }
+    }
+
+    /**
+     * Opens {@code file} for reading, decompressing it if it was written compressed by
+     * {@link #openForWriting(Path, DataCompression, int)}. Plain files are read as they are.
+     */
+    public static InputStream openForReading(Path file) throws IOException {
+        return decompress(Files.newInputStream(file));
+    }
+
+    /**
+     * Returns the decompressed contents of {@code in}, or {@code in} itself if it is not compressed.
+     * Closing the returned stream closes {@code in}.
+     */
+    public static InputStream decompress(InputStream in) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(in, BUFFER_SIZE);
+        try {
+            switch (detect(buffered)) {
+            case GZIP:
+                return new GZIPInputStream(buffered, BUFFER_SIZE);
+            case DEFLATE:
+                return new InflaterInputStream(buffered);
+            default:
+                return buffered;
+            }
+        } catch (IOException e) {
+            buffered.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns how the stream is compressed, judging by its first two bytes, without consuming them.
+     */
+    private static DataCompression detect(BufferedInputStream in) throws IOException {
+        in.mark(2);
+        int first = in.read();
+        int second = in.read();
+        in.reset();
+        if (first == GZIP_MAGIC_FIRST && second == GZIP_MAGIC_SECOND) {
+            return DataCompression.GZIP;
+        }
+        // A zlib header names the deflate method, and as a big-endian number is a multiple of 31.
+        // Plain json starts with whitespace or a bracket, so it never looks like this.
+        if (first >= 0 && second >= 0 && (first & 0x0f) == ZLIB_DEFLATE_METHOD
+                && ((first << 8) | second) % ZLIB_HEADER_CHECK == 0) {
+            return DataCompression.DEFLATE;
+        }
+        return DataCompression.NONE;
+    }
+
+    /**
+     * A {@code DeflaterOutputStream} with its own {@code Deflater} at a given level, released when it is closed.
+     */
+    private static class LevelDeflaterOutputStream extends DeflaterOutputStream {
+        LevelDeflaterOutputStream(OutputStream out, int level) {
+            super(out, new Deflater(level), BUFFER_SIZE);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                def.end();
+            }
+        }
+    }
+}
@@ -1,10 +1,18 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
 
 /**
  * Writes and reads files
@@ -77,7 +85,83 @@ public class FileUtil {
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        try (FileChannel channel = openForWriting(file)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(CHARSET));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Opens a channel that replaces the contents of {@code file}.
+     * Will create the file if it does not exist yet.
+     */
+    public static FileChannel openForWriting(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Forces the contents of {@code file}, which may be a directory, to the disk.
+     * Does nothing if {@code file} no longer exists, or if it is a directory and the platform cannot force
+     * directories.
+     */
+    public static void force(Path file) throws IOException {
+        boolean isDirectory = Files.isDirectory(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (NoSuchFileException e) {
+            // Deleted or replaced since it was written, so there is nothing left to force
+        } catch (IOException e) {
+            if (!isDirectory) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Returns the CRC-32 checksum of the contents of {@code file}.
+     */
+    public static long checksum(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(file), crc)) {
+            byte[] buffer = new byte[8192];
+            while (in.read(buffer) != -1) {
+                // Read only for the checksum
+            }
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Returns the total size of {@code file} and of the files and directories next to it whose names start with its
+     * name and a dot, such as its journals, its segments directory and its temporary files.
+     */
+    public static long sizeWithCompanions(Path file) throws IOException {
+        String companionPrefix = file.getFileName() + ".";
+        long size = Files.size(file);
+        Path directory = file.toAbsolutePath().getParent();
+        try (Stream<Path> siblings = Files.list(directory)) {
+            for (Path sibling : (Iterable<Path>) siblings::iterator) {
+                if (sibling.getFileName().toString().startsWith(companionPrefix)) {
+                    size += sizeOfTree(sibling);
+                }
+            }
+        }
+        return size;
+    }
+
+    private static long sizeOfTree(Path path) throws IOException {
+        try (Stream<Path> files = Files.walk(path)) {
+            long size = 0;
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (Files.isRegularFile(file)) {
+                    size += Files.size(file);
+                }
+            }
+            return size;
+        }
     }
 
 }
@@ -0,0 +1,60 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A bounded canonical map that hands out one shared instance for every string it is given, so that the same value
+ * held by many objects is only stored once, and comparing two shared instances stops at their identity.
+ * <p>
+ * Once {@code maxSize} strings are remembered, the instances of new strings are created but not remembered, so that
+ * a stream of distinct values cannot grow the map without bound. Safe to use from several threads.
+ *
+ * @param <T> the immutable type of the instances.
+ */
+public class Interner<T> {
+
+    public static final int DEFAULT_MAX_SIZE = 4096;
+
+    private final Map<String, T> instances = new ConcurrentHashMap<>();
+    private final Function<String, T> factory;
+    private final int maxSize;
+
+    /**
+     * Creates an {@code Interner} that creates the instance of a string with {@code factory}, and remembers at most
+     * {@code maxSize} of them.
+     */
+    public Interner(Function<String, T> factory, int maxSize) {
+        requireNonNull(factory);
+        checkArgument(maxSize > 0, "Maximum size must be positive");
+        this.factory = factory;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the shared instance for {@code value}, creating it with the factory if there is none yet.
+     * Exceptions thrown by the factory, e.g. for an invalid {@code value}, are passed on and nothing is remembered.
+     */
+    public T intern(String value) {
+        requireNonNull(value);
+        T instance = instances.get(value);
+        if (instance != null) {
+            return instance;
+        }
+        if (instances.size() >= maxSize) {
+            return factory.apply(value);
+        }
+        return instances.computeIfAbsent(value, factory);
+    }
+
+    /**
+     * Returns the number of shared instances remembered.
+     */
+    public int size() {
+        return instances.size();
+    }
+}
@@ -1,25 +1,38 @@
 package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.Closeable;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
+import seedu.address.commons.core.DataCompression;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 
@@ -45,12 +58,15 @@ public class JsonUtil {
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = CompressionUtil.openForReading(jsonFile)) {
+            return objectMapper.readValue(in, classOfObjectToDeserialize);
+        }
     }
 
     /**
      * Returns the Json object from the given file or {@code Optional.empty()} object if the file is not found.
      * If any values are missing from the file, default values will be used, as long as the file is a valid json file.
+     * Compressed files are detected and decompressed as they are read.
      * @param filePath cannot be null.
      * @param classOfObjectToDeserialize Json file has to correspond to the structure in the class given here.
      * @throws DataConversionException if the file format is not as expected.
@@ -90,6 +106,89 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path)}, but streams the Json object to the file, compressing it with
+     * {@code compression} at {@code level}.
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, DataCompression compression, int level)
+            throws IOException {
+        requireAllNonNull(jsonFile, filePath, compression);
+
+        try (OutputStream out = CompressionUtil.openForWriting(filePath, compression, level)) {
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(out, jsonFile);
+        }
+    }
+
+    /**
+     * Saves a Json object with a single array field {@code fieldName} holding {@code elements} to the specified file.
+     * The elements are written one at a time as they are taken from {@code elements}, so they never have to be
+     * in memory together.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonArrayFile(String fieldName, Iterator<T> elements, Path filePath)
+            throws IOException {
+        saveJsonArrayFile(fieldName, elements, filePath, DataCompression.NONE, CompressionUtil.DEFAULT_LEVEL);
+    }
+
+    /**
+     * Similar to {@link #saveJsonArrayFile(String, Iterator, Path)}, but compresses the file with
+     * {@code compression} at {@code level} as it is written.
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonArrayFile(String fieldName, Iterator<T> elements, Path filePath,
+            DataCompression compression, int level) throws IOException {
+        requireAllNonNull(fieldName, elements, filePath, compression);
+
+        ObjectWriter writer = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(
+                CompressionUtil.openForWriting(filePath, compression, level))) {
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(fieldName);
+            while (elements.hasNext()) {
+                writer.writeValue(generator, elements.next());
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Returns a compact Json generator that writes to {@code out} as values are written to it, and can write any
+     * object that this class can, e.g. with {@link JsonGenerator#writeObject(Object)}. Closing the generator closes
+     * {@code out}.
+     */
+    public static JsonGenerator createGenerator(OutputStream out) throws IOException {
+        requireNonNull(out);
+        return objectMapper.getFactory().createGenerator(out);
+    }
+
+    /**
+     * Opens the specified file to read the elements of the array field {@code fieldName} of its Json object one
+     * at a time, or returns {@code Optional.empty()} if the file is not found. The returned reader must be closed.
+     * Compressed files are detected and decompressed as they are read.
+     * @param elementClass the elements of the array have to correspond to the structure in the class given here.
+     * @throws DataConversionException if the file is not a Json object.
+     */
+    public static <T> Optional<JsonArrayReader<T>> openJsonArrayFile(Path filePath, String fieldName,
+            Class<T> elementClass) throws DataConversionException {
+        requireAllNonNull(filePath, fieldName, elementClass);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(new JsonArrayReader<>(filePath, fieldName, elementClass));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -110,6 +209,125 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string without line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Reads the elements of an array field of a Json object in a file one at a time, so that they never have to
+     * be in memory together.
+     */
+    public static class JsonArrayReader<T> implements Closeable {
+
+        private final JsonParser parser;
+        private final ObjectReader reader;
+        private final CountingInputStream file;
+        private final long fileSize;
+        private boolean hasMoreElements;
+
+        private JsonArrayReader(Path filePath, String fieldName, Class<T> elementClass) throws IOException {
+            fileSize = Files.size(filePath);
+            reader = objectMapper.readerFor(elementClass);
+            file = new CountingInputStream(Files.newInputStream(filePath));
+            parser = objectMapper.getFactory().createParser(CompressionUtil.decompress(file));
+            try {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    throw new JsonParseException(parser, "Expected a Json object");
+                }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    boolean isField = fieldName.equals(parser.getCurrentName());
+                    JsonToken value = parser.nextToken();
+                    if (isField && value == JsonToken.START_ARRAY) {
+                        hasMoreElements = true;
+                        return;
+                    }
+                    parser.skipChildren();
+                }
+            } catch (IOException e) {
+                parser.close();
+                throw e;
+            }
+        }
+
+        /**
+         * Returns the next element of the array, or {@code null} if there are no more elements.
+         * @throws DataConversionException if the element is not in the expected format.
+         */
+        public T readNext() throws DataConversionException {
+            if (!hasMoreElements) {
+                return null;
+            }
+            try {
+                if (parser.nextToken() == JsonToken.END_ARRAY) {
+                    hasMoreElements = false;
+                    return null;
+                }
+                return reader.readValue(parser);
+            } catch (IOException e) {
+                throw new DataConversionException(e);
+            }
+        }
+
+        /**
+         * Returns the fraction of the file that has been read, between 0 and 1.
+         * As the file is read ahead in blocks, this is only approximate.
+         */
+        public double getFractionRead() {
+            return fileSize <= 0 ? 0 : Math.min(1, (double) file.getCount() / fileSize);
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+
+    /**
+     * An {@code InputStream} that counts the bytes read through it.
+     */
+    private static class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
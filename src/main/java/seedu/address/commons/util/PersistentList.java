@@ -0,0 +1,291 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list that is changed by making a new version of it with {@link #plus(int, Object)},
+ * {@link #with(int, Object)} or {@link #minus(int)}, which share everything but O(log n) of their structure with
+ * the version they were made from. The old version stays valid and unchanged, so it can be handed to other threads
+ * and read without locking.
+ * <p>
+ * The elements are kept in the leaves of a B-tree whose nodes have at most 32 entries and know how many elements are
+ * below them. The methods of {@code List} that would change it throw {@link UnsupportedOperationException}.
+ * Null elements are not allowed.
+ *
+ * @param <E> the immutable type of the elements.
+ */
+public final class PersistentList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int MAX_WIDTH = 32;
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node root;
+
+    private PersistentList(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code elements} in order, which is {@code elements} itself if it is already a
+     * {@code PersistentList}. Takes O(n) time.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> copyOf(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements instanceof PersistentList) {
+            return (PersistentList<E>) elements;
+        }
+        if (elements.isEmpty()) {
+            return empty();
+        }
+
+        List<Node> level = new ArrayList<>();
+        Object[] leaf = new Object[Math.min(MAX_WIDTH, elements.size())];
+        int filled = 0;
+        int remaining = elements.size();
+        for (E element : elements) {
+            leaf[filled++] = requireNonNull(element);
+            remaining--;
+            if (filled == leaf.length) {
+                level.add(new Leaf(leaf));
+                leaf = new Object[Math.min(MAX_WIDTH, remaining)];
+                filled = 0;
+            }
+        }
+        while (level.size() > 1) {
+            List<Node> parents = new ArrayList<>();
+            for (int i = 0; i < level.size(); i += MAX_WIDTH) {
+                List<Node> children = level.subList(i, Math.min(i + MAX_WIDTH, level.size()));
+                parents.add(new Branch(children.toArray(new Node[0])));
+            }
+            level = parents;
+        }
+        return new PersistentList<>(level.get(0));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index, size());
+        return (E) root.get(index);
+    }
+
+    @Override
+    public int size() {
+        return root == null ? 0 : root.size;
+    }
+
+    /**
+     * Returns a list with the elements of this list and {@code element} at the end.
+     */
+    public PersistentList<E> plus(E element) {
+        return plus(size(), element);
+    }
+
+    /**
+     * Returns a list with the elements of this list and {@code element} at {@code index}, before the elements that
+     * were from {@code index} on.
+     */
+    public PersistentList<E> plus(int index, E element) {
+        requireNonNull(element);
+        checkIndex(index, size() + 1);
+        if (root == null) {
+            return new PersistentList<>(new Leaf(new Object[] {element}));
+        }
+        Node[] newNodes = root.insert(index, element);
+        return new PersistentList<>(newNodes.length == 1 ? newNodes[0] : new Branch(newNodes));
+    }
+
+    /**
+     * Returns a list with the elements of this list, but {@code element} at {@code index} instead.
+     */
+    public PersistentList<E> with(int index, E element) {
+        requireNonNull(element);
+        checkIndex(index, size());
+        return new PersistentList<>(root.set(index, element));
+    }
+
+    /**
+     * Returns a list with the elements of this list but the one at {@code index}.
+     */
+    public PersistentList<E> minus(int index) {
+        checkIndex(index, size());
+        Node newRoot = root.remove(index);
+        // Drop the levels left with a single child
+        while (newRoot instanceof Branch && ((Branch) newRoot).children.length == 1) {
+            newRoot = ((Branch) newRoot).children[0];
+        }
+        return newRoot == null ? empty() : new PersistentList<>(newRoot);
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + bound);
+        }
+    }
+
+    /**
+     * A node of the tree, which is never changed once made.
+     */
+    private abstract static class Node {
+        final int size;
+
+        Node(int size) {
+            this.size = size;
+        }
+
+        abstract Object get(int index);
+
+        abstract Node set(int index, Object element);
+
+        /**
+         * Returns the node with {@code element} inserted, or two nodes splitting its entries if there are too many.
+         */
+        abstract Node[] insert(int index, Object element);
+
+        /**
+         * Returns the node without the element at {@code index}, or null if it would be empty.
+         */
+        abstract Node remove(int index);
+    }
+
+    private static final class Leaf extends Node {
+        private final Object[] elements;
+
+        Leaf(Object[] elements) {
+            super(elements.length);
+            this.elements = elements;
+        }
+
+        @Override
+        Object get(int index) {
+            return elements[index];
+        }
+
+        @Override
+        Node set(int index, Object element) {
+            Object[] copy = elements.clone();
+            copy[index] = element;
+            return new Leaf(copy);
+        }
+
+        @Override
+        Node[] insert(int index, Object element) {
+            Object[] copy = new Object[elements.length + 1];
+            System.arraycopy(elements, 0, copy, 0, index);
+            copy[index] = element;
+            System.arraycopy(elements, index, copy, index + 1, elements.length - index);
+            if (copy.length <= MAX_WIDTH) {
+                return new Node[] {new Leaf(copy)};
+            }
+            int half = copy.length / 2;
+            return new Node[] {new Leaf(Arrays.copyOfRange(copy, 0, half)),
+                new Leaf(Arrays.copyOfRange(copy, half, copy.length))};
+        }
+
+        @Override
+        Node remove(int index) {
+            if (elements.length == 1) {
+                return null;
+            }
+            Object[] copy = new Object[elements.length - 1];
+            System.arraycopy(elements, 0, copy, 0, index);
+            System.arraycopy(elements, index + 1, copy, index, copy.length - index);
+            return new Leaf(copy);
+        }
+    }
+
+    private static final class Branch extends Node {
+        private final Node[] children;
+
+        Branch(Node[] children) {
+            super(sizeOf(children));
+            this.children = children;
+        }
+
+        @Override
+        Object get(int index) {
+            int child = 0;
+            while (index >= children[child].size) {
+                index -= children[child++].size;
+            }
+            return children[child].get(index);
+        }
+
+        @Override
+        Node set(int index, Object element) {
+            int child = 0;
+            while (index >= children[child].size) {
+                index -= children[child++].size;
+            }
+            Node[] copy = children.clone();
+            copy[child] = children[child].set(index, element);
+            return new Branch(copy);
+        }
+
+        @Override
+        Node[] insert(int index, Object element) {
+            // Inserting at the end goes into the last child
+            int child = 0;
+            while (child < children.length - 1 && index >= children[child].size) {
+                index -= children[child++].size;
+            }
+            Node[] newChildren = children[child].insert(index, element);
+
+            Node[] copy = new Node[children.length + newChildren.length - 1];
+            System.arraycopy(children, 0, copy, 0, child);
+            System.arraycopy(newChildren, 0, copy, child, newChildren.length);
+            System.arraycopy(children, child + 1, copy, child + newChildren.length, children.length - child - 1);
+            if (copy.length <= MAX_WIDTH) {
+                return new Node[] {new Branch(copy)};
+            }
+            int half = copy.length / 2;
+            return new Node[] {new Branch(Arrays.copyOfRange(copy, 0, half)),
+                new Branch(Arrays.copyOfRange(copy, half, copy.length))};
+        }
+
+        @Override
+        Node remove(int index) {
+            int child = 0;
+            while (index >= children[child].size) {
+                index -= children[child++].size;
+            }
+            Node newChild = children[child].remove(index);
+            if (newChild != null) {
+                Node[] copy = children.clone();
+                copy[child] = newChild;
+                return new Branch(copy);
+            }
+            if (children.length == 1) {
+                return null;
+            }
+            Node[] copy = new Node[children.length - 1];
+            System.arraycopy(children, 0, copy, 0, child);
+            System.arraycopy(children, child + 1, copy, child, copy.length - child);
+            return new Branch(copy);
+        }
+
+        private static int sizeOf(Node[] children) {
+            int size = 0;
+            for (Node child : children) {
+                size += child.size;
+            }
+            return size;
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable set that is changed by making a new version of it with {@link #plus(Object)} or
+ * {@link #minus(Object)}, which share everything but O(log n) of their structure with the version they were made
+ * from. The old version stays valid and unchanged, so it can be kept around as cheaply as a reference.
+ * <p>
+ * The elements are kept in a hash array mapped trie: every node spends five bits of an element's hash code to pick
+ * one of 32 slots, and only the slots in use are stored. Elements whose hash codes are equal end up together in a
+ * collision node. The methods of {@code Set} that would change it throw {@link UnsupportedOperationException}.
+ * Null elements are not allowed.
+ *
+ * @param <E> the immutable type of the elements.
+ */
+public final class PersistentSet<E> extends AbstractSet<E> {
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int SLOT_MASK = (1 << BITS_PER_LEVEL) - 1;
+    private static final PersistentSet<?> EMPTY = new PersistentSet<>(null, 0);
+
+    private final Node root;
+    private final int size;
+
+    private PersistentSet(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty set.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentSet<E> empty() {
+        return (PersistentSet<E>) EMPTY;
+    }
+
+    /**
+     * Returns a set of the elements of {@code elements}, which is {@code elements} itself if it is already a
+     * {@code PersistentSet}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentSet<E> copyOf(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements instanceof PersistentSet) {
+            return (PersistentSet<E>) elements;
+        }
+        PersistentSet<E> set = empty();
+        for (E element : elements) {
+            set = set.plus(element);
+        }
+        return set;
+    }
+
+    /**
+     * Returns a set of {@code elements}.
+     */
+    @SafeVarargs
+    public static <E> PersistentSet<E> of(E... elements) {
+        return copyOf(Arrays.asList(elements));
+    }
+
+    /**
+     * Returns a set with the elements of this set and {@code element}, or this set if it already has
+     * {@code element}.
+     */
+    public PersistentSet<E> plus(E element) {
+        requireNonNull(element);
+        int hash = element.hashCode();
+        Node newRoot = root == null
+                ? new Node(1 << slot(hash, 0), new Object[] {element})
+                : root.plus(element, hash, 0);
+        return newRoot == root ? this : new PersistentSet<>(newRoot, size + 1);
+    }
+
+    /**
+     * Returns a set with the elements of this set but {@code element}, or this set if it does not have
+     * {@code element}.
+     */
+    public PersistentSet<E> minus(Object element) {
+        if (root == null || element == null) {
+            return this;
+        }
+        Node newRoot = root.minus(element, element.hashCode(), 0);
+        if (newRoot == root) {
+            return this;
+        }
+        return newRoot == null ? empty() : new PersistentSet<>(newRoot, size - 1);
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return root != null && element != null && root.contains(element, element.hashCode(), 0);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new NodeIterator<>(root);
+    }
+
+    private static int slot(int hash, int shift) {
+        return (hash >>> shift) & SLOT_MASK;
+    }
+
+    /**
+     * Returns a node with the two distinct elements {@code a} and {@code b}, starting at bit {@code shift} of their
+     * hash codes.
+     */
+    private static Node pair(Object a, int hashOfA, Object b, int hashOfB, int shift) {
+        if (hashOfA == hashOfB) {
+            return new Node(hashOfA, new Object[] {a, b}, true);
+        }
+        int slotOfA = slot(hashOfA, shift);
+        int slotOfB = slot(hashOfB, shift);
+        if (slotOfA == slotOfB) {
+            return new Node(1 << slotOfA, new Object[] {pair(a, hashOfA, b, hashOfB, shift + BITS_PER_LEVEL)});
+        }
+        Object[] entries = slotOfA < slotOfB ? new Object[] {a, b} : new Object[] {b, a};
+        return new Node((1 << slotOfA) | (1 << slotOfB), entries);
+    }
+
+    private static Object[] inserted(Object[] entries, int index, Object entry) {
+        Object[] copy = new Object[entries.length + 1];
+        System.arraycopy(entries, 0, copy, 0, index);
+        copy[index] = entry;
+        System.arraycopy(entries, index, copy, index + 1, entries.length - index);
+        return copy;
+    }
+
+    private static Object[] replaced(Object[] entries, int index, Object entry) {
+        Object[] copy = entries.clone();
+        copy[index] = entry;
+        return copy;
+    }
+
+    private static Object[] removed(Object[] entries, int index) {
+        Object[] copy = new Object[entries.length - 1];
+        System.arraycopy(entries, 0, copy, 0, index);
+        System.arraycopy(entries, index + 1, copy, index, copy.length - index);
+        return copy;
+    }
+
+    /**
+     * A node of the trie, which is never changed once made.
+     * <p>
+     * A bitmap node has an entry for every bit set in {@code bitmap}, in order of the bits, which is either an
+     * element or a node one level down. A collision node holds elements whose hash codes are all {@code bitmap}.
+     */
+    private static final class Node {
+        private final int bitmap;
+        private final Object[] entries;
+        private final boolean isCollision;
+
+        Node(int bitmap, Object[] entries) {
+            this(bitmap, entries, false);
+        }
+
+        Node(int bitmap, Object[] entries, boolean isCollision) {
+            this.bitmap = bitmap;
+            this.entries = entries;
+            this.isCollision = isCollision;
+        }
+
+        boolean contains(Object element, int hash, int shift) {
+            if (isCollision) {
+                return hash == bitmap && indexOf(element) >= 0;
+            }
+            int bit = 1 << slot(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return false;
+            }
+            Object entry = entries[index(bit)];
+            return entry instanceof Node
+                    ? ((Node) entry).contains(element, hash, shift + BITS_PER_LEVEL)
+                    : entry.equals(element);
+        }
+
+        /**
+         * Returns a node that also has {@code element}, or this node if it already has it.
+         */
+        Node plus(Object element, int hash, int shift) {
+            if (isCollision) {
+                if (hash == bitmap) {
+                    return indexOf(element) >= 0
+                            ? this
+                            : new Node(bitmap, inserted(entries, entries.length, element), true);
+                }
+                // Push this node one level down, beside the new element
+                return new Node(1 << slot(bitmap, shift), new Object[] {this}).plus(element, hash, shift);
+            }
+
+            int bit = 1 << slot(hash, shift);
+            int index = index(bit);
+            if ((bitmap & bit) == 0) {
+                return new Node(bitmap | bit, inserted(entries, index, element));
+            }
+            Object entry = entries[index];
+            if (entry instanceof Node) {
+                Node child = (Node) entry;
+                Node newChild = child.plus(element, hash, shift + BITS_PER_LEVEL);
+                return newChild == child ? this : new Node(bitmap, replaced(entries, index, newChild));
+            }
+            if (entry.equals(element)) {
+                return this;
+            }
+            Node pair = pair(entry, entry.hashCode(), element, hash, shift + BITS_PER_LEVEL);
+            return new Node(bitmap, replaced(entries, index, pair));
+        }
+
+        /**
+         * Returns a node without {@code element}, this node if it does not have it, or null if it would be empty.
+         */
+        Node minus(Object element, int hash, int shift) {
+            if (isCollision) {
+                int index = hash == bitmap ? indexOf(element) : -1;
+                if (index < 0) {
+                    return this;
+                }
+                return entries.length == 1 ? null : new Node(bitmap, removed(entries, index), true);
+            }
+
+            int bit = 1 << slot(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int index = index(bit);
+            Object entry = entries[index];
+            if (entry instanceof Node) {
+                Node child = (Node) entry;
+                Node newChild = child.minus(element, hash, shift + BITS_PER_LEVEL);
+                if (newChild == child) {
+                    return this;
+                }
+                if (newChild != null) {
+                    // A node left with a single element is replaced by the element
+                    Object sole = newChild.soleElement();
+                    return new Node(bitmap, replaced(entries, index, sole != null ? sole : newChild));
+                }
+            } else if (!entry.equals(element)) {
+                return this;
+            }
+            return entries.length == 1 ? null : new Node(bitmap & ~bit, removed(entries, index));
+        }
+
+        /**
+         * Returns the element of this node if it is its only entry, or null otherwise.
+         */
+        private Object soleElement() {
+            return entries.length == 1 && !(entries[0] instanceof Node) ? entries[0] : null;
+        }
+
+        private int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        private int indexOf(Object element) {
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i].equals(element)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Walks the trie depth first, keeping the entries of every node on the path to the next element.
+     */
+    private static final class NodeIterator<E> implements Iterator<E> {
+        private Object[][] path = new Object[8][];
+        private int[] positions = new int[8];
+        private int depth;
+        private E next;
+
+        NodeIterator(Node root) {
+            if (root != null) {
+                push(root);
+            }
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public E next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            E element = next;
+            advance();
+            return element;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance() {
+            next = null;
+            while (depth > 0) {
+                Object[] entries = path[depth - 1];
+                int position = positions[depth - 1];
+                if (position == entries.length) {
+                    depth--;
+                    continue;
+                }
+                positions[depth - 1]++;
+                Object entry = entries[position];
+                if (entry instanceof Node) {
+                    push((Node) entry);
+                } else {
+                    next = (E) entry;
+                    return;
+                }
+            }
+        }
+
+        private void push(Node node) {
+            if (depth == path.length) {
+                path = Arrays.copyOf(path, depth * 2);
+                positions = Arrays.copyOf(positions, depth * 2);
+            }
+            path[depth] = node.entries;
+            positions[depth] = 0;
+            depth++;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * A prefix tree of words that supports completing a partially typed word.
+ * Lookups are case insensitive, but completions use the case the word was first added with.
+ * Each word is reference counted, so a word added several times stays until it is removed as many times.
+ *
+ * Every node keeps the number of distinct words below it, so a completion only walks the characters it
+ * adds and never visits the rest of the tree.
+ */
+public class PrefixTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * Adds {@code word} to the trie. Empty words are ignored.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        if (word.isEmpty()) {
+            return;
+        }
+
+        List<Node> path = findPath(word, true);
+        Node last = path.get(path.size() - 1);
+        last.count++;
+        if (last.count > 1) {
+            return;
+        }
+
+        last.word = word;
+        for (Node node : path) {
+            node.size++;
+        }
+    }
+
+    /**
+     * Removes one occurrence of {@code word} from the trie. Words that are not in the trie are ignored.
+     */
+    public void remove(String word) {
+        requireNonNull(word);
+        List<Node> path = findPath(word, false);
+        if (path == null || path.get(path.size() - 1).count == 0) {
+            return;
+        }
+
+        Node last = path.get(path.size() - 1);
+        last.count--;
+        if (last.count > 0) {
+            return;
+        }
+
+        last.word = null;
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node node = path.get(i);
+            node.size--;
+            if (i > 0 && node.size == 0) {
+                path.get(i - 1).children.remove(Character.toLowerCase(word.charAt(i - 1)));
+            }
+        }
+    }
+
+    /**
+     * Removes every word from the trie.
+     */
+    public void clear() {
+        root.children.clear();
+        root.size = 0;
+    }
+
+    /**
+     * Returns true if the trie contains {@code word}, ignoring case.
+     */
+    public boolean contains(String word) {
+        requireNonNull(word);
+        List<Node> path = findPath(word, false);
+        return path != null && path.get(path.size() - 1).count > 0;
+    }
+
+    /**
+     * Returns the longest text that every word starting with {@code prefix} starts with,
+     * or an empty {@code Optional} if no word starts with {@code prefix}.
+     * If only one word starts with {@code prefix}, that word is returned.
+     */
+    public Optional<String> complete(String prefix) {
+        requireNonNull(prefix);
+        List<Node> path = findPath(prefix, false);
+        if (path == null) {
+            return Optional.empty();
+        }
+
+        Node node = path.get(path.size() - 1);
+        if (node.size == 0) {
+            return Optional.empty();
+        }
+
+        int depth = prefix.length();
+        while (node.word == null && node.children.size() == 1) {
+            node = node.children.values().iterator().next();
+            depth++;
+        }
+        return Optional.of(anyWordBelow(node).substring(0, depth));
+    }
+
+    /**
+     * Returns true if exactly one word starts with {@code prefix}.
+     */
+    public boolean hasUniqueCompletion(String prefix) {
+        requireNonNull(prefix);
+        List<Node> path = findPath(prefix, false);
+        return path != null && path.get(path.size() - 1).size == 1;
+    }
+
+    /**
+     * Returns the nodes from the root to the node of {@code text}, creating missing nodes if {@code create} is true.
+     * Returns null if {@code create} is false and {@code text} is not in the trie.
+     */
+    private List<Node> findPath(String text, boolean create) {
+        List<Node> path = new ArrayList<>(text.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < text.length(); i++) {
+            char key = Character.toLowerCase(text.charAt(i));
+            Node child = node.children.get(key);
+            if (child == null) {
+                if (!create) {
+                    return null;
+                }
+                child = new Node();
+                node.children.put(key, child);
+            }
+            node = child;
+            path.add(node);
+        }
+        return path;
+    }
+
+    private static String anyWordBelow(Node node) {
+        while (node.word == null) {
+            node = node.children.values().iterator().next();
+        }
+        return node.word;
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new TreeMap<>();
+        /** Number of distinct words at or below this node. */
+        private int size;
+        /** Number of times the word ending at this node was added. */
+        private int count;
+        /** The word ending at this node, in the case it was first added with. */
+        private String word;
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Runs the writes submitted from any thread one at a time, in the order they were submitted, through a single
+ * {@code Executor}, e.g. the JavaFX application thread.
+ * <p>
+ * Writes are only handed to the executor in batches, so a burst of writes from other threads costs one task on the
+ * writer thread. With an executor that runs tasks on the calling thread, the thread that finds the queue idle runs
+ * the writes of every thread until the queue is empty again.
+ */
+public class SingleWriterQueue {
+
+    private final Executor writer;
+    private final Queue<Runnable> writes = new ConcurrentLinkedQueue<>();
+    // Only used on the writer
+    private final Queue<Runnable> afterBatch = new ArrayDeque<>();
+    private final AtomicBoolean isScheduled = new AtomicBoolean();
+
+    /**
+     * Creates a {@code SingleWriterQueue} that runs its writes through {@code writer}.
+     */
+    public SingleWriterQueue(Executor writer) {
+        this.writer = requireNonNull(writer);
+    }
+
+    /**
+     * Queues {@code write} after every write submitted before it, and returns a future of its result, or of the
+     * exception it threw.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> write) {
+        requireNonNull(write);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        writes.add(() -> {
+            try {
+                result.complete(write.get());
+            } catch (RuntimeException | Error e) {
+                result.completeExceptionally(e);
+            }
+        });
+        schedule();
+        return result;
+    }
+
+    /**
+     * Runs {@code action} on the writer once the write that calls this and every write queued behind it are done,
+     * before anything else runs on the writer. Must only be called from a write.
+     */
+    public void runAfterBatch(Runnable action) {
+        afterBatch.add(requireNonNull(action));
+    }
+
+    private void schedule() {
+        if (isScheduled.compareAndSet(false, true)) {
+            writer.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        do {
+            Runnable write;
+            while ((write = writes.poll()) != null) {
+                write.run();
+            }
+            Runnable action;
+            while ((action = afterBatch.poll()) != null) {
+                action.run();
+            }
+        } while (!writes.isEmpty());
+        isScheduled.set(false);
+        // A write may have been queued after the queue was found empty, but before it was marked idle
+        if (!writes.isEmpty()) {
+            schedule();
+        }
+    }
+}
@@ -38,6 +38,65 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the edit distance between {@code first} and {@code second}, counting insertions, deletions,
+     *   substitutions and swaps of two adjacent characters as one edit each.
+     *   The computation gives up as soon as the distance is known to exceed {@code maxDistance},
+     *   in which case {@code maxDistance + 1} is returned.
+     *   <br>examples:<pre>
+     *       boundedEditDistance("john", "jonh", 2) == 1
+     *       boundedEditDistance("john", "joan", 2) == 1
+     *       boundedEditDistance("john", "mary", 2) == 3
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     * @param maxDistance cannot be negative
+     */
+    public static int boundedEditDistance(String first, String second, int maxDistance) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
+
+        int firstLength = first.length();
+        int secondLength = second.length();
+        if (Math.abs(firstLength - secondLength) > maxDistance) {
+            return maxDistance + 1;
+        }
+
+        int[] twoRowsBack = new int[secondLength + 1];
+        int[] previousRow = new int[secondLength + 1];
+        int[] currentRow = new int[secondLength + 1];
+        for (int j = 0; j <= secondLength; j++) {
+            previousRow[j] = j;
+        }
+
+        for (int i = 1; i <= firstLength; i++) {
+            currentRow[0] = i;
+            int rowMinimum = i;
+            for (int j = 1; j <= secondLength; j++) {
+                int cost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                int distance = Math.min(Math.min(currentRow[j - 1] + 1, previousRow[j] + 1),
+                        previousRow[j - 1] + cost);
+                if (i > 1 && j > 1 && first.charAt(i - 1) == second.charAt(j - 2)
+                        && first.charAt(i - 2) == second.charAt(j - 1)) {
+                    distance = Math.min(distance, twoRowsBack[j - 2] + 1);
+                }
+                currentRow[j] = distance;
+                rowMinimum = Math.min(rowMinimum, distance);
+            }
+            if (rowMinimum > maxDistance) {
+                return maxDistance + 1;
+            }
+
+            int[] recycled = twoRowsBack;
+            twoRowsBack = previousRow;
+            previousRow = currentRow;
+            currentRow = recycled;
+        }
+
+        return Math.min(previousRow[secondLength], maxDistance + 1);
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -1,9 +1,16 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
+import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.stats.PerformanceStats;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -23,6 +30,46 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Queues the command to be executed on the thread that changes the model, after every write submitted before it,
+     * and returns a future of its result. Unlike {@link #execute(String)}, this can be called from any thread.
+     * The future fails with a {@code CommandException} or {@code ParseException} if executing the command throws one.
+     * <p>
+     * The command sees every tutee in the order of {@link #getTuteeSnapshot()}, so indexes refer to positions in the
+     * snapshot rather than to the tutees shown. The tutees shown, and their order, are the same afterwards.
+     *
+     * @see seedu.address.model.Model#submitWrite(java.util.function.Function)
+     */
+    CompletableFuture<CommandResult> submit(String commandText);
+
+    /**
+     * Starts loading the tutees in storage on a background thread, adding them to the model in chunks through
+     * {@link seedu.address.model.Model#submitWrite(java.util.function.Function)}.
+     * Until every tutee has been loaded, commands that change the tutees are queued instead of executed, and
+     * nothing is saved. Once loading finishes, {@code onLoaded} is run, and then the queued commands are executed.
+     *
+     * @see TuteeLoader
+     */
+    void loadInBackground(Runnable onLoaded);
+
+    /**
+     * Returns the fraction of the tutees that have been loaded, which is 1 when no tutees are being loaded.
+     */
+    ReadOnlyDoubleProperty loadProgressProperty();
+
+    /**
+     * Sets the handler given the combined result of the commands that were queued while tutees were loading,
+     * once they have been executed.
+     */
+    void setQueuedResultHandler(Consumer<CommandResult> handler);
+
+    /**
+     * Returns {@code commandText} with its last word or value completed as far as possible.
+     * @param commandText The partially typed command.
+     * @return the completed command text, or an empty {@code Optional} if there is nothing to complete.
+     */
+    Optional<String> complete(String commandText);
+
     /**
      * Returns the TuteeManagingSystem.
      *
@@ -30,9 +77,37 @@ public interface Logic {
      */
     ReadOnlyTuteeManagingSystem getAddressBook();
 
+    /**
+     * Returns the tutees as of the last change, as an immutable list that any thread can read without locking.
+     *
+     * @see seedu.address.model.Model#getTuteeSnapshot()
+     */
+    List<Tutee> getTuteeSnapshot();
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Tutee> getFilteredPersonList();
 
+    /**
+     * Returns the filter of the filtered list of persons.
+     *
+     * @see seedu.address.model.Model#getFilteredTuteePredicate()
+     */
+    Predicate<Tutee> getFilteredPersonPredicate();
+
+    /**
+     * Updates the filter of the filtered list of persons without executing a command.
+     *
+     * @see seedu.address.model.Model#updateFilteredTuteeList(Predicate)
+     */
+    void updateFilteredPersonList(Predicate<Tutee> predicate);
+
+    /**
+     * Returns the timings of the commands executed so far.
+     *
+     * @see seedu.address.model.Model#getPerformanceStats()
+     */
+    PerformanceStats getPerformanceStats();
+
     /**
      * Returns the user prefs' address book file path.
      */
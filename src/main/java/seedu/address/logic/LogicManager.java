@@ -1,20 +1,38 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TUTEES;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.jfr.CommandEvent;
+import seedu.address.commons.core.stats.PerformanceStats;
+import seedu.address.commons.core.stats.PerformanceStats.Phase;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.completion.AutoCompleter;
 import seedu.address.logic.parser.TuteeManagingSystemParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyTuteeManagingSystem;
 import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.TuteeOrder;
 import seedu.address.storage.Storage;
 
 /**
@@ -22,11 +40,24 @@ import seedu.address.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_QUEUED =
+            "Tutees are still loading. \"%1$s\" will run once they have all loaded.";
+    public static final String MESSAGE_QUEUED_RESULT = "%1$s: %2$s";
+    public static final String MESSAGE_INDEX_WHILE_LOADING =
+            "Tutees are still loading, so \"%1$s\" cannot refer to a tutee by index yet. Try again once they have "
+            + "all loaded.";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final TuteeManagingSystemParser tuteeManagingSystemParser;
+    private final AutoCompleter autoCompleter;
+    private final DoubleProperty loadProgress = new SimpleDoubleProperty(1);
+    private final List<QueuedCommand> queuedCommands = new ArrayList<>();
+    private Consumer<CommandResult> queuedResultHandler = unused -> { };
+    private boolean isLoading;
+    // Whether every tutee is shown in list order for the submitted commands of the current batch of writes
+    private boolean isShowingAllForSubmitted;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -35,35 +66,195 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         tuteeManagingSystemParser = new TuteeManagingSystemParser();
+        autoCompleter = new AutoCompleter(model);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
+        String commandWord = PerformanceStats.getCommandWord(commandText);
+
+        CommandEvent event = new CommandEvent();
+        event.begin();
+
+        long parseStart = System.nanoTime();
         Command command = tuteeManagingSystemParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        event.parseDuration = System.nanoTime() - parseStart;
+        model.getPerformanceStats().record(commandWord, Phase.PARSE, event.parseDuration);
+
+        if (isLoading && !command.isReadOnly()) {
+            // Parsing is all that happens now, and running the command later is covered by an event of its own
+            event.commandWord = commandWord;
+            event.commit();
+            if (command.usesShownIndex()) {
+                // The index would only be resolved once loading finishes, when it may refer to another tutee
+                throw new CommandException(String.format(MESSAGE_INDEX_WHILE_LOADING, commandText));
+            }
+            logger.info(() -> "Queued until the tutees have loaded: " + commandText);
+            queuedCommands.add(new QueuedCommand(commandText, command));
+            return new CommandResult(String.format(MESSAGE_QUEUED, commandText));
+        }
+
+        return run(commandWord, command, event);
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        requireNonNull(commandText);
+        return model.submitWrite(unused -> {
+            if (!isShowingAllForSubmitted) {
+                Predicate<Tutee> shownPredicate = model.getFilteredTuteePredicate();
+                TuteeOrder shownOrder = model.getTuteeOrder();
+                showView(PREDICATE_SHOW_ALL_TUTEES, TuteeOrder.NONE);
+                isShowingAllForSubmitted = true;
+                // Restored once for a burst of submitted commands, before any command typed in the app can run
+                model.runAfterWrites(() -> {
+                    isShowingAllForSubmitted = false;
+                    showView(shownPredicate, shownOrder);
+                });
+            }
+            try {
+                return execute(commandText);
+            } catch (CommandException | ParseException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Filters and sorts the tutees shown by {@code predicate} and {@code order}, unless they already are, as doing so
+     * takes time linear in the number of tutees.
+     */
+    private void showView(Predicate<Tutee> predicate, TuteeOrder order) {
+        if (model.getFilteredTuteePredicate() != predicate) {
+            model.updateFilteredTuteeList(predicate);
+        }
+        if (model.getTuteeOrder() != order) {
+            model.sortFilteredTuteeList(order);
+        }
+    }
 
+    /**
+     * Executes the parsed {@code command}, saves the tutees unless they are still loading, and commits
+     * {@code event}.
+     */
+    private CommandResult run(String commandWord, Command command, CommandEvent event) throws CommandException {
+        PerformanceStats performanceStats = model.getPerformanceStats();
+        long executeStart = System.nanoTime();
+        CommandResult commandResult;
         try {
-            storage.saveAddressBook(model.getTuteeManagingSystem());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            commandResult = command.execute(model);
+        } finally {
+            if (!command.isReadOnly()) {
+                model.commitTuteeManagingSystem();
+            }
+        }
+        long saveStart = System.nanoTime();
+        performanceStats.record(commandWord, Phase.EXECUTE, saveStart - executeStart);
+
+        // Only read-only commands run while loading, and saving then would drop the tutees not loaded yet
+        if (!isLoading) {
+            long bytesBefore = storage.getBytesWritten();
+            try {
+                storage.saveAddressBook(model.getTuteeManagingSystem());
+            } catch (IOException ioe) {
+                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            }
+            model.markSaved();
+            performanceStats.record(commandWord, Phase.SAVE, System.nanoTime() - saveStart);
+            performanceStats.recordSavedBytes(storage.getBytesWritten() - bytesBefore);
         }
 
+        event.commandWord = commandWord;
+        event.executeDuration = saveStart - executeStart;
+        event.commit();
+
         return commandResult;
     }
 
+    @Override
+    public void loadInBackground(Runnable onLoaded) {
+        isLoading = true;
+        loadProgress.set(0);
+        new TuteeLoader(storage, model).start(loadProgress::set, () -> finishLoading(onLoaded));
+    }
+
+    /**
+     * Runs {@code onLoaded}, then executes the commands queued while loading and hands their results to the
+     * queued result handler.
+     */
+    private void finishLoading(Runnable onLoaded) {
+        isLoading = false;
+        // Loading the tutees is not a change that can be undone
+        model.clearTuteeManagingSystemHistory();
+        onLoaded.run();
+        if (queuedCommands.isEmpty()) {
+            return;
+        }
+
+        List<String> results = new ArrayList<>();
+        for (QueuedCommand queued : queuedCommands) {
+            CommandEvent event = new CommandEvent();
+            event.begin();
+            String feedback;
+            try {
+                feedback = run(PerformanceStats.getCommandWord(queued.commandText), queued.command, event)
+                        .getFeedbackToUser();
+            } catch (CommandException e) {
+                feedback = e.getMessage();
+            }
+            results.add(String.format(MESSAGE_QUEUED_RESULT, queued.commandText, feedback));
+        }
+        queuedCommands.clear();
+        queuedResultHandler.accept(new CommandResult(String.join("\n", results)));
+    }
+
+    @Override
+    public ReadOnlyDoubleProperty loadProgressProperty() {
+        return loadProgress;
+    }
+
+    @Override
+    public void setQueuedResultHandler(Consumer<CommandResult> handler) {
+        queuedResultHandler = requireNonNull(handler);
+    }
+
+    @Override
+    public Optional<String> complete(String commandText) {
+        return autoCompleter.complete(commandText);
+    }
+
     @Override
     public ReadOnlyTuteeManagingSystem getAddressBook() {
         return model.getTuteeManagingSystem();
     }
 
+    @Override
+    public List<Tutee> getTuteeSnapshot() {
+        return model.getTuteeSnapshot();
+    }
+
     @Override
     public ObservableList<Tutee> getFilteredPersonList() {
         return model.getFilteredTuteeList();
     }
 
+    @Override
+    public Predicate<Tutee> getFilteredPersonPredicate() {
+        return model.getFilteredTuteePredicate();
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Tutee> predicate) {
+        model.updateFilteredTuteeList(predicate);
+    }
+
+    @Override
+    public PerformanceStats getPerformanceStats() {
+        return model.getPerformanceStats();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getTuteeManagingSystemPath();
@@ -78,4 +269,17 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    /**
+     * A command that was parsed while tutees were loading, to be executed once they have loaded.
+     */
+    private static class QueuedCommand {
+        private final String commandText;
+        private final Command command;
+
+        QueuedCommand(String commandText, Command command) {
+            this.commandText = commandText;
+            this.command = command;
+        }
+    }
 }
@@ -0,0 +1,121 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoubleConsumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyTuteeManagingSystem;
+import seedu.address.model.TuteeManagingSystem;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.Storage;
+
+/**
+ * Loads the tutees in storage into a model on a background thread, adding them to the model in chunks so that the
+ * tutees read so far can be shown and searched while the rest are read.
+ * The model is only changed through {@link Model#submitWrite(java.util.function.Function)}, so the chunks are added
+ * on the thread that changes the model, in order with every other write to it.
+ * <p>
+ * The first chunk is small so that the first page of tutees is shown at once. Chunks then double in size, up to
+ * {@link #MAX_CHUNK_SIZE}, so that a large file is not slowed down by many small updates.
+ */
+public class TuteeLoader {
+
+    public static final int FIRST_CHUNK_SIZE = 50;
+    public static final int MAX_CHUNK_SIZE = 5000;
+
+    private static final Logger logger = LogsCenter.getLogger(TuteeLoader.class);
+
+    private final Storage storage;
+    private final Model model;
+
+    private List<Tutee> chunk = new ArrayList<>();
+    private int chunkSize = FIRST_CHUNK_SIZE;
+
+    /**
+     * Creates a {@code TuteeLoader} that loads the tutees in {@code storage} into {@code model}, which has no tutees.
+     */
+    public TuteeLoader(Storage storage, Model model) {
+        requireAllNonNull(storage, model);
+        this.storage = storage;
+        this.model = model;
+    }
+
+    /**
+     * Starts loading on a new background thread.
+     * After every chunk, {@code onProgress} is given the fraction of the data loaded so far.
+     * Once every tutee has been added, {@code onLoaded} is run.
+     * Both are run on the thread that changes the model.
+     * <p>
+     * The sample tutees are used instead if there is no data file, and no tutees are used instead if the data file
+     * cannot be read.
+     */
+    public void start(DoubleConsumer onProgress, Runnable onLoaded) {
+        requireAllNonNull(onProgress, onLoaded);
+        Thread loader = new Thread(() -> load(onProgress, onLoaded), "tutee-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    private void load(DoubleConsumer onProgress, Runnable onLoaded) {
+        ReadOnlyTuteeManagingSystem replacement = null;
+        try {
+            if (!storage.readTutees((tutee, fractionRead) -> add(tutee, fractionRead, onProgress))) {
+                logger.info("Data file not found. Will be starting with a sample TuteeManagingSystem");
+                replacement = SampleDataUtil.getSampleAddressBook();
+            }
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty TuteeManagingSystem");
+            replacement = new TuteeManagingSystem();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty TuteeManagingSystem");
+            replacement = new TuteeManagingSystem();
+        } catch (RuntimeException e) {
+            logger.severe("Failed to load the data file. Will be starting with an empty TuteeManagingSystem "
+                    + StringUtil.getDetails(e));
+            replacement = new TuteeManagingSystem();
+        }
+
+        List<Tutee> lastChunk = chunk;
+        ReadOnlyTuteeManagingSystem finalReplacement = replacement;
+        model.submitWrite(writable -> {
+            if (finalReplacement != null) {
+                writable.setTuteeManagingSystem(finalReplacement);
+            } else {
+                writable.addTutees(lastChunk);
+                // The tutees are exactly those in the data file
+                writable.markSaved();
+            }
+            onProgress.accept(1);
+            onLoaded.run();
+            return null;
+        });
+    }
+
+    /**
+     * Adds {@code tutee} to the current chunk, and publishes the chunk once it is full.
+     */
+    private void add(Tutee tutee, double fractionRead, DoubleConsumer onProgress) {
+        chunk.add(tutee);
+        if (chunk.size() < chunkSize) {
+            return;
+        }
+
+        List<Tutee> fullChunk = chunk;
+        model.submitWrite(writable -> {
+            writable.addTutees(fullChunk);
+            onProgress.accept(fractionRead);
+            return null;
+        });
+        chunk = new ArrayList<>();
+        chunkSize = Math.min(chunkSize * 2, MAX_CHUNK_SIZE);
+    }
+}
@@ -17,4 +17,18 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if this command never changes the tutees, so it can run before all of them have been loaded.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
+    /**
+     * Returns true if this command refers to a tutee by its index in the list shown, which changes as tutees load.
+     */
+    public boolean usesShownIndex() {
+        return false;
+    }
+
 }
@@ -15,6 +15,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.exceptions.DuplicatePersonException;
 
 public class CopyCommand extends Command {
 
@@ -51,6 +52,11 @@ public class CopyCommand extends Command {
 
 
 
+    @Override
+    public boolean usesShownIndex() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException{
         requireNonNull(model);
@@ -69,6 +75,8 @@ public class CopyCommand extends Command {
             return new CommandResult(String.format(MESSAGE_SUCCESS, copiedTutee));
         } catch (IllegalValueException e) {
             throw new RuntimeException("Start time and end time aren't edited here, this should never throw");
+        } catch (DuplicatePersonException e) {
+            throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
 
     }
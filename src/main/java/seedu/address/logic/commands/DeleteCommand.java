@@ -30,6 +30,11 @@ public class DeleteCommand extends Command {
         this.targetIndex = targetIndex;
     }
 
+    @Override
+    public boolean usesShownIndex() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -64,6 +64,15 @@ public class FilterCommand extends Command {
                 filterTuteeDescription.getEndTimeToFilter(), filterTuteeDescription.getTagToFilter());
     }
 
+    public FieldContainsKeywordsPredicate getPredicate() {
+        return predicate;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
@@ -0,0 +1,54 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.tutee.fields.NameContainsWordsPredicate;
+
+/**
+ * Finds and lists all persons in address book whose name contains a word that is within a few typos of
+ * any of the argument keywords. Keyword matching is case insensitive.
+ */
+public class FuzzyFindCommand extends Command {
+
+    public static final String FUZZY_FLAG = "--fuzzy";
+
+    public static final String MESSAGE_USAGE = FindCommand.COMMAND_WORD + " " + FUZZY_FLAG
+            + ": Finds all persons whose names contain a word that is close to any of "
+            + "the specified keywords (case-insensitive, tolerating small typos) "
+            + "and displays them as a list with index numbers.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + FindCommand.COMMAND_WORD + " " + FUZZY_FLAG + " alcie bob";
+
+    private final List<String> keywords;
+
+    public FuzzyFindCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Set<String> matchedWords = model.getFuzzyNameMatches(keywords);
+        model.updateFilteredTuteeList(new NameContainsWordsPredicate(matchedWords));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredTuteeList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FuzzyFindCommand // instanceof handles nulls
+                && keywords.equals(((FuzzyFindCommand) other).keywords)); // state check
+    }
+}
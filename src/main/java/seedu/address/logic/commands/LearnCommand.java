@@ -34,6 +34,11 @@ public class LearnCommand extends Command {
         this.lesson = lesson;
     }
 
+    @Override
+    public boolean usesShownIndex() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -39,6 +39,11 @@ public class MarkCommand extends Command {
         this.dates = date;
     }
 
+    @Override
+    public boolean usesShownIndex() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
@@ -15,14 +16,20 @@ import seedu.address.model.Model;
 import seedu.address.model.tutee.Tutee;
 
 /**
- * Command for displaying the attendance data of a student
+ * Command for displaying the attendance data of a student, or the students present on a date
  */
 public class QueryCommand extends Command {
     public static final String COMMAND_WORD = "query";
     public static final String EXPECTED_DATE_FORMAT = "yyyy-MM-dd";
+    public static final String EXPECTED_MONTH_FORMAT = "yyyy-MM";
+
+    public static final String MESSAGE_PRESENT_ON = "Present on %1$s: %2$s";
+    public static final String MESSAGE_NONE_PRESENT_ON = "No tutee was present on %1$s";
+    public static final String MESSAGE_MONTH = "%1$s was present on %2$d days in %3$s";
 
     private final Optional<LocalDate> searchDate;
-    private final Index index;
+    private final Optional<YearMonth> searchMonth;
+    private final Optional<Index> index;
 
     /**
      * The command will return whether the tutee at the given index was
@@ -30,7 +37,18 @@ public class QueryCommand extends Command {
      */
     public QueryCommand(Index index, LocalDate date) {
         this.searchDate = Optional.of(date);
-        this.index = index;
+        this.searchMonth = Optional.empty();
+        this.index = Optional.of(index);
+    }
+
+    /**
+     * The command will return the number of days the tutee at the given index was
+     * present on in the given month
+     */
+    public QueryCommand(Index index, YearMonth month) {
+        this.searchDate = Optional.empty();
+        this.searchMonth = Optional.of(month);
+        this.index = Optional.of(index);
     }
 
     /**
@@ -38,23 +56,57 @@ public class QueryCommand extends Command {
      */
     public QueryCommand(Index index) {
         this.searchDate = Optional.empty();
-        this.index = index;
+        this.searchMonth = Optional.empty();
+        this.index = Optional.of(index);
+    }
+
+    /**
+     * The command will list every tutee present on the given date
+     */
+    public QueryCommand(LocalDate date) {
+        this.searchDate = Optional.of(date);
+        this.searchMonth = Optional.empty();
+        this.index = Optional.empty();
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(EXPECTED_DATE_FORMAT);
+        if (index.isEmpty()) {
+            // Looked up in the attendance index, so only the tutees present are visited
+            LocalDate date = searchDate.get();
+            List<Tutee> present = model.getTuteesPresentOn(date);
+            return new CommandResult(present.isEmpty()
+                    ? String.format(MESSAGE_NONE_PRESENT_ON, formatter.format(date))
+                    : String.format(MESSAGE_PRESENT_ON, formatter.format(date), present.stream()
+                            .map(tutee -> tutee.getName().toString())
+                            .collect(Collectors.joining(", "))));
+        }
+
         List<Tutee> lastShownList = model.getFilteredTuteeList();
 
-        if (index.getZeroBased() >= lastShownList.size()) {
+        if (index.get().getZeroBased() >= lastShownList.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
         }
 
-        Tutee tutee = lastShownList.get(index.getZeroBased());
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(EXPECTED_DATE_FORMAT);
+        Tutee tutee = lastShownList.get(index.get().getZeroBased());
 
         String output;
-        if (searchDate.isEmpty()) {
+        if (searchMonth.isPresent()) {
+            YearMonth month = searchMonth.get();
+            output = String.format(
+                MESSAGE_MONTH,
+                tutee.getName().toString(),
+                model.getMonthlyAttendance(tutee).getOrDefault(month, 0),
+                DateTimeFormatter.ofPattern(EXPECTED_MONTH_FORMAT).format(month)
+            );
+        } else if (searchDate.isEmpty()) {
             output = tutee.getAttendance()
                 .stream()
                 .sorted()
@@ -76,4 +128,19 @@ public class QueryCommand extends Command {
 
         return new CommandResult(output);
     }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof QueryCommand)) {
+            return false;
+        }
+
+        QueryCommand otherCommand = (QueryCommand) other;
+        return searchDate.equals(otherCommand.searchDate)
+                && searchMonth.equals(otherCommand.searchMonth)
+                && index.equals(otherCommand.index);
+    }
 }
@@ -0,0 +1,31 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TUTEES;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Redoes the changes undone by the last undo command.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_SUCCESS = "Redo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to redo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canRedoTuteeManagingSystem()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.redoTuteeManagingSystem();
+        model.updateFilteredTuteeList(PREDICATE_SHOW_ALL_TUTEES);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
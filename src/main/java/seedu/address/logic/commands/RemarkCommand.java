@@ -47,6 +47,11 @@ public class RemarkCommand extends Command {
         this.index = index;
         this.remark = remark;
     }
+    @Override
+    public boolean usesShownIndex() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         List<Tutee> lastShownList = model.getFilteredTuteeList();
@@ -0,0 +1,109 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.report.AttendanceReport;
+
+/**
+ * Reports how well the tutees shown attended their lessons between two dates, either in the result display or in
+ * a CSV file.
+ */
+public class ReportCommand extends Command {
+
+    public static final String COMMAND_WORD = "report";
+
+    /** The number of weeks reported on if no start date is given. */
+    public static final int DEFAULT_WEEKS = 12;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Reports the attendance of the tutees shown "
+            + "by subject, by day and by tutee, with each tutee's current streak and longest absence.\n"
+            + "Parameters: "
+            + "[" + PREFIX_FROM + "START_DATE] "
+            + "[" + PREFIX_TO + "END_DATE] "
+            + "[" + PREFIX_FILE + "CSV_FILE]\n"
+            + "Dates are yyyy-MM-dd. The report ends today and starts " + DEFAULT_WEEKS + " weeks before the end "
+            + "unless given.\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FROM + "2023-01-01 " + PREFIX_TO + "2023-03-31 "
+            + PREFIX_FILE + "report.csv";
+
+    public static final String MESSAGE_WRITTEN = "Attendance of %1$d tutees from %2$s to %3$s written to %4$s";
+    public static final String MESSAGE_WRITE_FAILED = "Could not write the report to %1$s: %2$s";
+
+    private final LocalDate from;
+    private final LocalDate to;
+    private final Optional<Path> file;
+
+    /**
+     * Creates a command that reports the attendance from {@code from} to {@code to}, inclusive, in the result
+     * display, or in {@code file} if there is one.
+     */
+    public ReportCommand(LocalDate from, LocalDate to, Optional<Path> file) {
+        requireNonNull(from);
+        requireNonNull(to);
+        requireNonNull(file);
+        this.from = from;
+        this.to = to;
+        this.file = file;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        AttendanceReport report = AttendanceReport.of(List.copyOf(model.getFilteredTuteeList()), from, to);
+        if (file.isEmpty()) {
+            return new CommandResult(report.toString());
+        }
+
+        Path path = file.get();
+        try {
+            FileUtil.createIfMissing(path);
+            try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+                report.writeCsv(writer);
+            }
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_WRITE_FAILED, path, e.getMessage()), e);
+        }
+        return new CommandResult(String.format(MESSAGE_WRITTEN, report.getTuteeCount(), from, to, path));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ReportCommand)) {
+            return false;
+        }
+
+        ReportCommand otherCommand = (ReportCommand) other;
+        return from.equals(otherCommand.from)
+                && to.equals(otherCommand.to)
+                && file.equals(otherCommand.file);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(from, to, file);
+    }
+}
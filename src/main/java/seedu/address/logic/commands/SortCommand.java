@@ -0,0 +1,72 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.Model;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.TuteeOrder;
+
+/**
+ * Sorts the tutees shown in an order, which they stay in until sorted again. Orders that group the tutees also
+ * show how many tutees are in each group.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the tutees shown, grouping them by subject "
+            + "or day if sorted by those.\n"
+            + "Parameters: ORDER (one of day, time, subject, name or none, which is the order they were added in)\n"
+            + "Example: " + COMMAND_WORD + " subject";
+
+    public static final String MESSAGE_SUCCESS = "Sorted by %1$s";
+    public static final String MESSAGE_GROUP = "%1$s: %2$d";
+
+    private final TuteeOrder order;
+
+    public SortCommand(TuteeOrder order) {
+        this.order = requireNonNull(order);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.sortFilteredTuteeList(order);
+        String feedback = String.format(MESSAGE_SUCCESS, order);
+        if (order.isGrouped()) {
+            feedback += "\n" + String.join("\n", countGroups(model.getFilteredTuteeList()));
+        }
+        return new CommandResult(feedback);
+    }
+
+    /**
+     * Returns the size of each group of {@code tutees}, which are sorted in {@code order}.
+     */
+    private List<String> countGroups(List<Tutee> tutees) {
+        List<String> groups = new ArrayList<>();
+        int start = 0;
+        for (int i = 1; i <= tutees.size(); i++) {
+            String group = order.getGroup(tutees.get(start));
+            if (i == tutees.size() || !order.getGroup(tutees.get(i)).equals(group)) {
+                groups.add(String.format(MESSAGE_GROUP, group, i - start));
+                start = i;
+            }
+        }
+        return groups;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SortCommand // instanceof handles nulls
+                && order == ((SortCommand) other).order);
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.commons.core.stats.PerformanceStats;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long commands took to run and how long the app took to start, along with the size of the roster
+ * and its data file.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the number of tutees, the size of the data file, how long the app took to start\n"
+            + "and how long each command took to run.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Tutees: %1$d\nData file: %2$s\nLast save: %3$s\nStartup: %4$s\n%5$s";
+    public static final String MESSAGE_UNKNOWN = "unknown";
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        PerformanceStats performanceStats = model.getPerformanceStats();
+        long lastSaveNanos = performanceStats.getLastSaveNanos();
+        String lastSave = lastSaveNanos < 0
+                ? MESSAGE_UNKNOWN
+                : String.format("%.2f ms", PerformanceStats.toMillis(lastSaveNanos));
+        String startup = performanceStats.getStartupPhases().isEmpty()
+                ? MESSAGE_UNKNOWN
+                : performanceStats.getStartupSummary();
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS,
+                model.getTuteeManagingSystem().getPersonList().size(),
+                describeFile(model.getTuteeManagingSystemPath()), lastSave, startup,
+                performanceStats.getSummary()));
+    }
+
+    /**
+     * Describes the size of {@code file} together with the journal and segment files it is saved in.
+     */
+    private static String describeFile(Path file) {
+        try {
+            return String.format("%s (%d bytes, with its journal and segment files)", file,
+                    FileUtil.sizeWithCompanions(file));
+        } catch (IOException e) {
+            return String.format("%s (%s)", file, MESSAGE_UNKNOWN);
+        }
+    }
+}
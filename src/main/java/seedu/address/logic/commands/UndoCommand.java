@@ -0,0 +1,31 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TUTEES;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Undoes the changes made by the last command that changed the address book.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_SUCCESS = "Undo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to undo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canUndoTuteeManagingSystem()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.undoTuteeManagingSystem();
+        model.updateFilteredTuteeList(PREDICATE_SHOW_ALL_TUTEES);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -35,6 +35,11 @@ public class UnlearnCommand extends Command {
         this.lesson = lesson;
     }
 
+    @Override
+    public boolean usesShownIndex() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
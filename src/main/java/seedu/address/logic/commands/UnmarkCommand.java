@@ -36,6 +36,11 @@ public class UnmarkCommand extends Command {
         this.dates = dates;
     }
 
+    @Override
+    public boolean usesShownIndex() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -0,0 +1,132 @@
+package seedu.address.logic.completion;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LEARN;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.commons.util.PrefixTrie;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.CliSyntax;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.logic.parser.TuteeManagingSystemParser;
+import seedu.address.model.Model;
+import seedu.address.model.tutee.CompletionIndex;
+
+/**
+ * Completes partially typed command text.
+ * Command words and prefixes are completed from tries built once, while names, tags and lessons are completed
+ * from the tries that the model keeps up to date as tutees change.
+ */
+public class AutoCompleter {
+
+    private static final Map<Prefix, CompletionIndex.Field> FIELDS_BY_PREFIX = Map.of(
+            PREFIX_NAME, CompletionIndex.Field.NAME,
+            PREFIX_TAG, CompletionIndex.Field.TAG,
+            PREFIX_LEARN, CompletionIndex.Field.LESSON);
+    private static final String PREFIX_DELIMITER = "/";
+
+    private final Model model;
+    private final PrefixTrie commandWords = new PrefixTrie();
+    private final PrefixTrie prefixes = new PrefixTrie();
+
+    /**
+     * Creates an {@code AutoCompleter} that completes names, tags and lessons from {@code model}.
+     */
+    public AutoCompleter(Model model) {
+        requireNonNull(model);
+        this.model = model;
+        TuteeManagingSystemParser.getCommandWords().forEach(commandWords::add);
+        CliSyntax.ALL_PREFIXES.forEach(prefix -> prefixes.add(prefix.getPrefix()));
+    }
+
+    /**
+     * Returns {@code commandText} with its last word or value completed as far as possible,
+     * or an empty {@code Optional} if there is nothing to add.
+     * A space is added after a completed command word or value once it is the only possible completion.
+     */
+    public Optional<String> complete(String commandText) {
+        requireNonNull(commandText);
+        String trimmedText = commandText.stripLeading();
+        int commandWordEnd = indexOfWhitespace(trimmedText);
+        if (commandWordEnd == -1) {
+            return complete(commandText, commandText.length() - trimmedText.length(), commandWords);
+        }
+
+        Optional<String> completedValue = completeValue(commandText);
+        if (completedValue.isPresent()) {
+            return completedValue;
+        }
+
+        int wordStart = lastIndexOfWhitespace(commandText) + 1;
+        String word = commandText.substring(wordStart);
+        boolean isFind = trimmedText.substring(0, commandWordEnd).equals(FindCommand.COMMAND_WORD);
+        if (isFind && !word.startsWith("-")) {
+            return complete(commandText, wordStart, CompletionIndex.Field.NAME_WORD);
+        }
+        if (word.isEmpty() || word.contains(PREFIX_DELIMITER)) {
+            return Optional.empty();
+        }
+        return prefixes.complete(word).map(completion -> commandText.substring(0, wordStart) + completion)
+                .filter(completedText -> !completedText.equals(commandText));
+    }
+
+    /**
+     * Completes the value after the last name, tag or lesson prefix in {@code commandText}, if the text ends
+     * with such a value.
+     */
+    private Optional<String> completeValue(String commandText) {
+        Prefix lastPrefix = null;
+        int lastPrefixPosition = -1;
+        for (Prefix prefix : CliSyntax.ALL_PREFIXES) {
+            int position = commandText.lastIndexOf(" " + prefix.getPrefix());
+            if (position > lastPrefixPosition) {
+                lastPrefix = prefix;
+                lastPrefixPosition = position;
+            }
+        }
+
+        if (lastPrefix == null || !FIELDS_BY_PREFIX.containsKey(lastPrefix)) {
+            return Optional.empty();
+        }
+        int valueStart = lastPrefixPosition + 1 + lastPrefix.getPrefix().length();
+        return complete(commandText, valueStart, FIELDS_BY_PREFIX.get(lastPrefix));
+    }
+
+    private Optional<String> complete(String commandText, int start, CompletionIndex.Field field) {
+        String partial = commandText.substring(start);
+        return model.complete(field, partial)
+                .map(completion -> model.hasUniqueCompletion(field, partial) ? completion + " " : completion)
+                .map(completion -> commandText.substring(0, start) + completion)
+                .filter(completedText -> !completedText.equals(commandText));
+    }
+
+    private static Optional<String> complete(String commandText, int start, PrefixTrie trie) {
+        String partial = commandText.substring(start);
+        return trie.complete(partial)
+                .map(completion -> trie.hasUniqueCompletion(partial) ? completion + " " : completion)
+                .map(completion -> commandText.substring(0, start) + completion)
+                .filter(completedText -> !completedText.equals(commandText));
+    }
+
+    private static int indexOfWhitespace(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int lastIndexOfWhitespace(String text) {
+        for (int i = text.length() - 1; i >= 0; i--) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
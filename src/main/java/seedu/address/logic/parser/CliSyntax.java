@@ -1,5 +1,7 @@
 package seedu.address.logic.parser;
 
+import java.util.List;
+
 /**
  * Contains Command Line Interface (CLI) syntax definitions common to multiple commands
  */
@@ -18,4 +20,14 @@ public class CliSyntax {
     public static final Prefix PREFIX_COPY = new Prefix("cp/");
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_LEARN = new Prefix("l/");
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
+    public static final Prefix PREFIX_FILE = new Prefix("f/");
+    public static final Prefix PREFIX_DATE = new Prefix("d/");
+    public static final Prefix PREFIX_MONTH = new Prefix("m/");
+
+    /* All prefixes above, used for autocompletion */
+    public static final List<Prefix> ALL_PREFIXES = List.of(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+            PREFIX_REMARK, PREFIX_SUBJECT, PREFIX_SCHEDULE, PREFIX_STARTTIME, PREFIX_ENDTIME, PREFIX_COPY, PREFIX_TAG,
+            PREFIX_LEARN, PREFIX_FROM, PREFIX_TO, PREFIX_FILE, PREFIX_DATE, PREFIX_MONTH);
 }
@@ -8,6 +8,7 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.commands.LearnCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.tutee.fields.Lesson;
 
 /**
  * Parser for the {@link LearnCommand} command
@@ -27,6 +28,6 @@ public class LearnCommandParser implements Parser<LearnCommand> {
 
         String lesson = argMultimap.getValue(PREFIX_LEARN).orElse("");
 
-        return new LearnCommand(index, lesson);
+        return new LearnCommand(index, Lesson.intern(lesson));
     }
 }
@@ -2,8 +2,10 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -27,6 +29,8 @@ import seedu.address.model.tutee.fields.Subject;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String EXPECTED_DATE_FORMAT = "yyyy-MM-dd";
+    public static final String MESSAGE_INVALID_DATE = "Dates should be in the format " + EXPECTED_DATE_FORMAT;
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -41,6 +45,21 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses a {@code String date} in the format {@value #EXPECTED_DATE_FORMAT} into a {@code LocalDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code date} is invalid.
+     */
+    public static LocalDate parseDate(String date) throws ParseException {
+        requireNonNull(date);
+        try {
+            return LocalDate.parse(date.trim(), DateTimeFormatter.ofPattern(EXPECTED_DATE_FORMAT));
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_DATE, e);
+        }
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -113,7 +132,7 @@ public class ParserUtil {
         if (!Subject.isValidSubject(trimmedSubject)) {
             throw new ParseException(Subject.MESSAGE_CONSTRAINTS);
         }
-        return new Subject(trimmedSubject);
+        return Subject.of(trimmedSubject);
     }
 
     /**
@@ -129,7 +148,7 @@ public class ParserUtil {
             System.out.println(trimmedSchedule);
             throw new ParseException(Schedule.MESSAGE_CONSTRAINTS);
         }
-        return new Schedule(trimmedSchedule);
+        return Schedule.of(trimmedSchedule);
     }
 
     /**
@@ -146,7 +165,7 @@ public class ParserUtil {
         if (!StartTime.isValidStartTime(trimmedStartTime)) {
             throw new ParseException(StartTime.MESSAGE_CONSTRAINTS);
         }
-        return new StartTime(trimmedStartTime);
+        return StartTime.of(trimmedStartTime);
     }
 
     /**
@@ -171,7 +190,7 @@ public class ParserUtil {
         if (parsedEndTime.isBefore(parsedStartTime)) {
             throw new ParseException(EndTime.MESSAGE_CONSTRAINTS_AFTER_START_TIME);
         }
-        return new EndTime(trimmedEndTime);
+        return EndTime.of(trimmedEndTime);
     }
 
 
@@ -188,7 +207,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
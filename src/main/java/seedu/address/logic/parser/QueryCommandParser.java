@@ -1,8 +1,11 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MONTH;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
@@ -25,6 +28,11 @@ public class QueryCommandParser implements Parser<QueryCommand> {
             throw new ParseException(String.format("%s needs an index!", QueryCommand.COMMAND_WORD));
         }
 
+        if (args.length == 2 && args[1].startsWith(PREFIX_DATE.getPrefix())) {
+            // No index, but a date to list everyone present on
+            return new QueryCommand(parseDate(args[1].substring(PREFIX_DATE.getPrefix().length())));
+        }
+
         Index index;
         try {
             index = ParserUtil.parseIndex(args[1]);
@@ -37,9 +45,25 @@ public class QueryCommandParser implements Parser<QueryCommand> {
             return new QueryCommand(index);
         }
 
+        if (args[2].startsWith(PREFIX_MONTH.getPrefix())) {
+            try {
+                YearMonth month = YearMonth.parse(args[2].substring(PREFIX_MONTH.getPrefix().length()),
+                        DateTimeFormatter.ofPattern(QueryCommand.EXPECTED_MONTH_FORMAT));
+                return new QueryCommand(index, month);
+            } catch (DateTimeParseException e) {
+                throw new ParseException(String.format("%s expects the month in the following format: %s",
+                    QueryCommand.COMMAND_WORD,
+                    QueryCommand.EXPECTED_MONTH_FORMAT
+                ));
+            }
+        }
+
+        return new QueryCommand(index, parseDate(args[2]));
+    }
+
+    private static LocalDate parseDate(String date) throws ParseException {
         try {
-            LocalDate date = LocalDate.parse(args[2], DateTimeFormatter.ofPattern(QueryCommand.EXPECTED_DATE_FORMAT));
-            return new QueryCommand(index, date);
+            return LocalDate.parse(date, DateTimeFormatter.ofPattern(QueryCommand.EXPECTED_DATE_FORMAT));
         } catch (DateTimeParseException e) {
             throw new ParseException(String.format("%s expects the date in the following format: %s",
                 QueryCommand.COMMAND_WORD,
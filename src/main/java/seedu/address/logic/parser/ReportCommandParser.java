@@ -0,0 +1,58 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.ReportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code ReportCommand} object
+ */
+public class ReportCommandParser implements Parser<ReportCommand> {
+
+    public static final String MESSAGE_END_BEFORE_START = "The report must not end before it starts";
+    public static final String MESSAGE_INVALID_FILE = "The report can only be written to a valid .csv file path";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code ReportCommand}
+     * and returns a {@code ReportCommand} object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ReportCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO, PREFIX_FILE);
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReportCommand.MESSAGE_USAGE));
+        }
+
+        LocalDate to = argMultimap.getValue(PREFIX_TO).isPresent()
+                ? ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO).get())
+                : LocalDate.now();
+        LocalDate from = argMultimap.getValue(PREFIX_FROM).isPresent()
+                ? ParserUtil.parseDate(argMultimap.getValue(PREFIX_FROM).get())
+                : to.minusWeeks(ReportCommand.DEFAULT_WEEKS);
+        if (from.isAfter(to)) {
+            throw new ParseException(MESSAGE_END_BEFORE_START);
+        }
+
+        Optional<Path> file = Optional.empty();
+        if (argMultimap.getValue(PREFIX_FILE).isPresent()) {
+            String path = argMultimap.getValue(PREFIX_FILE).get().trim();
+            if (!path.endsWith(".csv") || !FileUtil.isValidPath(path)) {
+                throw new ParseException(MESSAGE_INVALID_FILE);
+            }
+            file = Optional.of(Paths.get(path));
+        }
+        return new ReportCommand(from, to, file);
+    }
+}
@@ -4,6 +4,7 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -32,13 +33,25 @@ public class TuteeManagingSystemParser {
         Map.entry(ListCommand.COMMAND_WORD, args -> new ListCommand()),
         Map.entry(MarkCommand.COMMAND_WORD, new MarkCommandParser()),
         Map.entry(QueryCommand.COMMAND_WORD, new QueryCommandParser()),
+        Map.entry(RedoCommand.COMMAND_WORD, args -> new RedoCommand()),
         Map.entry(RemarkCommand.COMMAND_WORD, new RemarkCommandParser()),
+        Map.entry(ReportCommand.COMMAND_WORD, new ReportCommandParser()),
+        Map.entry(SortCommand.COMMAND_WORD, new SortCommandParser()),
+        Map.entry(StatsCommand.COMMAND_WORD, args -> new StatsCommand()),
         Map.entry(CopyCommand.COMMAND_WORD, new CopyCommandParser()),
             Map.entry(LearnCommand.COMMAND_WORD, new LearnCommandParser()),
             Map.entry(UnlearnCommand.COMMAND_WORD, new UnlearnCommandParser()),
+        Map.entry(UndoCommand.COMMAND_WORD, args -> new UndoCommand()),
         Map.entry(UnmarkCommand.COMMAND_WORD, new UnmarkCommandParser())
     );
 
+    /**
+     * Returns the command words of every command that can be parsed.
+     */
+    public static Set<String> getCommandWords() {
+        return commandMap.keySet();
+    }
+
     /**
      * Parses user input into command for execution.
      *
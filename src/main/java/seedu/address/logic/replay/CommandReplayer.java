@@ -0,0 +1,55 @@
+package seedu.address.logic.replay;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.core.stats.LatencyHistogram;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Executes a list of commands through {@link Logic#execute(String)}, one after another without a UI,
+ * and measures how long each takes and how many bytes their saves write.
+ */
+public class CommandReplayer {
+
+    private final Logic logic;
+
+    /**
+     * Creates a {@code CommandReplayer} that executes commands through {@code logic}.
+     */
+    public CommandReplayer(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+    }
+
+    /**
+     * Executes {@code commands} in order and returns the measurements.
+     * Commands that fail are counted but do not stop the replay, as they would not stop a user.
+     */
+    public ReplayReport replay(List<String> commands) {
+        requireNonNull(commands);
+        LatencyHistogram latencies = new LatencyHistogram();
+        int failedCount = 0;
+        // Counted by the storage itself, as a save may write journals or segments rather than the data file
+        long savedBytesBefore = logic.getPerformanceStats().getSavedBytes();
+
+        long replayStart = System.nanoTime();
+        for (String command : commands) {
+            long start = System.nanoTime();
+            try {
+                logic.execute(command);
+            } catch (CommandException | ParseException e) {
+                failedCount++;
+            }
+            latencies.record(System.nanoTime() - start);
+        }
+        long elapsedNanos = System.nanoTime() - replayStart;
+        long bytesWritten = logic.getPerformanceStats().getSavedBytes() - savedBytesBefore;
+
+        return new ReplayReport(commands.size(), failedCount, elapsedNanos, latencies, bytesWritten,
+                ReplayReport.digestOf(logic.getAddressBook()));
+    }
+}
@@ -0,0 +1,162 @@
+package seedu.address.logic.replay;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.CopyCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.LearnCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MarkCommand;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.util.SyntheticRoster;
+
+/**
+ * Generates a realistic mix of commands for the tutees of a {@link SyntheticRoster}, or reads a recorded one.
+ * <p>
+ * Most commands look a tutee up with {@code find} or {@code filter} and then {@code mark}, {@code edit},
+ * {@code learn} or {@code copy} the first match, the way a tutor would. The others work on a random index of the
+ * full list, after a {@code list} if the list was narrowed. The same seed and roster size always give the same
+ * commands.
+ */
+public class CommandStream {
+
+    private static final String COMMENT_PREFIX = "#";
+    private static final String[] SUBJECTS = {"Math", "English", "Physics"};
+    private static final String[] DAYS = {"monday", "tuesday", "wednesday", "thursday", "friday", "saturday",
+        "sunday"};
+    private static final String[] TAGS = {"GoodEffort", "OwesMoney", "NeedsHelp", "ExamYear"};
+    private static final String[] LESSONS = {"Algebra", "Rational Number", "Trigonometry", "Comprehension",
+        "Summary Writing", "Kinematics", "Electricity", "Revision"};
+    private static final LocalDate FIRST_MARKED_DATE = SyntheticRoster.END_DATE.minusYears(1);
+
+    private enum Action {
+        FILTER(20), FIND(25), MARK(25), EDIT(10), LEARN(15), COPY(5);
+
+        private final int weight;
+
+        Action(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    private final SyntheticRoster roster;
+    private final int rosterSize;
+    private final SplittableRandom random;
+
+    /**
+     * Creates a {@code CommandStream} for a roster of {@code rosterSize} tutees generated from {@code seed}.
+     */
+    public CommandStream(long seed, int rosterSize) {
+        checkArgument(rosterSize > 0, "Roster size must be positive");
+        this.roster = new SyntheticRoster(seed);
+        this.rosterSize = rosterSize;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Returns the commands in {@code file}, one per line, skipping blank lines and lines starting with {@code #}.
+     */
+    public static List<String> read(Path file) throws IOException {
+        return Files.readAllLines(file).stream()
+                .map(String::strip)
+                .filter(line -> !line.isEmpty() && !line.startsWith(COMMENT_PREFIX))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the next {@code count} commands of the stream.
+     */
+    public List<String> generate(int count) {
+        checkArgument(count >= 0, "Count cannot be negative");
+        List<String> commands = new ArrayList<>(count);
+        boolean isNarrowed = false;
+        while (commands.size() < count) {
+            Action action = pickAction();
+            if (action == Action.FIND || action == Action.FILTER) {
+                commands.add(action == Action.FIND ? find() : filter());
+                isNarrowed = true;
+                continue;
+            }
+
+            // Half of the time the first match of the last find or filter is used, otherwise any tutee
+            int index = 1;
+            if (!isNarrowed || random.nextBoolean()) {
+                if (isNarrowed) {
+                    commands.add(ListCommand.COMMAND_WORD);
+                    isNarrowed = false;
+                }
+                index = 1 + random.nextInt(rosterSize);
+            }
+            commands.add(indexCommand(action, index));
+        }
+        return commands.subList(0, count);
+    }
+
+    private Action pickAction() {
+        int total = 0;
+        for (Action action : Action.values()) {
+            total += action.weight;
+        }
+        int target = random.nextInt(total);
+        for (Action action : Action.values()) {
+            target -= action.weight;
+            if (target < 0) {
+                return action;
+            }
+        }
+        return Action.COPY;
+    }
+
+    private String find() {
+        Tutee tutee = roster.tutee(random.nextInt(rosterSize));
+        String[] words = tutee.getName().fullName.split(" ");
+        return FindCommand.COMMAND_WORD + " " + words[random.nextInt(words.length)];
+    }
+
+    private String filter() {
+        switch (random.nextInt(3)) {
+        case 0:
+            return FilterCommand.COMMAND_WORD + " s/" + pick(SUBJECTS) + " sch/" + pick(DAYS);
+        case 1:
+            return FilterCommand.COMMAND_WORD + " t/" + pick(TAGS);
+        default:
+            Tutee tutee = roster.tutee(random.nextInt(rosterSize));
+            return FilterCommand.COMMAND_WORD + " n/" + tutee.getName().fullName.split(" ")[0]
+                    + " s/" + tutee.getSubject().subject;
+        }
+    }
+
+    private String indexCommand(Action action, int index) {
+        switch (action) {
+        case MARK:
+            LocalDate date = FIRST_MARKED_DATE.plusDays(random.nextInt(365));
+            return MarkCommand.COMMAND_WORD + " " + index + " " + date;
+        case EDIT:
+            return EditCommand.COMMAND_WORD + " " + index + " p/9" + String.format("%07d", random.nextInt(10_000_000));
+        case LEARN:
+            return LearnCommand.COMMAND_WORD + " " + index + " l/" + pick(LESSONS);
+        case COPY:
+            int startHour = 15 + random.nextInt(5);
+            return String.format(Locale.ROOT, "%s %d s/%s sch/%s st/%02d:00 et/%02d:30", CopyCommand.COMMAND_WORD,
+                    index, pick(SUBJECTS), pick(DAYS), startHour, startHour + 1);
+        default:
+            throw new AssertionError("Not an index command: " + action);
+        }
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,147 @@
+package seedu.address.logic.replay;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.DataCompression;
+import seedu.address.commons.core.DurabilityMode;
+import seedu.address.commons.core.stats.PerformanceStats;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.CompressionUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyTuteeManagingSystem;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SyntheticRoster;
+import seedu.address.storage.FileSyncer;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.SyntheticRosterFile;
+
+/**
+ * Replays a generated or recorded list of commands against a large data file without the UI, and reports the
+ * throughput, latency percentiles and bytes written, and a digest of the final state.
+ * <p>
+ * Usage: {@code LoadTester [--tutees=N] [--commands=N] [--seed=N] [--script=FILE] [--data=FILE] [--expect=DIGEST]
+ * [--durability=MODE]}.
+ * The data file is replaced by {@code --tutees} tutees generated by {@link SyntheticRoster} from {@code --seed}.
+ * Unless {@code --script} gives a file of recorded commands, {@code --commands} commands are generated by
+ * {@link CommandStream} from the same seed. The run fails if the data file read back from disk does not match
+ * the final state in memory, or if the final state does not have the digest given by {@code --expect}, e.g. the
+ * digest of a reference run of an earlier build. Saves are forced to the disk as {@code --durability} asks, one of
+ * the {@link DurabilityMode} names, and how long that took is reported too.
+ */
+public class LoadTester {
+
+    public static final int DEFAULT_TUTEE_COUNT = 20_000;
+    public static final int DEFAULT_COMMAND_COUNT = 1_000;
+
+    private static final String OPTION_PREFIX = "--";
+    private static final String OPTION_SEPARATOR = "=";
+
+    /**
+     * Writes {@code tuteeCount} tutees generated from {@code seed} to {@code dataFile}, executes {@code commands}
+     * against it and returns the measurements.
+     */
+    public static ReplayReport run(int tuteeCount, long seed, List<String> commands, Path dataFile)
+            throws IOException, DataConversionException {
+        return run(tuteeCount, seed, commands, dataFile, DurabilityMode.NEVER, new PerformanceStats());
+    }
+
+    /**
+     * Similar to {@link #run(int, long, List, Path)}, but forces saves to the disk as {@code durabilityMode} asks,
+     * with the default group commit limits, recording every fsync in {@code performanceStats}.
+     * The saves of the last group are forced before returning.
+     */
+    public static ReplayReport run(int tuteeCount, long seed, List<String> commands, Path dataFile,
+            DurabilityMode durabilityMode, PerformanceStats performanceStats)
+            throws IOException, DataConversionException {
+        SyntheticRosterFile.write(tuteeCount, seed, dataFile);
+
+        try (FileSyncer fileSyncer = new FileSyncer(durabilityMode, DurabilityMode.DEFAULT_GROUP_COMMIT_MILLIS,
+                DurabilityMode.DEFAULT_GROUP_COMMIT_COMMANDS, performanceStats)) {
+            Storage storage = new StorageManager(new JsonAddressBookStorage(dataFile, DataCompression.NONE,
+                    CompressionUtil.DEFAULT_LEVEL, fileSyncer),
+                    new JsonUserPrefsStorage(dataFile.resolveSibling("preferences.json")));
+            UserPrefs userPrefs = new UserPrefs();
+            userPrefs.setAddressBookFilePath(dataFile);
+            userPrefs.setDurabilityMode(durabilityMode);
+            Model model = new ModelManager(storage.readAddressBook().orElseThrow(), userPrefs, performanceStats);
+            Logic logic = new LogicManager(model, storage);
+
+            return new CommandReplayer(logic).replay(commands);
+        }
+    }
+
+    /**
+     * Returns the digest of the tutees in {@code dataFile}.
+     *
+     * @see ReplayReport#digestOf(ReadOnlyTuteeManagingSystem)
+     */
+    public static String digestOf(Path dataFile) throws DataConversionException {
+        return ReplayReport.digestOf(new JsonAddressBookStorage(dataFile).readAddressBook().orElseThrow());
+    }
+
+    public static void main(String[] args) throws IOException, DataConversionException {
+        Map<String, String> options = parseOptions(args);
+        int tuteeCount = Integer.parseInt(options.getOrDefault("tutees", String.valueOf(DEFAULT_TUTEE_COUNT)));
+        long seed = Long.parseLong(options.getOrDefault("seed", String.valueOf(SyntheticRoster.DEFAULT_SEED)));
+        List<String> commands = options.containsKey("script")
+                ? CommandStream.read(Paths.get(options.get("script")))
+                : new CommandStream(seed, tuteeCount).generate(Integer.parseInt(
+                        options.getOrDefault("commands", String.valueOf(DEFAULT_COMMAND_COUNT))));
+        Path dataFile = options.containsKey("data")
+                ? Paths.get(options.get("data"))
+                : Files.createTempDirectory("tms-load-test").resolve("TMS.json");
+
+        // Logging every command would measure the console rather than the app
+        Logger.getLogger("").setLevel(Level.WARNING);
+
+        DurabilityMode durabilityMode = DurabilityMode.valueOf(
+                options.getOrDefault("durability", DurabilityMode.NEVER.name()));
+
+        System.out.printf("Replaying %d commands against %d tutees in %s with durability %s%n", commands.size(),
+                tuteeCount, dataFile, durabilityMode);
+        PerformanceStats performanceStats = new PerformanceStats();
+        ReplayReport report = run(tuteeCount, seed, commands, dataFile, durabilityMode, performanceStats);
+        System.out.print(report);
+        performanceStats.getSummary().lines()
+                .filter(line -> line.startsWith(PerformanceStats.FSYNC))
+                .forEach(System.out::println);
+
+        boolean isConsistent = true;
+        if (!digestOf(dataFile).equals(report.getStateDigest())) {
+            System.out.println("FAILED: the data file does not match the final state in memory");
+            isConsistent = false;
+        }
+        String expectedDigest = options.get("expect");
+        if (expectedDigest != null && !expectedDigest.equals(report.getStateDigest())) {
+            System.out.println("FAILED: the final state does not match the reference run " + expectedDigest);
+            isConsistent = false;
+        }
+        System.exit(isConsistent ? 0 : 1);
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith(OPTION_PREFIX) || !arg.contains(OPTION_SEPARATOR)) {
+                throw new IllegalArgumentException("Options must look like --name=value: " + arg);
+            }
+            String[] nameAndValue = arg.substring(OPTION_PREFIX.length()).split(OPTION_SEPARATOR, 2);
+            options.put(nameAndValue[0], nameAndValue[1]);
+        }
+        return options;
+    }
+}
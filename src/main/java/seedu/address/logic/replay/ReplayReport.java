@@ -0,0 +1,125 @@
+package seedu.address.logic.replay;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.stats.LatencyHistogram;
+import seedu.address.commons.core.stats.PerformanceStats;
+import seedu.address.model.ReadOnlyTuteeManagingSystem;
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * The measurements of a {@link CommandReplayer} run, and a digest of the state it ended in.
+ */
+public class ReplayReport {
+
+    private static final String FIELD_SEPARATOR = "\u001f";
+    private static final String TUTEE_SEPARATOR = "\u001e";
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final int commandCount;
+    private final int failedCount;
+    private final long elapsedNanos;
+    private final LatencyHistogram latencies;
+    private final long bytesWritten;
+    private final String stateDigest;
+
+    /**
+     * Creates a {@code ReplayReport} with the given measurements.
+     */
+    public ReplayReport(int commandCount, int failedCount, long elapsedNanos, LatencyHistogram latencies,
+            long bytesWritten, String stateDigest) {
+        requireNonNull(latencies);
+        requireNonNull(stateDigest);
+        this.commandCount = commandCount;
+        this.failedCount = failedCount;
+        this.elapsedNanos = elapsedNanos;
+        this.latencies = latencies;
+        this.bytesWritten = bytesWritten;
+        this.stateDigest = stateDigest;
+    }
+
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * Returns the number of commands executed per second.
+     */
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : commandCount / (elapsedNanos / NANOS_PER_SECOND);
+    }
+
+    /**
+     * Returns the digest of the final state, which is the same for two runs that end with the same tutees in the
+     * same order.
+     */
+    public String getStateDigest() {
+        return stateDigest;
+    }
+
+    /**
+     * Returns a SHA-256 digest of every field of every tutee in {@code tuteeManagingSystem}, in order.
+     * Unlike {@link Tutee#equals(Object)}, attendance, remarks and times are included.
+     */
+    public static String digestOf(ReadOnlyTuteeManagingSystem tuteeManagingSystem) {
+        requireNonNull(tuteeManagingSystem);
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("Every Java platform supports SHA-256", e);
+        }
+        for (Tutee tutee : tuteeManagingSystem.getPersonList()) {
+            digest.update(canonicalFormOf(tutee).getBytes(StandardCharsets.UTF_8));
+        }
+
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    private static String canonicalFormOf(Tutee tutee) {
+        return String.join(FIELD_SEPARATOR, tutee.getName().fullName, tutee.getPhone().value,
+                tutee.getEmail().value, tutee.getAddress().value, tutee.getRemark().toString(),
+                tutee.getSubject().subject, tutee.getSchedule().schedule, tutee.getStartTime().startTime,
+                tutee.getEndTime().endTime,
+                tutee.getTags().stream().map(tag -> tag.tagName).sorted().collect(Collectors.joining(",")),
+                tutee.getLessons().stream().sorted().collect(Collectors.joining(",")),
+                tutee.getAttendance().stream().sorted().map(Object::toString).collect(Collectors.joining(",")))
+                + TUTEE_SEPARATOR;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "Commands: %d (%d failed)%n"
+                        + "Throughput: %.1f commands/s%n"
+                        + "Latency: p50=%.2f p95=%.2f p99=%.2f max=%.2f ms%n"
+                        + "Bytes written: %d%n"
+                        + "Final state: %s%n",
+                commandCount, failedCount, getThroughput(),
+                PerformanceStats.toMillis(latencies.getPercentile(50)),
+                PerformanceStats.toMillis(latencies.getPercentile(95)),
+                PerformanceStats.toMillis(latencies.getPercentile(99)),
+                PerformanceStats.toMillis(latencies.getMax()), bytesWritten, stateDigest);
+    }
+}
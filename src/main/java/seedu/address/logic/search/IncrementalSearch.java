@@ -0,0 +1,56 @@
+package seedu.address.logic.search;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * Finds the tutees that match a {@code SearchQuery}, reusing the results of the previous search where possible.
+ * If the new query is narrower than the previous one and the roster has not changed since, only the previous
+ * matches are tested instead of the whole roster.
+ */
+public class IncrementalSearch {
+
+    /** Number of tutees tested between checks for cancellation. */
+    private static final int CANCELLATION_CHECK_INTERVAL = 256;
+
+    private SearchQuery lastQuery;
+    private long lastRosterVersion;
+    private List<Tutee> lastMatches;
+
+    /**
+     * Returns the tutees in {@code roster} that match {@code query}, in roster order.
+     * {@code rosterVersion} must change whenever the contents of the roster change.
+     * Returns an empty {@code Optional} if {@code isCancelled} becomes true before the search completes.
+     */
+    public synchronized Optional<List<Tutee>> search(SearchQuery query, List<Tutee> roster, long rosterVersion,
+            BooleanSupplier isCancelled) {
+        requireAllNonNull(query, roster, isCancelled);
+
+        List<Tutee> candidates = roster;
+        if (lastMatches != null && lastRosterVersion == rosterVersion && query.isNarrowerThan(lastQuery)) {
+            candidates = lastMatches;
+        }
+
+        List<Tutee> matches = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (i % CANCELLATION_CHECK_INTERVAL == 0 && isCancelled.getAsBoolean()) {
+                return Optional.empty();
+            }
+            Tutee candidate = candidates.get(i);
+            if (query.test(candidate)) {
+                matches.add(candidate);
+            }
+        }
+
+        lastQuery = query;
+        lastRosterVersion = rosterVersion;
+        lastMatches = matches;
+        return Optional.of(matches);
+    }
+}
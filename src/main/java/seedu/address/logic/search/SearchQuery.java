@@ -0,0 +1,174 @@
+package seedu.address.logic.search;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ENDTIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STARTTIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FuzzyFindCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * A partially typed {@code find} or {@code filter} command, used to show matching tutees while the user types.
+ *
+ * A tutee matches if, for every field in the query, each keyword is the start of some word in that field
+ * (case insensitive). Unlike the commands themselves, keywords only need to match the start of a word so that
+ * a word that is still being typed already shows results. Because every keyword has to match, typing more
+ * characters or more keywords can only ever remove tutees from the results.
+ */
+public class SearchQuery {
+
+    /**
+     * The tutee fields that can be searched.
+     */
+    enum Field {
+        NAME(PREFIX_NAME, tutee -> tutee.getName().fullName),
+        PHONE(PREFIX_PHONE, tutee -> tutee.getPhone().value),
+        EMAIL(PREFIX_EMAIL, tutee -> tutee.getEmail().value),
+        ADDRESS(PREFIX_ADDRESS, tutee -> tutee.getAddress().value),
+        SUBJECT(PREFIX_SUBJECT, tutee -> tutee.getSubject().subject),
+        SCHEDULE(PREFIX_SCHEDULE, tutee -> tutee.getSchedule().schedule),
+        START_TIME(PREFIX_STARTTIME, tutee -> tutee.getStartTime().startTime),
+        END_TIME(PREFIX_ENDTIME, tutee -> tutee.getEndTime().endTime),
+        TAG(PREFIX_TAG, tutee -> tutee.getTags().stream().map(tag -> tag.tagName).collect(Collectors.joining(" ")));
+
+        private final Prefix prefix;
+        private final Function<Tutee, String> getter;
+
+        Field(Prefix prefix, Function<Tutee, String> getter) {
+            this.prefix = prefix;
+            this.getter = getter;
+        }
+    }
+
+    private static final String WHITESPACE = "\\s+";
+    private static final Prefix[] FILTER_PREFIXES = Arrays.stream(Field.values())
+            .map(field -> field.prefix).toArray(Prefix[]::new);
+
+    private final Map<Field, List<String>> keywordsByField;
+
+    private SearchQuery(Map<Field, List<String>> keywordsByField) {
+        this.keywordsByField = keywordsByField;
+    }
+
+    /**
+     * Parses {@code commandText} as a partially typed {@code find} or {@code filter} command.
+     * Returns an empty {@code Optional} if {@code commandText} is any other command, or does not have any keywords yet.
+     */
+    public static Optional<SearchQuery> parse(String commandText) {
+        requireNonNull(commandText);
+        String[] commandWordAndArgs = commandText.trim().split(WHITESPACE, 2);
+        if (commandWordAndArgs.length < 2) {
+            return Optional.empty();
+        }
+
+        String commandWord = commandWordAndArgs[0];
+        String args = commandWordAndArgs[1];
+        Map<Field, List<String>> keywordsByField = new EnumMap<>(Field.class);
+        if (commandWord.equals(FindCommand.COMMAND_WORD)) {
+            if (args.startsWith(FuzzyFindCommand.FUZZY_FLAG)) {
+                return Optional.empty();
+            }
+            keywordsByField.put(Field.NAME, toKeywords(args));
+        } else if (commandWord.equals(FilterCommand.COMMAND_WORD)) {
+            ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + args, FILTER_PREFIXES);
+            if (!argMultimap.getPreamble().isEmpty()) {
+                return Optional.empty();
+            }
+            for (Field field : Field.values()) {
+                argMultimap.getValue(field.prefix).map(SearchQuery::toKeywords)
+                        .filter(keywords -> !keywords.isEmpty())
+                        .ifPresent(keywords -> keywordsByField.put(field, keywords));
+            }
+        }
+
+        if (keywordsByField.values().stream().allMatch(List::isEmpty)) {
+            return Optional.empty();
+        }
+        return Optional.of(new SearchQuery(keywordsByField));
+    }
+
+    /**
+     * Returns true if {@code tutee} matches this query.
+     */
+    public boolean test(Tutee tutee) {
+        for (Map.Entry<Field, List<String>> entry : keywordsByField.entrySet()) {
+            List<String> words = toKeywords(entry.getKey().getter.apply(tutee));
+            for (String keyword : entry.getValue()) {
+                if (words.stream().noneMatch(word -> word.startsWith(keyword))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if every tutee that matches this query also matches {@code other},
+     * i.e. this query only adds characters or keywords to {@code other}.
+     */
+    public boolean isNarrowerThan(SearchQuery other) {
+        requireNonNull(other);
+        for (Map.Entry<Field, List<String>> entry : other.keywordsByField.entrySet()) {
+            List<String> otherKeywords = entry.getValue();
+            List<String> keywords = keywordsByField.getOrDefault(entry.getKey(), Collections.emptyList());
+            if (keywords.size() < otherKeywords.size()) {
+                return false;
+            }
+            for (int i = 0; i < otherKeywords.size(); i++) {
+                if (!keywords.get(i).startsWith(otherKeywords.get(i))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static List<String> toKeywords(String text) {
+        List<String> keywords = new ArrayList<>();
+        for (String keyword : text.toLowerCase().split(WHITESPACE)) {
+            if (!keyword.isEmpty()) {
+                keywords.add(keyword);
+            }
+        }
+        return keywords;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SearchQuery // instanceof handles nulls
+                && keywordsByField.equals(((SearchQuery) other).keywordsByField)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return keywordsByField.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return keywordsByField.toString();
+    }
+}
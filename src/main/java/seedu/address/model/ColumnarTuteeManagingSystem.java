@@ -0,0 +1,534 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntPredicate;
+
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.fields.Address;
+import seedu.address.model.tutee.fields.Attendance;
+import seedu.address.model.tutee.fields.Email;
+import seedu.address.model.tutee.fields.EndTime;
+import seedu.address.model.tutee.fields.Lesson;
+import seedu.address.model.tutee.fields.Name;
+import seedu.address.model.tutee.fields.Phone;
+import seedu.address.model.tutee.fields.Remark;
+import seedu.address.model.tutee.fields.Schedule;
+import seedu.address.model.tutee.fields.StartTime;
+import seedu.address.model.tutee.fields.Subject;
+
+/**
+ * An unmodifiable address book that stores its tutees column by column in arrays of primitives rather than as
+ * {@code Tutee} objects, so that a very large roster fits in a modest heap.
+ * <p>
+ * Schedules and subjects are one-byte codes into dictionaries of their distinct values, start and end times are
+ * minutes of the day, tags and lessons are codes into dictionaries, and attendance is a bitmap for every tutee with
+ * one bit per day from their first attendance. {@link #getPersonList()} only creates the {@code Tutee} of a row
+ * when it is asked for, and the filters made by {@link #onDay(DayOfWeek)} and the like test the columns of a row
+ * without creating any.
+ * <p>
+ * A {@link Builder} takes the tutees one at a time, e.g. as a data file is read, so that the {@code Tutee} objects
+ * of the whole roster never have to be in memory at once.
+ */
+public class ColumnarTuteeManagingSystem implements ReadOnlyTuteeManagingSystem {
+
+    /** The most distinct schedules or subjects a roster can have, as they are stored in one byte. */
+    public static final int MAX_BYTE_CODES = 256;
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final int size;
+
+    // Values unique to a tutee
+    private final String[] names;
+    private final String[] phones;
+    private final String[] emails;
+    private final String[] addresses;
+    private final String[] remarks;
+
+    // Values shared by many tutees
+    private final Dictionary<Schedule> scheduleDictionary;
+    private final Dictionary<Subject> subjectDictionary;
+    private final Dictionary<Tag> tagDictionary;
+    private final Dictionary<String> lessonDictionary;
+    private final byte[] schedules;
+    private final byte[] subjects;
+    private final short[] startMinutes;
+    private final short[] endMinutes;
+
+    // The tags and lessons of row i are at [offsets[i], offsets[i + 1])
+    private final int[] tagOffsets;
+    private final int[] tagCodes;
+    private final int[] lessonOffsets;
+    private final int[] lessonCodes;
+
+    // Bit j of the attendance of row i, in the words at [attendanceOffsets[i], attendanceOffsets[i + 1]),
+    // is set if the tutee attended on epoch day attendanceFirstDays[i] + j
+    private final long[] attendanceFirstDays;
+    private final int[] attendanceOffsets;
+    private final long[] attendanceWords;
+
+    private final ObservableList<Tutee> tuteeViews = new TuteeViewList();
+
+    /**
+     * Creates a {@code ColumnarTuteeManagingSystem} with the tutees of {@code toBeCopied}, in the same order.
+     *
+     * @throws IllegalArgumentException if there are more than {@link #MAX_BYTE_CODES} distinct schedules or
+     *     subjects.
+     */
+    public ColumnarTuteeManagingSystem(ReadOnlyTuteeManagingSystem toBeCopied) {
+        this(addAll(new Builder(), requireNonNull(toBeCopied).getPersonList()));
+    }
+
+    private ColumnarTuteeManagingSystem(Builder builder) {
+        size = builder.size;
+        names = Arrays.copyOf(builder.names, size);
+        phones = Arrays.copyOf(builder.phones, size);
+        emails = Arrays.copyOf(builder.emails, size);
+        addresses = Arrays.copyOf(builder.addresses, size);
+        remarks = Arrays.copyOf(builder.remarks, size);
+        scheduleDictionary = builder.scheduleDictionary;
+        subjectDictionary = builder.subjectDictionary;
+        tagDictionary = builder.tagDictionary;
+        lessonDictionary = builder.lessonDictionary;
+        schedules = Arrays.copyOf(builder.schedules, size);
+        subjects = Arrays.copyOf(builder.subjects, size);
+        startMinutes = Arrays.copyOf(builder.startMinutes, size);
+        endMinutes = Arrays.copyOf(builder.endMinutes, size);
+        tagOffsets = Arrays.copyOf(builder.tagOffsets, size + 1);
+        tagCodes = builder.tagCodes.toArray();
+        lessonOffsets = Arrays.copyOf(builder.lessonOffsets, size + 1);
+        lessonCodes = builder.lessonCodes.toArray();
+        attendanceFirstDays = Arrays.copyOf(builder.attendanceFirstDays, size);
+        attendanceOffsets = Arrays.copyOf(builder.attendanceOffsets, size + 1);
+        attendanceWords = builder.attendanceWords.toArray();
+    }
+
+    private static Builder addAll(Builder builder, List<Tutee> tutees) {
+        tutees.forEach(builder::add);
+        return builder;
+    }
+
+    @Override
+    public ObservableList<Tutee> getPersonList() {
+        return tuteeViews;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a new {@code Tutee} with the values in {@code row}.
+     */
+    public Tutee getTutee(int row) {
+        checkRow(row);
+        Set<Tag> tags = new HashSet<>();
+        for (int i = tagOffsets[row]; i < tagOffsets[row + 1]; i++) {
+            tags.add(tagDictionary.valueOf(tagCodes[i]));
+        }
+        Set<String> lessons = new HashSet<>();
+        for (int i = lessonOffsets[row]; i < lessonOffsets[row + 1]; i++) {
+            lessons.add(lessonDictionary.valueOf(lessonCodes[i]));
+        }
+        Set<LocalDate> attendance = new HashSet<>();
+        for (int i = attendanceOffsets[row]; i < attendanceOffsets[row + 1]; i++) {
+            long word = attendanceWords[i];
+            while (word != 0) {
+                int bit = Long.numberOfTrailingZeros(word);
+                attendance.add(LocalDate.ofEpochDay(attendanceFirstDays[row]
+                        + (long) (i - attendanceOffsets[row]) * Long.SIZE + bit));
+                word &= word - 1;
+            }
+        }
+
+        return new Tutee(new Name(names[row]), new Phone(phones[row]), new Email(emails[row]),
+                new Address(addresses[row]), new Attendance(attendance), new Remark(remarks[row]),
+                subjectDictionary.valueOf(Byte.toUnsignedInt(subjects[row])),
+                scheduleDictionary.valueOf(Byte.toUnsignedInt(schedules[row])),
+                StartTime.of(toTime(startMinutes[row])), EndTime.of(toTime(endMinutes[row])), tags,
+                new Lesson(lessons));
+    }
+
+    /**
+     * Returns the distinct subjects of the tutees, in the order they were first added.
+     */
+    public List<Subject> getSubjects() {
+        return subjectDictionary.values();
+    }
+
+    /**
+     * Returns a new {@code Tutee} for every row that passes {@code filter}, in order.
+     */
+    public List<Tutee> filter(IntPredicate filter) {
+        requireNonNull(filter);
+        List<Tutee> tutees = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            if (filter.test(row)) {
+                tutees.add(getTutee(row));
+            }
+        }
+        return tutees;
+    }
+
+    /**
+     * Returns the number of rows that pass {@code filter}, without creating any {@code Tutee}.
+     */
+    public int count(IntPredicate filter) {
+        requireNonNull(filter);
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (filter.test(row)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns a filter that passes the rows of tutees whose lessons are on {@code day}.
+     */
+    public IntPredicate onDay(DayOfWeek day) {
+        requireNonNull(day);
+        boolean[] isOnDay = new boolean[scheduleDictionary.size()];
+        for (int code = 0; code < isOnDay.length; code++) {
+            isOnDay[code] = scheduleDictionary.valueOf(code).getDayOfWeek() == day;
+        }
+        return row -> isOnDay[Byte.toUnsignedInt(schedules[row])];
+    }
+
+    /**
+     * Returns a filter that passes the rows of tutees taking {@code subject}.
+     */
+    public IntPredicate withSubject(Subject subject) {
+        requireNonNull(subject);
+        int code = subjectDictionary.find(subject);
+        return row -> Byte.toUnsignedInt(subjects[row]) == code;
+    }
+
+    /**
+     * Returns a filter that passes the rows of tutees tagged with {@code tag}.
+     */
+    public IntPredicate withTag(Tag tag) {
+        requireNonNull(tag);
+        int code = tagDictionary.find(tag);
+        return row -> {
+            for (int i = tagOffsets[row]; i < tagOffsets[row + 1]; i++) {
+                if (tagCodes[i] == code) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Returns a filter that passes the rows of tutees whose lessons overlap the time from {@code from} to
+     * {@code to}.
+     */
+    public IntPredicate overlapping(LocalTime from, LocalTime to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        short fromMinute = toMinutes(from);
+        short toMinute = toMinutes(to);
+        return row -> startMinutes[row] < toMinute && endMinutes[row] > fromMinute;
+    }
+
+    /**
+     * Returns a filter that passes the rows of tutees who attended on {@code date}.
+     */
+    public IntPredicate attendedOn(LocalDate date) {
+        requireNonNull(date);
+        long epochDay = date.toEpochDay();
+        return row -> {
+            long bit = epochDay - attendanceFirstDays[row];
+            int word = attendanceOffsets[row] + (int) (bit / Long.SIZE);
+            return bit >= 0 && word < attendanceOffsets[row + 1]
+                    && (attendanceWords[word] & (1L << (bit % Long.SIZE))) != 0;
+        };
+    }
+
+    /**
+     * Returns the attendance of {@code row} as a bitmap of one bit per day from the epoch day given by
+     * {@link #getFirstAttendanceDay(int)}.
+     */
+    long[] getAttendanceBitmap(int row) {
+        checkRow(row);
+        long[] bitmap = new long[attendanceOffsets[row + 1] - attendanceOffsets[row]];
+        System.arraycopy(attendanceWords, attendanceOffsets[row], bitmap, 0, bitmap.length);
+        return bitmap;
+    }
+
+    long getFirstAttendanceDay(int row) {
+        checkRow(row);
+        return attendanceFirstDays[row];
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+        }
+    }
+
+    private static short toMinutes(LocalTime time) {
+        return (short) (time.getHour() * 60 + time.getMinute());
+    }
+
+    private static String toTime(short minutes) {
+        return LocalTime.of(minutes / 60, minutes % 60).format(TIME_FORMATTER);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ColumnarTuteeManagingSystem // instanceof handles nulls
+                && tuteeViews.equals(((ColumnarTuteeManagingSystem) other).tuteeViews));
+    }
+
+    @Override
+    public int hashCode() {
+        return tuteeViews.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return size + " persons";
+    }
+
+    /**
+     * Builds a {@code ColumnarTuteeManagingSystem} from tutees added one at a time, keeping only their columns.
+     */
+    public static class Builder {
+        private static final int INITIAL_CAPACITY = 16;
+
+        private int size;
+        private String[] names = new String[INITIAL_CAPACITY];
+        private String[] phones = new String[INITIAL_CAPACITY];
+        private String[] emails = new String[INITIAL_CAPACITY];
+        private String[] addresses = new String[INITIAL_CAPACITY];
+        private String[] remarks = new String[INITIAL_CAPACITY];
+        private final Dictionary<Schedule> scheduleDictionary = new Dictionary<>();
+        private final Dictionary<Subject> subjectDictionary = new Dictionary<>();
+        private final Dictionary<Tag> tagDictionary = new Dictionary<>();
+        private final Dictionary<String> lessonDictionary = new Dictionary<>();
+        private byte[] schedules = new byte[INITIAL_CAPACITY];
+        private byte[] subjects = new byte[INITIAL_CAPACITY];
+        private short[] startMinutes = new short[INITIAL_CAPACITY];
+        private short[] endMinutes = new short[INITIAL_CAPACITY];
+        private int[] tagOffsets = new int[INITIAL_CAPACITY + 1];
+        private final IntArray tagCodes = new IntArray();
+        private int[] lessonOffsets = new int[INITIAL_CAPACITY + 1];
+        private final IntArray lessonCodes = new IntArray();
+        private long[] attendanceFirstDays = new long[INITIAL_CAPACITY];
+        private int[] attendanceOffsets = new int[INITIAL_CAPACITY + 1];
+        private final LongArray attendanceWords = new LongArray();
+        private boolean isBuilt;
+
+        /**
+         * Adds {@code tutee} as the next row. The tutee itself is not kept.
+         *
+         * @throws IllegalArgumentException if this makes more than {@link #MAX_BYTE_CODES} distinct schedules or
+         *     subjects.
+         */
+        public void add(Tutee tutee) {
+            requireNonNull(tutee);
+            checkState();
+            if (size == names.length) {
+                grow();
+            }
+
+            int row = size;
+            schedules[row] = toByteCode(scheduleDictionary.codeOf(tutee.getSchedule()), "schedules");
+            subjects[row] = toByteCode(subjectDictionary.codeOf(tutee.getSubject()), "subjects");
+            names[row] = tutee.getName().fullName;
+            phones[row] = tutee.getPhone().value;
+            emails[row] = tutee.getEmail().value;
+            addresses[row] = tutee.getAddress().value;
+            remarks[row] = tutee.getRemark().toString();
+            startMinutes[row] = toMinutes(tutee.getStartTime().getTimeValue());
+            endMinutes[row] = toMinutes(tutee.getEndTime().getTimeValue());
+
+            tutee.getTags().forEach(tag -> tagCodes.add(tagDictionary.codeOf(tag)));
+            tagOffsets[row + 1] = tagCodes.size();
+            tutee.getLessons().forEach(lesson -> lessonCodes.add(lessonDictionary.codeOf(lesson)));
+            lessonOffsets[row + 1] = lessonCodes.size();
+
+            addAttendance(tutee.getAttendance(), row);
+            attendanceOffsets[row + 1] = attendanceWords.size();
+            size++;
+        }
+
+        /**
+         * Returns the roster of every tutee added so far. The builder cannot be used afterwards.
+         */
+        public ColumnarTuteeManagingSystem build() {
+            checkState();
+            isBuilt = true;
+            return new ColumnarTuteeManagingSystem(this);
+        }
+
+        private void checkState() {
+            if (isBuilt) {
+                throw new IllegalStateException("The roster has already been built");
+            }
+        }
+
+        private void grow() {
+            int capacity = names.length * 2;
+            names = Arrays.copyOf(names, capacity);
+            phones = Arrays.copyOf(phones, capacity);
+            emails = Arrays.copyOf(emails, capacity);
+            addresses = Arrays.copyOf(addresses, capacity);
+            remarks = Arrays.copyOf(remarks, capacity);
+            schedules = Arrays.copyOf(schedules, capacity);
+            subjects = Arrays.copyOf(subjects, capacity);
+            startMinutes = Arrays.copyOf(startMinutes, capacity);
+            endMinutes = Arrays.copyOf(endMinutes, capacity);
+            tagOffsets = Arrays.copyOf(tagOffsets, capacity + 1);
+            lessonOffsets = Arrays.copyOf(lessonOffsets, capacity + 1);
+            attendanceFirstDays = Arrays.copyOf(attendanceFirstDays, capacity);
+            attendanceOffsets = Arrays.copyOf(attendanceOffsets, capacity + 1);
+        }
+
+        private void addAttendance(Attendance attendance, int row) {
+            long first = Long.MAX_VALUE;
+            long last = Long.MIN_VALUE;
+            for (LocalDate date : attendance) {
+                first = Math.min(first, date.toEpochDay());
+                last = Math.max(last, date.toEpochDay());
+            }
+            if (first > last) {
+                return;
+            }
+
+            attendanceFirstDays[row] = first;
+            int firstWord = attendanceWords.size();
+            attendanceWords.addZeros((int) ((last - first) / Long.SIZE) + 1);
+            for (LocalDate date : attendance) {
+                long bit = date.toEpochDay() - first;
+                attendanceWords.or(firstWord + (int) (bit / Long.SIZE), 1L << (bit % Long.SIZE));
+            }
+        }
+
+        private static byte toByteCode(int code, String values) {
+            checkArgument(code < MAX_BYTE_CODES, "A columnar roster holds at most " + MAX_BYTE_CODES + " distinct "
+                    + values);
+            return (byte) code;
+        }
+    }
+
+    /**
+     * An unmodifiable list that creates the {@code Tutee} of a row whenever it is asked for.
+     */
+    private class TuteeViewList extends ObservableListBase<Tutee> {
+        @Override
+        public Tutee get(int index) {
+            return getTutee(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Numbers the distinct values of a column in the order they are first seen.
+     */
+    private static class Dictionary<T> {
+        private final Map<T, Integer> codes = new HashMap<>();
+        private final List<T> values = new ArrayList<>();
+
+        int codeOf(T value) {
+            return codes.computeIfAbsent(value, unused -> {
+                values.add(value);
+                return values.size() - 1;
+            });
+        }
+
+        /**
+         * Returns the code of {@code value}, or -1 if no row has it.
+         */
+        int find(T value) {
+            return codes.getOrDefault(value, -1);
+        }
+
+        T valueOf(int code) {
+            return values.get(code);
+        }
+
+        List<T> values() {
+            return Collections.unmodifiableList(values);
+        }
+
+        int size() {
+            return values.size();
+        }
+    }
+
+    /**
+     * A growable array of ints.
+     */
+    private static class IntArray {
+        private int[] values = new int[16];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    /**
+     * A growable array of longs.
+     */
+    private static class LongArray {
+        private long[] values = new long[16];
+        private int size;
+
+        void addZeros(int count) {
+            if (size + count > values.length) {
+                values = Arrays.copyOf(values, Math.max(values.length * 2, size + count));
+            }
+            size += count;
+        }
+
+        void or(int index, long bits) {
+            values[index] |= bits;
+        }
+
+        int size() {
+            return size;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
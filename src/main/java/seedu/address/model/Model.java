@@ -1,11 +1,25 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.stats.PerformanceStats;
+import seedu.address.model.event.TuteeEventFeed.Subscription;
+import seedu.address.model.event.TuteeEventListener;
+import seedu.address.model.tutee.CompletionIndex;
 import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.TuteeOrder;
 
 /**
  * The API of the Model component.
@@ -34,6 +48,11 @@ public interface Model {
      */
     void setGuiSettings(GuiSettings guiSettings);
 
+    /**
+     * Returns the timings of the commands executed on this model.
+     */
+    PerformanceStats getPerformanceStats();
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -52,6 +71,37 @@ public interface Model {
     /** Returns the TuteeManagingSystem */
     ReadOnlyTuteeManagingSystem getTuteeManagingSystem();
 
+    /**
+     * Returns the tutees as of the last change, as an immutable list that any thread can read without locking.
+     * Unlike the other methods, this can be called from any thread.
+     */
+    List<Tutee> getTuteeSnapshot();
+
+    /**
+     * Queues {@code write} to run on the thread that changes the model, after every write submitted before it, and
+     * returns a future of its result. Unlike the other methods, this can be called from any thread.
+     */
+    <T> CompletableFuture<T> submitWrite(Function<Model, T> write);
+
+    /**
+     * Runs {@code action} on the thread that changes the model once the write that calls this and every write
+     * queued behind it are done, before anything else changes the model. Must only be called from a write.
+     */
+    void runAfterWrites(Runnable action);
+
+    /**
+     * Tells {@code listener} about every change to the tutees as it is made, on the thread that changes the model,
+     * until the returned subscription is closed.
+     */
+    Subscription subscribeToTuteeEvents(TuteeEventListener listener);
+
+    /**
+     * Tells {@code listener} about the changes to the tutees in batches through {@code executor}, with at most
+     * {@code capacity} changes waiting, until the returned subscription is closed.
+     * @see seedu.address.model.event.TuteeEventFeed#subscribe(TuteeEventListener, Executor, int)
+     */
+    Subscription subscribeToTuteeEvents(TuteeEventListener listener, Executor executor, int capacity);
+
     /**
      * Returns true if a tutee with the same identity as {@code tutee} exists in the address book.
      */
@@ -69,6 +119,18 @@ public interface Model {
      */
     void addTutee(Tutee tutee);
 
+    /**
+     * Adds the given tutees without changing the filter of the filtered tutee list.
+     * None of {@code tutees} may already exist in the address book.
+     */
+    void addTutees(List<Tutee> tutees);
+
+    /**
+     * Records that the tutees have been saved, so that later saves only need to write the tutees changed after this.
+     * @see ReadOnlyTuteeManagingSystem#getUnsavedChanges()
+     */
+    void markSaved();
+
     /**
      * Replaces the given tutee {@code target} with {@code editedTutee}.
      * {@code target} must exist in the address book.
@@ -76,7 +138,62 @@ public interface Model {
      */
     void setTutee(Tutee target, Tutee editedTutee);
 
-    /** Returns an unmodifiable view of the filtered tutee list */
+    /**
+     * Makes the changes to the address book since the last commit one step that can be undone.
+     */
+    void commitTuteeManagingSystem();
+
+    /**
+     * Forgets every change to the address book that could be undone or redone.
+     */
+    void clearTuteeManagingSystemHistory();
+
+    /** Returns true if there is a step of changes to the address book to undo. */
+    boolean canUndoTuteeManagingSystem();
+
+    /** Returns true if there is an undone step of changes to the address book to redo. */
+    boolean canRedoTuteeManagingSystem();
+
+    /**
+     * Undoes the last step of changes to the address book.
+     * There must be a step to undo.
+     */
+    void undoTuteeManagingSystem();
+
+    /**
+     * Redoes the last step of changes to the address book that was undone.
+     * There must be a step to redo.
+     */
+    void redoTuteeManagingSystem();
+
+    /**
+     * Returns the lower case words of tutee names that are within a few typos of any of {@code keywords}.
+     */
+    Set<String> getFuzzyNameMatches(List<String> keywords);
+
+    /**
+     * Returns the longest completion of {@code prefix} among the names, tags or lessons of tutees,
+     * or an empty {@code Optional} if nothing starts with {@code prefix}.
+     */
+    Optional<String> complete(CompletionIndex.Field field, String prefix);
+
+    /**
+     * Returns true if exactly one name, tag or lesson of tutees starts with {@code prefix}.
+     */
+    boolean hasUniqueCompletion(CompletionIndex.Field field, String prefix);
+
+    /**
+     * Returns the tutees who attended on {@code date}, in time linear in their number.
+     */
+    List<Tutee> getTuteesPresentOn(LocalDate date);
+
+    /**
+     * Returns the number of days {@code tutee} attended in each month it attended in, from the earliest month.
+     * {@code tutee} must be a tutee of the address book.
+     */
+    SortedMap<YearMonth, Integer> getMonthlyAttendance(Tutee tutee);
+
+    /** Returns an unmodifiable view of the filtered tutee list, sorted in the order last given */
     ObservableList<Tutee> getFilteredTuteeList();
 
     /**
@@ -84,4 +201,20 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredTuteeList(Predicate<Tutee> predicate);
+
+    /**
+     * Returns the predicate the filtered tutee list was last filtered by, so that it can be restored later.
+     */
+    Predicate<Tutee> getFilteredTuteePredicate();
+
+    /**
+     * Sorts the filtered tutee list in {@code order}, which it stays in as tutees change.
+     * @throws NullPointerException if {@code order} is null.
+     */
+    void sortFilteredTuteeList(TuteeOrder order);
+
+    /**
+     * Returns the order the filtered tutee list is sorted in.
+     */
+    TuteeOrder getTuteeOrder();
 }
@@ -4,6 +4,15 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -11,10 +20,19 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.stats.PerformanceStats;
+import seedu.address.commons.util.SingleWriterQueue;
+import seedu.address.model.event.TuteeEventFeed.Subscription;
+import seedu.address.model.event.TuteeEventListener;
+import seedu.address.model.tutee.CompletionIndex;
+import seedu.address.model.tutee.SortedTuteeList;
 import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.TuteeOrder;
 
 /**
  * Represents the in-memory model of the address book data.
+ * The model is changed on one writer thread, e.g. the JavaFX application thread. Other threads read the published
+ * {@link #getTuteeSnapshot() snapshot} and send their changes through {@link #submitWrite(Function)}.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
@@ -22,18 +40,45 @@ public class ModelManager implements Model {
     private final TuteeManagingSystem tuteeManagingSystem;
     private final UserPrefs userPrefs;
     private final FilteredList<Tutee> filteredTutees;
+    private final SortedTuteeList sortedTutees;
+    private final PerformanceStats performanceStats;
+    private final SingleWriterQueue writes;
+    private Predicate<Tutee> filterPredicate = PREDICATE_SHOW_ALL_TUTEES;
 
     /**
-     * Initializes a ModelManager with the given tuteeManagingSystem and userPrefs.
+     * Initializes a ModelManager with the given tuteeManagingSystem and userPrefs, recording timings in
+     * {@code performanceStats}. Writes submitted from other threads are run through {@code writer}, which must run
+     * them on the thread that changes the model.
      */
-    public ModelManager(ReadOnlyTuteeManagingSystem tuteeManagingSystem, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(tuteeManagingSystem, userPrefs);
+    public ModelManager(ReadOnlyTuteeManagingSystem tuteeManagingSystem, ReadOnlyUserPrefs userPrefs,
+            PerformanceStats performanceStats, Executor writer) {
+        requireAllNonNull(tuteeManagingSystem, userPrefs, performanceStats, writer);
 
-        logger.fine("Initializing with address book: " + tuteeManagingSystem + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with address book of " + tuteeManagingSystem.getPersonList().size()
+                + " tutees and user prefs " + userPrefs);
 
         this.tuteeManagingSystem = new TuteeManagingSystem(tuteeManagingSystem);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredTutees = new FilteredList<>(this.tuteeManagingSystem.getPersonList());
+        sortedTutees = new SortedTuteeList(filteredTutees);
+        this.performanceStats = performanceStats;
+        this.writes = new SingleWriterQueue(writer);
+    }
+
+    /**
+     * Initializes a ModelManager with the given tuteeManagingSystem and userPrefs, recording timings in
+     * {@code performanceStats}. Writes submitted from other threads run on the submitting thread, one at a time.
+     */
+    public ModelManager(ReadOnlyTuteeManagingSystem tuteeManagingSystem, ReadOnlyUserPrefs userPrefs,
+            PerformanceStats performanceStats) {
+        this(tuteeManagingSystem, userPrefs, performanceStats, Runnable::run);
+    }
+
+    /**
+     * Initializes a ModelManager with the given tuteeManagingSystem and userPrefs.
+     */
+    public ModelManager(ReadOnlyTuteeManagingSystem tuteeManagingSystem, ReadOnlyUserPrefs userPrefs) {
+        this(tuteeManagingSystem, userPrefs, new PerformanceStats());
     }
 
     public ModelManager() {
@@ -64,6 +109,11 @@ public class ModelManager implements Model {
         userPrefs.setGuiSettings(guiSettings);
     }
 
+    @Override
+    public PerformanceStats getPerformanceStats() {
+        return performanceStats;
+    }
+
     @Override
     public Path getTuteeManagingSystemPath() {
         return userPrefs.getTuteeManagingSystemPath();
@@ -87,6 +137,32 @@ public class ModelManager implements Model {
         return tuteeManagingSystem;
     }
 
+    @Override
+    public List<Tutee> getTuteeSnapshot() {
+        return tuteeManagingSystem.getSnapshot();
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submitWrite(Function<Model, T> write) {
+        requireNonNull(write);
+        return writes.submit(() -> write.apply(this));
+    }
+
+    @Override
+    public void runAfterWrites(Runnable action) {
+        writes.runAfterBatch(action);
+    }
+
+    @Override
+    public Subscription subscribeToTuteeEvents(TuteeEventListener listener) {
+        return tuteeManagingSystem.getEventFeed().subscribe(listener);
+    }
+
+    @Override
+    public Subscription subscribeToTuteeEvents(TuteeEventListener listener, Executor executor, int capacity) {
+        return tuteeManagingSystem.getEventFeed().subscribe(listener, executor, capacity);
+    }
+
     @Override
     public boolean hasTutee(Tutee tutee) {
         requireNonNull(tutee);
@@ -104,6 +180,16 @@ public class ModelManager implements Model {
         updateFilteredTuteeList(PREDICATE_SHOW_ALL_TUTEES);
     }
 
+    @Override
+    public void addTutees(List<Tutee> tutees) {
+        tuteeManagingSystem.addPersons(tutees);
+    }
+
+    @Override
+    public void markSaved() {
+        tuteeManagingSystem.markSaved();
+    }
+
     @Override
     public void setTutee(Tutee target, Tutee editedTutee) {
         requireAllNonNull(target, editedTutee);
@@ -111,6 +197,66 @@ public class ModelManager implements Model {
         tuteeManagingSystem.setPerson(target, editedTutee);
     }
 
+    @Override
+    public void commitTuteeManagingSystem() {
+        tuteeManagingSystem.commit();
+    }
+
+    @Override
+    public void clearTuteeManagingSystemHistory() {
+        tuteeManagingSystem.clearHistory();
+    }
+
+    @Override
+    public boolean canUndoTuteeManagingSystem() {
+        return tuteeManagingSystem.canUndo();
+    }
+
+    @Override
+    public boolean canRedoTuteeManagingSystem() {
+        return tuteeManagingSystem.canRedo();
+    }
+
+    @Override
+    public void undoTuteeManagingSystem() {
+        tuteeManagingSystem.undo();
+    }
+
+    @Override
+    public void redoTuteeManagingSystem() {
+        tuteeManagingSystem.redo();
+    }
+
+    @Override
+    public Set<String> getFuzzyNameMatches(List<String> keywords) {
+        requireNonNull(keywords);
+        return tuteeManagingSystem.getFuzzyNameMatches(keywords);
+    }
+
+    @Override
+    public Optional<String> complete(CompletionIndex.Field field, String prefix) {
+        requireAllNonNull(field, prefix);
+        return tuteeManagingSystem.complete(field, prefix);
+    }
+
+    @Override
+    public boolean hasUniqueCompletion(CompletionIndex.Field field, String prefix) {
+        requireAllNonNull(field, prefix);
+        return tuteeManagingSystem.hasUniqueCompletion(field, prefix);
+    }
+
+    @Override
+    public List<Tutee> getTuteesPresentOn(LocalDate date) {
+        requireNonNull(date);
+        return tuteeManagingSystem.getTuteesPresentOn(date);
+    }
+
+    @Override
+    public SortedMap<YearMonth, Integer> getMonthlyAttendance(Tutee tutee) {
+        requireNonNull(tutee);
+        return tuteeManagingSystem.getMonthlyAttendance(tutee);
+    }
+
     //=========== Filtered Tutee List Accessors =============================================================
 
     /**
@@ -119,15 +265,32 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Tutee> getFilteredTuteeList() {
-        return filteredTutees;
+        return sortedTutees;
     }
 
     @Override
     public void updateFilteredTuteeList(Predicate<Tutee> predicate) {
         requireNonNull(predicate);
+        filterPredicate = predicate;
         filteredTutees.setPredicate(predicate);
     }
 
+    @Override
+    public Predicate<Tutee> getFilteredTuteePredicate() {
+        return filterPredicate;
+    }
+
+    @Override
+    public void sortFilteredTuteeList(TuteeOrder order) {
+        requireNonNull(order);
+        sortedTutees.setOrder(order);
+    }
+
+    @Override
+    public TuteeOrder getTuteeOrder() {
+        return sortedTutees.getOrder();
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -144,7 +307,7 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return tuteeManagingSystem.equals(other.tuteeManagingSystem)
                 && userPrefs.equals(other.userPrefs)
-                && filteredTutees.equals(other.filteredTutees);
+                && sortedTutees.equals(other.sortedTutees);
     }
 
 }
@@ -14,4 +14,12 @@ public interface ReadOnlyTuteeManagingSystem {
      */
     ObservableList<Tutee> getPersonList();
 
+    /**
+     * Returns the tutees that changed since this address book was last saved.
+     * Unless this address book keeps track of its changes, every tutee may have changed.
+     */
+    default TuteeChanges getUnsavedChanges() {
+        return TuteeChanges.EVERYTHING;
+    }
+
 }
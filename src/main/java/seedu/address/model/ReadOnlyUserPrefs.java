@@ -2,7 +2,10 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 
+import seedu.address.commons.core.DataCompression;
+import seedu.address.commons.core.DurabilityMode;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageLayout;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +16,16 @@ public interface ReadOnlyUserPrefs {
 
     Path getTuteeManagingSystemPath();
 
+    StorageLayout getStorageLayout();
+
+    DataCompression getDataCompression();
+
+    int getCompressionLevel();
+
+    DurabilityMode getDurabilityMode();
+
+    long getGroupCommitMillis();
+
+    int getGroupCommitCommands();
+
 }
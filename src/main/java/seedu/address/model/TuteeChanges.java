@@ -0,0 +1,68 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * The tutees that were added to or removed from an address book since it was last saved.
+ * Editing a tutee removes the old tutee and adds the edited one, so both are changed.
+ * Tutees are told apart by identity, as marking attendance or changing a remark gives an edited tutee that is equal
+ * to the old one.
+ */
+public class TuteeChanges {
+
+    /** Any tutee may have changed, e.g. because the address book has never been saved. */
+    public static final TuteeChanges EVERYTHING = new TuteeChanges(Set.of(), true);
+
+    private final Set<Tutee> changedTutees;
+    private final boolean isEverythingChanged;
+
+    /**
+     * Creates a {@code TuteeChanges} in which only {@code changedTutees} changed.
+     */
+    public TuteeChanges(Set<Tutee> changedTutees) {
+        this(changedTutees, false);
+    }
+
+    private TuteeChanges(Set<Tutee> changedTutees, boolean isEverythingChanged) {
+        requireNonNull(changedTutees);
+        Set<Tutee> copy = Collections.newSetFromMap(new IdentityHashMap<>());
+        copy.addAll(changedTutees);
+        this.changedTutees = Collections.unmodifiableSet(copy);
+        this.isEverythingChanged = isEverythingChanged;
+    }
+
+    /**
+     * Returns the tutees that were added or removed. Only meaningful if {@link #isEverythingChanged()} is false.
+     */
+    public Set<Tutee> getChangedTutees() {
+        return changedTutees;
+    }
+
+    public boolean isEverythingChanged() {
+        return isEverythingChanged;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TuteeChanges // instanceof handles nulls
+                && changedTutees.equals(((TuteeChanges) other).changedTutees)
+                && isEverythingChanged == ((TuteeChanges) other).isEverythingChanged);
+    }
+
+    @Override
+    public int hashCode() {
+        return changedTutees.hashCode() * 31 + Boolean.hashCode(isEverythingChanged);
+    }
+
+    @Override
+    public String toString() {
+        return isEverythingChanged ? "every tutee changed" : changedTutees.size() + " tutees changed";
+    }
+}
@@ -0,0 +1,187 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * The changes made to an address book by its recent commands, so that they can be undone and redone.
+ * <p>
+ * Every step holds the tutees that a command added, removed or replaced, and where they were. Tutees are immutable,
+ * so a step only refers to them, and the history grows with the number of tutees changed rather than the size of
+ * the address book. The oldest steps are forgotten once there are more than {@code maxSteps} of them, or they
+ * refer to more than {@code maxChanges} tutees in all. A single step too large to keep forgets the whole history,
+ * as nothing before it could be undone.
+ */
+class TuteeHistory {
+
+    static final int DEFAULT_MAX_STEPS = 100;
+    static final int DEFAULT_MAX_CHANGES = 100_000;
+
+    private final int maxSteps;
+    private final int maxChanges;
+    private final Deque<Step> undoSteps = new ArrayDeque<>();
+    private final Deque<Step> redoSteps = new ArrayDeque<>();
+    private Step pending = new Step();
+    private boolean isPendingTooLarge;
+    private int keptChanges;
+
+    TuteeHistory(int maxSteps, int maxChanges) {
+        checkArgument(maxSteps > 0 && maxChanges > 0, "History limits must be positive");
+        this.maxSteps = maxSteps;
+        this.maxChanges = maxChanges;
+    }
+
+    /**
+     * Records that {@code before} at {@code index} was replaced by {@code after}. {@code before} is null if
+     * {@code after} was added, and {@code after} is null if {@code before} was removed.
+     */
+    void record(int index, Tutee before, Tutee after) {
+        record(new Change(index, before, after, null, null));
+    }
+
+    /**
+     * Records that every tutee in {@code before} was replaced by those in {@code after}.
+     */
+    void recordReset(List<Tutee> before, List<Tutee> after) {
+        record(new Change(-1, null, null, PersistentList.copyOf(before), PersistentList.copyOf(after)));
+    }
+
+    private void record(Change change) {
+        if (isPendingTooLarge) {
+            return;
+        }
+        if (pending.size + change.size() > maxChanges) {
+            isPendingTooLarge = true;
+            pending = new Step();
+            return;
+        }
+        pending.add(change);
+    }
+
+    /**
+     * Makes the changes recorded since the last commit one step that can be undone, and forgets the steps that
+     * were undone. Does nothing if there were no changes.
+     */
+    void commit() {
+        if (isPendingTooLarge) {
+            clear();
+            return;
+        }
+        if (pending.changes.isEmpty()) {
+            return;
+        }
+
+        undoSteps.push(pending);
+        keptChanges += pending.size;
+        pending = new Step();
+        redoSteps.forEach(step -> keptChanges -= step.size);
+        redoSteps.clear();
+        while (undoSteps.size() > maxSteps || (undoSteps.size() > 1 && keptChanges > maxChanges)) {
+            keptChanges -= undoSteps.removeLast().size;
+        }
+    }
+
+    /**
+     * Forgets every step and the changes recorded since the last commit.
+     */
+    void clear() {
+        undoSteps.clear();
+        redoSteps.clear();
+        pending = new Step();
+        isPendingTooLarge = false;
+        keptChanges = 0;
+    }
+
+    boolean canUndo() {
+        return !undoSteps.isEmpty();
+    }
+
+    boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Returns the changes of the step {@link #undo()} would return, without making it the next step to redo.
+     */
+    List<Change> peekUndo() {
+        checkArgument(canUndo(), "There is nothing to undo");
+        return undoSteps.peek().changes;
+    }
+
+    /**
+     * Returns the changes of the step {@link #redo()} would return, without making it the next step to undo.
+     */
+    List<Change> peekRedo() {
+        checkArgument(canRedo(), "There is nothing to redo");
+        return redoSteps.peek().changes;
+    }
+
+    /**
+     * Returns the changes of the last step, which the caller undoes in reverse order, and makes it the next step to
+     * redo.
+     */
+    List<Change> undo() {
+        checkArgument(canUndo(), "There is nothing to undo");
+        Step step = undoSteps.pop();
+        redoSteps.push(step);
+        return step.changes;
+    }
+
+    /**
+     * Returns the changes of the last undone step, which the caller redoes in order, and makes it the next step to
+     * undo.
+     */
+    List<Change> redo() {
+        checkArgument(canRedo(), "There is nothing to redo");
+        Step step = redoSteps.pop();
+        undoSteps.push(step);
+        return step.changes;
+    }
+
+    /**
+     * The changes made by one command.
+     */
+    private static class Step {
+        private final List<Change> changes = new ArrayList<>();
+        private int size;
+
+        void add(Change change) {
+            changes.add(change);
+            size += change.size();
+        }
+    }
+
+    /**
+     * A tutee added, removed or replaced at an index, or every tutee replaced at once.
+     */
+    static class Change {
+        final int index;
+        final Tutee before;
+        final Tutee after;
+        final List<Tutee> beforeAll;
+        final List<Tutee> afterAll;
+
+        private Change(int index, Tutee before, Tutee after, List<Tutee> beforeAll, List<Tutee> afterAll) {
+            this.index = index;
+            this.before = before;
+            this.after = after;
+            this.beforeAll = beforeAll;
+            this.afterAll = afterAll;
+        }
+
+        boolean isReset() {
+            return beforeAll != null;
+        }
+
+        int size() {
+            return isReset() ? beforeAll.size() + afterAll.size() : 1;
+        }
+    }
+}
@@ -2,19 +2,39 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.event.TuteeEvent;
+import seedu.address.model.event.TuteeEventFeed;
+import seedu.address.model.tutee.CompletionIndex;
 import seedu.address.model.tutee.Tutee;
 import seedu.address.model.tutee.UniquePersonList;
+import seedu.address.model.tutee.exceptions.DuplicatePersonException;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * Keeps track of the tutees that changed since it was last saved, so that only those need to be saved again.
+ * Keeps the changes made by recent commands, so that they can be undone and redone.
+ * Publishes every change as a {@link TuteeEvent} to the subscribers of its {@link #getEventFeed() event feed}.
  */
 public class TuteeManagingSystem implements ReadOnlyTuteeManagingSystem {
 
     private final UniquePersonList persons;
+    private final TuteeEventFeed eventFeed;
+    // By identity, as an edited tutee may be equal to the one it replaced
+    private final Set<Tutee> unsavedTutees = Collections.newSetFromMap(new IdentityHashMap<>());
+    private boolean isEverythingUnsaved = true;
+    private final TuteeHistory history =
+            new TuteeHistory(TuteeHistory.DEFAULT_MAX_STEPS, TuteeHistory.DEFAULT_MAX_CHANGES);
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -25,16 +45,18 @@ public class TuteeManagingSystem implements ReadOnlyTuteeManagingSystem {
      */
     {
         persons = new UniquePersonList();
+        eventFeed = new TuteeEventFeed(persons::getSnapshot);
     }
 
     public TuteeManagingSystem() {}
 
     /**
-     * Creates an TuteeManagingSystem using the Persons in the {@code toBeCopied}
+     * Creates an TuteeManagingSystem using the Persons in the {@code toBeCopied}, with nothing to undo.
      */
     public TuteeManagingSystem(ReadOnlyTuteeManagingSystem toBeCopied) {
         this();
         resetData(toBeCopied);
+        history.clear();
     }
 
     //// list overwrite operations
@@ -44,7 +66,11 @@ public class TuteeManagingSystem implements ReadOnlyTuteeManagingSystem {
      * {@code tutees} must not contain duplicate tutees.
      */
     public void setPersons(List<Tutee> tutees) {
+        List<Tutee> before = persons.getSnapshot();
         this.persons.setPersons(tutees);
+        history.recordReset(before, tutees);
+        markEverythingUnsaved();
+        publishReset();
     }
 
     /**
@@ -66,12 +92,39 @@ public class TuteeManagingSystem implements ReadOnlyTuteeManagingSystem {
         return persons.contains(tutee);
     }
 
+    /**
+     * Returns true if a lesson of the same tutee in the same subject and time slot as {@code tutee} exists in the
+     * address book.
+     */
+    public boolean hasSameLesson(Tutee tutee) {
+        requireNonNull(tutee);
+        return persons.asUnmodifiableObservableList().stream().anyMatch(tutee::isSameLesson);
+    }
+
     /**
      * Adds a tutee to the address book.
      * The tutee must not already exist in the address book.
      */
     public void addPerson(Tutee p) {
         persons.add(p);
+        int index = persons.asUnmodifiableObservableList().size() - 1;
+        history.record(index, null, p);
+        markUnsaved(p);
+        publish(index, null, p);
+    }
+
+    /**
+     * Adds {@code tutees} to the address book.
+     * None of them may already exist in the address book.
+     */
+    public void addPersons(List<Tutee> tutees) {
+        int index = persons.asUnmodifiableObservableList().size();
+        persons.addAll(tutees);
+        for (Tutee tutee : tutees) {
+            history.record(index, null, tutee);
+            markUnsaved(tutee);
+            publish(index++, null, tutee);
+        }
     }
 
     /**
@@ -82,7 +135,11 @@ public class TuteeManagingSystem implements ReadOnlyTuteeManagingSystem {
     public void setPerson(Tutee target, Tutee editedTutee) {
         requireNonNull(editedTutee);
 
-        persons.setPerson(target, editedTutee);
+        int index = persons.setPerson(target, editedTutee);
+        history.record(index, target, editedTutee);
+        markUnsaved(target);
+        markUnsaved(editedTutee);
+        publish(index, target, editedTutee);
     }
 
     /**
@@ -90,7 +147,208 @@ public class TuteeManagingSystem implements ReadOnlyTuteeManagingSystem {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Tutee key) {
-        persons.remove(key);
+        int index = persons.remove(key);
+        history.record(index, key, null);
+        markUnsaved(key);
+        publish(index, key, null);
+    }
+
+    //// undo and redo
+
+    /**
+     * Makes the changes since the last commit one step that {@link #undo()} can undo.
+     */
+    public void commit() {
+        history.commit();
+    }
+
+    /**
+     * Forgets every change that could be undone or redone.
+     */
+    public void clearHistory() {
+        history.clear();
+    }
+
+    public boolean canUndo() {
+        return history.canUndo();
+    }
+
+    public boolean canRedo() {
+        return history.canRedo();
+    }
+
+    /**
+     * Undoes the changes of the last step. Only the tutees changed by that step are touched.
+     * There must be a step to undo.
+     */
+    public void undo() {
+        history.commit();
+        // Checked before the step is moved, so that a step that cannot be undone stays in the history
+        for (TuteeHistory.Change change : history.peekUndo()) {
+            if (change.isReset()) {
+                checkRestorable(change.beforeAll);
+            }
+        }
+        List<TuteeHistory.Change> changes = history.undo();
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            TuteeHistory.Change change = changes.get(i);
+            if (change.isReset()) {
+                persons.setPersons(change.beforeAll);
+                markEverythingUnsaved();
+                publishReset();
+            } else {
+                apply(change.index, change.after, change.before);
+            }
+        }
+    }
+
+    /**
+     * Redoes the changes of the last step undone. There must be a step to redo.
+     */
+    public void redo() {
+        for (TuteeHistory.Change change : history.peekRedo()) {
+            if (change.isReset()) {
+                checkRestorable(change.afterAll);
+            }
+        }
+        for (TuteeHistory.Change change : history.redo()) {
+            if (change.isReset()) {
+                persons.setPersons(change.afterAll);
+                markEverythingUnsaved();
+                publishReset();
+            } else {
+                apply(change.index, change.before, change.after);
+            }
+        }
+    }
+
+    /**
+     * Throws {@code DuplicatePersonException} if {@code tutees} cannot replace the list.
+     */
+    private static void checkRestorable(List<Tutee> tutees) {
+        if (!UniquePersonList.hasUniqueLessons(tutees)) {
+            throw new DuplicatePersonException();
+        }
+    }
+
+    /**
+     * Replaces {@code from} at {@code index} with {@code to}, without recording it in the history.
+     * {@code from} is null if {@code to} is to be added, and {@code to} is null if {@code from} is to be removed.
+     * {@code from} is only searched for if it is no longer at {@code index}.
+     */
+    private void apply(int index, Tutee from, Tutee to) {
+        if (from == null) {
+            persons.add(index, to);
+        } else if (to == null) {
+            index = persons.remove(index, from);
+        } else {
+            index = persons.setPerson(index, from, to);
+        }
+        if (from != null) {
+            markUnsaved(from);
+        }
+        if (to != null) {
+            markUnsaved(to);
+        }
+        publish(index, from, to);
+    }
+
+    //// change events
+
+    /**
+     * Returns the feed that every change to the tutees is published to.
+     */
+    public TuteeEventFeed getEventFeed() {
+        return eventFeed;
+    }
+
+    /**
+     * Publishes the replacement of {@code from} at {@code index} by {@code to}, where {@code from} is null if
+     * {@code to} was added and {@code to} is null if {@code from} was removed.
+     */
+    private void publish(int index, Tutee from, Tutee to) {
+        // Working out what changed costs time, so it is only done if someone is listening
+        if (!eventFeed.hasSubscribers()) {
+            return;
+        }
+        if (from == null) {
+            eventFeed.publish(TuteeEvent.added(index, to));
+        } else if (to == null) {
+            eventFeed.publish(TuteeEvent.removed(index, from));
+        } else {
+            eventFeed.publish(TuteeEvent.replaced(index, from, to));
+        }
+    }
+
+    private void publishReset() {
+        if (eventFeed.hasSubscribers()) {
+            eventFeed.publish(TuteeEvent.reset(persons.getSnapshot()));
+        }
+    }
+
+    //// save tracking
+
+    @Override
+    public TuteeChanges getUnsavedChanges() {
+        return isEverythingUnsaved ? TuteeChanges.EVERYTHING : new TuteeChanges(unsavedTutees);
+    }
+
+    /**
+     * Records that every tutee has been saved, so that {@link #getUnsavedChanges()} is empty until the next change.
+     */
+    public void markSaved() {
+        unsavedTutees.clear();
+        isEverythingUnsaved = false;
+    }
+
+    private void markUnsaved(Tutee tutee) {
+        // Once everything is unsaved, there is no need to remember individual tutees
+        if (!isEverythingUnsaved) {
+            unsavedTutees.add(tutee);
+        }
+    }
+
+    private void markEverythingUnsaved() {
+        unsavedTutees.clear();
+        isEverythingUnsaved = true;
+    }
+
+    /**
+     * Returns the lower case name words in the address book that are within a few typos of any of {@code keywords}.
+     */
+    public Set<String> getFuzzyNameMatches(List<String> keywords) {
+        return persons.getFuzzyNameMatches(keywords);
+    }
+
+    /**
+     * Returns the completion of {@code prefix} among the values of {@code field} in the address book.
+     * @see CompletionIndex#complete(CompletionIndex.Field, String)
+     */
+    public Optional<String> complete(CompletionIndex.Field field, String prefix) {
+        return persons.complete(field, prefix);
+    }
+
+    /**
+     * Returns true if exactly one value of {@code field} in the address book starts with {@code prefix}.
+     */
+    public boolean hasUniqueCompletion(CompletionIndex.Field field, String prefix) {
+        return persons.hasUniqueCompletion(field, prefix);
+    }
+
+    /**
+     * Returns the tutees who attended on {@code date}.
+     * @see UniquePersonList#getTuteesPresentOn(LocalDate)
+     */
+    public List<Tutee> getTuteesPresentOn(LocalDate date) {
+        return persons.getTuteesPresentOn(date);
+    }
+
+    /**
+     * Returns the number of days {@code tutee} attended in each month it attended in.
+     * @see UniquePersonList#getMonthlyAttendance(Tutee)
+     */
+    public SortedMap<YearMonth, Integer> getMonthlyAttendance(Tutee tutee) {
+        return persons.getMonthlyAttendance(tutee);
     }
 
     //// util methods
@@ -106,6 +364,13 @@ public class TuteeManagingSystem implements ReadOnlyTuteeManagingSystem {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the tutees as of the last change, as an immutable list that any thread can read without locking.
+     */
+    public List<Tutee> getSnapshot() {
+        return persons.getSnapshot();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
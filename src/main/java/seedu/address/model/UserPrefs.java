@@ -1,12 +1,17 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.address.commons.core.DataCompression;
+import seedu.address.commons.core.DurabilityMode;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageLayout;
+import seedu.address.commons.util.CompressionUtil;
 
 /**
  * Represents User's preferences.
@@ -15,6 +20,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "TMS.json");
+    private StorageLayout storageLayout = StorageLayout.JSON;
+    private DataCompression dataCompression = DataCompression.NONE;
+    private int compressionLevel = CompressionUtil.DEFAULT_LEVEL;
+    private DurabilityMode durabilityMode = DurabilityMode.GROUP_COMMIT;
+    private long groupCommitMillis = DurabilityMode.DEFAULT_GROUP_COMMIT_MILLIS;
+    private int groupCommitCommands = DurabilityMode.DEFAULT_GROUP_COMMIT_COMMANDS;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +47,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getTuteeManagingSystemPath());
+        setStorageLayout(newUserPrefs.getStorageLayout());
+        setDataCompression(newUserPrefs.getDataCompression());
+        setCompressionLevel(newUserPrefs.getCompressionLevel());
+        setDurabilityMode(newUserPrefs.getDurabilityMode());
+        setGroupCommitMillis(newUserPrefs.getGroupCommitMillis());
+        setGroupCommitCommands(newUserPrefs.getGroupCommitCommands());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +73,69 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public StorageLayout getStorageLayout() {
+        return storageLayout;
+    }
+
+    public void setStorageLayout(StorageLayout storageLayout) {
+        requireNonNull(storageLayout);
+        this.storageLayout = storageLayout;
+    }
+
+    public DataCompression getDataCompression() {
+        return dataCompression;
+    }
+
+    public void setDataCompression(DataCompression dataCompression) {
+        requireNonNull(dataCompression);
+        this.dataCompression = dataCompression;
+    }
+
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    /**
+     * Sets the compression level, from {@link CompressionUtil#MIN_LEVEL} to {@link CompressionUtil#MAX_LEVEL}.
+     */
+    public void setCompressionLevel(int compressionLevel) {
+        checkArgument(CompressionUtil.isValidLevel(compressionLevel), "Invalid compression level");
+        this.compressionLevel = compressionLevel;
+    }
+
+    public DurabilityMode getDurabilityMode() {
+        return durabilityMode;
+    }
+
+    public void setDurabilityMode(DurabilityMode durabilityMode) {
+        requireNonNull(durabilityMode);
+        this.durabilityMode = durabilityMode;
+    }
+
+    public long getGroupCommitMillis() {
+        return groupCommitMillis;
+    }
+
+    /**
+     * Sets how long a group commit waits for more commands before forcing saved files to the disk.
+     */
+    public void setGroupCommitMillis(long groupCommitMillis) {
+        checkArgument(groupCommitMillis > 0, "Group commit interval must be positive");
+        this.groupCommitMillis = groupCommitMillis;
+    }
+
+    public int getGroupCommitCommands() {
+        return groupCommitCommands;
+    }
+
+    /**
+     * Sets how many commands a group commit forces to the disk at most.
+     */
+    public void setGroupCommitCommands(int groupCommitCommands) {
+        checkArgument(groupCommitCommands > 0, "Group commit size must be positive");
+        this.groupCommitCommands = groupCommitCommands;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +148,19 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && addressBookFilePath.equals(o.addressBookFilePath);
+                && addressBookFilePath.equals(o.addressBookFilePath)
+                && storageLayout == o.storageLayout
+                && dataCompression == o.dataCompression
+                && compressionLevel == o.compressionLevel
+                && durabilityMode == o.durabilityMode
+                && groupCommitMillis == o.groupCommitMillis
+                && groupCommitCommands == o.groupCommitCommands;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, storageLayout, dataCompression, compressionLevel,
+                durabilityMode, groupCommitMillis, groupCommitCommands);
     }
 
     @Override
@@ -81,6 +168,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nStorage layout : " + storageLayout);
+        sb.append("\nData compression : " + dataCompression + " at level " + compressionLevel);
+        sb.append("\nDurability : " + durabilityMode + " every " + groupCommitMillis + " ms or "
+                + groupCommitCommands + " commands");
         return sb.toString();
     }
 
@@ -0,0 +1,231 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * A change to the tutees of an address book, which says exactly what changed so that whoever is told about it can
+ * update what it knows incrementally.
+ * <p>
+ * A tutee that is replaced by an edited one is one event, which lists the fields that differ. If only its attendance
+ * changed, the event is an {@link Kind#ATTENDANCE_CHANGED} event, and the dates marked and unmarked are given either
+ * way. A {@link Kind#RESET} event replaces every tutee at once, and gives the tutees as they are after it.
+ */
+public final class TuteeEvent {
+
+    /**
+     * What happened to the tutee.
+     */
+    public enum Kind {
+        ADDED, REMOVED, FIELDS_CHANGED, ATTENDANCE_CHANGED, RESET
+    }
+
+    /**
+     * A field of a tutee that can change.
+     */
+    public enum Field {
+        NAME(Tutee::getName),
+        PHONE(Tutee::getPhone),
+        EMAIL(Tutee::getEmail),
+        ADDRESS(Tutee::getAddress),
+        REMARK(Tutee::getRemark),
+        SUBJECT(Tutee::getSubject),
+        SCHEDULE(Tutee::getSchedule),
+        START_TIME(Tutee::getStartTime),
+        END_TIME(Tutee::getEndTime),
+        LESSONS(Tutee::getLessons),
+        TAGS(Tutee::getTags),
+        ATTENDANCE(Tutee::getAttendance);
+
+        private final Function<Tutee, Object> getter;
+
+        Field(Function<Tutee, Object> getter) {
+            this.getter = getter;
+        }
+
+        /**
+         * Returns true if this field of {@code before} and {@code after} differs.
+         */
+        boolean differs(Tutee before, Tutee after) {
+            Object beforeValue = getter.apply(before);
+            Object afterValue = getter.apply(after);
+            // Fields are shared between versions of a tutee, so most unchanged ones are the same instance
+            return beforeValue != afterValue && !beforeValue.equals(afterValue);
+        }
+    }
+
+    private final Kind kind;
+    private final int index;
+    private final Tutee before;
+    private final Tutee after;
+    private final Set<Field> changedFields;
+    private final Set<LocalDate> markedDates;
+    private final Set<LocalDate> unmarkedDates;
+    private final List<Tutee> tutees;
+
+    private TuteeEvent(Kind kind, int index, Tutee before, Tutee after, Set<Field> changedFields,
+            Set<LocalDate> markedDates, Set<LocalDate> unmarkedDates, List<Tutee> tutees) {
+        this.kind = kind;
+        this.index = index;
+        this.before = before;
+        this.after = after;
+        this.changedFields = Collections.unmodifiableSet(changedFields);
+        this.markedDates = Collections.unmodifiableSet(markedDates);
+        this.unmarkedDates = Collections.unmodifiableSet(unmarkedDates);
+        this.tutees = tutees;
+    }
+
+    /**
+     * Returns the event of {@code tutee} being added at {@code index}.
+     */
+    public static TuteeEvent added(int index, Tutee tutee) {
+        requireNonNull(tutee);
+        return new TuteeEvent(Kind.ADDED, index, null, tutee, EnumSet.allOf(Field.class),
+                toSet(tutee.getAttendance()), Set.of(), null);
+    }
+
+    /**
+     * Returns the event of {@code tutee} being removed from {@code index}.
+     */
+    public static TuteeEvent removed(int index, Tutee tutee) {
+        requireNonNull(tutee);
+        return new TuteeEvent(Kind.REMOVED, index, tutee, null, EnumSet.allOf(Field.class),
+                Set.of(), toSet(tutee.getAttendance()), null);
+    }
+
+    /**
+     * Returns the event of {@code before} at {@code index} being replaced by {@code after}.
+     */
+    public static TuteeEvent replaced(int index, Tutee before, Tutee after) {
+        requireAllNonNull(before, after);
+        Set<Field> changedFields = EnumSet.noneOf(Field.class);
+        for (Field field : Field.values()) {
+            if (field.differs(before, after)) {
+                changedFields.add(field);
+            }
+        }
+
+        Set<LocalDate> markedDates = Set.of();
+        Set<LocalDate> unmarkedDates = Set.of();
+        if (changedFields.contains(Field.ATTENDANCE)) {
+            markedDates = toSet(after.getAttendance());
+            unmarkedDates = toSet(before.getAttendance());
+            markedDates.removeIf(before.getAttendance()::didAttend);
+            unmarkedDates.removeIf(after.getAttendance()::didAttend);
+        }
+
+        Kind kind = changedFields.equals(EnumSet.of(Field.ATTENDANCE)) ? Kind.ATTENDANCE_CHANGED : Kind.FIELDS_CHANGED;
+        return new TuteeEvent(kind, index, before, after, changedFields, markedDates, unmarkedDates, null);
+    }
+
+    /**
+     * Returns the event of every tutee being replaced, leaving {@code tutees}, which must not change afterwards.
+     */
+    public static TuteeEvent reset(List<Tutee> tutees) {
+        requireNonNull(tutees);
+        return new TuteeEvent(Kind.RESET, -1, null, null, EnumSet.allOf(Field.class), Set.of(), Set.of(), tutees);
+    }
+
+    private static Set<LocalDate> toSet(Iterable<LocalDate> dates) {
+        Set<LocalDate> set = new HashSet<>();
+        dates.forEach(set::add);
+        return set;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the zero-based index of the tutee in the list of tutees, or -1 for a {@link Kind#RESET} event.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the tutee before the change, or null if it was added or for a {@link Kind#RESET} event.
+     */
+    public Tutee getBefore() {
+        return before;
+    }
+
+    /**
+     * Returns the tutee after the change, or null if it was removed or for a {@link Kind#RESET} event.
+     */
+    public Tutee getAfter() {
+        return after;
+    }
+
+    /**
+     * Returns the fields that changed, which are all of them unless the tutee was replaced.
+     */
+    public Set<Field> getChangedFields() {
+        return changedFields;
+    }
+
+    /**
+     * Returns the dates that the tutee is now marked as attending but was not before.
+     */
+    public Set<LocalDate> getMarkedDates() {
+        return markedDates;
+    }
+
+    /**
+     * Returns the dates that the tutee was marked as attending but is not now.
+     */
+    public Set<LocalDate> getUnmarkedDates() {
+        return unmarkedDates;
+    }
+
+    /**
+     * Returns every tutee after a {@link Kind#RESET} event, or null for any other event.
+     */
+    public List<Tutee> getTutees() {
+        return tutees;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof TuteeEvent)) {
+            return false;
+        }
+
+        TuteeEvent otherEvent = (TuteeEvent) other;
+        return kind == otherEvent.kind
+                && index == otherEvent.index
+                && Objects.equals(before, otherEvent.before)
+                && Objects.equals(after, otherEvent.after)
+                && changedFields.equals(otherEvent.changedFields)
+                && markedDates.equals(otherEvent.markedDates)
+                && unmarkedDates.equals(otherEvent.unmarkedDates)
+                && Objects.equals(tutees, otherEvent.tutees);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, index, before, after, changedFields);
+    }
+
+    @Override
+    public String toString() {
+        if (kind == Kind.RESET) {
+            return kind + " to " + tutees.size() + " tutees";
+        }
+        return kind + " at " + index + ": " + changedFields;
+    }
+}
@@ -0,0 +1,152 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * Tells its subscribers about every {@link TuteeEvent} published by the thread that changes the tutees.
+ * <p>
+ * A synchronous subscriber is told about each event on the publishing thread before the change returns. An
+ * asynchronous subscriber is told through its own executor about the events queued since it was last told, in
+ * batches. At most {@code capacity} events are queued for it; if it falls further behind, the queued events are
+ * replaced by one {@link TuteeEvent.Kind#RESET} event with the tutees as they are then, so the publisher never
+ * waits for a slow subscriber.
+ */
+public class TuteeEventFeed {
+
+    private final Supplier<List<Tutee>> snapshot;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates a feed whose overflowing asynchronous subscribers are reset to the immutable list of tutees given by
+     * {@code snapshot}.
+     */
+    public TuteeEventFeed(Supplier<List<Tutee>> snapshot) {
+        this.snapshot = requireNonNull(snapshot);
+    }
+
+    /**
+     * Tells {@code listener} about each event on the publishing thread, until the returned subscription is closed.
+     */
+    public Subscription subscribe(TuteeEventListener listener) {
+        requireNonNull(listener);
+        return add(event -> listener.onEvents(List.of(event)));
+    }
+
+    /**
+     * Tells {@code listener} about the events through {@code executor} in batches, with at most {@code capacity}
+     * events waiting, until the returned subscription is closed.
+     */
+    public Subscription subscribe(TuteeEventListener listener, Executor executor, int capacity) {
+        requireAllNonNull(listener, executor);
+        checkArgument(capacity > 0, "The capacity must be positive");
+        return add(new AsyncSubscriber(listener, executor, capacity));
+    }
+
+    private Subscription add(Subscriber subscriber) {
+        subscribers.add(subscriber);
+        return () -> {
+            subscribers.remove(subscriber);
+            subscriber.close();
+        };
+    }
+
+    /**
+     * Returns true if anyone is subscribed, so that events need to be made.
+     */
+    public boolean hasSubscribers() {
+        return !subscribers.isEmpty();
+    }
+
+    /**
+     * Tells every subscriber about {@code event}. Must only be called by the thread that changes the tutees.
+     */
+    public void publish(TuteeEvent event) {
+        requireNonNull(event);
+        for (Subscriber subscriber : subscribers) {
+            subscriber.accept(event);
+        }
+    }
+
+    /**
+     * A subscription to a feed, which ends when it is closed.
+     */
+    @FunctionalInterface
+    public interface Subscription extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private interface Subscriber {
+        void accept(TuteeEvent event);
+
+        default void close() {}
+    }
+
+    /**
+     * Queues the events for a listener and tells it about them on its executor.
+     */
+    private class AsyncSubscriber implements Subscriber {
+        private final TuteeEventListener listener;
+        private final Executor executor;
+        private final BlockingQueue<TuteeEvent> events;
+        private final AtomicBoolean isScheduled = new AtomicBoolean();
+        private volatile boolean isClosed;
+
+        AsyncSubscriber(TuteeEventListener listener, Executor executor, int capacity) {
+            this.listener = listener;
+            this.executor = executor;
+            this.events = new ArrayBlockingQueue<>(capacity);
+        }
+
+        @Override
+        public void accept(TuteeEvent event) {
+            if (!events.offer(event)) {
+                // The listener only drains the oldest events, so what it misses is all covered by the reset
+                events.clear();
+                events.add(TuteeEvent.reset(snapshot.get()));
+            }
+            schedule();
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+            events.clear();
+        }
+
+        private void schedule() {
+            if (isScheduled.compareAndSet(false, true)) {
+                executor.execute(this::deliver);
+            }
+        }
+
+        private void deliver() {
+            try {
+                List<TuteeEvent> batch = new ArrayList<>();
+                while (!isClosed && events.drainTo(batch) > 0) {
+                    listener.onEvents(batch);
+                    batch = new ArrayList<>();
+                }
+            } finally {
+                isScheduled.set(false);
+            }
+            // An event may have been queued after the queue was found empty, but before it was marked idle
+            if (!isClosed && !events.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
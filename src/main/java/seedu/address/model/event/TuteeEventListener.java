@@ -0,0 +1,16 @@
+package seedu.address.model.event;
+
+import java.util.List;
+
+/**
+ * Is told about changes to the tutees of an address book.
+ */
+@FunctionalInterface
+public interface TuteeEventListener {
+
+    /**
+     * Handles {@code events}, which happened in order after every event handled before. A {@link TuteeEvent.Kind#RESET}
+     * event replaces everything known from earlier events.
+     */
+    void onEvents(List<TuteeEvent> events);
+}
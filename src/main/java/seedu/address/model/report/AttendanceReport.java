@@ -0,0 +1,346 @@
+package seedu.address.model.report;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.fields.Attendance;
+import seedu.address.model.tutee.fields.Subject;
+
+/**
+ * How well a list of tutees attended their lessons between two dates, overall, by subject, by day and by tutee.
+ * <p>
+ * A tutee is expected at every lesson on the day of its schedule between the two dates, inclusive. Attending on
+ * any other day is counted separately as off schedule, and does not make up for a lesson missed. For each tutee,
+ * the report also gives the number of lessons in a row it attended up to the last one, and the most lessons in a
+ * row it missed.
+ * <p>
+ * The report is worked out in one pass over the tutees, split between threads, so it must be given a list that
+ * does not change while it is being worked out.
+ */
+public class AttendanceReport {
+
+    public static final String CSV_HEADER =
+            "scope,name,expected,attended,rate,off_schedule,current_streak,longest_absence,longest_absence_from";
+
+    /** The most tutees listed one by one in {@link #toString()}. */
+    public static final int MAX_TUTEES_SHOWN = 50;
+
+    private static final List<String> SUBJECT_NAMES = Subject.getSubjectNames();
+    private static final DayOfWeek[] DAYS = DayOfWeek.values();
+
+    private final LocalDate from;
+    private final LocalDate to;
+    private final TuteeSummary[] tutees;
+    private final Totals totals;
+
+    private AttendanceReport(LocalDate from, LocalDate to, TuteeSummary[] tutees, Totals totals) {
+        this.from = from;
+        this.to = to;
+        this.tutees = tutees;
+        this.totals = totals;
+    }
+
+    /**
+     * Works out the attendance of {@code tutees} from {@code from} to {@code to}, inclusive.
+     */
+    public static AttendanceReport of(List<Tutee> tutees, LocalDate from, LocalDate to) {
+        requireNonNull(tutees);
+        requireNonNull(from);
+        requireNonNull(to);
+        checkArgument(!from.isAfter(to), "The report must not end before it starts");
+
+        TuteeSummary[] summaries = new TuteeSummary[tutees.size()];
+        // Each summary is written by one thread only, and is seen by this thread once the tallies are combined
+        Totals totals = IntStream.range(0, summaries.length).parallel()
+                .collect(Totals::new, (partial, i) -> {
+                    summaries[i] = TuteeSummary.of(tutees.get(i), from, to);
+                    partial.add(summaries[i]);
+                }, Totals::addAll);
+        return new AttendanceReport(from, to, summaries, totals);
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    /**
+     * Returns the attendance of every tutee together.
+     */
+    public Tally getOverall() {
+        return totals.overall;
+    }
+
+    /**
+     * Returns the attendance of the tutees taking the subject at {@code subjectIndex}, as given by
+     * {@link Subject#getIndex()}.
+     */
+    public Tally getBySubject(int subjectIndex) {
+        return totals.bySubject[subjectIndex];
+    }
+
+    /**
+     * Returns the attendance of lessons on {@code day}. Off schedule attendance is counted on the day it happened.
+     */
+    public Tally getByDay(DayOfWeek day) {
+        return totals.byDay[day.ordinal()];
+    }
+
+    /**
+     * Returns the attendance of the tutee at {@code index} of the list the report was worked out from.
+     */
+    public TuteeSummary getTutee(int index) {
+        return tutees[index];
+    }
+
+    public int getTuteeCount() {
+        return tutees.length;
+    }
+
+    /**
+     * Writes the report to {@code writer} as comma separated values, one row for every subject, day and tutee
+     * after the overall row.
+     */
+    public void writeCsv(Writer writer) throws IOException {
+        requireNonNull(writer);
+        writer.write(CSV_HEADER + "\n");
+        writeCsvRow(writer, "overall", "", totals.overall, "");
+        for (int i = 0; i < SUBJECT_NAMES.size(); i++) {
+            writeCsvRow(writer, "subject", SUBJECT_NAMES.get(i), totals.bySubject[i], "");
+        }
+        for (DayOfWeek day : DAYS) {
+            writeCsvRow(writer, "day", toTitleCase(day), totals.byDay[day.ordinal()], "");
+        }
+        for (TuteeSummary tutee : tutees) {
+            String longestAbsenceFrom = tutee.longestAbsenceFrom == null ? "" : tutee.longestAbsenceFrom.toString();
+            writeCsvRow(writer, "tutee", tutee.name, tutee.tally,
+                    tutee.currentStreak + "," + tutee.longestAbsence + "," + longestAbsenceFrom);
+        }
+        writer.flush();
+    }
+
+    private static void writeCsvRow(Writer writer, String scope, String name, Tally tally, String tuteeColumns)
+            throws IOException {
+        String rate = tally.expected == 0 ? "" : String.format(Locale.ROOT, "%.4f", tally.getRate());
+        writer.write(String.format("%s,%s,%d,%d,%s,%d,%s\n", scope, name, tally.expected, tally.attended, rate,
+                tally.offSchedule, tuteeColumns.isEmpty() ? ",," : tuteeColumns));
+    }
+
+    /**
+     * Returns the report as lines of text, with at most {@value #MAX_TUTEES_SHOWN} tutees listed.
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(String.format("Attendance from %s to %s: %s",
+                from, to, totals.overall));
+        builder.append("\nBy subject:");
+        for (int i = 0; i < SUBJECT_NAMES.size(); i++) {
+            appendIfAny(builder, SUBJECT_NAMES.get(i), totals.bySubject[i]);
+        }
+        builder.append("\nBy day:");
+        for (DayOfWeek day : DAYS) {
+            appendIfAny(builder, toTitleCase(day), totals.byDay[day.ordinal()]);
+        }
+        builder.append("\nBy tutee:");
+        for (int i = 0; i < Math.min(tutees.length, MAX_TUTEES_SHOWN); i++) {
+            builder.append(String.format("\n  %d. %s", i + 1, tutees[i]));
+        }
+        if (tutees.length > MAX_TUTEES_SHOWN) {
+            builder.append(String.format("\n  ... and %d more", tutees.length - MAX_TUTEES_SHOWN));
+        }
+        return builder.toString();
+    }
+
+    private static void appendIfAny(StringBuilder builder, String name, Tally tally) {
+        if (tally.expected > 0 || tally.offSchedule > 0) {
+            builder.append(String.format("\n  %s: %s", name, tally));
+        }
+    }
+
+    private static String toTitleCase(DayOfWeek day) {
+        return day.name().charAt(0) + day.name().substring(1).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The number of lessons expected and attended by some tutees.
+     */
+    public static class Tally {
+        private long expected;
+        private long attended;
+        private long offSchedule;
+
+        public long getExpected() {
+            return expected;
+        }
+
+        public long getAttended() {
+            return attended;
+        }
+
+        public long getOffSchedule() {
+            return offSchedule;
+        }
+
+        /**
+         * Returns the fraction of expected lessons that were attended, or 0 if none were expected.
+         */
+        public double getRate() {
+            return expected == 0 ? 0 : (double) attended / expected;
+        }
+
+        private void add(Tally other) {
+            expected += other.expected;
+            attended += other.attended;
+            offSchedule += other.offSchedule;
+        }
+
+        @Override
+        public String toString() {
+            String summary = expected == 0
+                    ? "no lessons"
+                    : String.format(Locale.ROOT, "%d/%d lessons (%.1f%%)", attended, expected, getRate() * 100);
+            return offSchedule == 0 ? summary : summary + String.format(", %d off schedule", offSchedule);
+        }
+    }
+
+    /**
+     * The attendance of one tutee.
+     */
+    public static class TuteeSummary {
+        private final String name;
+        private final int subjectIndex;
+        private final DayOfWeek day;
+        private final Tally tally = new Tally();
+        private final int[] offScheduleByDay = new int[DAYS.length];
+        private int currentStreak;
+        private int longestAbsence;
+        private LocalDate longestAbsenceFrom;
+
+        private TuteeSummary(Tutee tutee) {
+            this.name = tutee.getName().toString();
+            this.subjectIndex = tutee.getSubject().getIndex();
+            this.day = tutee.getSchedule().getDayOfWeek();
+        }
+
+        private static TuteeSummary of(Tutee tutee, LocalDate from, LocalDate to) {
+            TuteeSummary summary = new TuteeSummary(tutee);
+            Attendance attendance = tutee.getAttendance();
+            int absence = 0;
+            LocalDate absenceFrom = null;
+            for (LocalDate date = from.with(TemporalAdjusters.nextOrSame(summary.day)); !date.isAfter(to);
+                    date = date.plusWeeks(1)) {
+                summary.tally.expected++;
+                if (attendance.didAttend(date)) {
+                    summary.tally.attended++;
+                    summary.currentStreak++;
+                    absence = 0;
+                    continue;
+                }
+                summary.currentStreak = 0;
+                if (absence++ == 0) {
+                    absenceFrom = date;
+                }
+                if (absence > summary.longestAbsence) {
+                    summary.longestAbsence = absence;
+                    summary.longestAbsenceFrom = absenceFrom;
+                }
+            }
+
+            for (LocalDate date : attendance) {
+                if (date.getDayOfWeek() != summary.day && !date.isBefore(from) && !date.isAfter(to)) {
+                    summary.tally.offSchedule++;
+                    summary.offScheduleByDay[date.getDayOfWeek().ordinal()]++;
+                }
+            }
+            return summary;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Tally getTally() {
+            return tally;
+        }
+
+        /**
+         * Returns the number of lessons in a row the tutee attended, up to its last lesson in the report.
+         */
+        public int getCurrentStreak() {
+            return currentStreak;
+        }
+
+        /**
+         * Returns the most lessons in a row the tutee missed.
+         */
+        public int getLongestAbsence() {
+            return longestAbsence;
+        }
+
+        /**
+         * Returns the first lesson of the longest absence, or null if the tutee missed none.
+         */
+        public LocalDate getLongestAbsenceFrom() {
+            return longestAbsenceFrom;
+        }
+
+        @Override
+        public String toString() {
+            String summary = String.format("%s: %s, streak %d", name, tally, currentStreak);
+            return longestAbsence == 0
+                    ? summary
+                    : summary + String.format(", longest absence %d from %s", longestAbsence, longestAbsenceFrom);
+        }
+    }
+
+    /**
+     * The tallies of some of the tutees, which are added together to give the tallies of all of them.
+     */
+    private static class Totals {
+        private final Tally overall = new Tally();
+        private final Tally[] bySubject = newTallies(SUBJECT_NAMES.size());
+        private final Tally[] byDay = newTallies(DAYS.length);
+
+        private static Tally[] newTallies(int size) {
+            Tally[] tallies = new Tally[size];
+            for (int i = 0; i < size; i++) {
+                tallies[i] = new Tally();
+            }
+            return tallies;
+        }
+
+        private void add(TuteeSummary tutee) {
+            overall.add(tutee.tally);
+            bySubject[tutee.subjectIndex].add(tutee.tally);
+            Tally day = byDay[tutee.day.ordinal()];
+            day.expected += tutee.tally.expected;
+            day.attended += tutee.tally.attended;
+            for (int i = 0; i < DAYS.length; i++) {
+                byDay[i].offSchedule += tutee.offScheduleByDay[i];
+            }
+        }
+
+        private void addAll(Totals other) {
+            overall.add(other.overall);
+            for (int i = 0; i < bySubject.length; i++) {
+                bySubject[i].add(other.bySubject[i]);
+            }
+            for (int i = 0; i < byDay.length; i++) {
+                byDay[i].add(other.byDay[i]);
+            }
+        }
+    }
+}
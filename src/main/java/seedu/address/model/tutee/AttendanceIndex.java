@@ -0,0 +1,149 @@
+package seedu.address.model.tutee;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import seedu.address.model.tutee.exceptions.PersonNotFoundException;
+import seedu.address.model.tutee.fields.Attendance;
+
+/**
+ * The attendance of the tutees in a {@code UniquePersonList}, kept by date and by month so that who attended on a
+ * date, or how often a tutee attended in a month, can be looked up without going through every tutee.
+ * <p>
+ * A tutee replaced by an edited one keeps its place in the index, and only the dates marked or unmarked by the edit
+ * are changed. Tutees are told apart by identity, as two tutees in the list may be equal but for their attendance.
+ */
+public class AttendanceIndex {
+
+    private final Map<Tutee, Entry> entries = new IdentityHashMap<>();
+    private final Map<LocalDate, Set<Entry>> byDate = new HashMap<>();
+
+    /**
+     * Adds the attendance of {@code tutee} to the index.
+     */
+    public void add(Tutee tutee) {
+        requireNonNull(tutee);
+        Entry entry = new Entry(tutee);
+        entries.put(tutee, entry);
+        for (LocalDate date : tutee.getAttendance()) {
+            mark(entry, date);
+        }
+    }
+
+    /**
+     * Removes the attendance of {@code tutee}, which must be the instance that was added, from the index.
+     */
+    public void remove(Tutee tutee) {
+        requireNonNull(tutee);
+        Entry entry = entries.remove(tutee);
+        assert entry != null : "The tutee is not in the index";
+        for (LocalDate date : tutee.getAttendance()) {
+            unmark(entry, date);
+        }
+    }
+
+    /**
+     * Replaces {@code target}, which must be the instance that was added, with {@code editedTutee}, changing only
+     * the dates whose attendance differs between them.
+     */
+    public void replace(Tutee target, Tutee editedTutee) {
+        requireNonNull(target);
+        requireNonNull(editedTutee);
+        Entry entry = entries.remove(target);
+        assert entry != null : "The tutee is not in the index";
+        entry.tutee = editedTutee;
+        entries.put(editedTutee, entry);
+
+        Attendance before = target.getAttendance();
+        Attendance after = editedTutee.getAttendance();
+        // Edits of other fields keep the same attendance, so there is nothing to compare
+        if (before == after) {
+            return;
+        }
+        for (LocalDate date : before) {
+            if (!after.didAttend(date)) {
+                unmark(entry, date);
+            }
+        }
+        for (LocalDate date : after) {
+            if (!before.didAttend(date)) {
+                mark(entry, date);
+            }
+        }
+    }
+
+    /**
+     * Removes every tutee from the index.
+     */
+    public void clear() {
+        entries.clear();
+        byDate.clear();
+    }
+
+    /**
+     * Returns the tutees who attended on {@code date}, in the order they were marked, in time linear in their
+     * number.
+     */
+    public List<Tutee> getTuteesPresentOn(LocalDate date) {
+        requireNonNull(date);
+        Set<Entry> present = byDate.getOrDefault(date, Set.of());
+        List<Tutee> tutees = new ArrayList<>(present.size());
+        for (Entry entry : present) {
+            tutees.add(entry.tutee);
+        }
+        return tutees;
+    }
+
+    /**
+     * Returns the number of days {@code tutee} attended in each month it attended in, from the earliest month.
+     *
+     * @throws PersonNotFoundException if {@code tutee} is not in the index.
+     */
+    public SortedMap<YearMonth, Integer> getMonthlyCounts(Tutee tutee) {
+        requireNonNull(tutee);
+        Entry entry = entries.get(tutee);
+        if (entry == null) {
+            throw new PersonNotFoundException();
+        }
+        return Collections.unmodifiableSortedMap(entry.monthlyCounts);
+    }
+
+    private void mark(Entry entry, LocalDate date) {
+        byDate.computeIfAbsent(date, unused -> new LinkedHashSet<>()).add(entry);
+        entry.monthlyCounts.merge(YearMonth.from(date), 1, Integer::sum);
+    }
+
+    private void unmark(Entry entry, LocalDate date) {
+        Set<Entry> present = byDate.get(date);
+        present.remove(entry);
+        if (present.isEmpty()) {
+            byDate.remove(date);
+        }
+        // Months with no attendance left are dropped, so that only months attended in are listed
+        entry.monthlyCounts.computeIfPresent(YearMonth.from(date), (month, count) -> count == 1 ? null : count - 1);
+    }
+
+    /**
+     * A tutee in the index, which stays the same when the tutee is replaced by an edited one.
+     */
+    private static class Entry {
+        private final SortedMap<YearMonth, Integer> monthlyCounts = new TreeMap<>();
+        private Tutee tutee;
+
+        Entry(Tutee tutee) {
+            this.tutee = tutee;
+        }
+    }
+}
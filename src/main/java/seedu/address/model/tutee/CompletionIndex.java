@@ -0,0 +1,101 @@
+package seedu.address.model.tutee;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.commons.util.PrefixTrie;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Prefix tries over the names, tags and lessons of the tutees in a {@code UniquePersonList},
+ * used to complete partially typed values.
+ */
+public class CompletionIndex {
+
+    /**
+     * The tutee values that can be completed.
+     */
+    public enum Field {
+        /** Full names of tutees. */
+        NAME,
+        /** Single words of the names of tutees. */
+        NAME_WORD,
+        TAG,
+        LESSON
+    }
+
+    private static final String WORD_SEPARATOR = "\\s+";
+
+    private final Map<Field, PrefixTrie> tries = new EnumMap<>(Field.class);
+
+    /**
+     * Creates an empty {@code CompletionIndex}.
+     */
+    public CompletionIndex() {
+        for (Field field : Field.values()) {
+            tries.put(field, new PrefixTrie());
+        }
+    }
+
+    /**
+     * Adds the names, tags and lessons of {@code tutee} to the index.
+     */
+    public void add(Tutee tutee) {
+        requireNonNull(tutee);
+        tries.get(Field.NAME).add(tutee.getName().fullName);
+        for (String word : tutee.getName().fullName.split(WORD_SEPARATOR)) {
+            tries.get(Field.NAME_WORD).add(word);
+        }
+        for (Tag tag : tutee.getTags()) {
+            tries.get(Field.TAG).add(tag.tagName);
+        }
+        for (String lesson : tutee.getLessons()) {
+            tries.get(Field.LESSON).add(lesson);
+        }
+    }
+
+    /**
+     * Removes the names, tags and lessons of {@code tutee} from the index.
+     * Values that are still used by another tutee in the index are kept.
+     */
+    public void remove(Tutee tutee) {
+        requireNonNull(tutee);
+        tries.get(Field.NAME).remove(tutee.getName().fullName);
+        for (String word : tutee.getName().fullName.split(WORD_SEPARATOR)) {
+            tries.get(Field.NAME_WORD).remove(word);
+        }
+        for (Tag tag : tutee.getTags()) {
+            tries.get(Field.TAG).remove(tag.tagName);
+        }
+        for (String lesson : tutee.getLessons()) {
+            tries.get(Field.LESSON).remove(lesson);
+        }
+    }
+
+    /**
+     * Removes every tutee from the index.
+     */
+    public void clear() {
+        tries.values().forEach(PrefixTrie::clear);
+    }
+
+    /**
+     * Returns the completion of {@code prefix} among the values of {@code field}.
+     * @see PrefixTrie#complete(String)
+     */
+    public Optional<String> complete(Field field, String prefix) {
+        requireNonNull(field);
+        return tries.get(field).complete(prefix);
+    }
+
+    /**
+     * Returns true if exactly one value of {@code field} starts with {@code prefix}.
+     */
+    public boolean hasUniqueCompletion(Field field, String prefix) {
+        requireNonNull(field);
+        return tries.get(field).hasUniqueCompletion(prefix);
+    }
+}
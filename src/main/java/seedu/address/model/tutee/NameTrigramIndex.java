@@ -0,0 +1,201 @@
+package seedu.address.model.tutee;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.tutee.fields.Name;
+
+/**
+ * A trigram index over the words that make up the names of the tutees in a {@code UniquePersonList}.
+ * Words are stored in lower case, and every word is broken into overlapping three character grams
+ * (padded with a space at both ends), so that words that look alike can be found without comparing
+ * the keyword against every name in the list.
+ *
+ * A word within the allowed number of edits of a keyword shares at least a known number of trigrams with it, as
+ * one edit changes only a few trigrams. Only the words sharing that many trigrams are verified with
+ * {@link StringUtil#boundedEditDistance(String, String, int)}. A keyword too short for that number to rule any word
+ * out is instead verified against every word of a similar length.
+ */
+public class NameTrigramIndex {
+
+    private static final String WORD_SEPARATOR = "\\s+";
+    private static final char PADDING = ' ';
+    private static final int GRAM_LENGTH = 3;
+    /** A transposition of two characters, the edit that changes the most trigrams, changes this many. */
+    private static final int MAX_TRIGRAMS_PER_EDIT = GRAM_LENGTH + 1;
+
+    /** Number of names currently in the index that contain each word. */
+    private final Map<String, Integer> wordCounts = new HashMap<>();
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+    private final Map<Integer, Set<String>> wordsByLength = new HashMap<>();
+
+    /**
+     * Adds the words of {@code name} to the index.
+     */
+    public void add(Name name) {
+        requireNonNull(name);
+        for (String word : toWords(name)) {
+            int count = wordCounts.merge(word, 1, Integer::sum);
+            if (count == 1) {
+                for (String trigram : toTrigrams(word)) {
+                    wordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+                }
+                wordsByLength.computeIfAbsent(word.length(), unused -> new HashSet<>()).add(word);
+            }
+        }
+    }
+
+    /**
+     * Removes the words of {@code name} from the index.
+     * Words that are still used by another name in the index are kept.
+     */
+    public void remove(Name name) {
+        requireNonNull(name);
+        for (String word : toWords(name)) {
+            Integer count = wordCounts.get(word);
+            if (count == null) {
+                continue;
+            }
+            if (count > 1) {
+                wordCounts.put(word, count - 1);
+                continue;
+            }
+
+            wordCounts.remove(word);
+            for (String trigram : toTrigrams(word)) {
+                Set<String> words = wordsByTrigram.get(trigram);
+                words.remove(word);
+                if (words.isEmpty()) {
+                    wordsByTrigram.remove(trigram);
+                }
+            }
+            Set<String> words = wordsByLength.get(word.length());
+            words.remove(word);
+            if (words.isEmpty()) {
+                wordsByLength.remove(word.length());
+            }
+        }
+    }
+
+    /**
+     * Removes every name from the index.
+     */
+    public void clear() {
+        wordCounts.clear();
+        wordsByTrigram.clear();
+        wordsByLength.clear();
+    }
+
+    /**
+     * Returns the indexed words that are within the allowed number of edits of {@code keyword},
+     * ordered from the fewest to the most edits away. Matching is case insensitive and the returned
+     * words are in lower case.
+     */
+    public List<String> match(String keyword) {
+        requireNonNull(keyword);
+        String word = keyword.trim().toLowerCase();
+        if (word.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        int maxDistance = maxEditsFor(word);
+        Map<String, Integer> distances = new HashMap<>();
+        for (String candidate : getCandidates(word, maxDistance)) {
+            int distance = StringUtil.boundedEditDistance(word, candidate, maxDistance);
+            if (distance <= maxDistance) {
+                distances.put(candidate, distance);
+            }
+        }
+        List<String> matches = new ArrayList<>(distances.keySet());
+        matches.sort(Comparator.comparing((String match) -> distances.get(match))
+                .thenComparing(Comparator.naturalOrder()));
+        return matches;
+    }
+
+    /**
+     * Returns the indexed words that may be within {@code maxDistance} edits of {@code word}. Every word that is
+     * within that many edits is returned.
+     */
+    private Collection<String> getCandidates(String word, int maxDistance) {
+        Set<String> wordTrigrams = toTrigrams(word);
+        // Each edit loses at most MAX_TRIGRAMS_PER_EDIT of the trigrams of the word
+        int minSharedTrigrams = wordTrigrams.size() - MAX_TRIGRAMS_PER_EDIT * maxDistance;
+        List<String> candidates = new ArrayList<>();
+        if (minSharedTrigrams <= 0) {
+            for (int length = word.length() - maxDistance; length <= word.length() + maxDistance; length++) {
+                candidates.addAll(wordsByLength.getOrDefault(length, Collections.emptySet()));
+            }
+            return candidates;
+        }
+
+        Map<String, Integer> sharedTrigramCounts = new HashMap<>();
+        for (String trigram : wordTrigrams) {
+            for (String candidate : wordsByTrigram.getOrDefault(trigram, Collections.emptySet())) {
+                if (sharedTrigramCounts.merge(candidate, 1, Integer::sum) == minSharedTrigrams) {
+                    candidates.add(candidate);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the indexed words that match any of {@code keywords}.
+     * @see #match(String)
+     */
+    public Set<String> match(List<String> keywords) {
+        requireNonNull(keywords);
+        Set<String> matches = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            matches.addAll(match(keyword));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the lower case words that make up {@code name}.
+     */
+    public static List<String> toWords(Name name) {
+        List<String> words = new ArrayList<>();
+        for (String word : name.fullName.toLowerCase().split(WORD_SEPARATOR)) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns the number of edits allowed between a keyword and a word in the index.
+     * Short keywords are allowed fewer edits so that they do not match every short word.
+     */
+    private static int maxEditsFor(String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        }
+        return keyword.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code word}, padded with a space at both ends.
+     */
+    private static Set<String> toTrigrams(String word) {
+        String padded = PADDING + word + PADDING;
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,221 @@
+package seedu.address.model.tutee;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of a list of tutees that keeps them sorted in a {@link TuteeOrder}, with tutees that the order puts in the
+ * same place kept in the order of the list.
+ * <p>
+ * The sort key of every tutee is worked out once, when it enters the view. When a few tutees are added, removed or
+ * replaced, only those are moved, to the place found for each by a binary search over the keys, rather than sorting
+ * the whole view again. Larger changes, such as filtering the list differently, sort the view from scratch.
+ */
+public class SortedTuteeList extends TransformationList<Tutee, Tutee> {
+
+    /** The most tutees changed at once that are moved one by one, as each takes time linear in the size. */
+    static final int MAX_INCREMENTAL_CHANGES = 16;
+
+    private List<Entry> entries = new ArrayList<>();
+    private TuteeOrder order = TuteeOrder.NONE;
+
+    /**
+     * Creates a view of {@code source} in the order it is in.
+     */
+    public SortedTuteeList(ObservableList<Tutee> source) {
+        super(source);
+        entries = sortedEntries();
+    }
+
+    public TuteeOrder getOrder() {
+        return order;
+    }
+
+    /**
+     * Sorts the view in {@code order}.
+     */
+    public void setOrder(TuteeOrder order) {
+        requireNonNull(order);
+        this.order = order;
+        resort();
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends Tutee> change) {
+        int changed = 0;
+        boolean isPermutated = false;
+        while (change.next()) {
+            isPermutated |= change.wasPermutated();
+            changed += change.wasUpdated()
+                    ? change.getTo() - change.getFrom()
+                    : change.getRemovedSize() + change.getAddedSize();
+        }
+        if (isPermutated || changed > MAX_INCREMENTAL_CHANGES) {
+            resort();
+            return;
+        }
+
+        change.reset();
+        beginChange();
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    move(i);
+                }
+                continue;
+            }
+            List<? extends Tutee> removed = change.getRemoved();
+            for (int i = 0; i < removed.size(); i++) {
+                remove(removed.get(i), change.getFrom() + i);
+            }
+            shiftSourceIndexes(change.getFrom() + removed.size(), -removed.size());
+            shiftSourceIndexes(change.getFrom(), change.getAddedSize());
+            for (int i = change.getFrom(); i < change.getTo(); i++) {
+                insert(i);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Sorts every tutee of the source list again.
+     */
+    private void resort() {
+        List<Tutee> removed = new ArrayList<>(this);
+        entries = sortedEntries();
+        beginChange();
+        nextRemove(0, removed);
+        nextAdd(0, entries.size());
+        endChange();
+    }
+
+    private List<Entry> sortedEntries() {
+        List<Entry> sorted = new ArrayList<>(getSource().size());
+        for (int i = 0; i < getSource().size(); i++) {
+            Tutee tutee = getSource().get(i);
+            sorted.add(new Entry(tutee, order.getKey(tutee), i));
+        }
+        sorted.sort((first, second) -> compare(first, second.tutee, second.key, second.sourceIndex));
+        return sorted;
+    }
+
+    /**
+     * Adds the tutee at {@code sourceIndex} of the source list to the view, where it belongs in the order.
+     */
+    private void insert(int sourceIndex) {
+        Tutee tutee = getSource().get(sourceIndex);
+        Entry entry = new Entry(tutee, order.getKey(tutee), sourceIndex);
+        int index = search(tutee, entry.key, sourceIndex);
+        assert index < 0 : "The tutee at " + sourceIndex + " is already in the view";
+        int insertionPoint = -index - 1;
+        entries.add(insertionPoint, entry);
+        nextAdd(insertionPoint, insertionPoint + 1);
+    }
+
+    /**
+     * Removes {@code tutee}, which was at {@code sourceIndex} of the source list, from the view.
+     */
+    private void remove(Tutee tutee, int sourceIndex) {
+        int index = search(tutee, order.getKey(tutee), sourceIndex);
+        assert index >= 0 : "The tutee at " + sourceIndex + " is not in the view";
+        entries.remove(index);
+        nextRemove(index, tutee);
+    }
+
+    /**
+     * Moves the tutee at {@code sourceIndex} of the source list, which may have changed in place, to where it now
+     * belongs.
+     */
+    private void move(int sourceIndex) {
+        int index = getViewIndex(sourceIndex);
+        Entry entry = entries.remove(index);
+        nextRemove(index, entry.tutee);
+        insert(sourceIndex);
+    }
+
+    private void shiftSourceIndexes(int from, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        for (Entry entry : entries) {
+            if (entry.sourceIndex >= from) {
+                entry.sourceIndex += delta;
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the entry for {@code tutee} with {@code key} at {@code sourceIndex}, or
+     * {@code -(insertion point) - 1} if there is none.
+     */
+    private int search(Tutee tutee, long key, int sourceIndex) {
+        int low = 0;
+        int high = entries.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = compare(entries.get(middle), tutee, key, sourceIndex);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private int compare(Entry entry, Tutee tutee, long key, int sourceIndex) {
+        int comparison = Long.compareUnsigned(entry.key, key);
+        if (comparison == 0) {
+            comparison = order.compareSameKey(entry.tutee, tutee);
+        }
+        return comparison != 0 ? comparison : Integer.compare(entry.sourceIndex, sourceIndex);
+    }
+
+    @Override
+    public Tutee get(int index) {
+        return entries.get(index).tutee;
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        return entries.get(index).sourceIndex;
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        for (int i = 0; i < entries.size(); i++) {
+            if (entries.get(i).sourceIndex == index) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * A tutee in the view, with its sort key and where it is in the source list.
+     */
+    private static class Entry {
+        private final Tutee tutee;
+        private final long key;
+        private int sourceIndex;
+
+        Entry(Tutee tutee, long key, int sourceIndex) {
+            this.tutee = tutee;
+            this.key = key;
+            this.sourceIndex = sourceIndex;
+        }
+    }
+}
@@ -2,11 +2,10 @@ package seedu.address.model.tutee;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
+import seedu.address.commons.util.PersistentSet;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tutee.fields.Address;
 import seedu.address.model.tutee.fields.Attendance;
@@ -39,7 +38,7 @@ public class Tutee {
     private final Schedule schedule;
     private final StartTime startTime;
     private final EndTime endTime;
-    private final Set<Tag> tags = new HashSet<>();
+    private final PersistentSet<Tag> tags;
     private final Lesson lessons;
 
     /**
@@ -60,7 +59,7 @@ public class Tutee {
         this.schedule = schedule;
         this.startTime = startTime;
         this.endTime = endTime;
-        this.tags.addAll(tags);
+        this.tags = PersistentSet.copyOf(tags);
         this.lessons = lessons;
     }
 
@@ -111,10 +110,11 @@ public class Tutee {
 
     /**
      * Returns an immutable tag set, which throws {@link UnsupportedOperationException}
-     *     if modification is attempted.
+     *     if modification is attempted. A changed copy can be made cheaply with
+     *     {@link PersistentSet#plus(Object)} and {@link PersistentSet#minus(Object)}.
      */
-    public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+    public PersistentSet<Tag> getTags() {
+        return tags;
     }
 
     /**
@@ -130,6 +130,18 @@ public class Tutee {
                 && otherTutee.getName().equals(getName());
     }
 
+    /**
+     * Returns true if both persons have the same name and have their lessons in the same subject and time slot.
+     * A tutee copied with {@code copy} to another subject or time slot is a different lesson of the same person.
+     */
+    public boolean isSameLesson(Tutee otherTutee) {
+        return isSamePerson(otherTutee)
+                && otherTutee.getSubject().equals(getSubject())
+                && otherTutee.getSchedule().equals(getSchedule())
+                && otherTutee.getStartTime().equals(getStartTime())
+                && otherTutee.getEndTime().equals(getEndTime());
+    }
+
     /**
      * Returns true if both persons have the same identity and data fields.
      *     This defines a stronger notion of equality between two persons.
@@ -150,6 +162,9 @@ public class Tutee {
                 && otherTutee.getEmail().equals(getEmail())
                 && otherTutee.getAddress().equals(getAddress())
                 && otherTutee.getSubject().equals(getSubject())
+                && otherTutee.getSchedule().equals(getSchedule())
+                && otherTutee.getStartTime().equals(getStartTime())
+                && otherTutee.getEndTime().equals(getEndTime())
                 && otherTutee.getLessons().equals(getLessons())
                 && otherTutee.getTags().equals(getTags());
     }
@@ -5,6 +5,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.PersistentSet;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tutee.fields.Address;
 import seedu.address.model.tutee.fields.Attendance;
@@ -56,9 +57,8 @@ public class TuteeBuilder {
         this.startTime = existing.getStartTime();
         this.endTime = existing.getEndTime();
         this.lessons = existing.getLessons();
-        // Need to copy, otherwise modifications to 1 tutee's tags
-        // could affect the another's
-        this.tags = Set.copyOf(existing.getTags());
+        // The tags of a tutee are immutable, so they can be shared with the new tutee
+        this.tags = existing.getTags();
     }
 
     /**
@@ -169,6 +169,7 @@ public class TuteeBuilder {
      * Build the new {@link Tutee} instance. If any one of the fields is missing, a
      * {@link NullPointerException} will be thrown. If the start time and end time fields
      * are invalid, then an {@link IllegalValueException} will be thrown.
+     * The subject, schedule, times and tags of the tutee are the shared instances of their values.
      * @return A new tutee instance with the given fields
      */
     public Tutee build() throws IllegalValueException {
@@ -188,6 +189,15 @@ public class TuteeBuilder {
             throw new IllegalValueException("Start time cannot be set to a value later than or equal to end time");
         }
 
-        return new Tutee(name, phone, email, address, attendance, remark, subject, schedule, startTime, endTime, tags, lessons);
+        PersistentSet<Tag> internedTags = PersistentSet.copyOf(tags);
+        for (Tag tag : tags) {
+            Tag sharedTag = Tag.of(tag.tagName);
+            if (sharedTag != tag) {
+                internedTags = internedTags.minus(tag).plus(sharedTag);
+            }
+        }
+        return new Tutee(name, phone, email, address, attendance, remark, Subject.of(subject.subject),
+                Schedule.of(schedule.schedule), StartTime.of(startTime.startTime), EndTime.of(endTime.endTime),
+                internedTags, lessons);
     }
 }
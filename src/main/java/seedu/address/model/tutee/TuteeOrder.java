@@ -0,0 +1,107 @@
+package seedu.address.model.tutee;
+
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * An order that tutees can be shown in.
+ * <p>
+ * Every tutee is given a {@code long} sort key once, when it is first sorted, so that most comparisons are between
+ * two keys rather than between the fields of two tutees. Keys are compared as unsigned numbers. Where the key cannot
+ * tell two tutees apart, e.g. names that start with the same few letters, they are compared in full.
+ */
+public enum TuteeOrder {
+    /** The order the tutees were added in. */
+    NONE(tutee -> 0, null, null),
+    /** By the day of the lesson, then by its start time. */
+    DAY(TuteeOrder::dayTimeKey, null, tutee -> toTitleCase(tutee.getSchedule().getDayOfWeek().name())),
+    /** By the start time of the lesson, then by its end time. */
+    TIME(TuteeOrder::timeKey, null, null),
+    /** By subject, in the order the subjects are listed in, then by the day and start time of the lesson. */
+    SUBJECT(tutee -> (long) tutee.getSubject().getIndex() << 16 | dayTimeKey(tutee), null,
+            tutee -> toTitleCase(tutee.getSubject().toString())),
+    /** By name, ignoring case. */
+    NAME(tutee -> prefixKey(tutee.getName().toString(), 4),
+            Comparator.comparing((Tutee tutee) -> tutee.getName().toString(), String.CASE_INSENSITIVE_ORDER), null);
+
+    private static final long MINUTES_PER_DAY = 24 * 60;
+
+    private final ToLongFunction<Tutee> key;
+    private final Comparator<Tutee> comparator;
+    private final Function<Tutee, String> group;
+
+    TuteeOrder(ToLongFunction<Tutee> key, Comparator<Tutee> comparator, Function<Tutee, String> group) {
+        this.key = key;
+        this.comparator = comparator;
+        this.group = group;
+    }
+
+    /**
+     * Returns the sort key of {@code tutee}. A tutee with a smaller key, compared as unsigned, comes first.
+     */
+    public long getKey(Tutee tutee) {
+        return key.applyAsLong(tutee);
+    }
+
+    /**
+     * Compares two tutees with the same key, returning 0 if this order puts them in the same place.
+     */
+    public int compareSameKey(Tutee first, Tutee second) {
+        return comparator == null ? 0 : comparator.compare(first, second);
+    }
+
+    /**
+     * Returns true if this order puts tutees into groups, which are next to each other in the order.
+     */
+    public boolean isGrouped() {
+        return group != null;
+    }
+
+    /**
+     * Returns the name of the group of {@code tutee}. This order must be {@link #isGrouped() grouped}.
+     */
+    public String getGroup(Tutee tutee) {
+        assert isGrouped();
+        return group.apply(tutee);
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    private static long dayTimeKey(Tutee tutee) {
+        return (tutee.getSchedule().getDayOfWeek().getValue() - 1) * MINUTES_PER_DAY
+                + minuteOfDay(tutee.getStartTime().getTimeValue());
+    }
+
+    private static long timeKey(Tutee tutee) {
+        return minuteOfDay(tutee.getStartTime().getTimeValue()) * MINUTES_PER_DAY
+                + minuteOfDay(tutee.getEndTime().getTimeValue());
+    }
+
+    private static long minuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    /**
+     * Returns the first {@code length} characters of {@code text}, with their case folded the way
+     * {@link String#CASE_INSENSITIVE_ORDER} does, as 16 bits each. Shorter text is padded with zeroes, so that it
+     * comes first.
+     */
+    private static long prefixKey(String text, int length) {
+        long key = 0;
+        for (int i = 0; i < length; i++) {
+            char c = i < text.length() ? Character.toLowerCase(Character.toUpperCase(text.charAt(i))) : 0;
+            key = key << 16 | c;
+        }
+        return key;
+    }
+
+    private static String toTitleCase(String text) {
+        return text.charAt(0) + text.substring(1).toLowerCase(Locale.ROOT);
+    }
+}
@@ -3,13 +3,24 @@ package seedu.address.model.tutee;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.tutee.exceptions.DuplicatePersonException;
 import seedu.address.model.tutee.exceptions.PersonNotFoundException;
+import seedu.address.model.tutee.fields.Name;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -19,6 +30,8 @@ import seedu.address.model.tutee.exceptions.PersonNotFoundException;
  * as to ensure that the tutee with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * Every change is first made to an immutable {@link #getSnapshot() snapshot}, which is published to other threads
+ * and then applied to the {@code ObservableList} shown by JavaFX. Only one thread may change the list.
  *
  * @see Tutee#isSamePerson(Tutee)
  */
@@ -27,6 +40,11 @@ public class UniquePersonList implements Iterable<Tutee> {
     private final ObservableList<Tutee> internalList = FXCollections.observableArrayList();
     private final ObservableList<Tutee> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final NameTrigramIndex nameIndex = new NameTrigramIndex();
+    private final CompletionIndex completionIndex = new CompletionIndex();
+    private final AttendanceIndex attendanceIndex = new AttendanceIndex();
+    private boolean isAttendanceIndexBuilt = false;
+    private volatile PersistentList<Tutee> snapshot = PersistentList.empty();
 
     /**
      * Returns true if the list contains an equivalent tutee as the given argument.
@@ -50,18 +68,66 @@ public class UniquePersonList implements Iterable<Tutee> {
         if (containsExactly(toAdd)) {
             throw new DuplicatePersonException();
         }
+        snapshot = snapshot.plus(toAdd);
         internalList.add(toAdd);
+        addToIndexes(toAdd);
+        addToAttendanceIndex(toAdd);
+    }
+
+    /**
+     * Adds a tutee to the list at {@code index}, moving the tutees from {@code index} on one place later.
+     * The tutee must not already exist in the list.
+     */
+    public void add(int index, Tutee toAdd) {
+        requireNonNull(toAdd);
+        if (containsExactly(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        snapshot = snapshot.plus(index, toAdd);
+        internalList.add(index, toAdd);
+        addToIndexes(toAdd);
+        addToAttendanceIndex(toAdd);
+    }
+
+    /**
+     * Adds {@code tutees} to the end of the list in one change.
+     * None of the tutees may already exist in the list or appear twice in {@code tutees}.
+     */
+    public void addAll(List<Tutee> tutees) {
+        requireAllNonNull(tutees);
+        Set<Tutee> toAdd = new HashSet<>(tutees);
+        if (toAdd.size() < tutees.size() || internalList.stream().anyMatch(toAdd::contains)) {
+            throw new DuplicatePersonException();
+        }
+        PersistentList<Tutee> newSnapshot = snapshot;
+        for (Tutee tutee : tutees) {
+            newSnapshot = newSnapshot.plus(tutee);
+        }
+        snapshot = newSnapshot;
+        internalList.addAll(tutees);
+        tutees.forEach(this::addToIndexes);
+        tutees.forEach(this::addToAttendanceIndex);
     }
 
     /**
      * Replaces the tutee {@code target} in the list with {@code editedTutee}.
      * {@code target} must exist in the list.
      * The tutee identity of {@code editedTutee} must not be the same as another existing tutee in the list.
+     *
+     * @return the index of the tutee replaced.
      */
-    public void setPerson(Tutee target, Tutee editedTutee) {
+    public int setPerson(Tutee target, Tutee editedTutee) {
+        return setPerson(-1, target, editedTutee);
+    }
+
+    /**
+     * Similar to {@link #setPerson(Tutee, Tutee)}, but {@code target} is looked for at {@code expectedIndex} first,
+     * so that the list is only searched if it is not there.
+     */
+    public int setPerson(int expectedIndex, Tutee target, Tutee editedTutee) {
         requireAllNonNull(target, editedTutee);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target, expectedIndex);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -71,37 +137,139 @@ public class UniquePersonList implements Iterable<Tutee> {
             throw new DuplicatePersonException();
         }
 
+        Tutee replaced = internalList.get(index);
+        snapshot = snapshot.with(index, editedTutee);
         internalList.set(index, editedTutee);
+        removeFromIndexes(target);
+        addToIndexes(editedTutee);
+        if (isAttendanceIndexBuilt) {
+            attendanceIndex.replace(replaced, editedTutee);
+        }
+        return index;
     }
 
     /**
      * Removes the equivalent tutee from the list.
      * The tutee must exist in the list.
+     *
+     * @return the index the tutee was at.
      */
-    public void remove(Tutee toRemove) {
+    public int remove(Tutee toRemove) {
+        return remove(-1, toRemove);
+    }
+
+    /**
+     * Similar to {@link #remove(Tutee)}, but {@code toRemove} is looked for at {@code expectedIndex} first, so that
+     * the list is only searched if it is not there.
+     */
+    public int remove(int expectedIndex, Tutee toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove, expectedIndex);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        snapshot = snapshot.minus(index);
+        Tutee removed = internalList.remove(index);
+        removeFromIndexes(toRemove);
+        if (isAttendanceIndexBuilt) {
+            attendanceIndex.remove(removed);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the index of {@code tutee}, or -1 if it is not in the list, searching the list only if it is not at
+     * {@code expectedIndex}.
+     */
+    private int indexOf(Tutee tutee, int expectedIndex) {
+        if (expectedIndex >= 0 && expectedIndex < internalList.size()
+                && tutee.equals(internalList.get(expectedIndex))) {
+            return expectedIndex;
+        }
+        return internalList.indexOf(tutee);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        snapshot = replacement.snapshot;
         internalList.setAll(replacement.internalList);
+        rebuildIndexes();
     }
 
     /**
      * Replaces the contents of this list with {@code tutees}.
-     * {@code tutees} must not contain duplicate tutees.
+     * No two of {@code tutees} may have the same lesson, as in {@link #hasUniqueLessons(List)}.
      */
     public void setPersons(List<Tutee> tutees) {
         requireAllNonNull(tutees);
-        if (!personsAreUnique(tutees)) {
-            System.out.println(3);
+        if (!hasUniqueLessons(tutees)) {
             throw new DuplicatePersonException();
         }
 
+        snapshot = PersistentList.copyOf(tutees);
         internalList.setAll(tutees);
+        rebuildIndexes();
+    }
+
+    /**
+     * Returns the lower case name words in this list that are within a few typos of any of {@code keywords}.
+     * @see NameTrigramIndex#match(List)
+     */
+    public Set<String> getFuzzyNameMatches(List<String> keywords) {
+        requireNonNull(keywords);
+        return nameIndex.match(keywords);
+    }
+
+    /**
+     * Returns the completion of {@code prefix} among the values of {@code field} in this list.
+     * @see CompletionIndex#complete(CompletionIndex.Field, String)
+     */
+    public Optional<String> complete(CompletionIndex.Field field, String prefix) {
+        return completionIndex.complete(field, prefix);
+    }
+
+    /**
+     * Returns true if exactly one value of {@code field} in this list starts with {@code prefix}.
+     */
+    public boolean hasUniqueCompletion(CompletionIndex.Field field, String prefix) {
+        return completionIndex.hasUniqueCompletion(field, prefix);
+    }
+
+    /**
+     * Returns the tutees who attended on {@code date}, in time linear in their number once the attendance index
+     * has been built.
+     * @see AttendanceIndex#getTuteesPresentOn(LocalDate)
+     */
+    public List<Tutee> getTuteesPresentOn(LocalDate date) {
+        return getAttendanceIndex().getTuteesPresentOn(date);
+    }
+
+    /**
+     * Returns the number of days {@code tutee}, which must be the instance in this list, attended in each month it
+     * attended in.
+     * @see AttendanceIndex#getMonthlyCounts(Tutee)
+     */
+    public SortedMap<YearMonth, Integer> getMonthlyAttendance(Tutee tutee) {
+        return getAttendanceIndex().getMonthlyCounts(tutee);
+    }
+
+    /**
+     * Returns the attendance index, building it the first time it is needed after the list was replaced, so that
+     * loading the tutees does not go through every date each of them attended.
+     */
+    private AttendanceIndex getAttendanceIndex() {
+        if (!isAttendanceIndexBuilt) {
+            internalList.forEach(attendanceIndex::add);
+            isAttendanceIndexBuilt = true;
+        }
+        return attendanceIndex;
+    }
+
+    /**
+     * Returns the tutees as of the last change, as an immutable list that any thread can read without locking.
+     */
+    public PersistentList<Tutee> getSnapshot() {
+        return snapshot;
     }
 
     /**
@@ -128,16 +296,47 @@ public class UniquePersonList implements Iterable<Tutee> {
         return internalList.hashCode();
     }
 
+    private void addToIndexes(Tutee tutee) {
+        nameIndex.add(tutee.getName());
+        completionIndex.add(tutee);
+    }
+
+    /**
+     * Adds {@code tutee} to the attendance index, unless it is yet to be built and will include it then.
+     */
+    private void addToAttendanceIndex(Tutee tutee) {
+        if (isAttendanceIndexBuilt) {
+            attendanceIndex.add(tutee);
+        }
+    }
+
+    private void removeFromIndexes(Tutee tutee) {
+        nameIndex.remove(tutee.getName());
+        completionIndex.remove(tutee);
+    }
+
+    private void rebuildIndexes() {
+        nameIndex.clear();
+        completionIndex.clear();
+        attendanceIndex.clear();
+        isAttendanceIndexBuilt = false;
+        internalList.forEach(this::addToIndexes);
+    }
+
     /**
-     * Returns true if {@code tutees} contains only unique tutees.
+     * Returns true if no two of {@code tutees} have the same lesson, as in {@link Tutee#isSameLesson(Tutee)}, the
+     * rule tutees are added by. Tutees with the same name, e.g. copies for different subjects, are allowed.
      */
-    private boolean personsAreUnique(List<Tutee> tutees) {
-        for (int i = 0; i < tutees.size() - 1; i++) {
-            for (int j = i + 1; j < tutees.size(); j++) {
-                if (tutees.get(i).isSamePerson(tutees.get(j))) {
-                    return false;
-                }
+    public static boolean hasUniqueLessons(List<Tutee> tutees) {
+        requireAllNonNull(tutees);
+        // Lessons are only compared with lessons of tutees with the same name, so this takes linear time
+        Map<Name, List<Tutee>> lessonsByName = new HashMap<>();
+        for (Tutee tutee : tutees) {
+            List<Tutee> lessons = lessonsByName.computeIfAbsent(tutee.getName(), unused -> new ArrayList<>());
+            if (lessons.stream().anyMatch(tutee::isSameLesson)) {
+                return false;
             }
+            lessons.add(tutee);
         }
         return true;
     }
@@ -6,6 +6,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 
+import seedu.address.commons.util.Interner;
 
 /**
  * Represents the end time of a tuition session.
@@ -21,8 +22,10 @@ public class EndTime {
 
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
 
+    private static final Interner<EndTime> INTERNER = new Interner<>(EndTime::new, Interner.DEFAULT_MAX_SIZE);
+
     private final LocalTime time;
-    public String endTime;
+    public final String endTime;
 
     /**
      * Constructs an {@code EndTime} with the specified end time.
@@ -36,6 +39,15 @@ public class EndTime {
         this.endTime = endTime;
     }
 
+    /**
+     * Returns the shared {@code EndTime} for {@code endTime}, which is the same instance for every equal end time.
+     *
+     * @param endTime A valid end time in the format of HH:mm.
+     */
+    public static EndTime of(String endTime) {
+        return INTERNER.intern(endTime);
+    }
+
     /**
      * Returns true if a given string is a valid end time.
      */
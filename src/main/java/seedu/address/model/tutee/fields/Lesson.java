@@ -1,27 +1,48 @@
 package seedu.address.model.tutee.fields;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import seedu.address.commons.util.Interner;
+import seedu.address.commons.util.PersistentSet;
+
 /**
- * Immutable field representing the lessons where the tutee was present
+ * Immutable field representing the lessons where the tutee was present.
+ * Learning or unlearning a lesson makes a new {@code Lesson} that shares most of its set with this one.
  */
 public class Lesson implements Iterable<String> {
-    private final Set<String> lessons;
+    private static final Interner<String> LESSON_NAMES = new Interner<>(Function.identity(),
+            Interner.DEFAULT_MAX_SIZE);
+
+    private final PersistentSet<String> lessons;
 
+    /**
+     * Creates a {@code Lesson} with a copy of {@code lessons}, so that later changes to {@code lessons} do not
+     * affect it.
+     */
     public Lesson(Set<String> lessons) {
-        this.lessons = lessons;
+        requireNonNull(lessons);
+        this.lessons = PersistentSet.copyOf(lessons);
     }
 
     public Lesson() {
-        this.lessons = new HashSet<>();
-        lessons.add("Meet Tutor");
+        this.lessons = PersistentSet.of(intern("Meet Tutor"));
+    }
+
+    /**
+     * Returns the shared instance of the lesson name {@code lesson}, so that tutees who learned the same lesson
+     * hold the same string.
+     */
+    public static String intern(String lesson) {
+        return LESSON_NAMES.intern(lesson);
     }
 
     /**
@@ -30,8 +51,9 @@ public class Lesson implements Iterable<String> {
      * @return A new Lesson list including the new lesson.
      */
     public Lesson learn(String lesson) {
-        lessons.add(lesson);
-        return this;
+        requireNonNull(lesson);
+        PersistentSet<String> newLessons = lessons.plus(lesson);
+        return newLessons == lessons ? this : new Lesson(newLessons);
     }
 
     /**
@@ -42,11 +64,12 @@ public class Lesson implements Iterable<String> {
      *     remove it will throw a {@link NoSuchElementException}
      */
     public Lesson unlearn(String lesson) {
-        if (!lessons.remove(lesson)) {
+        PersistentSet<String> newLessons = lessons.minus(lesson);
+        if (newLessons == lessons) {
             throw new NoSuchElementException();
         }
 
-        return this;
+        return new Lesson(newLessons);
     }
 
     /**
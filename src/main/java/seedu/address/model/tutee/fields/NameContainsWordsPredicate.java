@@ -0,0 +1,37 @@
+package seedu.address.model.tutee.fields;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.tutee.NameTrigramIndex;
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * Tests that a {@code Tutee}'s {@code Name} contains any of the given lower case words.
+ */
+public class NameContainsWordsPredicate implements Predicate<Tutee> {
+    private final Set<String> words;
+
+    /**
+     * Creates a predicate that matches tutees whose name contains any of {@code words}.
+     */
+    public NameContainsWordsPredicate(Set<String> words) {
+        requireNonNull(words);
+        this.words = words;
+    }
+
+    @Override
+    public boolean test(Tutee tutee) {
+        return NameTrigramIndex.toWords(tutee.getName()).stream().anyMatch(words::contains);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NameContainsWordsPredicate // instanceof handles nulls
+                && words.equals(((NameContainsWordsPredicate) other).words)); // state check
+    }
+
+}
@@ -10,6 +10,8 @@ import java.time.format.DateTimeParseException;
 import java.util.Arrays;
 import java.util.stream.Collectors;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Tutee's schedule in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidSchedule(String)}
@@ -23,6 +25,8 @@ public class Schedule {
         .appendOptional(DateTimeFormatter.ofPattern("E"))
         .toFormatter();
 
+    private static final Interner<Schedule> INTERNER = new Interner<>(Schedule::new, Interner.DEFAULT_MAX_SIZE);
+
     /*
      * The first character of the address must not be a whitespace,
      * otherwise " " (a blank string) becomes a valid input.
@@ -41,6 +45,15 @@ public class Schedule {
         this.schedule = schedule;
     }
 
+    /**
+     * Returns the shared {@code Schedule} for {@code schedule}, which is the same instance for every equal schedule.
+     *
+     * @param schedule A valid day of the week.
+     */
+    public static Schedule of(String schedule) {
+        return INTERNER.intern(schedule);
+    }
+
     private static String toUpperFirst(String str) {
         char first = Character.toUpperCase(str.charAt(0));
         return String.format("%s%s", first, str.substring(1).toLowerCase());
@@ -69,6 +82,13 @@ public class Schedule {
         }
     }
 
+    /**
+     * Returns the day of the week of this schedule.
+     */
+    public DayOfWeek getDayOfWeek() {
+        return DayOfWeek.from(SCHED_FORMATTER.parse(toUpperFirst(schedule)));
+    }
+
     @Override
     public String toString() {
         return schedule;
@@ -6,6 +6,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents the start time of a tuition session.
  * Guarantees: immutable; is valid as declared in {@link #isValidStartTime(String)}
@@ -17,8 +19,10 @@ public class StartTime {
 
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
 
+    private static final Interner<StartTime> INTERNER = new Interner<>(StartTime::new, Interner.DEFAULT_MAX_SIZE);
+
     private final LocalTime time;
-    public String startTime;
+    public final String startTime;
 
     /**
      * Constructs a {@code StartTime} with the specified start time.
@@ -32,6 +36,16 @@ public class StartTime {
         this.startTime = startTime;
     }
 
+    /**
+     * Returns the shared {@code StartTime} for {@code startTime}, which is the same instance for every equal
+     * start time.
+     *
+     * @param startTime A valid start time in the format of HH:mm.
+     */
+    public static StartTime of(String startTime) {
+        return INTERNER.intern(startTime);
+    }
+
     /**
      * Returns true if a given string is a valid start time.
      */
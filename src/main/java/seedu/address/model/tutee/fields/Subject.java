@@ -4,9 +4,12 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Tutee's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidSubject(String)}
@@ -27,6 +30,8 @@ public class Subject {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Interner<Subject> INTERNER = new Interner<>(Subject::new, Interner.DEFAULT_MAX_SIZE);
+
     public final String subject;
 
     /**
@@ -40,6 +45,15 @@ public class Subject {
         this.subject = subject;
     }
 
+    /**
+     * Returns the shared {@code Subject} for {@code subject}, which is the same instance for every equal subject.
+     *
+     * @param subject A valid subject.
+     */
+    public static Subject of(String subject) {
+        return INTERNER.intern(subject);
+    }
+
     /**
      * Helper method for creating the MESSAGE_CONSTRAINTS message
      */
@@ -53,6 +67,13 @@ public class Subject {
             });
     }
 
+    /**
+     * Returns the names of the valid subjects, in the order given by {@link #getIndex()}.
+     */
+    public static List<String> getSubjectNames() {
+        return subjectsBuilder().collect(Collectors.toList());
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
@@ -65,6 +86,12 @@ public class Subject {
         }
     }
 
+    /**
+     * Returns the position of this subject in the list of valid subjects, which does not depend on its case.
+     */
+    public int getIndex() {
+        return ValidSubjects.valueOf(subject.toUpperCase()).ordinal();
+    }
 
     @Override
     public String toString() {
@@ -36,10 +36,10 @@ public class SampleDataUtil {
                 new Address("Blk 30 Geylang Street 29, #06-40"),
                 new Attendance(),
                 EMPTY_REMARK,
-                new Subject("Math"),
-                new Schedule("monday"),
-                new StartTime("08:30"),
-                new EndTime("09:30"),
+                Subject.of("Math"),
+                Schedule.of("monday"),
+                StartTime.of("08:30"),
+                EndTime.of("09:30"),
                 getTagSet("GoodEffort"),
                 new Lesson()
             ),
@@ -50,10 +50,10 @@ public class SampleDataUtil {
                 new Address("Blk 30 Lorong 3 Serangoon Gardens, #07-18"),
                 new Attendance(),
                 EMPTY_REMARK,
-                new Subject("Math"),
-                new Schedule("monday"),
-                new StartTime("08:30"),
-                new EndTime("11:30"),
+                Subject.of("Math"),
+                Schedule.of("monday"),
+                StartTime.of("08:30"),
+                EndTime.of("11:30"),
                 getTagSet("GoodEffort"),
                 new Lesson()
             ),
@@ -64,10 +64,10 @@ public class SampleDataUtil {
                 new Address("Blk 11 Ang Mo Kio Street 74, #11-04"),
                 new Attendance(),
                 EMPTY_REMARK,
-                new Subject("Math"),
-                new Schedule("friday"),
-                new StartTime("08:00"),
-                new EndTime("10:30"),
+                Subject.of("Math"),
+                Schedule.of("friday"),
+                StartTime.of("08:00"),
+                EndTime.of("10:30"),
                 getTagSet("neighbours"),
                 new Lesson()
             ),
@@ -78,10 +78,10 @@ public class SampleDataUtil {
                 new Address("Blk 436 Serangoon Gardens Street 26, #16-43"),
                 new Attendance(),
                 EMPTY_REMARK,
-                new Subject("Math"),
-                new Schedule("thursday"),
-                new StartTime("08:00"),
-                new EndTime("09:30"),
+                Subject.of("Math"),
+                Schedule.of("thursday"),
+                StartTime.of("08:00"),
+                EndTime.of("09:30"),
                 getTagSet("family"),
                 new Lesson()
             ),
@@ -92,10 +92,10 @@ public class SampleDataUtil {
                 new Address("Blk 47 Tampines Street 20, #17-35"),
                 new Attendance(),
                 EMPTY_REMARK,
-                new Subject("Math"),
-                new Schedule("wednesday"),
-                new StartTime("09:30"),
-                new EndTime("11:30"),
+                Subject.of("Math"),
+                Schedule.of("wednesday"),
+                StartTime.of("09:30"),
+                EndTime.of("11:30"),
                 getTagSet("classmates"),
                 new Lesson()
             ),
@@ -106,10 +106,10 @@ public class SampleDataUtil {
                 new Address("Blk 45 Aljunied Street 85, #11-31"),
                 new Attendance(),
                 EMPTY_REMARK,
-                new Subject("Math"),
-                new Schedule("tuesday"),
-                new StartTime("10:30"),
-                new EndTime("12:30"),
+                Subject.of("Math"),
+                Schedule.of("tuesday"),
+                StartTime.of("10:30"),
+                EndTime.of("12:30"),
                 getTagSet("colleagues"),
                 new Lesson())
         };
@@ -128,7 +128,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
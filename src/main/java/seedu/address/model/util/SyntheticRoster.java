@@ -0,0 +1,232 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import seedu.address.model.TuteeManagingSystem;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.fields.Address;
+import seedu.address.model.tutee.fields.Attendance;
+import seedu.address.model.tutee.fields.Email;
+import seedu.address.model.tutee.fields.EndTime;
+import seedu.address.model.tutee.fields.Lesson;
+import seedu.address.model.tutee.fields.Name;
+import seedu.address.model.tutee.fields.Phone;
+import seedu.address.model.tutee.fields.Remark;
+import seedu.address.model.tutee.fields.Schedule;
+import seedu.address.model.tutee.fields.StartTime;
+import seedu.address.model.tutee.fields.Subject;
+
+/**
+ * Generates any number of realistic tutees from a seed, for load tests, benchmarks and bug reports.
+ * Tutee {@code i} depends only on the seed and {@code i}, so the same seed always gives the same tutees,
+ * and the first {@code n} tutees of a larger roster are the roster of {@code n} tutees.
+ * <p>
+ * Most tutees take Math, most lessons are on weekday evenings or weekend mornings, a few tags are far more
+ * common than the rest, and tutees have had lessons for up to {@link #MAX_YEARS_OF_LESSONS} years before
+ * {@link #END_DATE}, attending most of the weekly lessons on their scheduled day.
+ */
+public class SyntheticRoster {
+
+    public static final long DEFAULT_SEED = 2103;
+    public static final LocalDate END_DATE = LocalDate.of(2023, 4, 1);
+    public static final int MAX_YEARS_OF_LESSONS = 3;
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Aisha",
+        "Benjamin", "Chloe", "Daniel", "Emma", "Farhan", "Grace", "Hui Min", "Isaac", "Jia Hui", "Kumar", "Li Ting",
+        "Marcus", "Nur", "Oliver", "Priya", "Qi Xuan", "Rachel", "Siddharth", "Tan", "Umar", "Vanessa", "Wei Jie",
+        "Xin Yi", "Yusuf", "Zoe"};
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan",
+        "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Chan", "Koh", "Teo", "Ang", "Yeo", "Low", "Sim", "Ho",
+        "Rahman", "Singh", "Pillai", "Nair", "Abdullah", "Fernandez", "Chong", "Toh", "Quek", "Seah"};
+    private static final String[] GENERATION_SUFFIXES = {"", " Jr", " III", " IV", " V", " VI", " VII", " VIII"};
+    private static final String[] STREETS = {"Geylang Street", "Lorong Serangoon Gardens", "Ang Mo Kio Ave",
+        "Tampines Street", "Clementi Ave", "Jurong West Street", "Bedok North Road", "Woodlands Drive",
+        "Toa Payoh Lorong", "Yishun Ring Road"};
+    private static final String[] REMARKS = {"Needs more practice on word problems", "Prefers worked examples",
+        "Preparing for mid-year exams", "Parents want weekly updates", "Often late by a few minutes"};
+
+    // Weights are in percent
+    private static final String[] SUBJECTS = {"Math", "English", "Physics"};
+    private static final int[] SUBJECT_WEIGHTS = {50, 30, 20};
+    private static final DayOfWeek[] DAYS = DayOfWeek.values();
+    private static final int[] DAY_WEIGHTS = {12, 12, 12, 12, 12, 22, 18};
+    private static final int[] DURATION_MINUTES = {60, 90, 120};
+    private static final int[] DURATION_WEIGHTS = {50, 30, 20};
+    private static final String[] TAGS = {"GoodEffort", "OwesMoney", "NeedsHelp", "ExamYear", "Improving",
+        "Referral", "Sibling", "Online", "Trial", "Scholarship"};
+    private static final int[] TAG_WEIGHTS = {30, 18, 14, 10, 8, 6, 5, 4, 3, 2};
+    private static final int[] TAG_COUNT_WEIGHTS = {35, 40, 20, 5};
+
+    private static final List<List<String>> SYLLABI = List.of(
+            List.of("Whole Numbers", "Fractions", "Decimals", "Rational Number", "Percentage", "Ratio", "Algebra",
+                    "Linear Equations", "Inequalities", "Quadratic Equations", "Functions and Graphs",
+                    "Geometry", "Trigonometry", "Statistics", "Probability", "Differentiation", "Integration"),
+            List.of("Grammar", "Vocabulary", "Comprehension", "Summary Writing", "Narrative Essay",
+                    "Argumentative Essay", "Oral Communication", "Listening Comprehension", "Editing",
+                    "Situational Writing"),
+            List.of("Measurement", "Kinematics", "Dynamics", "Turning Effect of Forces", "Pressure",
+                    "Energy Work and Power", "Thermal Physics", "Waves", "Light", "Electricity", "Magnetism",
+                    "Electromagnetic Induction", "Radioactivity"));
+
+    private static final int WEEKDAY_EARLIEST_START = 15 * 60;
+    private static final int WEEKDAY_LATEST_START = 20 * 60;
+    private static final int WEEKEND_EARLIEST_START = 8 * 60;
+    private static final int WEEKEND_LATEST_START = 17 * 60;
+    private static final int SLOT_MINUTES = 30;
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final long seed;
+
+    /**
+     * Creates a {@code SyntheticRoster} that generates tutees from {@code seed}.
+     */
+    public SyntheticRoster(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Creates a {@code SyntheticRoster} that generates tutees from {@link #DEFAULT_SEED}.
+     */
+    public SyntheticRoster() {
+        this(DEFAULT_SEED);
+    }
+
+    /**
+     * Returns the tutees numbered 0 to {@code count - 1}, generated one at a time as the stream is consumed.
+     */
+    public Stream<Tutee> stream(int count) {
+        checkArgument(count >= 0, "Count cannot be negative");
+        return IntStream.range(0, count).mapToObj(this::tutee);
+    }
+
+    /**
+     * Returns the tutees numbered 0 to {@code count - 1}.
+     */
+    public List<Tutee> generate(int count) {
+        return stream(count).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns a {@code TuteeManagingSystem} with the tutees numbered 0 to {@code count - 1}.
+     */
+    public TuteeManagingSystem generateTuteeManagingSystem(int count) {
+        TuteeManagingSystem tuteeManagingSystem = new TuteeManagingSystem();
+        tuteeManagingSystem.setPersons(generate(count));
+        return tuteeManagingSystem;
+    }
+
+    /**
+     * Returns the tutee numbered {@code id}. Every number gives a tutee with a different name.
+     */
+    public Tutee tutee(int id) {
+        checkArgument(id >= 0, "Id cannot be negative");
+        SplittableRandom random = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + id);
+
+        String firstName = FIRST_NAMES[id % FIRST_NAMES.length];
+        String lastName = LAST_NAMES[id / FIRST_NAMES.length % LAST_NAMES.length];
+        int generation = id / (FIRST_NAMES.length * LAST_NAMES.length);
+        String suffix = generation < GENERATION_SUFFIXES.length
+                ? GENERATION_SUFFIXES[generation]
+                : " " + generation;
+
+        int subjectIndex = pick(random, SUBJECT_WEIGHTS);
+        DayOfWeek day = DAYS[pick(random, DAY_WEIGHTS)];
+        boolean isWeekend = day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY;
+        int startMinute = isWeekend
+                ? slot(random, WEEKEND_EARLIEST_START, WEEKEND_LATEST_START)
+                : slot(random, WEEKDAY_EARLIEST_START, WEEKDAY_LATEST_START);
+        int endMinute = startMinute + DURATION_MINUTES[pick(random, DURATION_WEIGHTS)];
+
+        int weeksOfLessons = 1 + (int) (random.nextDouble() * random.nextDouble() * MAX_YEARS_OF_LESSONS * 52);
+        double attendanceRate = 0.6 + 0.38 * random.nextDouble();
+        LocalDate lastLesson = END_DATE.with(TemporalAdjusters.previousOrSame(day));
+
+        return new Tutee(
+                new Name(firstName + " " + lastName + suffix),
+                new Phone((random.nextBoolean() ? "8" : "9") + String.format("%07d", random.nextInt(10_000_000))),
+                new Email((firstName + lastName).replace(" ", "").toLowerCase(Locale.ROOT) + id + "@example.com"),
+                new Address(String.format("Blk %d %s %d, #%02d-%02d", 1 + random.nextInt(999),
+                        STREETS[random.nextInt(STREETS.length)], 1 + random.nextInt(30), 1 + random.nextInt(25),
+                        1 + random.nextInt(80))),
+                new Attendance(attendances(random, lastLesson, weeksOfLessons, attendanceRate)),
+                new Remark(random.nextInt(10) == 0 ? REMARKS[random.nextInt(REMARKS.length)] : ""),
+                Subject.of(SUBJECTS[subjectIndex]),
+                Schedule.of(day.name().toLowerCase(Locale.ROOT)),
+                StartTime.of(LocalTime.ofSecondOfDay(startMinute * 60L).format(TIME_FORMAT)),
+                EndTime.of(LocalTime.ofSecondOfDay(endMinute * 60L).format(TIME_FORMAT)),
+                tags(random),
+                lessons(random, SYLLABI.get(subjectIndex), weeksOfLessons));
+    }
+
+    /**
+     * Returns the dates of the weekly lessons up to {@code lastLesson} that were attended.
+     */
+    private static Set<LocalDate> attendances(SplittableRandom random, LocalDate lastLesson, int weeks,
+            double attendanceRate) {
+        Set<LocalDate> attendances = new HashSet<>();
+        for (int week = 0; week < weeks; week++) {
+            if (random.nextDouble() < attendanceRate) {
+                attendances.add(lastLesson.minusWeeks(week));
+            }
+        }
+        return attendances;
+    }
+
+    private static Set<Tag> tags(SplittableRandom random) {
+        int count = pick(random, TAG_COUNT_WEIGHTS);
+        Set<Tag> tags = new HashSet<>();
+        while (tags.size() < count) {
+            tags.add(Tag.of(TAGS[pick(random, TAG_WEIGHTS)]));
+        }
+        return tags;
+    }
+
+    /**
+     * Returns the lessons learnt after {@code weeks} weeks, which go further into the syllabus the longer
+     * the tutee has had lessons.
+     */
+    private static Lesson lessons(SplittableRandom random, List<String> syllabus, int weeks) {
+        Set<String> lessons = new HashSet<>();
+        lessons.add("Meet Tutor");
+        int learnt = Math.min(syllabus.size(), weeks / 4 + random.nextInt(2));
+        lessons.addAll(syllabus.subList(0, learnt));
+        return new Lesson(lessons);
+    }
+
+    private static int slot(SplittableRandom random, int earliest, int latest) {
+        return earliest + random.nextInt((latest - earliest) / SLOT_MINUTES + 1) * SLOT_MINUTES;
+    }
+
+    /**
+     * Returns an index of {@code weights}, picked with a probability proportional to its weight.
+     */
+    private static int pick(SplittableRandom random, int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int target = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            target -= weights[i];
+            if (target < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+}
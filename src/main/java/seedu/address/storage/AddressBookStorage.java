@@ -31,6 +31,16 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyTuteeManagingSystem> readAddressBook(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Reads the tutees in storage one at a time, passing each to {@code consumer} as soon as it has been read,
+     * so that they can be used before the rest have been read.
+     *   Returns false if storage file is not found.
+     * @throws DataConversionException if the data in storage is not in the expected format. Tutees that were read
+     *     before the problem was found have already been passed to {@code consumer}.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    boolean readTutees(TuteeConsumer consumer) throws DataConversionException, IOException;
+
     /**
      * Saves the given {@link ReadOnlyTuteeManagingSystem} to the storage.
      * @param addressBook cannot be null.
@@ -43,4 +53,10 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyTuteeManagingSystem addressBook, Path filePath) throws IOException;
 
+    /**
+     * Returns the number of bytes this storage has written to its files so far, counting every file a save
+     * wrote to and not just the data file.
+     */
+    long getBytesWritten();
+
 }
@@ -0,0 +1,35 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.fields.Name;
+
+/**
+ * Checks that no two tutees read from storage have the same lesson, as in {@link Tutee#isSameLesson(Tutee)}.
+ */
+class DuplicateLessonChecker {
+
+    // Lessons are only compared with lessons of tutees with the same name, as in Tutee#isSameLesson
+    private final Map<Name, List<Tutee>> lessonsByName = new HashMap<>();
+
+    /**
+     * Remembers the lesson of {@code tutee}.
+     *
+     * @throws IllegalValueException if a tutee checked before has the same lesson.
+     */
+    public void check(Tutee tutee) throws IllegalValueException {
+        requireNonNull(tutee);
+        List<Tutee> lessons = lessonsByName.computeIfAbsent(tutee.getName(), unused -> new ArrayList<>());
+        if (lessons.stream().anyMatch(tutee::isSameLesson)) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        lessons.add(tutee);
+    }
+}
@@ -0,0 +1,345 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.DurabilityMode;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.stats.PerformanceStats;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Forces the files saved by a storage to the disk as often as its {@code DurabilityMode} asks.
+ * <p>
+ * A storage calls {@link #written(Path)} for every file it writes, {@link #replace(Path, Path)} for every file it
+ * replaces with a temporary file, and {@link #commit()} once a save is complete. A replacement is made by forcing the
+ * temporary file to the disk, moving it into place and forcing its directory, so that a crash never leaves a half
+ * written file in place of the one it replaced. With {@link DurabilityMode#PER_COMMAND}, {@code commit()} forces the
+ * files and makes the replacements before returning. With {@link DurabilityMode#GROUP_COMMIT}, a background thread
+ * does so for every commit so far once {@code groupCommitCommands} commits are waiting or the oldest has waited
+ * {@code groupCommitMillis}, so that one flush covers the saves of many commands, and only the last replacement of a
+ * file in a group is made. A crash can then lose the saves of the last group. With {@link DurabilityMode#NEVER},
+ * replacements are made at once and nothing is forced.
+ * Every flush is recorded in the given {@code PerformanceStats}.
+ */
+public class FileSyncer implements Closeable {
+
+    private static final Logger logger = LogsCenter.getLogger(FileSyncer.class);
+    private static final long CLOSE_TIMEOUT_MILLIS = 10_000;
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private final DurabilityMode mode;
+    private final long groupCommitNanos;
+    private final int groupCommitCommands;
+    private final PerformanceStats performanceStats;
+    private final Thread flusher;
+    private final AtomicLong temporaryFileCount = new AtomicLong();
+    /** Held while a flush runs, so that flushes make their replacements in the order they were asked for. */
+    private final Object flushLock = new Object();
+
+    // Guarded by this
+    private Pending pending = new Pending();
+    private int pendingCommits;
+    private long oldestCommitNanos;
+    private boolean isClosed;
+
+    /**
+     * Creates a {@code FileSyncer} that forces files as {@code mode} asks, recording every fsync in
+     * {@code performanceStats}. A group commit is forced after {@code groupCommitMillis} or
+     * {@code groupCommitCommands} commits, whichever comes first.
+     */
+    public FileSyncer(DurabilityMode mode, long groupCommitMillis, int groupCommitCommands,
+            PerformanceStats performanceStats) {
+        requireAllNonNull(mode, performanceStats);
+        checkArgument(groupCommitMillis > 0 && groupCommitCommands > 0, "Group commit limits must be positive");
+        this.mode = mode;
+        this.groupCommitNanos = TimeUnit.MILLISECONDS.toNanos(groupCommitMillis);
+        this.groupCommitCommands = groupCommitCommands;
+        this.performanceStats = performanceStats;
+
+        if (mode == DurabilityMode.GROUP_COMMIT) {
+            flusher = new Thread(this::flushGroups, "file-syncer");
+            flusher.setDaemon(true);
+            flusher.start();
+        } else {
+            flusher = null;
+        }
+    }
+
+    /**
+     * Returns a {@code FileSyncer} that leaves saved files for the operating system to write to the disk.
+     */
+    public static FileSyncer never() {
+        return new FileSyncer(DurabilityMode.NEVER, DurabilityMode.DEFAULT_GROUP_COMMIT_MILLIS,
+                DurabilityMode.DEFAULT_GROUP_COMMIT_COMMANDS, new PerformanceStats());
+    }
+
+    public DurabilityMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Records that {@code file} was written or moved into place, so that the next commit forces it and its
+     * directory to the disk. The directory is needed for a new or renamed file to be found after a crash.
+     */
+    public synchronized void written(Path file) {
+        requireNonNull(file);
+        if (mode != DurabilityMode.NEVER) {
+            addWithDirectory(pending.files, file);
+        }
+    }
+
+    /**
+     * Returns a new file next to {@code file} to write its replacement to. Every call returns a different file, so
+     * that a replacement waiting for a group is never written over.
+     */
+    public Path getTemporaryFile(Path file) {
+        requireNonNull(file);
+        return file.resolveSibling(file.getFileName() + TEMPORARY_FILE_SUFFIX + temporaryFileCount.incrementAndGet());
+    }
+
+    /**
+     * Replaces {@code file} with {@code temporaryFile}, which has been written, once the temporary file and every
+     * file written before it are on the disk. Until then {@code file} is left as it is, and a later replacement of
+     * {@code file} takes the place of this one.
+     */
+    public void replace(Path temporaryFile, Path file) throws IOException {
+        requireAllNonNull(temporaryFile, file);
+        Path superseded;
+        synchronized (this) {
+            if (mode == DurabilityMode.NEVER) {
+                superseded = null;
+            } else {
+                superseded = pending.replacements.remove(file);
+                pending.replacements.put(file, temporaryFile);
+            }
+        }
+        if (mode == DurabilityMode.NEVER) {
+            move(temporaryFile, file);
+        } else if (superseded != null) {
+            Files.deleteIfExists(superseded);
+        }
+    }
+
+    /**
+     * Deletes {@code file} once every replacement asked for so far has been made and is on the disk, e.g. a file
+     * that only the file being replaced refers to.
+     */
+    public void deleteAfterReplacing(Path file) throws IOException {
+        requireNonNull(file);
+        if (mode == DurabilityMode.NEVER) {
+            Files.deleteIfExists(file);
+            return;
+        }
+        synchronized (this) {
+            pending.deletions.add(file);
+        }
+    }
+
+    /**
+     * Marks the end of a save, whose files have all been passed to {@link #written(Path)}.
+     *
+     * @throws IOException if the files are forced before returning and one could not be forced.
+     */
+    public void commit() throws IOException {
+        synchronized (this) {
+            if (mode == DurabilityMode.NEVER) {
+                return;
+            }
+            if (mode == DurabilityMode.GROUP_COMMIT && !isClosed) {
+                if (pendingCommits++ == 0) {
+                    oldestCommitNanos = System.nanoTime();
+                }
+                if (pendingCommits >= groupCommitCommands) {
+                    notifyAll();
+                }
+                return;
+            }
+        }
+        synchronized (flushLock) {
+            Pending toFlush;
+            synchronized (this) {
+                toFlush = takePending();
+            }
+            flush(toFlush, 1);
+        }
+    }
+
+    /**
+     * Forces {@code files} and their directories to the disk before returning, unless files are never forced.
+     * This is for files that must be on the disk before the files they replace are deleted.
+     */
+    public void forceNow(Path... files) throws IOException {
+        if (mode == DurabilityMode.NEVER) {
+            return;
+        }
+        Pending toForce = new Pending();
+        for (Path file : files) {
+            addWithDirectory(toForce.files, file);
+        }
+        flush(toForce, 0);
+    }
+
+    /**
+     * Forces the files of every commit so far to the disk and stops the background thread, if there is one.
+     * Commits after this force their files before returning.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            notifyAll();
+        }
+        if (flusher != null) {
+            try {
+                flusher.join(CLOSE_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        synchronized (flushLock) {
+            Pending toFlush;
+            int commits;
+            synchronized (this) {
+                toFlush = takePending();
+                commits = pendingCommits;
+                pendingCommits = 0;
+            }
+            flushQuietly(toFlush, commits);
+        }
+    }
+
+    /**
+     * Forces a group of commits whenever one is due, until this is closed.
+     */
+    private void flushGroups() {
+        boolean isLastGroup = false;
+        while (!isLastGroup) {
+            synchronized (this) {
+                try {
+                    while (!isClosed && !isGroupDue()) {
+                        if (pendingCommits == 0) {
+                            wait();
+                        } else {
+                            long waitNanos = groupCommitNanos - (System.nanoTime() - oldestCommitNanos);
+                            wait(Math.max(1, TimeUnit.NANOSECONDS.toMillis(waitNanos) + 1));
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    // Left for close() to flush what is pending
+                    return;
+                }
+            }
+            synchronized (flushLock) {
+                Pending toFlush;
+                int commits;
+                synchronized (this) {
+                    toFlush = takePending();
+                    commits = pendingCommits;
+                    pendingCommits = 0;
+                    isLastGroup = isClosed;
+                }
+                flushQuietly(toFlush, commits);
+            }
+        }
+    }
+
+    private boolean isGroupDue() {
+        return pendingCommits >= groupCommitCommands
+                || (pendingCommits > 0 && System.nanoTime() - oldestCommitNanos >= groupCommitNanos);
+    }
+
+    private Pending takePending() {
+        Pending taken = pending;
+        pending = new Pending();
+        return taken;
+    }
+
+    private static void addWithDirectory(Set<Path> files, Path file) {
+        Path absoluteFile = file.toAbsolutePath();
+        files.add(absoluteFile);
+        if (absoluteFile.getParent() != null) {
+            files.add(absoluteFile.getParent());
+        }
+    }
+
+    /**
+     * Forces the written files and the temporary files of {@code toFlush} to the disk, moves the temporary files
+     * into place and forces their directories, and then deletes the files to delete.
+     */
+    private void flush(Pending toFlush, int commits) throws IOException {
+        if (toFlush.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        for (Path file : toFlush.files) {
+            FileUtil.force(file);
+        }
+        Set<Path> directories = new LinkedHashSet<>();
+        for (Path temporaryFile : toFlush.replacements.values()) {
+            FileUtil.force(temporaryFile);
+        }
+        for (Map.Entry<Path, Path> replacement : toFlush.replacements.entrySet()) {
+            move(replacement.getValue(), replacement.getKey());
+            addWithDirectory(directories, replacement.getKey());
+            directories.remove(replacement.getKey().toAbsolutePath());
+        }
+        for (Path directory : directories) {
+            FileUtil.force(directory);
+        }
+        for (Path file : toFlush.deletions) {
+            Files.deleteIfExists(file);
+        }
+        performanceStats.recordSync(mode, System.nanoTime() - start, commits);
+    }
+
+    private void flushQuietly(Pending toFlush, int commits) {
+        try {
+            flush(toFlush, commits);
+        } catch (IOException e) {
+            logger.warning("Failed to force saved files to the disk: " + StringUtil.getDetails(e));
+        }
+    }
+
+    private static void move(Path temporaryFile, Path file) throws IOException {
+        try {
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * The files to force, replace and delete in the next flush.
+     */
+    private static class Pending {
+        private final Set<Path> files = new LinkedHashSet<>();
+        /** The temporary file to replace each file with. */
+        private final Map<Path, Path> replacements = new LinkedHashMap<>();
+        private final Set<Path> deletions = new LinkedHashSet<>();
+
+        boolean isEmpty() {
+            return files.isEmpty() && replacements.isEmpty() && deletions.isEmpty();
+        }
+    }
+}
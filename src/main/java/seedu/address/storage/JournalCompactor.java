@@ -0,0 +1,133 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Compacts the journals of a {@code JournaledAddressBookStorage} into a new snapshot on a background thread,
+ * so that reading the data never has to replay more than a bounded amount of journal.
+ * <p>
+ * Every {@code checkIntervalMillis}, the journals are compacted if they have grown past {@code maxJournalBytes},
+ * if their oldest change is older than {@code maxJournalAgeMillis}, or if nothing has been saved for
+ * {@code idleMillis}.
+ */
+public class JournalCompactor implements Closeable {
+
+    public static final long DEFAULT_MAX_JOURNAL_BYTES = 4 * 1024 * 1024;
+    public static final long DEFAULT_MAX_JOURNAL_AGE_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    public static final long DEFAULT_IDLE_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    public static final long DEFAULT_CHECK_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private static final Logger logger = LogsCenter.getLogger(JournalCompactor.class);
+    private static final long CLOSE_TIMEOUT_MILLIS = 10_000;
+
+    private final JournaledAddressBookStorage storage;
+    private final long maxJournalBytes;
+    private final long maxJournalAgeMillis;
+    private final long idleMillis;
+    private final LongSupplier clock;
+    private ScheduledExecutorService executor;
+
+    /**
+     * Creates a {@code JournalCompactor} for {@code storage} with the default thresholds.
+     */
+    public JournalCompactor(JournaledAddressBookStorage storage) {
+        this(storage, DEFAULT_MAX_JOURNAL_BYTES, DEFAULT_MAX_JOURNAL_AGE_MILLIS, DEFAULT_IDLE_MILLIS,
+                System::currentTimeMillis);
+    }
+
+    /**
+     * Creates a {@code JournalCompactor} for {@code storage} with the given thresholds, telling the time in
+     * milliseconds since the epoch with {@code clock}.
+     */
+    public JournalCompactor(JournaledAddressBookStorage storage, long maxJournalBytes, long maxJournalAgeMillis,
+            long idleMillis, LongSupplier clock) {
+        requireNonNull(storage);
+        requireNonNull(clock);
+        checkArgument(maxJournalBytes > 0 && maxJournalAgeMillis > 0 && idleMillis > 0,
+                "Thresholds must be positive");
+        this.storage = storage;
+        this.maxJournalBytes = maxJournalBytes;
+        this.maxJournalAgeMillis = maxJournalAgeMillis;
+        this.idleMillis = idleMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Starts checking whether the journals should be compacted every {@code checkIntervalMillis}, on a new
+     * background thread.
+     */
+    public synchronized void start(long checkIntervalMillis) {
+        checkArgument(checkIntervalMillis > 0, "Check interval must be positive");
+        checkArgument(executor == null, "Compactor has already been started");
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "journal-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::compactIfDue, checkIntervalMillis, checkIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns true if the journals have passed a threshold and should be compacted.
+     */
+    public boolean isDue() {
+        if (!storage.hasJournal()) {
+            return false;
+        }
+        long now = clock.getAsLong();
+        long oldestChange = storage.getOldestChangeMillis();
+        long lastSave = storage.getLastSaveMillis();
+        return storage.getJournalBytes() >= maxJournalBytes
+                || (oldestChange >= 0 && now - oldestChange >= maxJournalAgeMillis)
+                || lastSave < 0 || now - lastSave >= idleMillis;
+    }
+
+    /**
+     * Compacts the journals if they have passed a threshold.
+     *
+     * @return true if the journals were compacted.
+     */
+    public boolean compactIfDue() {
+        if (!isDue()) {
+            return false;
+        }
+        try {
+            return storage.compact();
+        } catch (IOException | DataConversionException | RuntimeException e) {
+            // The journals are kept, so the next check tries again
+            logger.warning("Failed to compact journals of " + storage.getAddressBookFilePath() + ": "
+                    + StringUtil.getDetails(e));
+            return false;
+        }
+    }
+
+    /**
+     * Stops checking the journals, waiting for a compaction that is running to finish.
+     */
+    @Override
+    public synchronized void close() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(CLOSE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
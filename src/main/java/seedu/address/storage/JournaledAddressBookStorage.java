@@ -0,0 +1,474 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.DataCompression;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CompressionUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyTuteeManagingSystem;
+import seedu.address.model.TuteeChanges;
+import seedu.address.model.TuteeManagingSystem;
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * A class to access TuteeManagingSystem data stored as a snapshot json file and journals of the changes saved since,
+ * so that a save only has to append the tutees that changed.
+ * <p>
+ * Journals are numbered by generation, and the snapshot records the last generation whose changes it includes.
+ * {@link #compact()} starts a new journal and folds the older ones into a new snapshot, which is written to a
+ * temporary file and then moved into place before the journals it includes are deleted. Reading always starts from
+ * the snapshot and replays only the journals after it, so a compaction that was cut short is simply finished by the
+ * next one. A journal line cut short by a crash is ignored.
+ * Saved files are forced to the disk by the given {@code FileSyncer}. Unless files are never forced, a new snapshot is
+ * always forced to the disk before it is moved into place, and again before the journals it includes are deleted.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_SUFFIX = ".journal.";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private final Path filePath;
+    private final DataCompression compression;
+    private final int compressionLevel;
+    private final FileSyncer fileSyncer;
+
+    // Held for the whole of writing a snapshot, so that only one snapshot is written at a time
+    private final Object snapshotLock = new Object();
+    private final AtomicLong bytesWritten = new AtomicLong();
+
+    // Guarded by this. Generations are only known once the files at filePath have been read or saved
+    private boolean isKnown;
+    private long snapshotGeneration;
+    private long journalGeneration;
+    private long journalBytes;
+    private long oldestChangeMillis = -1;
+    private long lastSaveMillis = -1;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DataCompression.NONE, CompressionUtil.DEFAULT_LEVEL);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that writes snapshots to {@code filePath} compressed with
+     * {@code compression} at {@code compressionLevel}. Journals are never compressed.
+     */
+    public JournaledAddressBookStorage(Path filePath, DataCompression compression, int compressionLevel) {
+        this(filePath, compression, compressionLevel, FileSyncer.never());
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that writes snapshots to {@code filePath} compressed with
+     * {@code compression} at {@code compressionLevel}, and forces saves to the disk with {@code fileSyncer}.
+     */
+    public JournaledAddressBookStorage(Path filePath, DataCompression compression, int compressionLevel,
+            FileSyncer fileSyncer) {
+        requireNonNull(filePath);
+        requireNonNull(compression);
+        requireNonNull(fileSyncer);
+        checkArgument(CompressionUtil.isValidLevel(compressionLevel), "Invalid compression level");
+        this.filePath = filePath;
+        this.compression = compression;
+        this.compressionLevel = compressionLevel;
+        this.fileSyncer = fileSyncer;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the journal of the given generation for the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFile(Path filePath, long generation) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX + generation);
+    }
+
+    @Override
+    public Optional<ReadOnlyTuteeManagingSystem> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Reading the files at the location of this storage also cleans up after a compaction that was cut short.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the files are not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTuteeManagingSystem> readAddressBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            return read(filePath);
+        }
+        synchronized (snapshotLock) {
+            synchronized (this) {
+                return read(filePath);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The tutees are only passed on once the journals have been replayed, as their order is only known then.
+     */
+    @Override
+    public boolean readTutees(TuteeConsumer consumer) throws DataConversionException, IOException {
+        requireNonNull(consumer);
+
+        Optional<ReadOnlyTuteeManagingSystem> addressBook = readAddressBook();
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+        List<Tutee> tutees = addressBook.get().getPersonList();
+        for (int i = 0; i < tutees.size(); i++) {
+            consumer.accept(tutees.get(i), (i + 1.0) / tutees.size());
+        }
+        return true;
+    }
+
+    /**
+     * Saves {@code addressBook} by appending the tutees in its
+     * {@link ReadOnlyTuteeManagingSystem#getUnsavedChanges() unsaved changes} to the journal. These must be the
+     * changes since it was last read from or saved to this storage. A new snapshot is written instead if that is
+     * not known.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyTuteeManagingSystem addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyTuteeManagingSystem)}.
+     * A snapshot with every tutee is written unless {@code filePath} is the location of this storage.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyTuteeManagingSystem addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(filePath, new JsonJournalSnapshot(0, addressBook.getPersonList()));
+            fileSyncer.written(filePath);
+            fileSyncer.commit();
+            return;
+        }
+
+        TuteeChanges changes = addressBook.getUnsavedChanges();
+        boolean isAppended = false;
+        synchronized (this) {
+            if (isKnown && !changes.isEverythingChanged()) {
+                appendToJournal(new JsonJournalBatch(addressBook.getPersonList(), changes));
+                isAppended = true;
+            }
+        }
+        if (!isAppended) {
+            saveSnapshot(addressBook.getPersonList());
+        }
+        fileSyncer.commit();
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return bytesWritten.get();
+    }
+
+    /**
+     * Returns true if there are changes in a journal that are not yet in the snapshot.
+     */
+    public synchronized boolean hasJournal() {
+        return journalBytes > 0 || snapshotGeneration < journalGeneration - 1;
+    }
+
+    /**
+     * Returns the number of bytes in the journals that are not yet in the snapshot or being compacted into it.
+     */
+    public synchronized long getJournalBytes() {
+        return journalBytes;
+    }
+
+    /**
+     * Returns when the oldest change not yet in the snapshot or being compacted into it was saved, in milliseconds
+     * since the epoch, or -1 if there is none.
+     */
+    public synchronized long getOldestChangeMillis() {
+        return oldestChangeMillis;
+    }
+
+    /**
+     * Returns when this storage last saved, in milliseconds since the epoch, or -1 if it has not saved.
+     */
+    public synchronized long getLastSaveMillis() {
+        return lastSaveMillis;
+    }
+
+    /**
+     * Folds the journals into a new snapshot and deletes them. Saves can continue while this runs, and are
+     * appended to a new journal that the next compaction folds in.
+     *
+     * @return false if there was nothing to compact.
+     * @throws IOException if the new snapshot could not be written, in which case the journals are kept.
+     */
+    public boolean compact() throws IOException, DataConversionException {
+        synchronized (snapshotLock) {
+            long fromGeneration;
+            long toGeneration;
+            synchronized (this) {
+                if (!isKnown || !hasJournal()) {
+                    return false;
+                }
+                fromGeneration = snapshotGeneration;
+                toGeneration = journalGeneration;
+                startJournal(toGeneration + 1);
+            }
+
+            long start = System.nanoTime();
+            List<Tutee> tutees = replay(filePath, fromGeneration, toGeneration);
+            writeSnapshot(filePath, new JsonJournalSnapshot(toGeneration, tutees));
+            fileSyncer.forceNow(filePath);
+            synchronized (this) {
+                snapshotGeneration = toGeneration;
+            }
+            deleteJournalsUpTo(filePath, toGeneration);
+            logger.info(() -> String.format("Compacted journals %d to %d of %s into a snapshot in %.2f ms",
+                    fromGeneration + 1, toGeneration, filePath, (System.nanoTime() - start) / 1_000_000.0));
+            return true;
+        }
+    }
+
+    /**
+     * Returns the tutees at {@code filePath}, and if it is the location of this storage, cleans up after a
+     * compaction that was cut short and starts a new journal.
+     */
+    private Optional<ReadOnlyTuteeManagingSystem> read(Path filePath) throws DataConversionException, IOException {
+        Optional<JsonJournalSnapshot> snapshot = JsonUtil.readJsonFile(filePath, JsonJournalSnapshot.class);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        long fromGeneration = snapshot.get().getJournalGeneration();
+        TreeMap<Long, Path> journals = listJournals(filePath);
+        long toGeneration = journals.isEmpty() ? fromGeneration : Math.max(fromGeneration, journals.lastKey());
+        List<Tutee> tutees;
+        try {
+            tutees = snapshot.get().toModelType();
+            for (Path journal : journals.tailMap(fromGeneration, false).values()) {
+                replayJournal(journal, tutees);
+            }
+            DuplicateLessonChecker checker = new DuplicateLessonChecker();
+            for (Tutee tutee : tutees) {
+                checker.check(tutee);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        TuteeManagingSystem tuteeManagingSystem = new TuteeManagingSystem();
+        tuteeManagingSystem.addPersons(tutees);
+
+        if (filePath.equals(this.filePath)) {
+            Files.deleteIfExists(getTemporaryFile(filePath));
+            deleteJournalsUpTo(filePath, fromGeneration);
+            isKnown = true;
+            snapshotGeneration = fromGeneration;
+            // Never append to a journal that may end with a line cut short
+            startJournal(toGeneration + 1);
+            journalBytes = sizeOfJournals(journals.tailMap(fromGeneration, false).values());
+            oldestChangeMillis = journalBytes > 0 ? System.currentTimeMillis() : -1;
+            if (toGeneration > fromGeneration) {
+                logger.info("Replayed journals " + (fromGeneration + 1) + " to " + toGeneration + " of " + filePath);
+            }
+        }
+        return Optional.of(tuteeManagingSystem);
+    }
+
+    /**
+     * Returns the tutees in the snapshot at {@code filePath} with the journals after {@code fromGeneration}
+     * up to {@code toGeneration} replayed.
+     */
+    private static List<Tutee> replay(Path filePath, long fromGeneration, long toGeneration)
+            throws DataConversionException, IOException {
+        JsonJournalSnapshot snapshot = JsonUtil.readJsonFile(filePath, JsonJournalSnapshot.class)
+                .orElseThrow(() -> new IOException("Snapshot " + filePath + " is missing"));
+        try {
+            List<Tutee> tutees = snapshot.toModelType();
+            for (Path journal : listJournals(filePath).subMap(fromGeneration, false, toGeneration, true).values()) {
+                replayJournal(journal, tutees);
+            }
+            return tutees;
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Applies every complete line of {@code journal} to {@code tutees}. A last line that cannot be read is taken to
+     * have been cut short by a crash, and is ignored.
+     */
+    private static void replayJournal(Path journal, List<Tutee> tutees)
+            throws DataConversionException, IllegalValueException, IOException {
+        try (BufferedReader reader = Files.newBufferedReader(journal, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                JsonJournalBatch batch;
+                try {
+                    batch = JsonUtil.fromJsonString(line, JsonJournalBatch.class);
+                } catch (IOException e) {
+                    if (nextLine != null) {
+                        throw new DataConversionException(e);
+                    }
+                    logger.warning("Ignoring incomplete last change in " + journal);
+                    return;
+                }
+                batch.applyTo(tutees);
+                line = nextLine;
+            }
+        }
+    }
+
+    /**
+     * Writes {@code tutees} as a snapshot that includes every journal so far, and deletes the journals.
+     */
+    private void saveSnapshot(List<Tutee> tutees) throws IOException {
+        synchronized (snapshotLock) {
+            long generation;
+            synchronized (this) {
+                // A snapshot of unknown files includes every journal there may be
+                generation = isKnown ? journalGeneration : Math.max(journalGeneration, lastGenerationOf(filePath));
+                isKnown = false;
+            }
+            writeSnapshot(filePath, new JsonJournalSnapshot(generation, tutees));
+            fileSyncer.forceNow(filePath);
+            deleteJournalsUpTo(filePath, generation);
+            synchronized (this) {
+                isKnown = true;
+                snapshotGeneration = generation;
+                startJournal(generation + 1);
+                lastSaveMillis = System.currentTimeMillis();
+            }
+        }
+    }
+
+    private void writeSnapshot(Path filePath, JsonJournalSnapshot snapshot) throws IOException {
+        Path temporaryFile = getTemporaryFile(filePath);
+        JsonUtil.saveJsonFile(snapshot, temporaryFile, compression, compressionLevel);
+        bytesWritten.addAndGet(Files.size(temporaryFile));
+        // Otherwise a crash could leave the snapshot moved into place but not its contents, and the journals
+        // still on the disk cannot rebuild the snapshot it replaced
+        fileSyncer.forceNow(temporaryFile);
+        try {
+            Files.move(temporaryFile, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryFile, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Appends {@code batch} to the current journal as a single line.
+     */
+    private synchronized void appendToJournal(JsonJournalBatch batch) throws IOException {
+        lastSaveMillis = System.currentTimeMillis();
+        if (batch.isEmpty()) {
+            return;
+        }
+        Path journal = getJournalFile(filePath, journalGeneration);
+        byte[] line = (JsonUtil.toCompactJsonString(batch) + "\n").getBytes(StandardCharsets.UTF_8);
+        FileUtil.createParentDirsOfFile(journal);
+        try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        fileSyncer.written(journal);
+        journalBytes += line.length;
+        bytesWritten.addAndGet(line.length);
+        if (oldestChangeMillis < 0) {
+            oldestChangeMillis = lastSaveMillis;
+        }
+    }
+
+    /**
+     * Makes {@code generation} the journal that saves are appended to. Changes already in journals stay there.
+     */
+    private void startJournal(long generation) {
+        journalGeneration = generation;
+        journalBytes = 0;
+        oldestChangeMillis = -1;
+    }
+
+    /**
+     * Returns the journals of the snapshot at {@code filePath}, by generation.
+     */
+    private static TreeMap<Long, Path> listJournals(Path filePath) throws IOException {
+        TreeMap<Long, Path> journals = new TreeMap<>();
+        Path directory = filePath.toAbsolutePath().getParent();
+        if (!Files.isDirectory(directory)) {
+            return journals;
+        }
+        String prefix = filePath.getFileName() + JOURNAL_SUFFIX;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, prefix + "*")) {
+            for (Path file : files) {
+                try {
+                    journals.put(Long.parseLong(file.getFileName().toString().substring(prefix.length())), file);
+                } catch (NumberFormatException e) {
+                    // Not a journal
+                }
+            }
+        }
+        return journals;
+    }
+
+    private static long lastGenerationOf(Path filePath) throws IOException {
+        TreeMap<Long, Path> journals = listJournals(filePath);
+        return journals.isEmpty() ? 0 : journals.lastKey();
+    }
+
+    private static void deleteJournalsUpTo(Path filePath, long generation) throws IOException {
+        for (Path journal : listJournals(filePath).headMap(generation, true).values()) {
+            Files.deleteIfExists(journal);
+        }
+    }
+
+    private static long sizeOfJournals(Iterable<Path> journals) throws IOException {
+        long size = 0;
+        for (Path journal : journals) {
+            size += Files.size(journal);
+        }
+        return size;
+    }
+
+    private static Path getTemporaryFile(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + TEMPORARY_FILE_SUFFIX);
+    }
+}
@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -43,7 +44,7 @@ class JsonAdaptedPerson {
     private final String startTime;
     private final String subject;
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
-    private final List<LocalDate> attendanceDates = new ArrayList<>();
+    private final List<LocalDate> attendances = new ArrayList<>();
     private final List<String> lessons = new ArrayList<>();
 
     /**
@@ -77,7 +78,7 @@ class JsonAdaptedPerson {
             this.tagged.addAll(tagged);
         }
         if (attendances != null) {
-            this.attendanceDates.addAll(attendances);
+            this.attendances.addAll(attendances);
         }
         if (lessons != null) {
             this.lessons.addAll(lessons);
@@ -100,7 +101,7 @@ class JsonAdaptedPerson {
         tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
-        attendanceDates.forEach(attendanceDates::add);
+        source.getAttendance().forEach(attendances::add);
         lessons.addAll(source.getLessons().list());
     }
 
@@ -110,20 +111,21 @@ class JsonAdaptedPerson {
      * {@link IllegalValueException} will be thrown.
      *
      * A {@link RuntimeException} may be thrown if the provided class does not have the requisite
-     * validation method, constraint message and constructor. If this is the case, you should modify your class
+     * validation method and constraint message. If this is the case, you should modify your class
      * appropriately. This exception should never be thrown when in production.
      *
      * @param <T> Type of the field. Its class must have a public string constant named MESSAGE_CONSTRAINTS and
      *     a public static method called isValid + the name of the class, i.e. `isValidName(String arg)`
-     *     and takes in 1 string parameter, returning a boolean. It must also have a constructor that takes a
-     *     single string as a parameter.
+     *     and takes in 1 string parameter, returning a boolean.
      * @param value String value to parse
      * @param clazz Class of the field
-     *     false is returned
+     * @param factory Creates the field from a valid value, e.g. its constructor, or its {@code of} factory if it
+     *     shares instances
      * @return Parsed field value
      * @throws IllegalValueException
      */
-    private static <T> T validateField(String value, Class<T> clazz) throws IllegalValueException {
+    private static <T> T validateField(String value, Class<T> clazz, Function<String, T> factory)
+            throws IllegalValueException {
         String simpleName = clazz.getSimpleName();
         try {
             if (value == null) {
@@ -136,14 +138,7 @@ class JsonAdaptedPerson {
                 throw new IllegalValueException(constraintsMessage);
             }
 
-            try {
-                return clazz.getConstructor(String.class).newInstance(value);
-            } catch (NoSuchMethodException e) {
-                throw new RuntimeException(String.format(
-                    "Could not find a constructor of the signature %s(String value)",
-                    simpleName
-                ));
-            }
+            return factory.apply(value);
         } catch (final NoSuchFieldException e) {
             throw new RuntimeException(String.format(
                 "Class %s does not contain a field called MESSAGE_CONSTRAINTS",
@@ -167,11 +162,6 @@ class JsonAdaptedPerson {
                 "MESSAGE_CONSTRAINTS and isValid%s must both be static",
                 simpleName
             ));
-        } catch (final InstantiationException e) {
-            throw new RuntimeException(String.format(
-                "Could not find a constructor of the signature %s(String value)",
-                simpleName
-            ));
         } catch (final ClassCastException e) {
             throw new RuntimeException(String.format(
                 "Class %s: MESSAGE_CONSTRAINTS must be of type String, and isValid%s must return a boolean",
@@ -193,18 +183,18 @@ class JsonAdaptedPerson {
         final Set<Tag> modelTags = new HashSet<>(personTags);
 
         TuteeBuilder builder = new TuteeBuilder();
-        builder.withName(validateField(name, Name.class))
-            .withPhone(validateField(phone, Phone.class))
-            .withEmail(validateField(email, Email.class))
-            .withAddress(validateField(address, Address.class))
-            .withAttendance(new Attendance(new HashSet<>(attendanceDates)))
-            .withRemark(validateField(remark, Remark.class))
-            .withSubject(validateField(subject, Subject.class))
-            .withSchedule(validateField(schedule, Schedule.class))
-            .withStartTime(validateField(startTime, StartTime.class))
-            .withEndTime(validateField(endTime, EndTime.class))
+        builder.withName(validateField(name, Name.class, Name::new))
+            .withPhone(validateField(phone, Phone.class, Phone::new))
+            .withEmail(validateField(email, Email.class, Email::new))
+            .withAddress(validateField(address, Address.class, Address::new))
+            .withAttendance(new Attendance(new HashSet<>(attendances)))
+            .withRemark(validateField(remark, Remark.class, Remark::new))
+            .withSubject(validateField(subject, Subject.class, Subject::of))
+            .withSchedule(validateField(schedule, Schedule.class, Schedule::of))
+            .withStartTime(validateField(startTime, StartTime.class, StartTime::of))
+            .withEndTime(validateField(endTime, EndTime.class, EndTime::of))
             .withTags(modelTags)
-            .withLessons(new Lesson(new HashSet<>(lessons)));
+            .withLessons(new Lesson(lessons.stream().map(Lesson::intern).collect(Collectors.toSet())));
 
         return builder.build();
     }
@@ -1,30 +1,67 @@
 package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
+import seedu.address.commons.core.DataCompression;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.CompressionUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.JsonUtil.JsonArrayReader;
 import seedu.address.model.ReadOnlyTuteeManagingSystem;
+import seedu.address.model.tutee.Tutee;
 
 /**
  * A class to access TuteeManagingSystem data stored as a json file on the hard disk.
+ * The file can be saved compressed, and compressed files are detected when they are read.
+ * A save is written to a temporary file, which the given {@code FileSyncer} forces to the disk and moves into place
+ * with the next flush of its {@code DurabilityMode}, so that the file is never left half written.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final DataCompression compression;
+    private final int compressionLevel;
+    private final FileSyncer fileSyncer;
+    private final AtomicLong bytesWritten = new AtomicLong();
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, DataCompression.NONE, CompressionUtil.DEFAULT_LEVEL);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that saves to {@code filePath} compressed with {@code compression}
+     * at {@code compressionLevel}.
+     */
+    public JsonAddressBookStorage(Path filePath, DataCompression compression, int compressionLevel) {
+        this(filePath, compression, compressionLevel, FileSyncer.never());
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that saves to {@code filePath} compressed with {@code compression}
+     * at {@code compressionLevel}, and forces saves to the disk with {@code fileSyncer}.
+     */
+    public JsonAddressBookStorage(Path filePath, DataCompression compression, int compressionLevel,
+            FileSyncer fileSyncer) {
+        requireNonNull(compression);
+        requireNonNull(fileSyncer);
+        checkArgument(CompressionUtil.isValidLevel(compressionLevel), "Invalid compression level");
         this.filePath = filePath;
+        this.compression = compression;
+        this.compressionLevel = compressionLevel;
+        this.fileSyncer = fileSyncer;
     }
 
     public Path getAddressBookFilePath() {
@@ -59,6 +96,41 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         }
     }
 
+    @Override
+    public boolean readTutees(TuteeConsumer consumer) throws DataConversionException, IOException {
+        return readTutees(filePath, consumer);
+    }
+
+    /**
+     * Similar to {@link #readTutees(TuteeConsumer)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public boolean readTutees(Path filePath, TuteeConsumer consumer) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        requireNonNull(consumer);
+
+        Optional<JsonArrayReader<JsonAdaptedPerson>> jsonTutees = JsonUtil.openJsonArrayFile(
+                filePath, JsonSerializableAddressBook.PERSONS_FIELD, JsonAdaptedPerson.class);
+        if (!jsonTutees.isPresent()) {
+            return false;
+        }
+
+        DuplicateLessonChecker checker = new DuplicateLessonChecker();
+        try (JsonArrayReader<JsonAdaptedPerson> reader = jsonTutees.get()) {
+            JsonAdaptedPerson jsonAdaptedPerson;
+            while ((jsonAdaptedPerson = reader.readNext()) != null) {
+                Tutee tutee = jsonAdaptedPerson.toModelType();
+                checker.check(tutee);
+                consumer.accept(tutee, reader.getFractionRead());
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        return true;
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyTuteeManagingSystem addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -66,6 +138,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyTuteeManagingSystem)}.
+     * The tutees are streamed to the file one at a time.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +146,32 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        saveTutees(addressBook.getPersonList().stream(), filePath);
+    }
+
+    /**
+     * Saves {@code tutees} to {@code filePath} one at a time, without first collecting them into an address book,
+     * so that very large data files can be written.
+     * Unlike {@link #saveAddressBook(ReadOnlyTuteeManagingSystem, Path)}, duplicate tutees are only detected
+     * when the file is read.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveTutees(Stream<Tutee> tutees, Path filePath) throws IOException {
+        requireNonNull(tutees);
+        requireNonNull(filePath);
+
+        Path temporaryFile = fileSyncer.getTemporaryFile(filePath);
+        JsonUtil.saveJsonArrayFile(JsonSerializableAddressBook.PERSONS_FIELD,
+                tutees.map(JsonAdaptedPerson::new).iterator(), temporaryFile, compression, compressionLevel);
+        bytesWritten.addAndGet(Files.size(temporaryFile));
+        fileSyncer.replace(temporaryFile, filePath);
+        fileSyncer.commit();
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return bytesWritten.get();
     }
 
 }
@@ -0,0 +1,111 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.TuteeChanges;
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * The changes of one save, as written to a line of the journal of a {@code JournaledAddressBookStorage},
+ * serializable to JSON format.
+ * <p>
+ * Every changed tutee is recorded with its index in the list after the save, or -1 if it is no longer in the list.
+ * Removing every changed tutee from the list before the save, and then inserting those still in the list at their
+ * indexes in increasing order, gives the list after the save, as the other tutees keep their relative order.
+ */
+class JsonJournalBatch {
+
+    public static final String MESSAGE_INVALID_INDEX = "Journal has a tutee at an index outside the list.";
+    public static final String MESSAGE_MISSING_TUTEE = "Journal has a change without a tutee.";
+
+    private final List<Change> changes = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonJournalBatch} with the given changes.
+     */
+    @JsonCreator
+    public JsonJournalBatch(@JsonProperty("changes") List<Change> changes) {
+        if (changes != null) {
+            this.changes.addAll(changes);
+        }
+    }
+
+    /**
+     * Converts {@code changes}, which turned some earlier list into {@code tutees}, into this class for Jackson use.
+     */
+    public JsonJournalBatch(List<Tutee> tutees, TuteeChanges changes) {
+        // Looked up by identity, as an edited tutee may be equal to the one it replaced. A changed tutee that is not
+        // itself in the list was removed, and is only written so that it can be removed when replaying
+        Map<Tutee, Integer> indexes = new IdentityHashMap<>();
+        for (Tutee tutee : changes.getChangedTutees()) {
+            indexes.put(tutee, -1);
+        }
+        for (int i = 0; i < tutees.size(); i++) {
+            Tutee tutee = tutees.get(i);
+            if (indexes.containsKey(tutee)) {
+                indexes.put(tutee, i);
+            }
+        }
+        for (Map.Entry<Tutee, Integer> entry : indexes.entrySet()) {
+            this.changes.add(new Change(new JsonAdaptedPerson(entry.getKey()), entry.getValue()));
+        }
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    /**
+     * Applies these changes to {@code tutees}.
+     *
+     * @throws IllegalValueException if a tutee is not valid, or cannot be inserted at its index.
+     */
+    public void applyTo(List<Tutee> tutees) throws IllegalValueException {
+        List<Tutee> changedTutees = new ArrayList<>();
+        for (Change change : changes) {
+            if (change.tutee == null) {
+                throw new IllegalValueException(MESSAGE_MISSING_TUTEE);
+            }
+            Tutee tutee = change.tutee.toModelType();
+            tutees.remove(tutee);
+            changedTutees.add(tutee);
+        }
+
+        List<Integer> inserted = new ArrayList<>();
+        for (int i = 0; i < changes.size(); i++) {
+            if (changes.get(i).index >= 0) {
+                inserted.add(i);
+            }
+        }
+        inserted.sort(Comparator.comparingInt(i -> changes.get(i).index));
+        for (int i : inserted) {
+            int index = changes.get(i).index;
+            if (index > tutees.size()) {
+                throw new IllegalValueException(MESSAGE_INVALID_INDEX);
+            }
+            tutees.add(index, changedTutees.get(i));
+        }
+    }
+
+    /**
+     * A changed tutee and its index in the list after the save, or -1 if it is no longer in the list.
+     */
+    static class Change {
+        private final JsonAdaptedPerson tutee;
+        private final int index;
+
+        @JsonCreator
+        Change(@JsonProperty("tutee") JsonAdaptedPerson tutee, @JsonProperty("index") int index) {
+            this.tutee = tutee;
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * The snapshot of a {@code JournaledAddressBookStorage}, serializable to JSON format.
+ * It is a TuteeManagingSystem json file that also records the last journal whose changes it includes,
+ * so a plain TuteeManagingSystem json file is a snapshot that includes no journals.
+ */
+class JsonJournalSnapshot {
+
+    private final long journalGeneration;
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonJournalSnapshot} with the given details.
+     */
+    @JsonCreator
+    public JsonJournalSnapshot(@JsonProperty("journalGeneration") long journalGeneration,
+            @JsonProperty(JsonSerializableAddressBook.PERSONS_FIELD) List<JsonAdaptedPerson> persons) {
+        this.journalGeneration = journalGeneration;
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+    }
+
+    /**
+     * Converts the given tutees, which include the changes in every journal up to {@code journalGeneration},
+     * into this class for Jackson use.
+     */
+    public JsonJournalSnapshot(long journalGeneration, Collection<Tutee> tutees) {
+        this.journalGeneration = journalGeneration;
+        persons.addAll(tutees.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+    }
+
+    public long getJournalGeneration() {
+        return journalGeneration;
+    }
+
+    /**
+     * Converts the tutees of this snapshot into the model's {@code Tutee} objects, in order.
+     * Duplicate tutees are only detected once the journals have been replayed.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<Tutee> toModelType() throws IllegalValueException {
+        List<Tutee> tutees = new ArrayList<>(persons.size());
+        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+            tutees.add(jsonAdaptedPerson.toModelType());
+        }
+        return tutees;
+    }
+}
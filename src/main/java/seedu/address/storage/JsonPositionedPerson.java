@@ -0,0 +1,55 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * A tutee in a segment file of a {@code SegmentedAddressBookStorage}, with its position in the list, serializable
+ * to JSON format.
+ * <p>
+ * Tutees are listed in increasing order of position. Positions are spaced apart, so that a tutee can be added
+ * between two others without changing their positions.
+ */
+class JsonPositionedPerson {
+
+    public static final String MESSAGE_MISSING_TUTEE = "Segment has a position without a tutee.";
+
+    private final long position;
+    private final JsonAdaptedPerson tutee;
+
+    /**
+     * Constructs a {@code JsonPositionedPerson} with the given details.
+     */
+    @JsonCreator
+    public JsonPositionedPerson(@JsonProperty("position") long position,
+            @JsonProperty("tutee") JsonAdaptedPerson tutee) {
+        this.position = position;
+        this.tutee = tutee;
+    }
+
+    /**
+     * Converts {@code tutee} at {@code position} into this class for Jackson use.
+     */
+    public JsonPositionedPerson(long position, Tutee tutee) {
+        this(position, new JsonAdaptedPerson(tutee));
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted tutee object into the model's {@code Tutee} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted tutee.
+     */
+    public Tutee toModelType() throws IllegalValueException {
+        if (tutee == null) {
+            throw new IllegalValueException(MESSAGE_MISSING_TUTEE);
+        }
+        return tutee.toModelType();
+    }
+}
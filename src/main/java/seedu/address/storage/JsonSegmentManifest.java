@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * The manifest of a {@code SegmentedAddressBookStorage}, serializable to JSON format.
+ * It records the generation of the save that wrote it, how many segments there are, and the file holding every
+ * segment with its number of tutees and checksum. The order of the tutees is kept in the segments themselves, so
+ * that the manifest grows with the number of segments and not with the number of tutees.
+ */
+class JsonSegmentManifest {
+
+    public static final String MESSAGE_INVALID_SEGMENT_COUNT = "Manifest has an invalid number of segments.";
+    public static final String MESSAGE_MISSING_SEGMENT_FILE = "Manifest does not name the file of every segment.";
+
+    private final long generation;
+    private final int segmentCount;
+    private final List<JsonSegment> segments = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSegmentManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonSegmentManifest(@JsonProperty("generation") long generation,
+            @JsonProperty("segmentCount") int segmentCount, @JsonProperty("segments") List<JsonSegment> segments) {
+        this.generation = generation;
+        this.segmentCount = segmentCount;
+        if (segments != null) {
+            this.segments.addAll(segments);
+        }
+    }
+
+    /**
+     * Converts the file of every segment into this class for Jackson use.
+     */
+    public JsonSegmentManifest(long generation, List<JsonSegment> segments) {
+        this(generation, segments.size(), segments);
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public int getSegmentCount() {
+        return segmentCount;
+    }
+
+    /**
+     * Returns the file of every segment, by segment. Only valid once {@link #toModelType()} has returned.
+     */
+    public List<JsonSegment> getSegments() {
+        return segments;
+    }
+
+    /**
+     * Returns the file of every segment, by segment.
+     *
+     * @throws IllegalValueException if there are no segments or a segment has no file.
+     */
+    public List<JsonSegment> toModelType() throws IllegalValueException {
+        if (segmentCount <= 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_SEGMENT_COUNT);
+        }
+        if (segments.size() != segmentCount || segments.contains(null)) {
+            throw new IllegalValueException(MESSAGE_MISSING_SEGMENT_FILE);
+        }
+        return segments;
+    }
+
+    /**
+     * The file holding a segment, with the number of tutees in it and the checksum of its contents.
+     */
+    static class JsonSegment {
+
+        private final String file;
+        private final int tutees;
+        private final long checksum;
+
+        /**
+         * Constructs a {@code JsonSegment} with the given details.
+         */
+        @JsonCreator
+        public JsonSegment(@JsonProperty("file") String file, @JsonProperty("tutees") int tutees,
+                @JsonProperty("checksum") long checksum) {
+            this.file = file;
+            this.tutees = tutees;
+            this.checksum = checksum;
+        }
+
+        public String getFile() {
+            return file;
+        }
+
+        public int getTutees() {
+            return tutees;
+        }
+
+        public long getChecksum() {
+            return checksum;
+        }
+    }
+}
@@ -20,6 +20,7 @@ import seedu.address.model.tutee.Tutee;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate tutee(s).";
+    public static final String PERSONS_FIELD = "persons";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -27,7 +28,7 @@ class JsonSerializableAddressBook {
      * Constructs a {@code JsonSerializableAddressBook} with the given persons.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+    public JsonSerializableAddressBook(@JsonProperty(PERSONS_FIELD) List<JsonAdaptedPerson> persons) {
         this.persons.addAll(persons);
     }
 
@@ -49,7 +50,7 @@ class JsonSerializableAddressBook {
         TuteeManagingSystem tuteeManagingSystem = new TuteeManagingSystem();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
             Tutee tutee = jsonAdaptedPerson.toModelType();
-            if (tuteeManagingSystem.hasPerson(tutee)) {
+            if (tuteeManagingSystem.hasSameLesson(tutee)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
             tuteeManagingSystem.addPerson(tutee);
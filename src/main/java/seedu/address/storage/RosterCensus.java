@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ColumnarTuteeManagingSystem;
+import seedu.address.model.tutee.fields.Subject;
+
+/**
+ * Counts the tutees in a data file by day and by subject without opening it in the app. The tutees are read one at
+ * a time into a {@link ColumnarTuteeManagingSystem}, so a data file far larger than the app could load still fits
+ * in a modest heap.
+ * <p>
+ * Usage: {@code RosterCensus FILE [DATE]}, e.g. {@code RosterCensus data/TMS-1000000.json 2023-04-08}.
+ * Given a date in the format yyyy-MM-dd, the tutees who attended on it are counted too.
+ */
+public class RosterCensus {
+
+    /**
+     * Returns the tutees in {@code storage} as a columnar roster, or {@code Optional.empty()} if there is no data
+     * file. Only the tutee being read is ever kept as a {@code Tutee}.
+     */
+    public static Optional<ColumnarTuteeManagingSystem> read(AddressBookStorage storage)
+            throws DataConversionException, IOException {
+        requireNonNull(storage);
+        ColumnarTuteeManagingSystem.Builder builder = new ColumnarTuteeManagingSystem.Builder();
+        if (!storage.readTutees((tutee, fractionRead) -> builder.add(tutee))) {
+            return Optional.empty();
+        }
+        return Optional.of(builder.build());
+    }
+
+    /**
+     * Returns the number of tutees in {@code roster}, by day and by subject, and the number who attended on
+     * {@code date} if there is one.
+     */
+    public static String summarise(ColumnarTuteeManagingSystem roster, Optional<LocalDate> date) {
+        requireNonNull(roster);
+        requireNonNull(date);
+        StringBuilder summary = new StringBuilder("Tutees: " + roster.size());
+        for (DayOfWeek day : DayOfWeek.values()) {
+            summary.append("\n").append(day).append(": ").append(roster.count(roster.onDay(day)));
+        }
+        for (Subject subject : roster.getSubjects()) {
+            summary.append("\n").append(subject).append(": ").append(roster.count(roster.withSubject(subject)));
+        }
+        date.ifPresent(attendedOn -> summary.append("\nAttended on ").append(attendedOn).append(": ")
+                .append(roster.count(roster.attendedOn(attendedOn))));
+        return summary.toString();
+    }
+
+    public static void main(String[] args) throws IOException, DataConversionException {
+        if (args.length < 1) {
+            System.err.println("Usage: RosterCensus FILE [DATE]");
+            System.exit(1);
+        }
+        Path filePath = Paths.get(args[0]);
+        Optional<LocalDate> date = args.length > 1 ? Optional.of(LocalDate.parse(args[1])) : Optional.empty();
+
+        Optional<ColumnarTuteeManagingSystem> roster = read(new JsonAddressBookStorage(filePath));
+        if (!roster.isPresent()) {
+            System.err.println("No data file at " + filePath);
+            System.exit(1);
+        }
+        System.out.println(summarise(roster.get(), date));
+    }
+}
@@ -0,0 +1,543 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.JsonUtil.JsonArrayReader;
+import seedu.address.model.ReadOnlyTuteeManagingSystem;
+import seedu.address.model.TuteeChanges;
+import seedu.address.model.TuteeManagingSystem;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.storage.JsonSegmentManifest.JsonSegment;
+
+/**
+ * A class to access TuteeManagingSystem data stored as many small json files on the hard disk, so that a save only
+ * has to rewrite the files of the tutees that changed.
+ * <p>
+ * Tutees are split by a hash of their lesson into segment files in a directory next to the data file. Every tutee
+ * is saved with its position in the list, and positions are spaced {@link #POSITION_SPACING} apart, so that adding,
+ * editing or removing a tutee leaves the positions of the others as they are. The data file itself is a manifest with
+ * the file, number of tutees and checksum of every segment. Saving after marking one tutee's attendance therefore
+ * writes a single segment and the manifest, neither of which grows with the number of tutees.
+ * <p>
+ * A save never changes a file the manifest names. Changed segments are written to new files named after the
+ * generation of the save, and the manifest naming them is written to a temporary file. The given {@code FileSyncer}
+ * forces them all to the disk and moves the manifest into place with the next flush of its {@code DurabilityMode},
+ * so that a save is either read in full or not at all, and only then deletes the segment files they replace.
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    public static final String SEGMENTS_DIRECTORY_SUFFIX = ".segments";
+    public static final int TUTEES_PER_SEGMENT = 256;
+    public static final int MIN_SEGMENT_COUNT = 16;
+    public static final int MAX_SEGMENT_COUNT = 4096;
+    public static final long POSITION_SPACING = 1L << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+    private static final String SEGMENT_FILE_FORMAT = "segment-%04d-%d.json";
+    private static final Pattern SEGMENT_FILE_PATTERN = Pattern.compile("segment-[0-9]+-([0-9]+)\\.json");
+    private static final String SEGMENT_FILE_GLOB = "segment-*";
+    private static final String MESSAGE_DUPLICATE_POSITION = "Two tutees in the segments have the same position.";
+
+    private Path filePath;
+    private final FileSyncer fileSyncer;
+    private final AtomicLong bytesWritten = new AtomicLong();
+
+    // The manifest at filePath with its tutees, as last read or saved, or null if unknown
+    private SavedSegments saved;
+
+    public SegmentedAddressBookStorage(Path filePath) {
+        this(filePath, FileSyncer.never());
+    }
+
+    /**
+     * Creates a {@code SegmentedAddressBookStorage} that saves to {@code filePath} and forces saves to the disk
+     * with {@code fileSyncer}.
+     */
+    public SegmentedAddressBookStorage(Path filePath, FileSyncer fileSyncer) {
+        requireNonNull(fileSyncer);
+        this.filePath = filePath;
+        this.fileSyncer = fileSyncer;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the directory holding the segments of the data at {@code filePath}.
+     */
+    public static Path getSegmentsDirectory(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SEGMENTS_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns the segment {@code tutee} is stored in, out of {@code segmentCount} segments.
+     * Tutees with the same lesson, as in {@link Tutee#isSameLesson(Tutee)}, are always in the same segment.
+     */
+    public static int segmentOf(Tutee tutee, int segmentCount) {
+        int hash = Objects.hash(tutee.getName().fullName, tutee.getSubject().toString(),
+                tutee.getSchedule().toString(), tutee.getStartTime().toString(), tutee.getEndTime().toString());
+        return Math.floorMod(hash, segmentCount);
+    }
+
+    @Override
+    public Optional<ReadOnlyTuteeManagingSystem> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataConversionException if the files are not in the correct format.
+     */
+    public Optional<ReadOnlyTuteeManagingSystem> readAddressBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<List<Tutee>> tutees = readAll(filePath);
+        if (!tutees.isPresent()) {
+            return Optional.empty();
+        }
+        TuteeManagingSystem tuteeManagingSystem = new TuteeManagingSystem();
+        tuteeManagingSystem.addPersons(tutees.get());
+        return Optional.of(tuteeManagingSystem);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The tutees are only passed on once every segment has been read, as their order is only known then.
+     */
+    @Override
+    public boolean readTutees(TuteeConsumer consumer) throws DataConversionException, IOException {
+        requireNonNull(consumer);
+
+        Optional<List<Tutee>> tutees = readAll(filePath);
+        if (!tutees.isPresent()) {
+            return false;
+        }
+        List<Tutee> list = tutees.get();
+        for (int i = 0; i < list.size(); i++) {
+            consumer.accept(list.get(i), (i + 1.0) / list.size());
+        }
+        return true;
+    }
+
+    /**
+     * Saves {@code addressBook}, writing only the segments of the tutees in its
+     * {@link ReadOnlyTuteeManagingSystem#getUnsavedChanges() unsaved changes}, which must be the changes since it
+     * was last read from or saved to this storage. Every segment is written if that is not known.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyTuteeManagingSystem addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyTuteeManagingSystem)}.
+     * Every segment is written unless {@code filePath} is the location of this storage.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyTuteeManagingSystem addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        TuteeChanges changes = addressBook.getUnsavedChanges();
+        SavedSegments previous = saved;
+        if (isOwnFile) {
+            // A failed save may leave files that no manifest names, so the next save writes everything
+            saved = null;
+        }
+        SavedSegments saving = null;
+        if (isOwnFile && previous != null && !changes.isEverythingChanged()) {
+            saving = saveChanges(addressBook.getPersonList(), changes, previous);
+        }
+        if (saving == null) {
+            saving = saveAll(addressBook.getPersonList(), filePath);
+        }
+        if (isOwnFile) {
+            saved = saving;
+        }
+        fileSyncer.commit();
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return bytesWritten.get();
+    }
+
+    /**
+     * Returns the tutees at {@code filePath} in order, or {@code Optional.empty()} if there is no manifest.
+     * Remembers the manifest if {@code filePath} is the location of this storage.
+     */
+    private Optional<List<Tutee>> readAll(Path filePath) throws DataConversionException, IOException {
+        Optional<JsonSegmentManifest> jsonManifest = JsonUtil.readJsonFile(filePath, JsonSegmentManifest.class);
+        if (!jsonManifest.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            SavedSegments read = readSegments(filePath, jsonManifest.get());
+            List<Tutee> tutees = read.inOrder();
+
+            DuplicateLessonChecker checker = new DuplicateLessonChecker();
+            for (Tutee tutee : tutees) {
+                checker.check(tutee);
+            }
+            if (filePath.equals(this.filePath)) {
+                saved = read;
+            }
+            return Optional.of(tutees);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the tutees in every segment with their positions, read from the files {@code manifest} names.
+     *
+     * @throws IllegalValueException if the manifest is not valid, a file is missing or does not match the manifest,
+     *     or a tutee is in a segment it does not belong to or out of order.
+     */
+    private static SavedSegments readSegments(Path filePath, JsonSegmentManifest manifest)
+            throws DataConversionException, IllegalValueException, IOException {
+        List<JsonSegment> jsonSegments = manifest.toModelType();
+        int segmentCount = jsonSegments.size();
+        List<List<Tutee>> segments = new ArrayList<>(segmentCount);
+        Map<Tutee, Long> positions = new IdentityHashMap<>();
+        for (int segment = 0; segment < segmentCount; segment++) {
+            JsonSegment jsonSegment = jsonSegments.get(segment);
+            Path segmentFile = resolveSegmentFile(filePath, jsonSegment.getFile());
+            try {
+                if (FileUtil.checksum(segmentFile) != jsonSegment.getChecksum()) {
+                    throw new IllegalValueException("Segment file " + segmentFile + " does not match its checksum.");
+                }
+            } catch (NoSuchFileException e) {
+                throw new IllegalValueException("Segment file " + segmentFile + " is missing.");
+            }
+
+            List<Tutee> tutees = new ArrayList<>();
+            try (JsonArrayReader<JsonPositionedPerson> reader = JsonUtil.openJsonArrayFile(segmentFile,
+                    JsonSerializableAddressBook.PERSONS_FIELD, JsonPositionedPerson.class).get()) {
+                JsonPositionedPerson jsonPositionedPerson;
+                Long lastPosition = null;
+                while ((jsonPositionedPerson = reader.readNext()) != null) {
+                    Tutee tutee = jsonPositionedPerson.toModelType();
+                    long position = jsonPositionedPerson.getPosition();
+                    if (segmentOf(tutee, segmentCount) != segment) {
+                        throw new IllegalValueException("Tutee " + tutee.getName() + " is in the wrong segment.");
+                    }
+                    if (lastPosition != null && position <= lastPosition) {
+                        throw new IllegalValueException("Segment file " + segmentFile + " is out of order.");
+                    }
+                    lastPosition = position;
+                    tutees.add(tutee);
+                    positions.put(tutee, position);
+                }
+            }
+            if (tutees.size() != jsonSegment.getTutees()) {
+                throw new IllegalValueException("Segment file " + segmentFile + " does not have "
+                        + jsonSegment.getTutees() + " tutees.");
+            }
+            segments.add(tutees);
+        }
+        return new SavedSegments(manifest, segments, positions);
+    }
+
+    /**
+     * Writes every segment and the manifest, removing any other segment files, and returns what was saved.
+     */
+    private SavedSegments saveAll(List<Tutee> tutees, Path filePath) throws IOException {
+        int segmentCount = getSegmentCount(tutees.size());
+        // Later than every file there, so that no file a manifest may name is written over
+        long generation = lastGenerationOf(filePath) + 1;
+        List<List<Tutee>> segments = new ArrayList<>(segmentCount);
+        for (int segment = 0; segment < segmentCount; segment++) {
+            segments.add(new ArrayList<>());
+        }
+        Map<Tutee, Long> positions = new IdentityHashMap<>();
+        for (int i = 0; i < tutees.size(); i++) {
+            Tutee tutee = tutees.get(i);
+            positions.put(tutee, i * POSITION_SPACING);
+            segments.get(segmentOf(tutee, segmentCount)).add(tutee);
+        }
+
+        List<JsonSegment> jsonSegments = new ArrayList<>(segmentCount);
+        List<Path> written = new ArrayList<>(segmentCount);
+        for (int segment = 0; segment < segmentCount; segment++) {
+            jsonSegments.add(saveSegment(filePath, segment, generation, segments.get(segment), positions, written));
+        }
+
+        JsonSegmentManifest manifest = new JsonSegmentManifest(generation, jsonSegments);
+        commit(filePath, manifest, written, getUnnamedSegmentFiles(filePath, manifest));
+        logger.fine(() -> "Saved all " + segmentCount + " segments of " + filePath);
+        return new SavedSegments(manifest, segments, positions);
+    }
+
+    /**
+     * Writes only the segments of {@code changes} and the manifest, and returns what was saved. Only the changed
+     * tutees are placed in their segments and given positions, and {@code previous} is updated to match.
+     * Returns null without writing anything if there is no room for a changed tutee between the positions of its
+     * neighbours, in which case every tutee must be saved again.
+     *
+     * @param previous what was last saved to the location of this storage.
+     */
+    private SavedSegments saveChanges(List<Tutee> tutees, TuteeChanges changes, SavedSegments previous)
+            throws IOException {
+        int segmentCount = previous.manifest.getSegmentCount();
+        long generation = previous.manifest.getGeneration() + 1;
+        Map<Tutee, Long> positions = previous.positions;
+        Set<Tutee> changedTutees = changes.getChangedTutees();
+        // Written in order, so that saves write segment files in the same order every time
+        Set<Integer> changedSegments = new TreeSet<>();
+        Map<Tutee, Integer> segmentsOfChanged = new IdentityHashMap<>();
+        Map<Tutee, Long> previousPositions = new IdentityHashMap<>();
+        for (Tutee tutee : changedTutees) {
+            int segment = segmentOf(tutee, segmentCount);
+            changedSegments.add(segment);
+            segmentsOfChanged.put(tutee, segment);
+            Long position = positions.remove(tutee);
+            if (position != null) {
+                previousPositions.put(tutee, position);
+                removeByIdentity(previous.segments.get(segment), tutee);
+            }
+        }
+
+        // The changed tutees still in the list, which are looked up by identity as in JsonJournalBatch
+        List<Integer> changedIndexes = new ArrayList<>();
+        for (int i = 0; i < tutees.size(); i++) {
+            if (changedTutees.contains(tutees.get(i))) {
+                changedIndexes.add(i);
+            }
+        }
+        // The position of the first unchanged tutee after each of them, found from the back so that a run of
+        // changed tutees is only walked once
+        Long[] positionsAfter = new Long[changedIndexes.size()];
+        Long positionAfter = null;
+        for (int k = changedIndexes.size() - 1; k >= 0; k--) {
+            int next = changedIndexes.get(k) + 1;
+            if (k + 1 == changedIndexes.size() || changedIndexes.get(k + 1) != next) {
+                positionAfter = next < tutees.size() ? positions.get(tutees.get(next)) : null;
+            }
+            positionsAfter[k] = positionAfter;
+        }
+        for (int k = 0; k < changedIndexes.size(); k++) {
+            int index = changedIndexes.get(k);
+            Tutee tutee = tutees.get(index);
+            // Earlier changed tutees have been given their positions by now
+            Long positionBefore = index == 0 ? null : positions.get(tutees.get(index - 1));
+            Long position = positionBetween(previousPositions.get(tutee), positionBefore, positionsAfter[k]);
+            if (position == null) {
+                return null;
+            }
+            positions.put(tutee, position);
+            previous.segments.get(segmentsOfChanged.get(tutee)).add(tutee);
+        }
+
+        List<JsonSegment> jsonSegments = new ArrayList<>(previous.manifest.getSegments());
+        List<Path> written = new ArrayList<>(changedSegments.size());
+        List<Path> replaced = new ArrayList<>(changedSegments.size());
+        for (int segment : changedSegments) {
+            List<Tutee> segmentTutees = previous.segments.get(segment);
+            segmentTutees.sort(Comparator.comparingLong(positions::get));
+            replaced.add(getSegmentsDirectory(filePath).resolve(jsonSegments.get(segment).getFile()));
+            jsonSegments.set(segment, saveSegment(filePath, segment, generation, segmentTutees, positions, written));
+        }
+
+        JsonSegmentManifest manifest = new JsonSegmentManifest(generation, jsonSegments);
+        commit(filePath, manifest, written, replaced);
+        logger.fine(() -> "Saved " + changedSegments.size() + " of " + segmentCount + " segments of " + filePath);
+        return new SavedSegments(manifest, previous.segments, positions);
+    }
+
+    /**
+     * Makes {@code manifest} the one at {@code filePath} once the segment files it names that were {@code written}
+     * by this save are on the disk, and then deletes the segment files it {@code replaced}.
+     */
+    private void commit(Path filePath, JsonSegmentManifest manifest, List<Path> written, List<Path> replaced)
+            throws IOException {
+        for (Path file : written) {
+            fileSyncer.written(file);
+        }
+        Path temporaryFile = fileSyncer.getTemporaryFile(filePath);
+        FileUtil.createIfMissing(temporaryFile);
+        JsonUtil.saveJsonFile(manifest, temporaryFile);
+        bytesWritten.addAndGet(Files.size(temporaryFile));
+        fileSyncer.replace(temporaryFile, filePath);
+        // The previous manifest, which names the replaced files, must not be what is on the disk after a crash
+        for (Path file : replaced) {
+            fileSyncer.deleteAfterReplacing(file);
+        }
+    }
+
+    /**
+     * Returns a position after {@code before} and before {@code after}, where either is null if there is no tutee
+     * on that side. {@code previous} is kept if it is between them. Returns null if there is no such position.
+     */
+    private static Long positionBetween(Long previous, Long before, Long after) {
+        if (previous != null && (before == null || previous > before) && (after == null || previous < after)) {
+            return previous;
+        }
+        if (before == null) {
+            return after == null ? 0 : after - POSITION_SPACING;
+        }
+        if (after == null) {
+            return before + POSITION_SPACING;
+        }
+        return after - before > 1 ? before + (after - before) / 2 : null;
+    }
+
+    private static void removeByIdentity(List<Tutee> tutees, Tutee tutee) {
+        for (int i = 0; i < tutees.size(); i++) {
+            if (tutees.get(i) == tutee) {
+                tutees.remove(i);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of segments to split {@code tutees} tutees into, a power of two so that a segment
+     * holds about {@link #TUTEES_PER_SEGMENT} tutees.
+     */
+    static int getSegmentCount(int tutees) {
+        int segmentCount = Integer.highestOneBit(Math.max(1, tutees / TUTEES_PER_SEGMENT));
+        return Math.max(MIN_SEGMENT_COUNT, Math.min(MAX_SEGMENT_COUNT, segmentCount));
+    }
+
+    /**
+     * Returns the segment file called {@code fileName} in the segments directory of {@code filePath}.
+     *
+     * @throws IllegalValueException if {@code fileName} is not the name of a segment file.
+     */
+    private static Path resolveSegmentFile(Path filePath, String fileName) throws IllegalValueException {
+        if (fileName == null || !SEGMENT_FILE_PATTERN.matcher(fileName).matches()) {
+            throw new IllegalValueException(JsonSegmentManifest.MESSAGE_MISSING_SEGMENT_FILE);
+        }
+        return getSegmentsDirectory(filePath).resolve(fileName);
+    }
+
+    /**
+     * Writes {@code tutees} with their {@code positions} to a new file for {@code segment} of the save of
+     * {@code generation}, adds it to {@code written}, and returns its entry in the manifest.
+     */
+    private JsonSegment saveSegment(Path filePath, int segment, long generation, List<Tutee> tutees,
+            Map<Tutee, Long> positions, List<Path> written) throws IOException {
+        String fileName = String.format(SEGMENT_FILE_FORMAT, segment, generation);
+        Path file = getSegmentsDirectory(filePath).resolve(fileName);
+        JsonUtil.saveJsonArrayFile(JsonSerializableAddressBook.PERSONS_FIELD,
+                tutees.stream().map(tutee -> new JsonPositionedPerson(positions.get(tutee), tutee)).iterator(), file);
+        bytesWritten.addAndGet(Files.size(file));
+        written.add(file);
+        return new JsonSegment(fileName, tutees.size(), FileUtil.checksum(file));
+    }
+
+    /**
+     * Returns the latest generation of the segment files of {@code filePath}, or 0 if there are none.
+     */
+    private static long lastGenerationOf(Path filePath) throws IOException {
+        long lastGeneration = 0;
+        for (Path file : listSegmentFiles(filePath)) {
+            Matcher matcher = SEGMENT_FILE_PATTERN.matcher(file.getFileName().toString());
+            if (matcher.matches()) {
+                lastGeneration = Math.max(lastGeneration, Long.parseLong(matcher.group(1)));
+            }
+        }
+        return lastGeneration;
+    }
+
+    /**
+     * Returns the files in the segments directory of {@code filePath} that {@code manifest} does not name, such as
+     * segments of earlier saves and of saves that did not finish.
+     */
+    private static List<Path> getUnnamedSegmentFiles(Path filePath, JsonSegmentManifest manifest)
+            throws IOException {
+        Set<String> namedFiles = new HashSet<>();
+        for (JsonSegment jsonSegment : manifest.getSegments()) {
+            namedFiles.add(jsonSegment.getFile());
+        }
+        List<Path> unnamedFiles = new ArrayList<>();
+        for (Path file : listSegmentFiles(filePath)) {
+            if (!namedFiles.contains(file.getFileName().toString())) {
+                unnamedFiles.add(file);
+            }
+        }
+        return unnamedFiles;
+    }
+
+    private static List<Path> listSegmentFiles(Path filePath) throws IOException {
+        List<Path> segmentFiles = new ArrayList<>();
+        Path directory = getSegmentsDirectory(filePath);
+        if (!Files.isDirectory(directory)) {
+            return segmentFiles;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_FILE_GLOB)) {
+            files.forEach(segmentFiles::add);
+        }
+        return segmentFiles;
+    }
+
+    /**
+     * A manifest with the tutees of every segment it names, in order of position, and the position of every tutee.
+     */
+    private static class SavedSegments {
+        private final JsonSegmentManifest manifest;
+        private final List<List<Tutee>> segments;
+        // By identity, as an edited tutee may be equal to the one it replaced
+        private final Map<Tutee, Long> positions;
+
+        SavedSegments(JsonSegmentManifest manifest, List<List<Tutee>> segments, Map<Tutee, Long> positions) {
+            this.manifest = manifest;
+            this.segments = segments;
+            this.positions = positions;
+        }
+
+        /**
+         * Returns every tutee in order of position.
+         *
+         * @throws IllegalValueException if two tutees have the same position.
+         */
+        List<Tutee> inOrder() throws IllegalValueException {
+            List<Tutee> tutees = new ArrayList<>(positions.size());
+            for (List<Tutee> segment : segments) {
+                tutees.addAll(segment);
+            }
+            tutees.sort(Comparator.comparingLong(positions::get));
+            for (int i = 1; i < tutees.size(); i++) {
+                if (positions.get(tutees.get(i - 1)).equals(positions.get(tutees.get(i)))) {
+                    throw new IllegalValueException(MESSAGE_DUPLICATE_POSITION);
+                }
+            }
+            return tutees;
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.jfr.StorageEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyTuteeManagingSystem;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -61,8 +63,37 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyTuteeManagingSystem> readAddressBook(Path filePath)
             throws DataConversionException, IOException {
-        logger.fine("Attempting to read data from file: " + filePath);
-        return addressBookStorage.readAddressBook(filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
+        StorageEvent event = new StorageEvent(StorageEvent.READ);
+        event.begin();
+        Optional<ReadOnlyTuteeManagingSystem> addressBook = addressBookStorage.readAddressBook(filePath);
+        event.end();
+        if (event.shouldCommit()) {
+            event.bytes = sizeOf(filePath);
+            event.tuteeCount = addressBook.map(data -> data.getPersonList().size()).orElse(0);
+            event.commit();
+        }
+        return addressBook;
+    }
+
+    @Override
+    public boolean readTutees(TuteeConsumer consumer) throws DataConversionException, IOException {
+        Path filePath = addressBookStorage.getAddressBookFilePath();
+        logger.fine(() -> "Attempting to read tutees from file: " + filePath);
+        StorageEvent event = new StorageEvent(StorageEvent.READ);
+        event.begin();
+        int[] tuteeCount = new int[1];
+        boolean isFound = addressBookStorage.readTutees((tutee, fractionRead) -> {
+            tuteeCount[0]++;
+            consumer.accept(tutee, fractionRead);
+        });
+        event.end();
+        if (event.shouldCommit()) {
+            event.bytes = sizeOf(filePath);
+            event.tuteeCount = tuteeCount[0];
+            event.commit();
+        }
+        return isFound;
     }
 
     @Override
@@ -72,8 +103,29 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyTuteeManagingSystem addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
+        StorageEvent event = new StorageEvent(StorageEvent.SAVE);
+        long bytesBefore = addressBookStorage.getBytesWritten();
+        event.begin();
         addressBookStorage.saveAddressBook(addressBook, filePath);
+        event.end();
+        if (event.shouldCommit()) {
+            event.bytes = addressBookStorage.getBytesWritten() - bytesBefore;
+            event.tuteeCount = addressBook.getPersonList().size();
+            event.commit();
+        }
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return addressBookStorage.getBytesWritten();
+    }
+
+    /**
+     * Returns the size of the file at {@code filePath} in bytes, or 0 if it does not exist.
+     */
+    private static long sizeOf(Path filePath) throws IOException {
+        return Files.exists(filePath) ? Files.size(filePath) : 0;
     }
 
 }
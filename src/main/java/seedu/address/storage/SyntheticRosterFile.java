@@ -0,0 +1,36 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.model.util.SyntheticRoster;
+
+/**
+ * Writes a data file of tutees generated by {@link SyntheticRoster}, for load tests, benchmarks and bug reports.
+ * <p>
+ * Usage: {@code SyntheticRosterFile COUNT [SEED] [FILE]}, e.g. {@code SyntheticRosterFile 20000 2103 big.json}.
+ * The seed defaults to {@link SyntheticRoster#DEFAULT_SEED} and the file to {@code data/TMS-COUNT.json}.
+ */
+public class SyntheticRosterFile {
+
+    /**
+     * Writes {@code count} tutees generated from {@code seed} to {@code filePath}.
+     */
+    public static void write(int count, long seed, Path filePath) throws IOException {
+        new JsonAddressBookStorage(filePath).saveTutees(new SyntheticRoster(seed).stream(count), filePath);
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: SyntheticRosterFile COUNT [SEED] [FILE]");
+            System.exit(1);
+        }
+        int count = Integer.parseInt(args[0]);
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : SyntheticRoster.DEFAULT_SEED;
+        Path filePath = args.length > 2 ? Paths.get(args[2]) : Paths.get("data", "TMS-" + count + ".json");
+
+        write(count, seed, filePath);
+        System.out.println("Wrote " + count + " tutees to " + filePath);
+    }
+}
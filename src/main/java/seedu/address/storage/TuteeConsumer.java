@@ -0,0 +1,15 @@
+package seedu.address.storage;
+
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * Receives the tutees read from storage one at a time.
+ */
+@FunctionalInterface
+public interface TuteeConsumer {
+
+    /**
+     * Accepts {@code tutee}, which was read once {@code fractionRead} of the data, between 0 and 1, had been read.
+     */
+    void accept(Tutee tutee, double fractionRead);
+}
@@ -1,9 +1,15 @@
 package seedu.address.ui;
 
+import java.util.Optional;
+
+import javafx.animation.PauseTransition;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -15,8 +21,13 @@ public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
+    /** Time to wait after the last keystroke before previewing the command. */
+    private static final Duration PREVIEW_DELAY = Duration.millis(150);
 
     private final CommandExecutor commandExecutor;
+    private final CommandPreviewer commandPreviewer;
+    private final CommandCompleter commandCompleter;
+    private final PauseTransition previewDelay = new PauseTransition(PREVIEW_DELAY);
 
     @FXML
     private TextField commandTextField;
@@ -25,10 +36,34 @@ public class CommandBox extends UiPart<Region> {
      * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
      */
     public CommandBox(CommandExecutor commandExecutor) {
+        this(commandExecutor, commandText -> {}, commandText -> Optional.empty());
+    }
+
+    /**
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} that previews the command being typed
+     * with {@code commandPreviewer} once the user pauses typing, and completes it with {@code commandCompleter}
+     * when the Tab key is pressed.
+     */
+    public CommandBox(CommandExecutor commandExecutor, CommandPreviewer commandPreviewer,
+            CommandCompleter commandCompleter) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        this.commandPreviewer = commandPreviewer;
+        this.commandCompleter = commandCompleter;
+        // Tab would otherwise move the focus out of the command box
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB) {
+                event.consume();
+                handleCompletion();
+            }
+        });
+        previewDelay.setOnFinished(unused -> commandPreviewer.preview(commandTextField.getText()));
+        // calls #setStyleToDefault() whenever there is a change to the text of the command box,
+        // and restarts the wait before the text is previewed.
+        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> {
+            setStyleToDefault();
+            previewDelay.playFromStart();
+        });
     }
 
     /**
@@ -41,14 +76,27 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
+        previewDelay.stop();
+        commandPreviewer.cancel();
         try {
             commandExecutor.execute(commandText);
+            commandPreviewer.commit();
             commandTextField.setText("");
         } catch (CommandException | ParseException e) {
             setStyleToIndicateCommandFailure();
         }
     }
 
+    /**
+     * Handles the Tab button pressed event.
+     */
+    private void handleCompletion() {
+        commandCompleter.complete(commandTextField.getText()).ifPresent(completedText -> {
+            commandTextField.setText(completedText);
+            commandTextField.end();
+        });
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -82,4 +130,39 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that can complete partially typed commands.
+     */
+    @FunctionalInterface
+    public interface CommandCompleter {
+        /**
+         * Returns the completed command text, or an empty {@code Optional} if there is nothing to complete.
+         *
+         * @see seedu.address.logic.Logic#complete(String)
+         */
+        Optional<String> complete(String commandText);
+    }
+
+    /**
+     * Represents a function that can preview commands while they are being typed.
+     */
+    @FunctionalInterface
+    public interface CommandPreviewer {
+        /**
+         * Previews the partially typed {@code commandText}, replacing any earlier preview.
+         */
+        void preview(String commandText);
+
+        /**
+         * Stops any preview that has not been shown yet.
+         */
+        default void cancel() {}
+
+        /**
+         * Called after a command is executed, so that its results are not replaced by the preview of an empty
+         * command box.
+         */
+        default void commit() {}
+    }
+
 }
@@ -2,18 +2,23 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.beans.value.ObservableDoubleValue;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.Label;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.jfr.CellBuildEvent;
 import seedu.address.model.tutee.Tutee;
 
 /**
  * Panel containing the list of persons.
  */
 public class PersonListPanel extends UiPart<Region> {
+    public static final String MESSAGE_LOADING = "Loading tutees...";
+
     private static final String FXML = "PersonListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(PersonListPanel.class);
 
@@ -21,12 +26,21 @@ public class PersonListPanel extends UiPart<Region> {
     private ListView<Tutee> personListView;
 
     /**
-     * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
+     * Creates a {@code PersonListPanel} with the given {@code ObservableList}, which shows a loading message
+     * when it is empty while {@code loadProgress} is below 1.
      */
-    public PersonListPanel(ObservableList<Tutee> tuteeList) {
+    public PersonListPanel(ObservableList<Tutee> tuteeList, ObservableDoubleValue loadProgress) {
         super(FXML);
         personListView.setItems(tuteeList);
         personListView.setCellFactory(listView -> new PersonListViewCell());
+        if (loadProgress.get() < 1) {
+            personListView.setPlaceholder(new Label(MESSAGE_LOADING));
+            loadProgress.addListener((unused, oldProgress, newProgress) -> {
+                if (newProgress.doubleValue() >= 1) {
+                    personListView.setPlaceholder(null);
+                }
+            });
+        }
     }
 
     /**
@@ -41,7 +55,11 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
+                CellBuildEvent event = new CellBuildEvent();
+                event.begin();
                 setGraphic(new PersonCard(tutee, getIndex() + 1).getRoot());
+                event.index = getIndex();
+                event.commit();
             }
         }
     }
@@ -0,0 +1,110 @@
+package seedu.address.ui;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.search.IncrementalSearch;
+import seedu.address.logic.search.SearchQuery;
+import seedu.address.model.tutee.Tutee;
+
+/**
+ * Shows the tutees that match a partially typed {@code find} or {@code filter} command in the person list.
+ * Searches run on a background thread so that typing is never blocked, and a newer preview or an executed
+ * command cancels any search that is still running. Once the command box no longer holds a search, the person list
+ * is filtered as it was before the preview.
+ */
+public class SearchPreviewer implements CommandBox.CommandPreviewer {
+
+    private static final Logger logger = LogsCenter.getLogger(SearchPreviewer.class);
+
+    private final Logic logic;
+    private final IncrementalSearch incrementalSearch = new IncrementalSearch();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "search-preview");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Incremented whenever a preview is requested or cancelled, so that stale results are discarded. */
+    private final AtomicLong generation = new AtomicLong();
+    /** Incremented whenever the roster changes, so that cached matches are not reused. */
+    private long rosterVersion;
+    private Future<?> pendingSearch;
+    /** The filter of the person list before the preview shown, or null if no preview is shown. */
+    private Predicate<Tutee> predicateBeforePreview;
+
+    /**
+     * Creates a {@code SearchPreviewer} that filters the person list of {@code logic}.
+     */
+    public SearchPreviewer(Logic logic) {
+        this.logic = logic;
+        logic.getAddressBook().getPersonList().addListener((ListChangeListener<Tutee>) change -> rosterVersion++);
+    }
+
+    @Override
+    public void preview(String commandText) {
+        cancel();
+        Optional<SearchQuery> query = SearchQuery.parse(commandText);
+        if (!query.isPresent()) {
+            if (predicateBeforePreview != null) {
+                logic.updateFilteredPersonList(predicateBeforePreview);
+                predicateBeforePreview = null;
+            }
+            return;
+        }
+
+        long currentGeneration = generation.get();
+        long currentRosterVersion = rosterVersion;
+        List<Tutee> roster = logic.getTuteeSnapshot();
+        pendingSearch = executor.submit(() -> {
+            Optional<List<Tutee>> matches = incrementalSearch.search(query.get(), roster, currentRosterVersion, () ->
+                    generation.get() != currentGeneration);
+            matches.ifPresent(tutees -> Platform.runLater(() -> show(tutees, currentGeneration)));
+        });
+    }
+
+    @Override
+    public void cancel() {
+        generation.incrementAndGet();
+        if (pendingSearch != null) {
+            pendingSearch.cancel(true);
+            pendingSearch = null;
+        }
+    }
+
+    /**
+     * Keeps the current contents of the person list, so that clearing the command box does not undo it.
+     */
+    @Override
+    public void commit() {
+        cancel();
+        predicateBeforePreview = null;
+    }
+
+    private void show(List<Tutee> matches, long searchGeneration) {
+        if (generation.get() != searchGeneration) {
+            return;
+        }
+
+        if (predicateBeforePreview == null) {
+            predicateBeforePreview = logic.getFilteredPersonPredicate();
+        }
+        Set<Tutee> matchSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        matchSet.addAll(matches);
+        logic.updateFilteredPersonList(matchSet::contains);
+        logger.fine(() -> "Previewing " + matches.size() + " matching tutees");
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.ui;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import javafx.beans.value.ObservableDoubleValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
@@ -12,17 +13,29 @@ import javafx.scene.layout.Region;
  */
 public class StatusBarFooter extends UiPart<Region> {
 
+    public static final String MESSAGE_LOADING = "Loading tutees... %1$.0f%%";
+
     private static final String FXML = "StatusBarFooter.fxml";
 
     @FXML
     private Label saveLocationStatus;
 
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} with the given {@code Path}, which shows {@code loadProgress} instead
+     * while tutees are loading.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Path saveLocation, ObservableDoubleValue loadProgress) {
         super(FXML);
-        saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        String saveLocationText = Paths.get(".").resolve(saveLocation).toString();
+        showStatus(saveLocationText, loadProgress.get());
+        loadProgress.addListener((unused, oldProgress, newProgress) ->
+                showStatus(saveLocationText, newProgress.doubleValue()));
+    }
+
+    private void showStatus(String saveLocationText, double loadProgress) {
+        saveLocationStatus.setText(loadProgress < 1
+                ? String.format(MESSAGE_LOADING, loadProgress * 100)
+                : saveLocationText);
     }
 
 }
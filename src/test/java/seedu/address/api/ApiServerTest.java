@@ -0,0 +1,264 @@
+package seedu.address.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.TuteeOrder;
+import seedu.address.model.util.SyntheticRoster;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ApiServerTest {
+
+    private static final int TUTEE_COUNT = 300;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model;
+    private ApiServer server;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        model = new ModelManager(new SyntheticRoster().generateTuteeManagingSystem(TUTEE_COUNT), new UserPrefs());
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("TMS.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        server = new ApiServer(new LogicManager(model, storage), 0, ApiServer.DEFAULT_THREADS);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void listTutees_paged_returnsPageAndTotal() throws IOException {
+        JsonNode response = get("/tutees?offset=10&limit=5", 200);
+        assertEquals(Integer.valueOf(TUTEE_COUNT), Integer.valueOf(response.get("total").asInt()));
+        assertEquals(Integer.valueOf(5), Integer.valueOf(response.get("tutees").size()));
+
+        JsonNode first = response.get("tutees").get(0);
+        Tutee expected = model.getTuteeSnapshot().get(10);
+        assertEquals(Integer.valueOf(11), Integer.valueOf(first.get("index").asInt()));
+        assertEquals(expected.getName().toString(), first.get("name").asText());
+        assertEquals(expected.getSubject().toString(), first.get("subject").asText());
+    }
+
+    @Test
+    public void listTutees_filter_returnsMatchingTutees() throws IOException {
+        JsonNode response = get("/tutees?limit=1000&filter=" + URLEncoder.encode("s/Math", StandardCharsets.UTF_8),
+                200);
+        long expected = model.getTuteeSnapshot().stream()
+                .filter(tutee -> tutee.getSubject().toString().equals("Math")).count();
+        assertEquals(Long.valueOf(expected), Long.valueOf(response.get("total").asLong()));
+        assertTrue(expected > 0);
+        for (JsonNode tutee : response.get("tutees")) {
+            assertEquals("Math", tutee.get("subject").asText());
+        }
+    }
+
+    @Test
+    public void listTutees_invalidFilterOrPaging_badRequest() throws IOException {
+        get("/tutees?filter=" + URLEncoder.encode("n/", StandardCharsets.UTF_8), 400);
+        get("/tutees?limit=-1", 400);
+        get("/tutees?offset=abc", 400);
+    }
+
+    @Test
+    public void listAttendance_returnsTuteesWhoAttended() throws IOException {
+        List<Tutee> tutees = model.getTuteeSnapshot();
+        int first = 0;
+        while (!tutees.get(first).getAttendance().iterator().hasNext()) {
+            first++;
+        }
+        LocalDate date = tutees.get(first).getAttendance().iterator().next();
+        JsonNode response = get("/attendance?date=" + date, 200);
+        long expected = tutees.stream().filter(tutee -> tutee.getAttendance().didAttend(date)).count();
+        assertEquals(Long.valueOf(expected), Long.valueOf(response.get("attended").size()));
+        JsonNode firstAttended = response.get("attended").get(0);
+        assertEquals(Integer.valueOf(first + 1), Integer.valueOf(firstAttended.get("index").asInt()));
+
+        get("/attendance", 400);
+        get("/attendance?date=14-03-2023", 400);
+    }
+
+    @Test
+    public void runCommand_validCommand_changesModel() throws IOException {
+        Tutee second = model.getTuteeSnapshot().get(1);
+        JsonNode response = post("/commands", "delete 1", 200);
+        assertTrue(response.get("feedback").asText().length() > 0);
+        assertEquals(Integer.valueOf(TUTEE_COUNT - 1), Integer.valueOf(model.getTuteeSnapshot().size()));
+        assertEquals(second, model.getTuteeSnapshot().get(0));
+    }
+
+    @Test
+    public void runCommand_filteredAndSortedView_indexesReferToSnapshot() throws IOException {
+        Predicate<Tutee> isPhysics = tutee -> tutee.getSubject().toString().equals("Physics");
+        model.updateFilteredTuteeList(isPhysics);
+        model.sortFilteredTuteeList(TuteeOrder.NAME);
+        Tutee first = model.getTuteeSnapshot().get(0);
+        Tutee second = model.getTuteeSnapshot().get(1);
+        assertEquals(Integer.valueOf(1), Integer.valueOf(get("/tutees?limit=1", 200).get("tutees").get(0)
+                .get("index").asInt()));
+
+        post("/commands", "delete 1", 200);
+        assertFalse(model.getTuteeSnapshot().contains(first));
+        assertEquals(second, model.getTuteeSnapshot().get(0));
+        assertTrue(model.getFilteredTuteePredicate() == isPhysics);
+        assertEquals(TuteeOrder.NAME, model.getTuteeOrder());
+        assertTrue(model.getFilteredTuteeList().stream().allMatch(isPhysics));
+    }
+
+    @Test
+    public void runCommand_invalidCommand_badRequest() throws IOException {
+        JsonNode response = post("/commands", "delete " + (TUTEE_COUNT + 1), 400);
+        assertTrue(response.get("error").asText().length() > 0);
+        assertEquals(Integer.valueOf(TUTEE_COUNT), Integer.valueOf(model.getTuteeSnapshot().size()));
+        post("/commands", "", 400);
+    }
+
+    @Test
+    public void wrongMethod_methodNotAllowed() throws IOException {
+        post("/tutees", "", 405);
+        get("/commands", 405);
+    }
+
+    @Test
+    public void concurrentRequests_allHandled() throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<JsonNode>> responses = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                Callable<JsonNode> request = i % 4 == 0
+                        ? () -> post("/commands", DeleteCommand.COMMAND_WORD + " 1", 200)
+                        : () -> get("/tutees?limit=10", 200);
+                responses.add(clients.submit(request));
+            }
+            for (Future<JsonNode> response : responses) {
+                response.get();
+            }
+        } finally {
+            clients.shutdown();
+        }
+        assertEquals(Integer.valueOf(TUTEE_COUNT - 10), Integer.valueOf(model.getTuteeSnapshot().size()));
+    }
+
+    @Test
+    public void missingOrWrongToken_unauthorized() throws IOException {
+        assertEquals(Integer.valueOf(401), Integer.valueOf(connect("/tutees", "GET", null).getResponseCode()));
+        assertEquals(Integer.valueOf(401), Integer.valueOf(connect("/commands", "POST", "wrong" + server.getToken())
+                .getResponseCode()));
+        assertEquals(Integer.valueOf(TUTEE_COUNT), Integer.valueOf(model.getTuteeSnapshot().size()));
+    }
+
+    @Test
+    public void foreignOriginOrHost_forbidden() throws IOException {
+        String thisServer = "127.0.0.1:" + server.getPort();
+        assertTrue(sendByHand(thisServer, null).contains(" 200 "));
+        assertTrue(sendByHand("localhost:" + server.getPort(), "http://localhost:" + server.getPort())
+                .contains(" 200 "));
+        assertTrue(sendByHand("attacker.example:" + server.getPort(), null).contains(" 403 "));
+        assertTrue(sendByHand(thisServer, "http://attacker.example").contains(" 403 "));
+    }
+
+    @Test
+    public void writeToken_tokenWritten() throws IOException {
+        Path tokenFile = temporaryFolder.resolve(ApiServer.TOKEN_FILE_NAME);
+        server.writeToken(tokenFile);
+        assertEquals(server.getToken(), Files.readString(tokenFile));
+    }
+
+    private JsonNode get(String path, int expectedStatus) throws IOException {
+        return send(path, "GET", null, expectedStatus);
+    }
+
+    private JsonNode post(String path, String body, int expectedStatus) throws IOException {
+        return send(path, "POST", body, expectedStatus);
+    }
+
+    private JsonNode send(String path, String method, String body, int expectedStatus) throws IOException {
+        HttpURLConnection connection = connect(path, method, server.getToken());
+        if (body != null) {
+            connection.setDoOutput(true);
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        assertEquals(Integer.valueOf(expectedStatus), Integer.valueOf(connection.getResponseCode()));
+        try (InputStream in = expectedStatus == 200 ? connection.getInputStream() : connection.getErrorStream()) {
+            return MAPPER.readTree(in);
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * Sends {@code GET /tutees} with the token and the given {@code Host}, and {@code Origin} if there is one, and
+     * returns the status line of the response. HttpURLConnection sends its own Host and drops Origin, so the request
+     * is written by hand.
+     */
+    private String sendByHand(String host, String origin) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            socket.setSoTimeout(10_000);
+            String request = "GET /tutees?limit=1 HTTP/1.1\r\nHost: " + host + "\r\n"
+                    + (origin == null ? "" : "Origin: " + origin + "\r\n")
+                    + "Authorization: Bearer " + server.getToken() + "\r\nConnection: close\r\n\r\n";
+            socket.getOutputStream().write(request.getBytes(StandardCharsets.US_ASCII));
+            return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII))
+                    .readLine();
+        }
+    }
+
+    /**
+     * Opens a connection to {@code path} that sends {@code token}, if there is one.
+     */
+    private HttpURLConnection connect(String path, String method, String token) throws IOException {
+        HttpURLConnection connection =
+                (HttpURLConnection) new URL("http://127.0.0.1:" + server.getPort() + path).openConnection();
+        connection.setRequestMethod(method);
+        if (token != null) {
+            connection.setRequestProperty("Authorization", "Bearer " + token);
+        }
+        return connection;
+    }
+}
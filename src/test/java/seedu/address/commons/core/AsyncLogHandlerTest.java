@@ -0,0 +1,114 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Test;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncLogHandler(0, new RecordingHandler()));
+    }
+
+    @Test
+    public void publish_records_writtenInOrder() {
+        RecordingHandler delegate = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(16, delegate);
+        for (int i = 0; i < 50; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+            handler.flush();
+        }
+        handler.close();
+
+        assertEquals(50, delegate.messages.size());
+        for (int i = 0; i < 50; i++) {
+            assertEquals("message " + i, delegate.messages.get(i));
+        }
+        assertTrue(delegate.isClosed);
+    }
+
+    @Test
+    public void publish_belowLevel_notWritten() {
+        RecordingHandler delegate = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(16, delegate);
+        handler.setLevel(Level.INFO);
+        handler.publish(new LogRecord(Level.FINE, "fine"));
+        handler.publish(new LogRecord(Level.INFO, "info"));
+        handler.close();
+
+        assertEquals(List.of("info"), delegate.messages);
+    }
+
+    @Test
+    public void publish_stalledDelegate_doesNotBlockAndReportsDroppedRecords() throws InterruptedException {
+        RecordingHandler delegate = new RecordingHandler();
+        delegate.stall = new CountDownLatch(1);
+        AsyncLogHandler handler = new AsyncLogHandler(2, delegate);
+
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        assertTrue(delegate.isWriting.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 5; i++) {
+            handler.publish(new LogRecord(Level.INFO, "queued " + i));
+        }
+        assertEquals(3, handler.getDroppedCount());
+
+        delegate.stall.countDown();
+        handler.close();
+        assertEquals(List.of("first", "3 log records were dropped because the log buffer was full",
+                "queued 0", "queued 1"), delegate.messages);
+    }
+
+    @Test
+    public void publish_afterClose_ignored() {
+        RecordingHandler delegate = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(16, delegate);
+        handler.close();
+        handler.publish(new LogRecord(Level.INFO, "late"));
+        handler.flush();
+
+        assertTrue(delegate.messages.isEmpty());
+    }
+
+    /**
+     * A {@code Handler} that remembers the messages published to it, and can be made to stall while publishing.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<String> messages = new CopyOnWriteArrayList<>();
+        private final CountDownLatch isWriting = new CountDownLatch(1);
+        private CountDownLatch stall;
+        private volatile boolean isClosed;
+
+        @Override
+        public void publish(LogRecord record) {
+            isWriting.countDown();
+            if (stall != null) {
+                try {
+                    stall.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            messages.add(record.getMessage());
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.commons.core.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.DurabilityMode;
+import seedu.address.commons.core.stats.PerformanceStats.Phase;
+
+public class PerformanceStatsTest {
+
+    @Test
+    public void getCommandWord() {
+        assertEquals("find", PerformanceStats.getCommandWord("  find alice bob"));
+        assertEquals("list", PerformanceStats.getCommandWord("list"));
+        assertEquals("", PerformanceStats.getCommandWord("   "));
+    }
+
+    @Test
+    public void record_save_updatesLastSave() {
+        PerformanceStats performanceStats = new PerformanceStats();
+        assertEquals(-1, performanceStats.getLastSaveNanos());
+
+        performanceStats.record("add", Phase.EXECUTE, 1_000);
+        assertEquals(-1, performanceStats.getLastSaveNanos());
+
+        performanceStats.record("add", Phase.SAVE, 2_000_000);
+        assertEquals(2_000_000, performanceStats.getLastSaveNanos());
+    }
+
+    @Test
+    public void toCsv_recordedPhases_oneLineEach() {
+        PerformanceStats performanceStats = new PerformanceStats();
+        performanceStats.record("list", Phase.PARSE, 1_000_000);
+        performanceStats.record("add", Phase.SAVE, 2_000_000);
+        performanceStats.record("add", Phase.PARSE, 3_000_000);
+
+        String expected = PerformanceStats.CSV_HEADER + "\n"
+                + "add,parse,1,3.000,3.000,3.000,3.000\n"
+                + "add,save,1,2.000,2.000,2.000,2.000\n"
+                + "list,parse,1,1.000,1.000,1.000,1.000\n";
+        assertEquals(expected, performanceStats.toCsv());
+        assertTrue(performanceStats.getSummary().contains("add      save       n=1"));
+    }
+
+    @Test
+    public void recordStartupPhase_inRecordedOrder() {
+        PerformanceStats performanceStats = new PerformanceStats();
+        assertEquals("", performanceStats.getStartupSummary());
+
+        performanceStats.record("list", Phase.PARSE, 1_000_000);
+        performanceStats.recordStartupPhase("prefs", 2_000_000);
+        performanceStats.recordStartupPhase("config", 500_000);
+
+        assertEquals(List.of("prefs", "config"), List.copyOf(performanceStats.getStartupPhases().keySet()));
+        assertEquals("prefs 2.00 ms, config 0.50 ms", performanceStats.getStartupSummary());
+        String expected = PerformanceStats.CSV_HEADER + "\n"
+                + "list,parse,1,1.000,1.000,1.000,1.000\n"
+                + "startup,prefs,1,2.000,2.000,2.000,2.000\n"
+                + "startup,config,1,0.500,0.500,0.500,0.500\n";
+        assertEquals(expected, performanceStats.toCsv());
+    }
+
+    @Test
+    public void recordSync_perMode_commandsPerSync() {
+        PerformanceStats performanceStats = new PerformanceStats();
+        performanceStats.record("add", Phase.SAVE, 2_000_000);
+        performanceStats.recordSync(DurabilityMode.GROUP_COMMIT, 4_000_000, 30);
+        performanceStats.recordSync(DurabilityMode.GROUP_COMMIT, 4_000_000, 10);
+        performanceStats.recordSync(DurabilityMode.PER_COMMAND, 1_000_000, 1);
+
+        assertEquals(2, performanceStats.getSyncCount(DurabilityMode.GROUP_COMMIT));
+        assertEquals(40, performanceStats.getSyncedCommandCount(DurabilityMode.GROUP_COMMIT));
+        assertEquals(0, performanceStats.getSyncCount(DurabilityMode.NEVER));
+        assertTrue(performanceStats.getSummary().contains("20.0 commands/fsync"));
+        String expected = PerformanceStats.CSV_HEADER + "\n"
+                + "add,save,1,2.000,2.000,2.000,2.000\n"
+                + "fsync,per_command,1,1.000,1.000,1.000,1.000\n"
+                + "fsync,group_commit,2,4.000,4.000,4.000,4.000\n";
+        assertEquals(expected, performanceStats.toCsv());
+    }
+}
@@ -1,13 +1,21 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +28,18 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void sizeWithCompanions_journalsAndSegments_included() throws Exception {
+        Path file = testFolder.resolve("TMS.json");
+        Files.writeString(file, "12345");
+        Files.writeString(testFolder.resolve("TMS.json.journal.3"), "123");
+        Files.createDirectories(testFolder.resolve("TMS.json.segments"));
+        Files.writeString(testFolder.resolve("TMS.json.segments").resolve("segment-0000-1.json"), "12");
+        // Not saved as part of the data file
+        Files.writeString(testFolder.resolve("TMS.jsonx"), "1234567");
+        Files.writeString(testFolder.resolve("preferences.json"), "1234567");
+
+        assertEquals(Long.valueOf(10), Long.valueOf(FileUtil.sizeWithCompanions(file)));
+    }
+
 }
@@ -0,0 +1,45 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+
+public class InternerTest {
+
+    @Test
+    public void constructor_invalidMaxSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Interner<>(Tag::new, 0));
+    }
+
+    @Test
+    public void intern_equalValues_sameInstance() {
+        Interner<Tag> interner = new Interner<>(Tag::new, Interner.DEFAULT_MAX_SIZE);
+        Tag tag = interner.intern("friends");
+        assertSame(tag, interner.intern(new String("friends")));
+        assertEquals(new Tag("friends"), tag);
+        assertNotSame(tag, interner.intern("colleagues"));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_full_newValuesNotRemembered() {
+        Interner<Tag> interner = new Interner<>(Tag::new, 1);
+        Tag tag = interner.intern("friends");
+        assertSame(tag, interner.intern("friends"));
+        assertNotSame(interner.intern("colleagues"), interner.intern("colleagues"));
+        assertEquals(new Tag("colleagues"), interner.intern("colleagues"));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_invalidValue_notRemembered() {
+        Interner<Tag> interner = new Interner<>(Tag::new, Interner.DEFAULT_MAX_SIZE);
+        assertThrows(IllegalArgumentException.class, () -> interner.intern("not a tag"));
+        assertEquals(0, interner.size());
+    }
+}
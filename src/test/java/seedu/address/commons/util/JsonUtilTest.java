@@ -3,10 +3,14 @@ package seedu.address.commons.util;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.DataCompression;
 import seedu.address.testutil.SerializableTestClass;
 import seedu.address.testutil.TestUtil;
 
@@ -39,6 +43,41 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void saveJsonFile_compressed_readBackEqual() throws Exception {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.saveJsonFile(serializableTestClass, SERIALIZATION_FILE, DataCompression.GZIP,
+                CompressionUtil.DEFAULT_LEVEL);
+        byte[] header = Files.readAllBytes(SERIALIZATION_FILE);
+        assertEquals(0x1f, Byte.toUnsignedInt(header[0]));
+        assertEquals(0x8b, Byte.toUnsignedInt(header[1]));
+
+        SerializableTestClass readBack = JsonUtil.readJsonFile(SERIALIZATION_FILE, SerializableTestClass.class).get();
+        assertEquals(SerializableTestClass.getNameTestValue(), readBack.getName());
+        assertEquals(SerializableTestClass.getListTestValues(), readBack.getListOfLocalDateTimes());
+        assertEquals(SerializableTestClass.getHashMapTestValues(), readBack.getMapOfIntegerToString());
+    }
+
+    @Test
+    public void saveJsonArrayFile_deflate_readBackInOrder() throws Exception {
+        List<String> elements = List.of("one", "two", "three");
+        JsonUtil.saveJsonArrayFile("elements", elements.iterator(), SERIALIZATION_FILE, DataCompression.DEFLATE,
+                CompressionUtil.MIN_LEVEL);
+
+        List<String> readBack = new ArrayList<>();
+        try (JsonUtil.JsonArrayReader<String> reader = JsonUtil.openJsonArrayFile(SERIALIZATION_FILE, "elements",
+                String.class).get()) {
+            String element;
+            while ((element = reader.readNext()) != null) {
+                readBack.add(element);
+            }
+            assertEquals(1.0, reader.getFractionRead());
+        }
+        assertEquals(elements, readBack);
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -0,0 +1,95 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void plus_oldVersionUnchanged() {
+        PersistentList<String> before = PersistentList.copyOf(List.of("Algebra", "Vectors"));
+        PersistentList<String> after = before.plus(1, "Kinematics");
+
+        assertEquals(List.of("Algebra", "Vectors"), before);
+        assertEquals(List.of("Algebra", "Kinematics", "Vectors"), after);
+    }
+
+    @Test
+    public void copyOf_persistentList_sameList() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("Algebra"));
+        assertSame(list, PersistentList.copyOf(list));
+        assertSame(PersistentList.empty(), PersistentList.copyOf(List.of()));
+    }
+
+    @Test
+    public void copyOf_manyElements_sameElements() {
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 40_000; i++) {
+            expected.add(i);
+        }
+        assertEquals(expected, PersistentList.copyOf(expected));
+    }
+
+    @Test
+    public void invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("Algebra"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(2, "Vectors"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(-1, "Vectors"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(1));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("Algebra"));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("Vectors"));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, "Vectors"));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+    }
+
+    @Test
+    public void minus_lastElement_emptyList() {
+        PersistentList<String> list = PersistentList.<String>empty().plus("Algebra");
+        assertSame(PersistentList.empty(), list.minus(0));
+    }
+
+    @Test
+    public void randomChanges_sameAsArrayList() {
+        Random random = new Random(2103);
+        PersistentList<Integer> list = PersistentList.empty();
+        List<Integer> expected = new ArrayList<>();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            int choice = random.nextInt(10);
+            if (choice < 5 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                list = list.plus(index, i);
+                expected.add(index, i);
+            } else if (choice < 8) {
+                int index = random.nextInt(expected.size());
+                list = list.with(index, i);
+                expected.set(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                list = list.minus(index);
+                expected.remove(index);
+            }
+            if (i % 2000 == 0) {
+                versions.add(list);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+        assertEquals(expected, list);
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(expectedVersions.get(i), versions.get(i));
+        }
+    }
+}
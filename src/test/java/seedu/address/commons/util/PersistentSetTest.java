@@ -0,0 +1,152 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentSetTest {
+
+    @Test
+    public void plus_newElement_oldVersionUnchanged() {
+        PersistentSet<String> before = PersistentSet.of("Algebra", "Vectors");
+        PersistentSet<String> after = before.plus("Kinematics");
+
+        assertEquals(Set.of("Algebra", "Vectors"), before);
+        assertEquals(Set.of("Algebra", "Vectors", "Kinematics"), after);
+        assertEquals(3, after.size());
+    }
+
+    @Test
+    public void plus_existingElement_sameSet() {
+        PersistentSet<String> set = PersistentSet.of("Algebra");
+        assertSame(set, set.plus(new String("Algebra")));
+    }
+
+    @Test
+    public void plus_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentSet.empty().plus(null));
+    }
+
+    @Test
+    public void minus_missingElement_sameSet() {
+        PersistentSet<String> set = PersistentSet.of("Algebra");
+        assertSame(set, set.minus("Vectors"));
+        assertSame(set, set.minus(null));
+    }
+
+    @Test
+    public void minus_lastElement_emptySet() {
+        PersistentSet<String> set = PersistentSet.of("Algebra");
+        assertSame(PersistentSet.empty(), set.minus("Algebra"));
+        assertEquals(Set.of("Algebra"), set);
+    }
+
+    @Test
+    public void copyOf_persistentSet_sameSet() {
+        PersistentSet<String> set = PersistentSet.of("Algebra");
+        assertSame(set, PersistentSet.copyOf(set));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        PersistentSet<String> set = PersistentSet.of("Algebra");
+        assertThrows(UnsupportedOperationException.class, () -> set.add("Vectors"));
+        assertThrows(UnsupportedOperationException.class, () -> set.remove("Algebra"));
+        assertThrows(UnsupportedOperationException.class, () -> set.iterator().remove());
+    }
+
+    @Test
+    public void iterator_exhausted_throwsNoSuchElementException() {
+        Iterator<String> iterator = PersistentSet.of("Algebra").iterator();
+        iterator.next();
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    public void plusAndMinus_collidingHashCodes_sameAsHashSet() {
+        PersistentSet<Colliding> set = PersistentSet.empty();
+        for (int i = 0; i < 10; i++) {
+            set = set.plus(new Colliding(i, i % 2));
+        }
+        assertEquals(10, set.size());
+        assertTrue(set.contains(new Colliding(3, 1)));
+        assertFalse(set.contains(new Colliding(3, 0)));
+
+        for (int i = 0; i < 10; i += 3) {
+            set = set.minus(new Colliding(i, i % 2));
+        }
+        Set<Colliding> expected = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            if (i % 3 != 0) {
+                expected.add(new Colliding(i, i % 2));
+            }
+        }
+        assertEquals(expected, set);
+        assertEquals(expected.hashCode(), set.hashCode());
+    }
+
+    @Test
+    public void plusAndMinus_randomChanges_sameAsHashSet() {
+        Random random = new Random(2103);
+        PersistentSet<Integer> set = PersistentSet.empty();
+        Set<Integer> expected = new HashSet<>();
+        List<PersistentSet<Integer>> versions = new ArrayList<>();
+        List<Set<Integer>> expectedVersions = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            // Large values spread over all bits of the hash code, small ones share most of the trie
+            int element = random.nextBoolean() ? random.nextInt() : random.nextInt(200);
+            if (random.nextInt(3) == 0) {
+                set = set.minus(element);
+                expected.remove(element);
+            } else {
+                set = set.plus(element);
+                expected.add(element);
+            }
+            assertEquals(expected.size(), set.size());
+            if (i % 500 == 0) {
+                versions.add(set);
+                expectedVersions.add(new HashSet<>(expected));
+            }
+        }
+        assertEquals(expected, set);
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(expectedVersions.get(i), versions.get(i));
+        }
+    }
+
+    /**
+     * An element whose hash code is chosen by the test.
+     */
+    private static class Colliding {
+        private final int value;
+        private final int hash;
+
+        Colliding(int value, int hash) {
+            this.value = value;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Colliding && ((Colliding) other).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+    private PrefixTrie trie;
+
+    @BeforeEach
+    public void setUp() {
+        trie = new PrefixTrie();
+        trie.add("Alice");
+        trie.add("Alicia");
+        trie.add("Benson");
+    }
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> trie.add(null));
+    }
+
+    @Test
+    public void complete_noMatch_returnsEmpty() {
+        assertEquals(Optional.empty(), trie.complete("Carl"));
+        assertEquals(Optional.empty(), trie.complete("Alicex"));
+    }
+
+    @Test
+    public void complete_uniqueMatch_returnsWord() {
+        assertEquals(Optional.of("Benson"), trie.complete("b"));
+        assertTrue(trie.hasUniqueCompletion("b"));
+    }
+
+    @Test
+    public void complete_severalMatches_returnsCommonPrefix() {
+        assertEquals(Optional.of("Alic"), trie.complete("al"));
+        assertFalse(trie.hasUniqueCompletion("al"));
+
+        // a word that is a prefix of another word stops the completion
+        trie.add("Ali");
+        assertEquals(Optional.of("Ali"), trie.complete("a"));
+    }
+
+    @Test
+    public void remove_wordAddedTwice_keptUntilRemovedTwice() {
+        trie.add("Benson");
+        trie.remove("Benson");
+        assertTrue(trie.contains("benson"));
+
+        trie.remove("Benson");
+        assertFalse(trie.contains("benson"));
+        assertEquals(Optional.empty(), trie.complete("b"));
+    }
+
+    @Test
+    public void remove_wordSharingPrefix_otherWordKept() {
+        trie.remove("Alicia");
+        assertEquals(Optional.of("Alice"), trie.complete("al"));
+        assertTrue(trie.hasUniqueCompletion("al"));
+
+        // removing a word that is not in the trie does nothing
+        trie.remove("Alicia");
+        trie.remove("Al");
+        assertTrue(trie.contains("Alice"));
+    }
+
+    @Test
+    public void clear_removesAllWords() {
+        trie.clear();
+        assertEquals(Optional.empty(), trie.complete(""));
+    }
+}
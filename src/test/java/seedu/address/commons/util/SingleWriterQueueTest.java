@@ -0,0 +1,81 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class SingleWriterQueueTest {
+
+    private static final int THREADS = 4;
+    private static final int WRITES_PER_THREAD = 1000;
+
+    @Test
+    public void submit_result_completesFuture() throws Exception {
+        SingleWriterQueue queue = new SingleWriterQueue(Runnable::run);
+        assertEquals(Integer.valueOf(3), queue.submit(() -> 1 + 2).get());
+    }
+
+    @Test
+    public void submit_throws_completesFutureExceptionally() {
+        SingleWriterQueue queue = new SingleWriterQueue(Runnable::run);
+        CompletableFuture<Object> result = queue.submit(() -> {
+            throw new IllegalStateException();
+        });
+        ExecutionException e = assertThrows(ExecutionException.class, result::get);
+        assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void runAfterBatch_burstOfWrites_runsOnceAfterTheBurst() {
+        List<Runnable> writerTasks = new ArrayList<>();
+        SingleWriterQueue queue = new SingleWriterQueue(writerTasks::add);
+        List<String> log = new ArrayList<>();
+        queue.submit(() -> {
+            queue.runAfterBatch(() -> log.add("after"));
+            return log.add("first");
+        });
+        queue.submit(() -> log.add("second"));
+        assertEquals(1, writerTasks.size());
+
+        writerTasks.get(0).run();
+        assertEquals(List.of("first", "second", "after"), log);
+    }
+
+    @Test
+    public void submit_manyThreads_writesRunOneAtATimeOnWriter() throws Exception {
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        ExecutorService submitters = Executors.newFixedThreadPool(THREADS);
+        SingleWriterQueue queue = new SingleWriterQueue(writer);
+        // Not thread safe, so any write that runs concurrently with another could lose updates
+        List<Integer> written = new ArrayList<>();
+
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            submitters.execute(() -> {
+                for (int i = 0; i < WRITES_PER_THREAD; i++) {
+                    int value = i;
+                    CompletableFuture<Boolean> result = queue.submit(() -> written.add(value));
+                    synchronized (results) {
+                        results.add(result);
+                    }
+                }
+            });
+        }
+        submitters.shutdown();
+        assertTrue(submitters.awaitTermination(10, TimeUnit.SECONDS));
+        CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+        writer.shutdown();
+
+        assertEquals(THREADS * WRITES_PER_THREAD, written.size());
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,38 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for boundedEditDistance --------------------------------------
+
+    @Test
+    public void boundedEditDistance_nullWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.boundedEditDistance(null, "abc", 1));
+        assertThrows(NullPointerException.class, () -> StringUtil.boundedEditDistance("abc", null, 1));
+    }
+
+    @Test
+    public void boundedEditDistance_negativeMaximum_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.boundedEditDistance("abc", "abc", -1));
+    }
+
+    @Test
+    public void boundedEditDistance_validInputs_correctResult() {
+        // identical words
+        assertEquals(0, StringUtil.boundedEditDistance("john", "john", 2));
+
+        // one substitution, insertion, deletion or transposition
+        assertEquals(1, StringUtil.boundedEditDistance("john", "joan", 2));
+        assertEquals(1, StringUtil.boundedEditDistance("john", "johnn", 2));
+        assertEquals(1, StringUtil.boundedEditDistance("john", "jon", 2));
+        assertEquals(1, StringUtil.boundedEditDistance("john", "jonh", 2));
+
+        // empty word
+        assertEquals(2, StringUtil.boundedEditDistance("", "ab", 2));
+
+        // distance beyond the maximum is reported as maximum + 1
+        assertEquals(3, StringUtil.boundedEditDistance("john", "mary", 2));
+        assertEquals(2, StringUtil.boundedEditDistance("a", "abcdef", 1));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
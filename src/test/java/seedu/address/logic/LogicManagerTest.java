@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -17,21 +19,33 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.stats.PerformanceStats;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyTuteeManagingSystem;
+import seedu.address.model.TuteeManagingSystem;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.tutee.Tutee;
+import seedu.address.model.util.SyntheticRoster;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -92,6 +106,74 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void loadInBackground_mutatingCommands_queuedOrRejectedUntilLoaded() throws Exception {
+        Path filePath = temporaryFolder.resolve("TMS.json");
+        List<Tutee> tutees = new SyntheticRoster().generate(300);
+        new JsonAddressBookStorage(filePath).saveTutees(tutees.stream(), filePath);
+
+        BlockingQueue<Runnable> published = new LinkedBlockingQueue<>();
+        model = new ModelManager(new TuteeManagingSystem(), new UserPrefs(), new PerformanceStats(), published::add);
+        logic = new LogicManager(model, new StorageManager(new JsonAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+        boolean[] isLoaded = new boolean[1];
+        CommandResult[] queuedResult = new CommandResult[1];
+        logic.setQueuedResultHandler(result -> queuedResult[0] = result);
+        logic.loadInBackground(() -> isLoaded[0] = true);
+        assertEquals(0.0, logic.loadProgressProperty().get());
+
+        // Read-only commands run at once, while commands that change the tutees wait for all of them
+        assertEquals(ListCommand.MESSAGE_SUCCESS, logic.execute(ListCommand.COMMAND_WORD).getFeedbackToUser());
+        String deleteCommand = DeleteCommand.COMMAND_WORD + " 1";
+        assertThrows(CommandException.class, String.format(LogicManager.MESSAGE_INDEX_WHILE_LOADING, deleteCommand),
+                () -> logic.execute(deleteCommand));
+        assertEquals(String.format(LogicManager.MESSAGE_QUEUED, ClearCommand.COMMAND_WORD),
+                logic.execute(ClearCommand.COMMAND_WORD).getFeedbackToUser());
+
+        while (!isLoaded[0]) {
+            Runnable next = published.poll(10, TimeUnit.SECONDS);
+            assertTrue(next != null, "Loading did not finish");
+            next.run();
+        }
+
+        assertEquals(1.0, logic.loadProgressProperty().get());
+        assertTrue(model.getTuteeManagingSystem().getPersonList().isEmpty());
+        assertEquals(String.format(LogicManager.MESSAGE_QUEUED_RESULT, ClearCommand.COMMAND_WORD,
+                ClearCommand.MESSAGE_SUCCESS), queuedResult[0].getFeedbackToUser());
+        assertTrue(new JsonAddressBookStorage(filePath).readAddressBook().get().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void submit_burstWhileFiltered_indexesFromSnapshotAndFilterRestoredOnce() throws Exception {
+        SyntheticRoster roster = new SyntheticRoster();
+        List<Runnable> writerTasks = new ArrayList<>();
+        model = new ModelManager(roster.generateTuteeManagingSystem(10), new UserPrefs(), new PerformanceStats(),
+                writerTasks::add);
+        setUp();
+        Predicate<Tutee> predicate = tutee -> tutee.equals(roster.tutee(5));
+        model.updateFilteredTuteeList(predicate);
+
+        CompletableFuture<CommandResult> first = logic.submit(DeleteCommand.COMMAND_WORD + " 1");
+        CompletableFuture<Predicate<Tutee>> between = model.submitWrite(Model::getFilteredTuteePredicate);
+        CompletableFuture<CommandResult> second = logic.submit(DeleteCommand.COMMAND_WORD + " 1");
+        writerTasks.forEach(Runnable::run);
+
+        first.get();
+        second.get();
+        // Not restored between the commands of the burst
+        assertSame(Model.PREDICATE_SHOW_ALL_TUTEES, between.get());
+        assertSame(predicate, model.getFilteredTuteePredicate());
+        assertEquals(roster.generate(10).subList(2, 10), model.getTuteeSnapshot());
+    }
+
+    @Test
+    public void getFilteredPersonPredicate_afterUpdate_returnsPredicate() {
+        assertSame(Model.PREDICATE_SHOW_ALL_TUTEES, logic.getFilteredPersonPredicate());
+        Predicate<Tutee> predicate = tutee -> false;
+        logic.updateFilteredPersonList(predicate);
+        assertSame(predicate, logic.getFilteredPersonPredicate());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
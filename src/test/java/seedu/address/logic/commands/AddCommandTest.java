@@ -7,20 +7,34 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.stats.PerformanceStats;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyTuteeManagingSystem;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.TuteeManagingSystem;
+import seedu.address.model.event.TuteeEventFeed.Subscription;
+import seedu.address.model.event.TuteeEventListener;
+import seedu.address.model.tutee.CompletionIndex;
 import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.TuteeOrder;
 import seedu.address.testutil.TuteeTestBuilder;
 
 public class AddCommandTest {
@@ -98,6 +112,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public PerformanceStats getPerformanceStats() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Path getTuteeManagingSystemPath() {
             throw new AssertionError("This method should not be called.");
@@ -113,6 +132,71 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addTutees(List<Tutee> tutees) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTuteeManagingSystem() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void clearTuteeManagingSystemHistory() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoTuteeManagingSystem() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoTuteeManagingSystem() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoTuteeManagingSystem() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoTuteeManagingSystem() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Tutee> getTuteeSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public <T> CompletableFuture<T> submitWrite(Function<Model, T> write) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void runAfterWrites(Runnable action) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Subscription subscribeToTuteeEvents(TuteeEventListener listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Subscription subscribeToTuteeEvents(TuteeEventListener listener, Executor executor, int capacity) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markSaved() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setTuteeManagingSystem(ReadOnlyTuteeManagingSystem tuteeManagingSystem) {
             throw new AssertionError("This method should not be called.");
@@ -147,6 +231,46 @@ public class AddCommandTest {
         public void updateFilteredTuteeList(Predicate<Tutee> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public Predicate<Tutee> getFilteredTuteePredicate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void sortFilteredTuteeList(TuteeOrder order) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public TuteeOrder getTuteeOrder() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<String> getFuzzyNameMatches(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<String> complete(CompletionIndex.Field field, String prefix) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasUniqueCompletion(CompletionIndex.Field field, String prefix) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Tutee> getTuteesPresentOn(LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SortedMap<YearMonth, Integer> getMonthlyAttendance(Tutee tutee) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
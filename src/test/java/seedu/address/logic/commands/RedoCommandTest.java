@@ -0,0 +1,40 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.util.SyntheticRoster;
+
+public class RedoCommandTest {
+
+    private final SyntheticRoster roster = new SyntheticRoster();
+    private final Model model = new ModelManager(roster.generateTuteeManagingSystem(3), new UserPrefs());
+
+    @Test
+    public void execute_nothingToRedo_throwsCommandException() {
+        assertThrows(CommandException.class, RedoCommand.MESSAGE_FAILURE, () -> new RedoCommand().execute(model));
+    }
+
+    @Test
+    public void execute_afterUndo_changeRedone() throws Exception {
+        model.addTutee(roster.tutee(3));
+        model.commitTuteeManagingSystem();
+        List<Tutee> changed = List.copyOf(model.getFilteredTuteeList());
+        new UndoCommand().execute(model);
+
+        CommandResult result = new RedoCommand().execute(model);
+        assertEquals(RedoCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+        assertEquals(changed, model.getFilteredTuteeList());
+        assertFalse(model.canRedoTuteeManagingSystem());
+    }
+}
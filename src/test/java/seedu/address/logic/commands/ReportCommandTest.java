@@ -0,0 +1,52 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.report.AttendanceReport;
+import seedu.address.model.util.SyntheticRoster;
+
+public class ReportCommandTest {
+
+    private static final LocalDate FROM = SyntheticRoster.END_DATE.minusYears(1);
+    private static final LocalDate TO = SyntheticRoster.END_DATE;
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(new SyntheticRoster().generateTuteeManagingSystem(20),
+            new UserPrefs());
+
+    @Test
+    public void execute_noFile_showsReport() throws Exception {
+        CommandResult result = new ReportCommand(FROM, TO, Optional.empty()).execute(model);
+
+        assertEquals(AttendanceReport.of(model.getFilteredTuteeList(), FROM, TO).toString(),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_file_writesCsv() throws Exception {
+        Path file = testFolder.resolve("reports").resolve("report.csv");
+        CommandResult result = new ReportCommand(FROM, TO, Optional.of(file)).execute(model);
+
+        assertEquals(String.format(ReportCommand.MESSAGE_WRITTEN, 20, FROM, TO, file), result.getFeedbackToUser());
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(AttendanceReport.CSV_HEADER, lines.get(0));
+        assertTrue(lines.get(1).startsWith("overall,"));
+        long tuteeRows = lines.stream().filter(line -> line.startsWith("tutee,")).count();
+        assertEquals(Long.valueOf(20), Long.valueOf(tuteeRows));
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.TuteeOrder;
+import seedu.address.model.util.SyntheticRoster;
+
+public class SortCommandTest {
+
+    private final SyntheticRoster roster = new SyntheticRoster();
+    private final Model model = new ModelManager(roster.generateTuteeManagingSystem(30), new UserPrefs());
+
+    @Test
+    public void execute_subject_groupedWithCounts() {
+        CommandResult result = new SortCommand(TuteeOrder.SUBJECT).execute(model);
+
+        List<Tutee> tutees = model.getFilteredTuteeList();
+        for (int i = 1; i < tutees.size(); i++) {
+            assertTrue(tutees.get(i - 1).getSubject().getIndex() <= tutees.get(i).getSubject().getIndex());
+        }
+        String[] lines = result.getFeedbackToUser().split("\n");
+        assertEquals(String.format(SortCommand.MESSAGE_SUCCESS, "subject"), lines[0]);
+        int total = 0;
+        for (int i = 1; i < lines.length; i++) {
+            total += Integer.parseInt(lines[i].substring(lines[i].indexOf(": ") + 2));
+        }
+        assertEquals(Integer.valueOf(tutees.size()), Integer.valueOf(total));
+    }
+
+    @Test
+    public void execute_editAfterSort_staysSorted() {
+        new SortCommand(TuteeOrder.TIME).execute(model);
+        Tutee first = model.getFilteredTuteeList().get(0);
+        model.setTutee(first, roster.tutee(100));
+
+        List<Tutee> tutees = model.getFilteredTuteeList();
+        for (int i = 1; i < tutees.size(); i++) {
+            assertTrue(Long.compareUnsigned(TuteeOrder.TIME.getKey(tutees.get(i - 1)),
+                    TuteeOrder.TIME.getKey(tutees.get(i))) <= 0);
+        }
+    }
+
+    @Test
+    public void execute_none_originalOrder() {
+        List<Tutee> original = List.copyOf(model.getFilteredTuteeList());
+        new SortCommand(TuteeOrder.NAME).execute(model);
+        CommandResult result = new SortCommand(TuteeOrder.NONE).execute(model);
+        assertEquals(String.format(SortCommand.MESSAGE_SUCCESS, "none"), result.getFeedbackToUser());
+        assertEquals(original, model.getFilteredTuteeList());
+    }
+}
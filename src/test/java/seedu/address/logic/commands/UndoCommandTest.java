@@ -0,0 +1,40 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.util.SyntheticRoster;
+
+public class UndoCommandTest {
+
+    private final SyntheticRoster roster = new SyntheticRoster();
+    private final Model model = new ModelManager(roster.generateTuteeManagingSystem(3), new UserPrefs());
+
+    @Test
+    public void execute_nothingToUndo_throwsCommandException() {
+        assertThrows(CommandException.class, UndoCommand.MESSAGE_FAILURE, () -> new UndoCommand().execute(model));
+    }
+
+    @Test
+    public void execute_afterChange_changeUndoneAndAllTuteesShown() throws Exception {
+        List<Tutee> original = List.copyOf(model.getFilteredTuteeList());
+        model.deleteTutee(original.get(1));
+        model.commitTuteeManagingSystem();
+        model.updateFilteredTuteeList(tutee -> false);
+
+        CommandResult result = new UndoCommand().execute(model);
+        assertEquals(UndoCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+        assertEquals(original, model.getFilteredTuteeList());
+        assertTrue(model.canRedoTuteeManagingSystem());
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.logic.completion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ModelManager;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.fields.Attendance;
+import seedu.address.model.tutee.fields.Lesson;
+import seedu.address.testutil.TuteeTestBuilder;
+
+public class AutoCompleterTest {
+
+    private ModelManager model;
+    private AutoCompleter autoCompleter;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        model.addTutee(createTutee("Alice Pauline", "94351253", "GoodEffort"));
+        model.addTutee(createTutee("Alicia Tan", "98765432", "Quick"));
+        autoCompleter = new AutoCompleter(model);
+    }
+
+    @Test
+    public void complete_commandWord() {
+        assertEquals(Optional.of("filter "), autoCompleter.complete("fil"));
+        assertEquals(Optional.of("  delete "), autoCompleter.complete("  del"));
+
+        // several command words start with "un"
+        assertEquals(Optional.of("unmark "), autoCompleter.complete("unm"));
+        assertEquals(Optional.empty(), autoCompleter.complete("xyz"));
+    }
+
+    @Test
+    public void complete_prefix() {
+        assertEquals(Optional.of("add p/"), autoCompleter.complete("add p"));
+        assertEquals(Optional.of("filter sch/"), autoCompleter.complete("filter sc"));
+
+        // nothing to add after a prefix that is already complete
+        assertEquals(Optional.empty(), autoCompleter.complete("filter s/"));
+    }
+
+    @Test
+    public void complete_value() {
+        assertEquals(Optional.of("filter n/Alic"), autoCompleter.complete("filter n/al"));
+        assertEquals(Optional.of("filter n/Alice Pauline "), autoCompleter.complete("filter n/alice"));
+        assertEquals(Optional.of("filter t/Quick "), autoCompleter.complete("filter t/q"));
+        assertEquals(Optional.of("learn 1 l/Meet Tutor "), autoCompleter.complete("learn 1 l/me"));
+    }
+
+    @Test
+    public void complete_findKeyword_completesNameWord() {
+        assertEquals(Optional.of("find Pauline "), autoCompleter.complete("find pa"));
+        assertEquals(Optional.of("find bob Tan "), autoCompleter.complete("find bob t"));
+    }
+
+    @Test
+    public void complete_valuesUpdatedWithModel() {
+        assertEquals(Optional.of("find Alic"), autoCompleter.complete("find al"));
+
+        model.deleteTutee(model.getTuteeManagingSystem().getPersonList().get(1));
+        assertEquals(Optional.of("find Alice "), autoCompleter.complete("find al"));
+        assertEquals(Optional.empty(), autoCompleter.complete("find ta"));
+    }
+
+    private static Tutee createTutee(String name, String phone, String tag) {
+        return new TuteeTestBuilder().withName(name).withPhone(phone).withEmail("tutee@example.com")
+                .withAddress("311, Clementi Ave 2").withRemark("").withSubject("Math").withSchedule("friday")
+                .withStartTime("10:30").withEndTime("12:30").withTags(tag).withAttendance(new Attendance())
+                .withLesson(new Lesson()).build();
+    }
+}
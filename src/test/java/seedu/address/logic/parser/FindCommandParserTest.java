@@ -9,6 +9,7 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FuzzyFindCommand;
 import seedu.address.model.tutee.fields.NameContainsKeywordsPredicate;
 
 public class FindCommandParserTest {
@@ -31,4 +32,17 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fuzzyFlagWithoutKeywords_throwsParseException() {
+        assertParseFailure(parser, " --fuzzy  ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FuzzyFindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_fuzzyFlag_returnsFuzzyFindCommand() {
+        FuzzyFindCommand expectedFuzzyFindCommand = new FuzzyFindCommand(Arrays.asList("Alcie", "Bob"));
+        assertParseSuccess(parser, "--fuzzy Alcie Bob", expectedFuzzyFindCommand);
+        assertParseSuccess(parser, " \n --fuzzy \t Alcie \n Bob  \t", expectedFuzzyFindCommand);
+    }
+
 }
@@ -1,11 +1,13 @@
 package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -47,6 +49,17 @@ public class ParserUtilTest {
             -> ParserUtil.parseIndex(Long.toString(Integer.MAX_VALUE + 1)));
     }
 
+    @Test
+    public void parseDate_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_DATE, () -> ParserUtil.parseDate("2023-3-14"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_DATE, () -> ParserUtil.parseDate("14/03/2023"));
+    }
+
+    @Test
+    public void parseDate_validInput_success() throws Exception {
+        assertEquals(LocalDate.of(2023, 3, 14), ParserUtil.parseDate(" 2023-03-14 "));
+    }
+
     @Test
     public void parseIndex_validInput_success() throws Exception {
         // No whitespaces
@@ -171,6 +184,13 @@ public class ParserUtilTest {
         assertEquals(expectedTag, ParserUtil.parseTag(tagWithWhitespace));
     }
 
+    @Test
+    public void parseTag_sameValue_sharedInstance() throws Exception {
+        assertSame(ParserUtil.parseTag(VALID_TAG_1), ParserUtil.parseTag(WHITESPACE + VALID_TAG_1));
+        assertSame(ParserUtil.parseSubject("Math"), ParserUtil.parseSubject(" Math "));
+        assertSame(ParserUtil.parseStartTime("08:30"), ParserUtil.parseStartTime("08:30"));
+    }
+
     @Test
     public void parseTags_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseTags(null));
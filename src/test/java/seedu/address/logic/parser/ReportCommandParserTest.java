@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ReportCommand;
+
+public class ReportCommandParserTest {
+
+    private static final LocalDate FROM = LocalDate.of(2023, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2023, 3, 31);
+
+    private final ReportCommandParser parser = new ReportCommandParser();
+
+    @Test
+    public void parse_allFields_returnsReportCommand() {
+        assertParseSuccess(parser, " from/2023-01-01 to/2023-03-31 f/out/report.csv",
+                new ReportCommand(FROM, TO, Optional.of(Paths.get("out/report.csv"))));
+        assertParseSuccess(parser, " to/2023-03-31 from/2023-01-01",
+                new ReportCommand(FROM, TO, Optional.empty()));
+    }
+
+    @Test
+    public void parse_noStart_startsDefaultWeeksBeforeEnd() {
+        assertParseSuccess(parser, " to/2023-03-31",
+                new ReportCommand(TO.minusWeeks(ReportCommand.DEFAULT_WEEKS), TO, Optional.empty()));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " 1", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " from/2023-1-1", ParserUtil.MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, " from/2023-04-01 to/2023-03-31", ReportCommandParser.MESSAGE_END_BEFORE_START);
+        assertParseFailure(parser, " to/2023-03-31 f/report.txt", ReportCommandParser.MESSAGE_INVALID_FILE);
+    }
+}
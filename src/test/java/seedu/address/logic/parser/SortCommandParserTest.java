@@ -0,0 +1,30 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.model.tutee.TuteeOrder;
+
+public class SortCommandParserTest {
+
+    private final SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_validOrder_returnsSortCommand() {
+        assertParseSuccess(parser, " day", new SortCommand(TuteeOrder.DAY));
+        assertParseSuccess(parser, "  Subject  ", new SortCommand(TuteeOrder.SUBJECT));
+        assertParseSuccess(parser, " none", new SortCommand(TuteeOrder.NONE));
+    }
+
+    @Test
+    public void parse_invalidOrder_throwsParseException() {
+        String message = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", message);
+        assertParseFailure(parser, " age", message);
+        assertParseFailure(parser, " day time", message);
+    }
+}
@@ -7,8 +7,11 @@ import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -22,8 +25,15 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.ReportCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.TuteeOrder;
 import seedu.address.model.tutee.fields.NameContainsKeywordsPredicate;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonUtil;
@@ -88,6 +98,40 @@ public class TuteeManagingSystemParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_undoAndRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
+    @Test
+    public void parseCommand_query() throws Exception {
+        LocalDate date = LocalDate.of(2023, 3, 14);
+        assertEquals(new QueryCommand(date), parser.parseCommand(QueryCommand.COMMAND_WORD + " d/2023-03-14"));
+        assertEquals(new QueryCommand(INDEX_FIRST_PERSON, date),
+                parser.parseCommand(QueryCommand.COMMAND_WORD + " 1 2023-03-14"));
+        assertEquals(new QueryCommand(INDEX_FIRST_PERSON, YearMonth.of(2023, 3)),
+                parser.parseCommand(QueryCommand.COMMAND_WORD + " 1 m/2023-03"));
+        assertThrows(ParseException.class, () -> parser.parseCommand(QueryCommand.COMMAND_WORD + " d/14-03-2023"));
+    }
+
+    @Test
+    public void parseCommand_report() throws Exception {
+        assertEquals(new ReportCommand(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 3, 31), Optional.empty()),
+                parser.parseCommand(ReportCommand.COMMAND_WORD + " from/2023-01-01 to/2023-03-31"));
+    }
+
+    @Test
+    public void parseCommand_sort() throws Exception {
+        assertEquals(new SortCommand(TuteeOrder.DAY), parser.parseCommand(SortCommand.COMMAND_WORD + " day"));
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + " 3") instanceof StatsCommand);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -0,0 +1,51 @@
+package seedu.address.logic.replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.stats.PerformanceStats;
+import seedu.address.logic.parser.TuteeManagingSystemParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class CommandStreamTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void generate_sameSeed_sameCommands() {
+        assertEquals(new CommandStream(7, 100).generate(500), new CommandStream(7, 100).generate(500));
+        assertNotEquals(new CommandStream(7, 100).generate(500), new CommandStream(8, 100).generate(500));
+    }
+
+    @Test
+    public void generate_manyCommands_realisticMixThatParses() throws ParseException {
+        List<String> commands = new CommandStream(1, 1000).generate(2000);
+        assertEquals(2000, commands.size());
+
+        TuteeManagingSystemParser parser = new TuteeManagingSystemParser();
+        for (String command : commands) {
+            parser.parseCommand(command);
+        }
+
+        Set<String> commandWords = commands.stream().map(PerformanceStats::getCommandWord).collect(Collectors.toSet());
+        assertEquals(Set.of("filter", "find", "mark", "edit", "learn", "copy", "list"), commandWords);
+    }
+
+    @Test
+    public void read_recordedCommands_skipsBlankLinesAndComments() throws IOException {
+        Path file = testFolder.resolve("commands.txt");
+        Files.write(file, List.of("# recorded on 2023-03-14", "find Alex", "", "  mark 1 2023-03-14  "));
+        assertEquals(List.of("find Alex", "mark 1 2023-03-14"), CommandStream.read(file));
+    }
+}
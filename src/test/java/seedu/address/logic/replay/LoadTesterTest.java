@@ -0,0 +1,46 @@
+package seedu.address.logic.replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LoadTesterTest {
+
+    private static final int TUTEE_COUNT = 200;
+    private static final long SEED = 5;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void run_generatedCommands_reportsMeasurementsAndConsistentState() throws Exception {
+        List<String> commands = new CommandStream(SEED, TUTEE_COUNT).generate(300);
+        Path dataFile = testFolder.resolve("first").resolve("TMS.json");
+        ReplayReport report = LoadTester.run(TUTEE_COUNT, SEED, commands, dataFile);
+
+        assertEquals(300, report.getCommandCount());
+        assertEquals(300, report.getLatencies().getCount());
+        assertTrue(report.getFailedCount() < report.getCommandCount() / 2);
+        assertTrue(report.getBytesWritten() > 0);
+        assertTrue(report.getThroughput() > 0);
+        assertEquals(report.getStateDigest(), LoadTester.digestOf(dataFile));
+
+        ReplayReport referenceReport = LoadTester.run(TUTEE_COUNT, SEED, commands,
+                testFolder.resolve("reference").resolve("TMS.json"));
+        assertEquals(referenceReport.getStateDigest(), report.getStateDigest());
+    }
+
+    @Test
+    public void run_markCommand_changesStateDigest() throws Exception {
+        ReplayReport unchanged = LoadTester.run(TUTEE_COUNT, SEED, List.of("list"),
+                testFolder.resolve("unchanged").resolve("TMS.json"));
+        ReplayReport marked = LoadTester.run(TUTEE_COUNT, SEED, List.of("mark 1 2023-03-14", "mark 2 2023-03-14"),
+                testFolder.resolve("marked").resolve("TMS.json"));
+        assertTrue(!unchanged.getStateDigest().equals(marked.getStateDigest()));
+    }
+}
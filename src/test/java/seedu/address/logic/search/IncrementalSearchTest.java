@@ -0,0 +1,70 @@
+package seedu.address.logic.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.fields.Attendance;
+import seedu.address.model.tutee.fields.Lesson;
+import seedu.address.testutil.TuteeTestBuilder;
+
+public class IncrementalSearchTest {
+
+    private static final Tutee ALICE = createTutee("Alice Pauline", "94351253");
+    private static final Tutee ALBERT = createTutee("Albert Tan", "98765432");
+    private static final Tutee BENSON = createTutee("Benson Meier", "95352563");
+
+    private final IncrementalSearch incrementalSearch = new IncrementalSearch();
+
+    @Test
+    public void search_narrowerQuery_onlyTestsPreviousMatches() {
+        List<Tutee> roster = new ArrayList<>(Arrays.asList(ALICE, ALBERT, BENSON));
+        assertEquals(Arrays.asList(ALICE, ALBERT), search("find al", roster, 0));
+
+        // tutees that did not match before are not tested again
+        roster.set(2, createTutee("Alicia Lim", "91234567"));
+        assertEquals(Collections.singletonList(ALICE), search("find ali", roster, 0));
+    }
+
+    @Test
+    public void search_rosterChanged_testsWholeRoster() {
+        List<Tutee> roster = new ArrayList<>(Arrays.asList(ALICE, ALBERT, BENSON));
+        search("find al", roster, 0);
+
+        Tutee alicia = createTutee("Alicia Lim", "91234567");
+        roster.set(2, alicia);
+        assertEquals(Arrays.asList(ALICE, alicia), search("find ali", roster, 1));
+    }
+
+    @Test
+    public void search_broaderQuery_testsWholeRoster() {
+        List<Tutee> roster = Arrays.asList(ALICE, ALBERT, BENSON);
+        search("find ali", roster, 0);
+        assertEquals(Arrays.asList(ALICE, ALBERT, BENSON), search("filter p/9", roster, 0));
+    }
+
+    @Test
+    public void search_cancelled_returnsEmpty() {
+        SearchQuery query = SearchQuery.parse("find al").get();
+        assertFalse(incrementalSearch.search(query, Arrays.asList(ALICE, ALBERT), 0, () -> true).isPresent());
+    }
+
+    private List<Tutee> search(String commandText, List<Tutee> roster, long rosterVersion) {
+        SearchQuery query = SearchQuery.parse(commandText).get();
+        return incrementalSearch.search(query, roster, rosterVersion, () -> false).get();
+    }
+
+    private static Tutee createTutee(String name, String phone) {
+        return new TuteeTestBuilder().withName(name).withPhone(phone).withEmail("tutee@example.com")
+                .withAddress("311, Clementi Ave 2").withRemark("").withSubject("Math").withSchedule("friday")
+                .withStartTime("10:30").withEndTime("12:30").withAttendance(new Attendance())
+                .withLesson(new Lesson()).build();
+    }
+}
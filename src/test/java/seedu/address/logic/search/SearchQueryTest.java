@@ -0,0 +1,86 @@
+package seedu.address.logic.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.fields.Attendance;
+import seedu.address.model.tutee.fields.Lesson;
+import seedu.address.testutil.TuteeTestBuilder;
+
+public class SearchQueryTest {
+
+    private static final Tutee ALICE = new TuteeTestBuilder().withName("Alice Pauline").withPhone("94351253")
+            .withEmail("alice@example.com").withAddress("123, Jurong West Ave 6").withRemark("")
+            .withSubject("Math").withSchedule("friday").withStartTime("10:30").withEndTime("12:30")
+            .withTags("GoodEffort").withAttendance(new Attendance()).withLesson(new Lesson()).build();
+
+    @Test
+    public void parse_notSearchCommand_returnsEmpty() {
+        assertFalse(SearchQuery.parse("").isPresent());
+        assertFalse(SearchQuery.parse("find").isPresent());
+        assertFalse(SearchQuery.parse("find   ").isPresent());
+        assertFalse(SearchQuery.parse("find --fuzzy alcie").isPresent());
+        assertFalse(SearchQuery.parse("delete 1").isPresent());
+        assertFalse(SearchQuery.parse("FIND al").isPresent()); // command words are case sensitive
+        assertFalse(SearchQuery.parse("filter alice").isPresent()); // preamble
+        assertFalse(SearchQuery.parse("filter n/").isPresent()); // no keywords yet
+    }
+
+    @Test
+    public void parse_searchCommand_returnsQuery() {
+        assertEquals(SearchQuery.parse("find al"), SearchQuery.parse("  find  AL "));
+        assertTrue(SearchQuery.parse("filter n/al s/ma").isPresent());
+    }
+
+    @Test
+    public void test_keywordsStartWords_returnsTrue() {
+        assertTrue(parse("find al").test(ALICE));
+        assertTrue(parse("find PAUL ali").test(ALICE));
+        assertTrue(parse("filter n/al s/math t/good").test(ALICE));
+        assertTrue(parse("filter sch/fri st/10").test(ALICE));
+    }
+
+    @Test
+    public void test_keywordDoesNotStartWord_returnsFalse() {
+        // keyword in the middle of a word
+        assertFalse(parse("find lice").test(ALICE));
+
+        // every keyword must match
+        assertFalse(parse("find alice bob").test(ALICE));
+
+        // every field must match
+        assertFalse(parse("filter n/alice s/english").test(ALICE));
+    }
+
+    @Test
+    public void isNarrowerThan() {
+        SearchQuery al = parse("find al");
+
+        // same query
+        assertTrue(al.isNarrowerThan(al));
+
+        // longer keyword or extra keyword
+        assertTrue(parse("find ali").isNarrowerThan(al));
+        assertTrue(parse("find al pa").isNarrowerThan(al));
+        assertTrue(parse("filter n/al s/m").isNarrowerThan(parse("filter n/al")));
+
+        // shorter or different keyword
+        assertFalse(parse("find a").isNarrowerThan(al));
+        assertFalse(parse("find be").isNarrowerThan(al));
+
+        // field dropped
+        assertFalse(parse("filter s/m").isNarrowerThan(parse("filter n/al s/m")));
+    }
+
+    private static SearchQuery parse(String commandText) {
+        Optional<SearchQuery> query = SearchQuery.parse(commandText);
+        assertTrue(query.isPresent());
+        return query.get();
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.fields.Subject;
+import seedu.address.model.util.SyntheticRoster;
+
+public class ColumnarTuteeManagingSystemTest {
+
+    private static final int TUTEE_COUNT = 500;
+
+    private final TuteeManagingSystem rows = new SyntheticRoster().generateTuteeManagingSystem(TUTEE_COUNT);
+    private final ColumnarTuteeManagingSystem columns = new ColumnarTuteeManagingSystem(rows);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ColumnarTuteeManagingSystem(null));
+    }
+
+    @Test
+    public void getPersonList_sameTuteesInSameOrder() {
+        assertEquals(TUTEE_COUNT, columns.size());
+        assertEquals(rows.getPersonList(), columns.getPersonList());
+        for (int i = 0; i < TUTEE_COUNT; i++) {
+            Tutee original = rows.getPersonList().get(i);
+            Tutee view = columns.getTutee(i);
+            assertEquals(original.getAttendance(), view.getAttendance());
+            assertEquals(original.getLessons(), view.getLessons());
+            assertEquals(original.getRemark(), view.getRemark());
+            assertEquals(original.getStartTime(), view.getStartTime());
+        }
+    }
+
+    @Test
+    public void builder_tuteesAddedOneAtATime_sameAsCopy() {
+        ColumnarTuteeManagingSystem.Builder builder = new ColumnarTuteeManagingSystem.Builder();
+        new SyntheticRoster().stream(TUTEE_COUNT).forEach(builder::add);
+        assertEquals(columns, builder.build());
+    }
+
+    @Test
+    public void builder_built_throwsIllegalStateException() {
+        ColumnarTuteeManagingSystem.Builder builder = new ColumnarTuteeManagingSystem.Builder();
+        builder.build();
+        assertThrows(IllegalStateException.class, () -> builder.add(rows.getPersonList().get(0)));
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+
+    @Test
+    public void getSubjects_distinctSubjects() {
+        assertEquals(rows.getPersonList().stream().map(Tutee::getSubject).distinct().collect(Collectors.toList()),
+                columns.getSubjects());
+    }
+
+    @Test
+    public void getPersonList_modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> columns.getPersonList().remove(0));
+    }
+
+    @Test
+    public void getTutee_invalidRow_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> columns.getTutee(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> columns.getTutee(TUTEE_COUNT));
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(columns.equals(new ColumnarTuteeManagingSystem(rows)));
+        assertFalse(columns.equals(rows));
+        assertFalse(columns.equals(new ColumnarTuteeManagingSystem(new TuteeManagingSystem())));
+    }
+
+    @Test
+    public void onDay_matchesSchedule() {
+        for (DayOfWeek day : DayOfWeek.values()) {
+            assertFiltered(tutee -> tutee.getSchedule().getDayOfWeek() == day, columns.onDay(day));
+        }
+    }
+
+    @Test
+    public void withSubject_matchesSubject() {
+        Subject subject = rows.getPersonList().get(0).getSubject();
+        assertFiltered(tutee -> tutee.getSubject().equals(subject), columns.withSubject(subject));
+        ColumnarTuteeManagingSystem empty = new ColumnarTuteeManagingSystem(new TuteeManagingSystem());
+        assertEquals(0, empty.count(empty.withSubject(subject)));
+    }
+
+    @Test
+    public void withTag_matchesTags() {
+        Tag tag = rows.getPersonList().stream().flatMap(tutee -> tutee.getTags().stream()).findFirst().get();
+        assertFiltered(tutee -> tutee.getTags().contains(tag), columns.withTag(tag));
+    }
+
+    @Test
+    public void overlapping_matchesLessonTimes() {
+        LocalTime from = LocalTime.of(15, 0);
+        LocalTime to = LocalTime.of(17, 30);
+        assertFiltered(tutee -> tutee.getStartTime().getTimeValue().isBefore(to)
+                && tutee.getEndTime().getTimeValue().isAfter(from), columns.overlapping(from, to));
+    }
+
+    @Test
+    public void attendedOn_matchesAttendance() {
+        LocalDate date = rows.getPersonList().stream()
+                .flatMap(tutee -> tutee.getAttendance().stream()).findFirst().get();
+        for (LocalDate day = date.minusDays(70); day.isBefore(date.plusDays(70)); day = day.plusDays(1)) {
+            LocalDate attendedOn = day;
+            assertFiltered(tutee -> tutee.getAttendance().stream().anyMatch(attendedOn::equals),
+                    columns.attendedOn(attendedOn));
+        }
+    }
+
+    private void assertFiltered(Predicate<Tutee> expected, IntPredicate filter) {
+        List<Tutee> expectedTutees = rows.getPersonList().stream().filter(expected).collect(Collectors.toList());
+        assertEquals(expectedTutees, columns.filter(filter));
+        assertEquals(expectedTutees.size(), columns.count(filter));
+    }
+}
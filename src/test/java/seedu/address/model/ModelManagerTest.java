@@ -11,11 +11,19 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.stats.PerformanceStats;
+import seedu.address.model.tutee.Tutee;
 import seedu.address.model.tutee.fields.NameContainsKeywordsPredicate;
+import seedu.address.model.util.SyntheticRoster;
 import seedu.address.testutil.AddressBookBuilder;
 
 public class ModelManagerTest {
@@ -93,6 +101,34 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredTuteeList().remove(0));
     }
 
+    @Test
+    public void getTuteeSnapshot_laterChange_snapshotUnchanged() {
+        List<Tutee> tutees = new SyntheticRoster().generate(2);
+        modelManager.addTutee(tutees.get(0));
+        List<Tutee> snapshot = modelManager.getTuteeSnapshot();
+
+        modelManager.addTutee(tutees.get(1));
+        assertEquals(List.of(tutees.get(0)), snapshot);
+        assertEquals(tutees, modelManager.getTuteeSnapshot());
+    }
+
+    @Test
+    public void submitWrite_fromOtherThread_runsOnWriter() throws Exception {
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        ModelManager model = new ModelManager(new TuteeManagingSystem(), new UserPrefs(), new PerformanceStats(),
+                writer);
+        Tutee tutee = new SyntheticRoster().tutee(0);
+
+        CompletableFuture<String> writerName = CompletableFuture.supplyAsync(() -> model.submitWrite(m -> {
+            m.addTutee(tutee);
+            return Thread.currentThread().getName();
+        })).thenCompose(result -> result);
+        String expectedName = writer.submit(() -> Thread.currentThread().getName()).get(10, TimeUnit.SECONDS);
+        assertEquals(expectedName, writerName.get(10, TimeUnit.SECONDS));
+        assertEquals(List.of(tutee), model.getTuteeSnapshot());
+        writer.shutdown();
+    }
+
     @Test
     public void equals() {
         TuteeManagingSystem tuteeManagingSystem = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
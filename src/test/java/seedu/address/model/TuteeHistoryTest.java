@@ -0,0 +1,83 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.util.SyntheticRoster;
+
+public class TuteeHistoryTest {
+
+    private final List<Tutee> tutees = new SyntheticRoster().generate(10);
+
+    @Test
+    public void constructor_invalidLimits_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TuteeHistory(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new TuteeHistory(1, 0));
+    }
+
+    @Test
+    public void commit_noChanges_nothingToUndo() {
+        TuteeHistory history = new TuteeHistory(10, 10);
+        history.commit();
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void commit_tooManySteps_oldestForgotten() {
+        TuteeHistory history = new TuteeHistory(2, 100);
+        for (int i = 0; i < 3; i++) {
+            history.record(i, null, tutees.get(i));
+            history.commit();
+        }
+        assertSame(tutees.get(2), history.undo().get(0).after);
+        assertSame(tutees.get(1), history.undo().get(0).after);
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void commit_tooManyChanges_oldestForgotten() {
+        TuteeHistory history = new TuteeHistory(100, 3);
+        history.record(0, null, tutees.get(0));
+        history.record(1, null, tutees.get(1));
+        history.commit();
+        history.record(2, null, tutees.get(2));
+        history.record(3, null, tutees.get(3));
+        history.commit();
+
+        assertEquals(2, history.undo().size());
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void commit_stepTooLarge_everythingForgotten() {
+        TuteeHistory history = new TuteeHistory(100, 3);
+        history.record(0, null, tutees.get(0));
+        history.commit();
+        history.recordReset(tutees.subList(0, 1), tutees.subList(0, 5));
+        history.commit();
+
+        assertFalse(history.canUndo());
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void undoAndRedo_movesStepBetweenStacks() {
+        TuteeHistory history = new TuteeHistory(10, 10);
+        history.record(-1, tutees.get(0), tutees.get(1));
+        history.commit();
+
+        List<TuteeHistory.Change> changes = history.undo();
+        assertTrue(history.canRedo());
+        assertSame(changes, history.redo());
+        assertTrue(history.canUndo());
+        assertFalse(history.canRedo());
+    }
+}
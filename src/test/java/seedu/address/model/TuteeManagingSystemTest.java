@@ -9,17 +9,24 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalTuteeManagingSystem;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.event.TuteeEvent;
 import seedu.address.model.tutee.Tutee;
 import seedu.address.model.tutee.exceptions.DuplicatePersonException;
+import seedu.address.model.util.SyntheticRoster;
 import seedu.address.testutil.TuteeTestBuilder;
 
 public class TuteeManagingSystemTest {
@@ -83,6 +90,153 @@ public class TuteeManagingSystemTest {
         assertThrows(UnsupportedOperationException.class, () -> tuteeManagingSystem.getPersonList().remove(0));
     }
 
+    @Test
+    public void getUnsavedChanges_neverSaved_everythingChanged() {
+        assertTrue(tuteeManagingSystem.getUnsavedChanges().isEverythingChanged());
+    }
+
+    @Test
+    public void getUnsavedChanges_changedAfterSave_changedTuteesOnly() {
+        List<Tutee> tutees = new SyntheticRoster().generate(4);
+        tuteeManagingSystem.setPersons(tutees.subList(0, 3));
+        tuteeManagingSystem.markSaved();
+        assertEquals(new TuteeChanges(Set.of()), tuteeManagingSystem.getUnsavedChanges());
+
+        tuteeManagingSystem.setPerson(tutees.get(0), tutees.get(3));
+        tuteeManagingSystem.removePerson(tutees.get(1));
+        assertEquals(new TuteeChanges(Set.of(tutees.get(0), tutees.get(1), tutees.get(3))),
+                tuteeManagingSystem.getUnsavedChanges());
+
+        tuteeManagingSystem.setPersons(tutees);
+        assertTrue(tuteeManagingSystem.getUnsavedChanges().isEverythingChanged());
+    }
+
+    @Test
+    public void undo_noChanges_throwsIllegalArgumentException() {
+        assertFalse(tuteeManagingSystem.canUndo());
+        assertThrows(IllegalArgumentException.class, tuteeManagingSystem::undo);
+        assertThrows(IllegalArgumentException.class, tuteeManagingSystem::redo);
+    }
+
+    @Test
+    public void undoAndRedo_changedTutees_restoresListInOrder() {
+        List<Tutee> tutees = new SyntheticRoster().generate(5);
+        TuteeManagingSystem loaded = new TuteeManagingSystem(new TuteeManagingSystemStub(tutees.subList(0, 3)));
+        assertFalse(loaded.canUndo());
+        List<Tutee> original = List.copyOf(loaded.getPersonList());
+
+        loaded.removePerson(tutees.get(1));
+        loaded.addPerson(tutees.get(3));
+        loaded.setPerson(tutees.get(0), tutees.get(4));
+        loaded.commit();
+        List<Tutee> changed = List.copyOf(loaded.getPersonList());
+        loaded.markSaved();
+
+        loaded.undo();
+        assertEquals(original, loaded.getPersonList());
+        assertEquals(new TuteeChanges(Set.of(tutees.get(0), tutees.get(1), tutees.get(3), tutees.get(4))),
+                loaded.getUnsavedChanges());
+        assertFalse(loaded.canUndo());
+        assertTrue(loaded.canRedo());
+
+        loaded.redo();
+        assertEquals(changed, loaded.getPersonList());
+        assertTrue(loaded.canUndo());
+        assertFalse(loaded.canRedo());
+    }
+
+    @Test
+    public void undo_resetData_restoresEveryTutee() {
+        List<Tutee> tutees = new SyntheticRoster().generate(3);
+        TuteeManagingSystem loaded = new TuteeManagingSystem(new TuteeManagingSystemStub(tutees));
+        loaded.resetData(new TuteeManagingSystem());
+        loaded.commit();
+
+        loaded.undo();
+        assertEquals(tutees, loaded.getPersonList());
+        assertTrue(loaded.getUnsavedChanges().isEverythingChanged());
+    }
+
+    @Test
+    public void undoAndRedo_clearWithCopiedTutees_restoresEveryTutee() {
+        List<Tutee> tutees = new ArrayList<>(new SyntheticRoster().generate(3));
+        // Copies of a tutee for other subjects have the same name
+        Tutee copied = tutees.remove(0);
+        for (String subject : List.of("Math", "Physics", "English")) {
+            tutees.add(new TuteeTestBuilder(copied).withSubject(subject).build());
+        }
+        TuteeManagingSystem loaded = new TuteeManagingSystem(new TuteeManagingSystemStub(tutees));
+        loaded.resetData(new TuteeManagingSystem());
+        loaded.commit();
+
+        loaded.undo();
+        assertEquals(tutees, loaded.getPersonList());
+        loaded.redo();
+        assertEquals(List.of(), loaded.getPersonList());
+        loaded.undo();
+        assertEquals(tutees, loaded.getPersonList());
+    }
+
+    @Test
+    public void commit_afterUndo_forgetsRedo() {
+        List<Tutee> tutees = new SyntheticRoster().generate(2);
+        tuteeManagingSystem.addPerson(tutees.get(0));
+        tuteeManagingSystem.commit();
+        tuteeManagingSystem.undo();
+
+        tuteeManagingSystem.addPerson(tutees.get(1));
+        tuteeManagingSystem.commit();
+        assertFalse(tuteeManagingSystem.canRedo());
+        assertEquals(List.of(tutees.get(1)), tuteeManagingSystem.getPersonList());
+    }
+
+    @Test
+    public void changes_withSubscriber_publishesEvents() {
+        List<Tutee> tutees = new SyntheticRoster().generate(3);
+        List<TuteeEvent> events = new ArrayList<>();
+        tuteeManagingSystem.getEventFeed().subscribe(events::addAll);
+
+        tuteeManagingSystem.addPerson(tutees.get(0));
+        tuteeManagingSystem.addPerson(tutees.get(1));
+        tuteeManagingSystem.setPerson(tutees.get(1), tutees.get(2));
+        tuteeManagingSystem.removePerson(tutees.get(0));
+        tuteeManagingSystem.commit();
+        tuteeManagingSystem.undo();
+        assertEquals(List.of(TuteeEvent.added(0, tutees.get(0)), TuteeEvent.added(1, tutees.get(1)),
+                TuteeEvent.replaced(1, tutees.get(1), tutees.get(2)), TuteeEvent.removed(0, tutees.get(0)),
+                TuteeEvent.added(0, tutees.get(0)), TuteeEvent.replaced(1, tutees.get(2), tutees.get(1)),
+                TuteeEvent.removed(1, tutees.get(1)), TuteeEvent.removed(0, tutees.get(0))), events);
+
+        events.clear();
+        tuteeManagingSystem.setPersons(tutees);
+        assertEquals(List.of(TuteeEvent.reset(tutees)), events);
+    }
+
+    @Test
+    public void getTuteesPresentOn_afterMarkAndUndo_matchesAttendance() {
+        List<Tutee> tutees = new SyntheticRoster().generate(50);
+        tuteeManagingSystem.setPersons(tutees);
+        tuteeManagingSystem.commit();
+        Tutee tutee = tutees.get(0);
+        LocalDate date = LocalDate.of(2023, 3, 14);
+        assertEquals(presentOn(tutees, date), tuteeManagingSystem.getTuteesPresentOn(date));
+
+        Tutee marked = new TuteeTestBuilder(tutee).withAttendance(tutee.getAttendance().markAttendance(date)).build();
+        tuteeManagingSystem.setPerson(tutee, marked);
+        tuteeManagingSystem.commit();
+        assertTrue(tuteeManagingSystem.getTuteesPresentOn(date).contains(marked));
+        assertEquals(Integer.valueOf((int) marked.getAttendance().stream()
+                        .filter(attended -> YearMonth.from(attended).equals(YearMonth.from(date))).count()),
+                tuteeManagingSystem.getMonthlyAttendance(marked).get(YearMonth.from(date)));
+
+        tuteeManagingSystem.undo();
+        assertEquals(Set.copyOf(presentOn(tutees, date)), Set.copyOf(tuteeManagingSystem.getTuteesPresentOn(date)));
+    }
+
+    private static List<Tutee> presentOn(List<Tutee> tutees, LocalDate date) {
+        return tutees.stream().filter(tutee -> tutee.getAttendance().didAttend(date)).collect(Collectors.toList());
+    }
+
     /**
      * A stub ReadOnlyTuteeManagingSystem whose tutees list can violate interface constraints.
      */
@@ -0,0 +1,99 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.event.TuteeEvent.Kind;
+import seedu.address.model.event.TuteeEventFeed.Subscription;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.util.SyntheticRoster;
+
+public class TuteeEventFeedTest {
+
+    private final List<Tutee> tutees = new SyntheticRoster().generate(5);
+    private final TuteeEventFeed feed = new TuteeEventFeed(() -> tutees);
+    private final List<Runnable> pendingTasks = new ArrayList<>();
+
+    @Test
+    public void subscribe_synchronous_toldAboutEachEvent() {
+        List<List<TuteeEvent>> batches = new ArrayList<>();
+        Subscription subscription = feed.subscribe(batches::add);
+        assertTrue(feed.hasSubscribers());
+
+        feed.publish(TuteeEvent.added(0, tutees.get(0)));
+        feed.publish(TuteeEvent.removed(0, tutees.get(0)));
+        assertEquals(List.of(List.of(TuteeEvent.added(0, tutees.get(0))),
+                List.of(TuteeEvent.removed(0, tutees.get(0)))), batches);
+
+        subscription.close();
+        assertFalse(feed.hasSubscribers());
+        feed.publish(TuteeEvent.added(0, tutees.get(1)));
+        assertEquals(Integer.valueOf(2), Integer.valueOf(batches.size()));
+    }
+
+    @Test
+    public void subscribe_asynchronous_toldInOneBatch() {
+        List<List<TuteeEvent>> batches = new ArrayList<>();
+        feed.subscribe(batches::add, pendingTasks::add, 10);
+
+        for (int i = 0; i < 3; i++) {
+            feed.publish(TuteeEvent.added(i, tutees.get(i)));
+        }
+        assertTrue(batches.isEmpty());
+        assertEquals(Integer.valueOf(1), Integer.valueOf(pendingTasks.size()));
+
+        runPendingTasks();
+        assertEquals(List.of(List.of(TuteeEvent.added(0, tutees.get(0)), TuteeEvent.added(1, tutees.get(1)),
+                TuteeEvent.added(2, tutees.get(2)))), batches);
+
+        feed.publish(TuteeEvent.added(3, tutees.get(3)));
+        runPendingTasks();
+        assertEquals(List.of(TuteeEvent.added(3, tutees.get(3))), batches.get(1));
+    }
+
+    @Test
+    public void subscribe_asynchronousOverflow_toldAboutReset() {
+        List<List<TuteeEvent>> batches = new ArrayList<>();
+        feed.subscribe(batches::add, pendingTasks::add, 2);
+
+        for (int i = 0; i < 4; i++) {
+            feed.publish(TuteeEvent.added(i, tutees.get(i)));
+        }
+        runPendingTasks();
+        assertEquals(Integer.valueOf(1), Integer.valueOf(batches.size()));
+        List<TuteeEvent> batch = batches.get(0);
+        assertEquals(Kind.RESET, batch.get(0).getKind());
+        assertEquals(tutees, batch.get(0).getTutees());
+        // Events after the reset are still told
+        assertEquals(List.of(TuteeEvent.reset(tutees), TuteeEvent.added(3, tutees.get(3))), batch);
+    }
+
+    @Test
+    public void subscribe_asynchronousClosed_notTold() {
+        List<List<TuteeEvent>> batches = new ArrayList<>();
+        Subscription subscription = feed.subscribe(batches::add, pendingTasks::add, 10);
+        feed.publish(TuteeEvent.added(0, tutees.get(0)));
+        subscription.close();
+
+        runPendingTasks();
+        assertTrue(batches.isEmpty());
+    }
+
+    @Test
+    public void subscribe_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> feed.subscribe(events -> { }, Runnable::run, 0));
+    }
+
+    private void runPendingTasks() {
+        while (!pendingTasks.isEmpty()) {
+            pendingTasks.remove(0).run();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.event.TuteeEvent.Field;
+import seedu.address.model.event.TuteeEvent.Kind;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.TuteeBuilder;
+import seedu.address.model.tutee.fields.Phone;
+import seedu.address.model.util.SyntheticRoster;
+
+public class TuteeEventTest {
+
+    private static final LocalDate MARKED = LocalDate.of(2030, 1, 7);
+
+    private final Tutee tutee = withAttendance(new SyntheticRoster());
+
+    @Test
+    public void replaced_onlyAttendanceChanged_attendanceDelta() throws Exception {
+        LocalDate unmarked = tutee.getAttendance().iterator().next();
+        Tutee marked = new TuteeBuilder(tutee)
+                .withAttendance(tutee.getAttendance().markAttendance(MARKED).unmarkAttendance(unmarked)).build();
+
+        TuteeEvent event = TuteeEvent.replaced(3, tutee, marked);
+        assertEquals(Kind.ATTENDANCE_CHANGED, event.getKind());
+        assertEquals(Integer.valueOf(3), Integer.valueOf(event.getIndex()));
+        assertEquals(EnumSet.of(Field.ATTENDANCE), event.getChangedFields());
+        assertEquals(Set.of(MARKED), event.getMarkedDates());
+        assertEquals(Set.of(unmarked), event.getUnmarkedDates());
+    }
+
+    @Test
+    public void replaced_otherFieldsChanged_listsChangedFields() throws Exception {
+        Tutee edited = new TuteeBuilder(tutee).withPhone(new Phone("91234567"))
+                .withAttendance(tutee.getAttendance().markAttendance(MARKED)).build();
+
+        TuteeEvent event = TuteeEvent.replaced(0, tutee, edited);
+        assertEquals(Kind.FIELDS_CHANGED, event.getKind());
+        assertEquals(EnumSet.of(Field.PHONE, Field.ATTENDANCE), event.getChangedFields());
+        assertEquals(Set.of(MARKED), event.getMarkedDates());
+        assertEquals(Set.of(), event.getUnmarkedDates());
+    }
+
+    @Test
+    public void replaced_nothingChanged_noChangedFields() {
+        TuteeEvent event = TuteeEvent.replaced(0, tutee, tutee);
+        assertEquals(Kind.FIELDS_CHANGED, event.getKind());
+        assertEquals(EnumSet.noneOf(Field.class), event.getChangedFields());
+    }
+
+    @Test
+    public void addedAndRemoved_everyFieldAndDate() {
+        TuteeEvent added = TuteeEvent.added(1, tutee);
+        assertEquals(EnumSet.allOf(Field.class), added.getChangedFields());
+        assertEquals(Long.valueOf(tutee.getAttendance().stream().count()),
+                Long.valueOf(added.getMarkedDates().size()));
+        assertNull(added.getBefore());
+
+        TuteeEvent removed = TuteeEvent.removed(1, tutee);
+        assertEquals(Kind.REMOVED, removed.getKind());
+        assertEquals(added.getMarkedDates(), removed.getUnmarkedDates());
+        assertNull(removed.getAfter());
+    }
+
+    @Test
+    public void reset_hasTutees() {
+        TuteeEvent event = TuteeEvent.reset(List.of(tutee));
+        assertEquals(Kind.RESET, event.getKind());
+        assertEquals(List.of(tutee), event.getTutees());
+        assertEquals(TuteeEvent.reset(List.of(tutee)), event);
+    }
+
+    private static Tutee withAttendance(SyntheticRoster roster) {
+        int id = 0;
+        while (!roster.tutee(id).getAttendance().iterator().hasNext()) {
+            id++;
+        }
+        return roster.tutee(id);
+    }
+}
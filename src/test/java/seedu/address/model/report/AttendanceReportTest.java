@@ -0,0 +1,106 @@
+package seedu.address.model.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.tutee.fields.Attendance;
+import seedu.address.model.util.SyntheticRoster;
+import seedu.address.testutil.TuteeTestBuilder;
+
+public class AttendanceReportTest {
+
+    private static final LocalDate FROM = LocalDate.of(2023, 1, 2);
+    private static final LocalDate TO = LocalDate.of(2023, 1, 31);
+
+    private final SyntheticRoster roster = new SyntheticRoster();
+
+    /** Scheduled on the Mondays from 2 to 30 January 2023, and attends three of them and one Wednesday. */
+    private Tutee mondayTutee() {
+        Attendance attendance = new Attendance(Set.of(LocalDate.of(2022, 12, 26), LocalDate.of(2023, 1, 2),
+                LocalDate.of(2023, 1, 4), LocalDate.of(2023, 1, 23), LocalDate.of(2023, 1, 30)));
+        return new TuteeTestBuilder(roster.tutee(0)).withSchedule("monday").withSubject("Math")
+                .withAttendance(attendance).build();
+    }
+
+    @Test
+    public void of_endBeforeStart_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> AttendanceReport.of(List.of(), TO, FROM));
+    }
+
+    @Test
+    public void of_oneTutee_countsScheduledLessons() {
+        AttendanceReport report = AttendanceReport.of(List.of(mondayTutee()), FROM, TO);
+
+        AttendanceReport.TuteeSummary summary = report.getTutee(0);
+        assertEquals(Long.valueOf(5), Long.valueOf(summary.getTally().getExpected()));
+        assertEquals(Long.valueOf(3), Long.valueOf(summary.getTally().getAttended()));
+        assertEquals(Long.valueOf(1), Long.valueOf(summary.getTally().getOffSchedule()));
+        assertEquals(Integer.valueOf(2), Integer.valueOf(summary.getCurrentStreak()));
+        assertEquals(Integer.valueOf(2), Integer.valueOf(summary.getLongestAbsence()));
+        assertEquals(LocalDate.of(2023, 1, 9), summary.getLongestAbsenceFrom());
+
+        assertEquals(Long.valueOf(5), Long.valueOf(report.getByDay(DayOfWeek.MONDAY).getExpected()));
+        assertEquals(Long.valueOf(1), Long.valueOf(report.getByDay(DayOfWeek.WEDNESDAY).getOffSchedule()));
+        assertEquals(Long.valueOf(3), Long.valueOf(report.getBySubject(0).getAttended()));
+    }
+
+    @Test
+    public void of_roster_totalsMatchTutees() {
+        List<Tutee> tutees = roster.generate(500);
+        AttendanceReport report = AttendanceReport.of(tutees, SyntheticRoster.END_DATE.minusYears(2),
+                SyntheticRoster.END_DATE);
+
+        long expected = 0;
+        long attended = 0;
+        long bySubject = 0;
+        long byDay = 0;
+        for (int i = 0; i < report.getTuteeCount(); i++) {
+            AttendanceReport.Tally tally = report.getTutee(i).getTally();
+            assertTrue(tally.getAttended() <= tally.getExpected());
+            expected += tally.getExpected();
+            attended += tally.getAttended();
+        }
+        for (int i = 0; i < 3; i++) {
+            bySubject += report.getBySubject(i).getAttended();
+        }
+        for (DayOfWeek day : DayOfWeek.values()) {
+            byDay += report.getByDay(day).getExpected();
+        }
+        assertEquals(Long.valueOf(expected), Long.valueOf(report.getOverall().getExpected()));
+        assertEquals(Long.valueOf(attended), Long.valueOf(report.getOverall().getAttended()));
+        assertEquals(Long.valueOf(attended), Long.valueOf(bySubject));
+        assertEquals(Long.valueOf(expected), Long.valueOf(byDay));
+    }
+
+    @Test
+    public void writeCsv_oneTutee_writesRows() throws IOException {
+        Tutee tutee = mondayTutee();
+        StringWriter writer = new StringWriter();
+        AttendanceReport.of(List.of(tutee), FROM, TO).writeCsv(writer);
+
+        String[] lines = writer.toString().split("\n");
+        assertEquals(AttendanceReport.CSV_HEADER, lines[0]);
+        assertEquals("overall,,5,3,0.6000,1,,,", lines[1]);
+        assertEquals("tutee," + tutee.getName() + ",5,3,0.6000,1,2,2,2023-01-09", lines[lines.length - 1]);
+    }
+
+    @Test
+    public void toString_manyTutees_listsAtMostMaximum() {
+        String text = AttendanceReport.of(roster.generate(60), FROM, TO).toString();
+
+        assertTrue(text.contains("\n  50. "));
+        assertTrue(!text.contains("\n  51. "));
+        assertTrue(text.endsWith("... and 10 more"));
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.model.tutee;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tutee.exceptions.PersonNotFoundException;
+import seedu.address.model.tutee.fields.Attendance;
+import seedu.address.model.util.SyntheticRoster;
+import seedu.address.testutil.TuteeTestBuilder;
+
+public class AttendanceIndexTest {
+
+    private static final LocalDate MARCH_14 = LocalDate.of(2023, 3, 14);
+    private static final LocalDate MARCH_21 = LocalDate.of(2023, 3, 21);
+    private static final LocalDate APRIL_4 = LocalDate.of(2023, 4, 4);
+
+    private final SyntheticRoster roster = new SyntheticRoster();
+    private final AttendanceIndex index = new AttendanceIndex();
+
+    private Tutee withAttendance(int id, LocalDate... dates) {
+        return new TuteeTestBuilder(roster.tutee(id)).withAttendance(new Attendance(Set.of(dates))).build();
+    }
+
+    @Test
+    public void add_tutees_indexedByDateAndMonth() {
+        Tutee first = withAttendance(0, MARCH_14, MARCH_21, APRIL_4);
+        Tutee second = withAttendance(1, MARCH_14);
+        index.add(first);
+        index.add(second);
+
+        assertEquals(List.of(first, second), index.getTuteesPresentOn(MARCH_14));
+        assertEquals(List.of(first), index.getTuteesPresentOn(APRIL_4));
+        assertEquals(List.of(), index.getTuteesPresentOn(LocalDate.of(2023, 3, 15)));
+        assertEquals(Map.of(YearMonth.of(2023, 3), 2, YearMonth.of(2023, 4), 1), index.getMonthlyCounts(first));
+    }
+
+    @Test
+    public void replace_markAndUnmark_updatesChangedDates() {
+        Tutee tutee = withAttendance(0, MARCH_14, MARCH_21);
+        Tutee other = withAttendance(1, MARCH_14);
+        index.add(tutee);
+        index.add(other);
+
+        Tutee edited = new TuteeTestBuilder(tutee).withAttendance(tutee.getAttendance()
+                .unmarkAttendance(MARCH_21).markAttendance(APRIL_4)).build();
+        index.replace(tutee, edited);
+
+        assertEquals(List.of(edited, other), index.getTuteesPresentOn(MARCH_14));
+        assertEquals(List.of(), index.getTuteesPresentOn(MARCH_21));
+        assertEquals(List.of(edited), index.getTuteesPresentOn(APRIL_4));
+        assertEquals(Map.of(YearMonth.of(2023, 3), 1, YearMonth.of(2023, 4), 1), index.getMonthlyCounts(edited));
+        assertThrows(PersonNotFoundException.class, () -> index.getMonthlyCounts(tutee));
+    }
+
+    @Test
+    public void remove_tutee_removedFromEveryDate() {
+        Tutee tutee = withAttendance(0, MARCH_14, APRIL_4);
+        index.add(tutee);
+        index.remove(tutee);
+
+        assertEquals(List.of(), index.getTuteesPresentOn(MARCH_14));
+        assertEquals(List.of(), index.getTuteesPresentOn(APRIL_4));
+        assertThrows(PersonNotFoundException.class, () -> index.getMonthlyCounts(tutee));
+    }
+}
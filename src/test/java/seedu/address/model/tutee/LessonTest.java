@@ -0,0 +1,58 @@
+package seedu.address.model.tutee;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tutee.fields.Lesson;
+
+public class LessonTest {
+
+    @Test
+    public void constructor_setChangedAfterwards_lessonUnchanged() {
+        Set<String> lessons = new HashSet<>(Set.of("Algebra"));
+        Lesson lesson = new Lesson(lessons);
+        lessons.add("Vectors");
+        assertFalse(lesson.didAttend("Vectors"));
+    }
+
+    @Test
+    public void learn_newLesson_originalUnchanged() {
+        Lesson original = new Lesson();
+        Lesson learned = original.learn("Algebra");
+
+        assertTrue(learned.didAttend("Algebra"));
+        assertTrue(learned.didAttend("Meet Tutor"));
+        assertFalse(original.didAttend("Algebra"));
+        assertEquals(new Lesson(), original);
+    }
+
+    @Test
+    public void learn_learnedLesson_sameLesson() {
+        Lesson lesson = new Lesson().learn("Algebra");
+        assertSame(lesson, lesson.learn("Algebra"));
+    }
+
+    @Test
+    public void unlearn_learnedLesson_originalUnchanged() {
+        Lesson original = new Lesson().learn("Algebra");
+        Lesson unlearned = original.unlearn("Algebra");
+
+        assertFalse(unlearned.didAttend("Algebra"));
+        assertTrue(original.didAttend("Algebra"));
+        assertEquals(new Lesson(), unlearned);
+    }
+
+    @Test
+    public void unlearn_notLearned_throwsNoSuchElementException() {
+        assertThrows(NoSuchElementException.class, () -> new Lesson().unlearn("Algebra"));
+    }
+}
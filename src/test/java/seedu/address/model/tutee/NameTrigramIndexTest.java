@@ -0,0 +1,110 @@
+package seedu.address.model.tutee;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tutee.fields.Name;
+
+public class NameTrigramIndexTest {
+
+    private NameTrigramIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new NameTrigramIndex();
+        index.add(new Name("Alice Pauline"));
+        index.add(new Name("Benson Meier"));
+        index.add(new Name("Alice Tan"));
+    }
+
+    @Test
+    public void match_nullKeyword_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.match((String) null));
+    }
+
+    @Test
+    public void match_blankKeyword_returnsEmptyList() {
+        assertTrue(index.match("  ").isEmpty());
+    }
+
+    @Test
+    public void match_exactKeyword_returnsWord() {
+        assertEquals(Collections.singletonList("alice"), index.match("ALICE"));
+    }
+
+    @Test
+    public void match_keywordWithTypos_returnsClosestWordsFirst() {
+        // transposition
+        assertEquals(Collections.singletonList("alice"), index.match("alcie"));
+
+        // substitution and deletion in a long word
+        assertEquals(Collections.singletonList("pauline"), index.match("paulne"));
+        assertEquals(Collections.singletonList("benson"), index.match("bensen"));
+    }
+
+    @Test
+    public void match_keywordSharingFewTrigrams_returnsWord() {
+        index.add(new Name("Bob Lim"));
+
+        // No trigram in common, but only one or two edits away
+        assertEquals(Collections.singletonList("bob"), index.match("bxb"));
+        assertEquals(Collections.singletonList("benson"), index.match("bxnsxn"));
+    }
+
+    @Test
+    public void match_manyWordsMoreAlikeByTrigrams_returnsWordWithinEdits() {
+        index.add(new Name("John Doe"));
+        // Each shares more trigrams with "jonh" than "john" does, but is two edits away from it
+        for (char first = 'a'; first <= 'z'; first++) {
+            for (char second = 'a'; second <= 'e'; second++) {
+                index.add(new Name("Jonh" + first + second));
+            }
+        }
+
+        assertEquals(Collections.singletonList("john"), index.match("jonh"));
+    }
+
+    @Test
+    public void match_keywordTooFarAway_returnsEmptyList() {
+        assertTrue(index.match("albert").isEmpty());
+
+        // short keywords must match exactly
+        assertTrue(index.match("tn").isEmpty());
+    }
+
+    @Test
+    public void match_multipleKeywords_returnsUnionOfMatches() {
+        List<String> keywords = Arrays.asList("alcie", "meir", "nobody");
+        assertEquals(Arrays.asList("alice", "meier"), Arrays.asList(index.match(keywords).toArray()));
+    }
+
+    @Test
+    public void remove_wordSharedWithAnotherName_wordStillMatches() {
+        index.remove(new Name("Alice Pauline"));
+        assertEquals(Collections.singletonList("alice"), index.match("alice"));
+        assertTrue(index.match("pauline").isEmpty());
+
+        index.remove(new Name("Alice Tan"));
+        assertTrue(index.match("alice").isEmpty());
+    }
+
+    @Test
+    public void clear_removesAllWords() {
+        index.clear();
+        assertTrue(index.match("benson").isEmpty());
+    }
+
+    @Test
+    public void toWords_mixedCaseName_returnsLowerCaseWords() {
+        assertEquals(Arrays.asList("david", "roger", "jr", "2nd"),
+                NameTrigramIndex.toWords(new Name("David Roger Jr 2nd")));
+    }
+}
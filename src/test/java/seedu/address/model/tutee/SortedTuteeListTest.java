@@ -0,0 +1,120 @@
+package seedu.address.model.tutee;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.util.SyntheticRoster;
+
+public class SortedTuteeListTest {
+
+    private final SyntheticRoster roster = new SyntheticRoster();
+    private final ObservableList<Tutee> source = FXCollections.observableArrayList(roster.generate(50));
+    private final SortedTuteeList sorted = new SortedTuteeList(source);
+
+    @Test
+    public void constructor_noOrder_sourceOrder() {
+        assertEquals(source, sorted);
+        assertEquals(TuteeOrder.NONE, sorted.getOrder());
+    }
+
+    @Test
+    public void setOrder_everyOrder_sortedByFields() {
+        for (TuteeOrder order : TuteeOrder.values()) {
+            sorted.setOrder(order);
+            assertSorted();
+        }
+    }
+
+    @Test
+    public void setOrder_day_byDayThenStartTime() {
+        sorted.setOrder(TuteeOrder.DAY);
+        for (int i = 1; i < sorted.size(); i++) {
+            Tutee previous = sorted.get(i - 1);
+            Tutee current = sorted.get(i);
+            int byDay = previous.getSchedule().getDayOfWeek().compareTo(current.getSchedule().getDayOfWeek());
+            assertEquals(Boolean.TRUE, byDay < 0 || byDay == 0
+                    && !previous.getStartTime().getTimeValue().isAfter(current.getStartTime().getTimeValue()));
+        }
+    }
+
+    @Test
+    public void setOrder_name_byNameIgnoringCase() {
+        sorted.setOrder(TuteeOrder.NAME);
+        List<Tutee> expected = new ArrayList<>(source);
+        expected.sort(Comparator.comparing(tutee -> tutee.getName().toString(), String.CASE_INSENSITIVE_ORDER));
+        assertEquals(expected, sorted);
+    }
+
+    @Test
+    public void sourceChanged_fewChanges_onlyChangedTuteesMoved() {
+        sorted.setOrder(TuteeOrder.SUBJECT);
+        List<Integer> changeSizes = new ArrayList<>();
+        sorted.addListener((ListChangeListener<Tutee>) change -> {
+            while (change.next()) {
+                changeSizes.add(change.getAddedSize() + change.getRemovedSize());
+            }
+        });
+
+        source.set(3, roster.tutee(100));
+        assertSorted();
+        assertEquals(List.of(1, 1), changeSizes);
+
+        source.add(0, roster.tutee(101));
+        source.remove(10);
+        source.add(roster.tutee(102));
+        assertSorted();
+        assertEquals(List.of(1, 1, 1, 1, 1), changeSizes);
+    }
+
+    @Test
+    public void sourceChanged_manyChanges_resorted() {
+        sorted.setOrder(TuteeOrder.TIME);
+        List<Tutee> added = new ArrayList<>();
+        for (int i = 0; i <= SortedTuteeList.MAX_INCREMENTAL_CHANGES; i++) {
+            added.add(roster.tutee(200 + i));
+        }
+        source.addAll(added);
+        assertSorted();
+
+        source.setAll(roster.generate(10));
+        assertSorted();
+        source.remove(0, 10);
+        assertEquals(List.of(), sorted);
+    }
+
+    /**
+     * Asserts that the view has every tutee of the source, sorted by its order and then by where they are in the
+     * source.
+     */
+    private void assertSorted() {
+        TuteeOrder order = sorted.getOrder();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < source.size(); i++) {
+            expected.add(i);
+        }
+        expected.sort((first, second) -> {
+            Tutee firstTutee = source.get(first);
+            Tutee secondTutee = source.get(second);
+            int comparison = Long.compareUnsigned(order.getKey(firstTutee), order.getKey(secondTutee));
+            if (comparison == 0) {
+                comparison = order.compareSameKey(firstTutee, secondTutee);
+            }
+            return comparison != 0 ? comparison : Integer.compare(first, second);
+        });
+
+        List<Integer> actual = new ArrayList<>();
+        for (int i = 0; i < sorted.size(); i++) {
+            actual.add(sorted.getSourceIndex(i));
+            assertEquals(source.get(sorted.getSourceIndex(i)), sorted.get(i));
+        }
+        assertEquals(expected, actual);
+    }
+}
@@ -15,6 +15,8 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.tutee.fields.Attendance;
+import seedu.address.model.tutee.fields.Lesson;
 import seedu.address.testutil.TuteeTestBuilder;
 
 public class TuteeTest {
@@ -25,6 +27,26 @@ public class TuteeTest {
         assertThrows(UnsupportedOperationException.class, () -> tutee.getTags().remove(0));
     }
 
+    @Test
+    public void isSameLesson() throws Exception {
+        Tutee tutee = new TuteeTestBuilder().withName("Amy Bee").withPhone("85355255").withEmail("amy@gmail.com")
+                .withAddress("123, Jurong West Ave 6, #08-111").withRemark("").withSubject("Math")
+                .withSchedule("friday").withStartTime("10:30").withEndTime("12:30")
+                .withAttendance(new Attendance()).withLesson(new Lesson()).build();
+
+        // same name and time slot, other details different -> returns true
+        assertTrue(tutee.isSameLesson(new TuteeTestBuilder(tutee).withPhone("91234567").build()));
+
+        // copied to another day -> returns false, and the copy is a different tutee
+        Tutee copy = new TuteeTestBuilder(tutee).withSchedule("monday").build();
+        assertFalse(tutee.isSameLesson(copy));
+        assertFalse(tutee.equals(copy));
+
+        // copied to another subject or time -> returns false
+        assertFalse(tutee.isSameLesson(new TuteeTestBuilder(tutee).withSubject("English").build()));
+        assertFalse(tutee.isSameLesson(new TuteeTestBuilder(tutee).withStartTime("09:30").build()));
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
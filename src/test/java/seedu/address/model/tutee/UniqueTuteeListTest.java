@@ -17,6 +17,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.model.tutee.exceptions.DuplicatePersonException;
 import seedu.address.model.tutee.exceptions.PersonNotFoundException;
+import seedu.address.model.util.SyntheticRoster;
 import seedu.address.testutil.TuteeTestBuilder;
 
 public class UniqueTuteeListTest {
@@ -127,6 +128,30 @@ public class UniqueTuteeListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_expectedIndex_removesPersonWhereverItIs() {
+        SyntheticRoster roster = new SyntheticRoster();
+        uniquePersonList.addAll(roster.generate(5));
+
+        assertEquals(2, uniquePersonList.remove(2, roster.tutee(2)));
+        // No longer at the index expected, so it is searched for
+        assertEquals(0, uniquePersonList.remove(3, roster.tutee(0)));
+        assertEquals(Arrays.asList(roster.tutee(1), roster.tutee(3), roster.tutee(4)),
+                uniquePersonList.asUnmodifiableObservableList());
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(0, roster.tutee(2)));
+    }
+
+    @Test
+    public void setPerson_expectedIndex_replacesPersonWhereverItIs() {
+        SyntheticRoster roster = new SyntheticRoster();
+        uniquePersonList.addAll(roster.generate(5));
+
+        assertEquals(1, uniquePersonList.setPerson(1, roster.tutee(1), roster.tutee(5)));
+        assertEquals(3, uniquePersonList.setPerson(0, roster.tutee(3), roster.tutee(6)));
+        assertEquals(Arrays.asList(roster.tutee(0), roster.tutee(5), roster.tutee(2), roster.tutee(6),
+                roster.tutee(4)), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -0,0 +1,66 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.TuteeManagingSystem;
+import seedu.address.model.tutee.Tutee;
+
+public class SyntheticRosterTest {
+
+    private static final int COUNT = 3000;
+
+    @Test
+    public void generate_sameSeed_sameTutees() {
+        assertEquals(new SyntheticRoster(42).generate(100), new SyntheticRoster(42).generate(100));
+    }
+
+    @Test
+    public void generate_differentSeeds_differentTutees() {
+        assertNotEquals(new SyntheticRoster(1).generate(100), new SyntheticRoster(2).generate(100));
+    }
+
+    @Test
+    public void generate_smallerCount_prefixOfLargerRoster() {
+        SyntheticRoster roster = new SyntheticRoster();
+        List<Tutee> larger = roster.generate(200);
+        assertEquals(larger.subList(0, 50), roster.generate(50));
+        assertEquals(larger.get(150), roster.tutee(150));
+    }
+
+    @Test
+    public void generateTuteeManagingSystem_manyTutees_uniqueAndValid() {
+        TuteeManagingSystem tuteeManagingSystem = new SyntheticRoster().generateTuteeManagingSystem(COUNT);
+        assertEquals(COUNT, tuteeManagingSystem.getPersonList().size());
+
+        for (Tutee tutee : tuteeManagingSystem.getPersonList()) {
+            assertTrue(tutee.getEndTime().getTimeValue().isAfter(tutee.getStartTime().getTimeValue()));
+            for (LocalDate date : tutee.getAttendance()) {
+                assertFalse(date.isAfter(SyntheticRoster.END_DATE));
+                assertTrue(date.isAfter(SyntheticRoster.END_DATE.minusYears(SyntheticRoster.MAX_YEARS_OF_LESSONS + 1)));
+                assertEquals(tutee.getSchedule().schedule, date.getDayOfWeek().name().toLowerCase());
+            }
+        }
+    }
+
+    @Test
+    public void generate_manyTutees_mathMostCommonSubject() {
+        List<Tutee> tutees = new SyntheticRoster().generate(COUNT);
+        long math = tutees.stream().filter(tutee -> tutee.getSubject().subject.equals("Math")).count();
+        long physics = tutees.stream().filter(tutee -> tutee.getSubject().subject.equals("Physics")).count();
+        assertTrue(math > physics);
+    }
+
+    @Test
+    public void stream_negativeCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticRoster().stream(-1));
+    }
+}
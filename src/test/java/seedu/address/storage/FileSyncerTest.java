@@ -0,0 +1,117 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DataCompression;
+import seedu.address.commons.core.DurabilityMode;
+import seedu.address.commons.core.stats.PerformanceStats;
+import seedu.address.commons.util.CompressionUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.TuteeManagingSystem;
+import seedu.address.model.util.SyntheticRoster;
+
+public class FileSyncerTest {
+
+    private static final long NEVER_DUE_MILLIS = 3_600_000;
+    private static final long WAIT_MILLIS = 10_000;
+
+    @TempDir
+    public Path testFolder;
+
+    private final PerformanceStats performanceStats = new PerformanceStats();
+
+    @Test
+    public void constructor_invalidLimits_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new FileSyncer(DurabilityMode.GROUP_COMMIT, 0, 1, performanceStats));
+        assertThrows(IllegalArgumentException.class, () ->
+                new FileSyncer(DurabilityMode.GROUP_COMMIT, 1, 0, performanceStats));
+    }
+
+    @Test
+    public void commit_never_noSync() throws Exception {
+        FileSyncer fileSyncer = new FileSyncer(DurabilityMode.NEVER, NEVER_DUE_MILLIS, 1, performanceStats);
+        save(fileSyncer, 3);
+        fileSyncer.forceNow(testFolder.resolve("TMS.json"));
+        fileSyncer.close();
+        assertEquals(0, performanceStats.getSyncCount(DurabilityMode.NEVER));
+    }
+
+    @Test
+    public void commit_perCommand_syncsEveryCommit() throws Exception {
+        FileSyncer fileSyncer = new FileSyncer(DurabilityMode.PER_COMMAND, NEVER_DUE_MILLIS, 1, performanceStats);
+        save(fileSyncer, 3);
+        assertEquals(3, performanceStats.getSyncCount(DurabilityMode.PER_COMMAND));
+        assertEquals(3, performanceStats.getSyncedCommandCount(DurabilityMode.PER_COMMAND));
+    }
+
+    @Test
+    public void commit_groupCommitNotDue_syncedTogetherOnClose() throws Exception {
+        FileSyncer fileSyncer = new FileSyncer(DurabilityMode.GROUP_COMMIT, NEVER_DUE_MILLIS, 100, performanceStats);
+        TuteeManagingSystem lastSaved = save(fileSyncer, 5);
+        assertEquals(0, performanceStats.getSyncCount(DurabilityMode.GROUP_COMMIT));
+        // Not moved into place until the group is forced
+        assertFalse(Files.exists(testFolder.resolve("TMS.json")));
+
+        fileSyncer.close();
+        assertEquals(1, performanceStats.getSyncCount(DurabilityMode.GROUP_COMMIT));
+        assertEquals(5, performanceStats.getSyncedCommandCount(DurabilityMode.GROUP_COMMIT));
+        assertEquals(lastSaved, new TuteeManagingSystem(
+                new JsonAddressBookStorage(testFolder.resolve("TMS.json")).readAddressBook().get()));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(Long.valueOf(1), Long.valueOf(files.count()));
+        }
+    }
+
+    @Test
+    public void commit_groupCommitFull_syncedInBackground() throws Exception {
+        FileSyncer fileSyncer = new FileSyncer(DurabilityMode.GROUP_COMMIT, NEVER_DUE_MILLIS, 2, performanceStats);
+        save(fileSyncer, 2);
+
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (performanceStats.getSyncCount(DurabilityMode.GROUP_COMMIT) == 0
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, performanceStats.getSyncCount(DurabilityMode.GROUP_COMMIT));
+        assertEquals(2, performanceStats.getSyncedCommandCount(DurabilityMode.GROUP_COMMIT));
+        fileSyncer.close();
+    }
+
+    @Test
+    public void commit_fileDeletedSinceWritten_ignored() throws Exception {
+        FileSyncer fileSyncer = new FileSyncer(DurabilityMode.PER_COMMAND, NEVER_DUE_MILLIS, 1, performanceStats);
+        Path file = testFolder.resolve("deleted.json");
+        FileUtil.createFile(file);
+        fileSyncer.written(file);
+        Files.delete(file);
+
+        fileSyncer.commit();
+        // Only the directory is left to force
+        assertEquals(1, performanceStats.getSyncCount(DurabilityMode.PER_COMMAND));
+    }
+
+    /**
+     * Saves a small address book {@code times} times through a storage that uses {@code fileSyncer}, and returns
+     * the address book as last saved.
+     */
+    private TuteeManagingSystem save(FileSyncer fileSyncer, int times) throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("TMS.json"),
+                DataCompression.NONE, CompressionUtil.DEFAULT_LEVEL, fileSyncer);
+        TuteeManagingSystem tuteeManagingSystem = new SyntheticRoster().generateTuteeManagingSystem(times + 10);
+        for (int i = 0; i < times; i++) {
+            tuteeManagingSystem.removePerson(tuteeManagingSystem.getPersonList().get(0));
+            storage.saveAddressBook(tuteeManagingSystem);
+        }
+        return tuteeManagingSystem;
+    }
+}
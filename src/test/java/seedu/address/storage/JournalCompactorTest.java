@@ -0,0 +1,100 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.TuteeManagingSystem;
+import seedu.address.model.util.SyntheticRoster;
+
+public class JournalCompactorTest {
+
+    private static final long MAX_BYTES = 1_000_000;
+    private static final long MAX_AGE = 60_000;
+    private static final long IDLE = 10_000;
+
+    @TempDir
+    public Path testFolder;
+
+    private long now;
+
+    @Test
+    public void constructor_invalidThreshold_throwsIllegalArgumentException() {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("TMS.json"));
+        assertThrows(IllegalArgumentException.class, () -> new JournalCompactor(storage, 0, MAX_AGE, IDLE, () -> 0));
+    }
+
+    @Test
+    public void compactIfDue_thresholds() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("TMS.json"));
+        JournalCompactor compactor = new JournalCompactor(storage, MAX_BYTES, MAX_AGE, IDLE, () -> now);
+        TuteeManagingSystem tuteeManagingSystem = new SyntheticRoster().generateTuteeManagingSystem(10);
+        storage.saveAddressBook(tuteeManagingSystem);
+        tuteeManagingSystem.markSaved();
+
+        // No journal
+        now = System.currentTimeMillis() + IDLE * 10;
+        assertFalse(compactor.compactIfDue());
+
+        // Busy, with a small and recent journal
+        tuteeManagingSystem.removePerson(tuteeManagingSystem.getPersonList().get(0));
+        storage.saveAddressBook(tuteeManagingSystem);
+        now = storage.getLastSaveMillis() + 1;
+        assertFalse(compactor.compactIfDue());
+
+        // Idle
+        now = storage.getLastSaveMillis() + IDLE;
+        assertTrue(compactor.compactIfDue());
+        assertFalse(storage.hasJournal());
+    }
+
+    @Test
+    public void compactIfDue_oldJournalWhileBusy_compacted() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("TMS.json"));
+        JournalCompactor compactor = new JournalCompactor(storage, MAX_BYTES, MAX_AGE, IDLE, () -> now);
+        TuteeManagingSystem tuteeManagingSystem = new SyntheticRoster().generateTuteeManagingSystem(10);
+        storage.saveAddressBook(tuteeManagingSystem);
+        tuteeManagingSystem.markSaved();
+
+        tuteeManagingSystem.removePerson(tuteeManagingSystem.getPersonList().get(0));
+        storage.saveAddressBook(tuteeManagingSystem);
+        now = storage.getOldestChangeMillis() + MAX_AGE;
+        tuteeManagingSystem.markSaved();
+        tuteeManagingSystem.removePerson(tuteeManagingSystem.getPersonList().get(0));
+        storage.saveAddressBook(tuteeManagingSystem);
+
+        assertTrue(compactor.compactIfDue());
+        assertEquals(tuteeManagingSystem, new JournaledAddressBookStorage(testFolder.resolve("TMS.json"))
+                .readAddressBook().get());
+    }
+
+    @Test
+    public void compactIfDue_largeJournalWhileBusy_compacted() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("TMS.json"));
+        JournalCompactor compactor = new JournalCompactor(storage, 1, MAX_AGE, IDLE, () -> now);
+        TuteeManagingSystem tuteeManagingSystem = new SyntheticRoster().generateTuteeManagingSystem(10);
+        storage.saveAddressBook(tuteeManagingSystem);
+        tuteeManagingSystem.markSaved();
+
+        tuteeManagingSystem.removePerson(tuteeManagingSystem.getPersonList().get(0));
+        storage.saveAddressBook(tuteeManagingSystem);
+        now = storage.getLastSaveMillis();
+
+        assertTrue(compactor.compactIfDue());
+    }
+
+    @Test
+    public void start_twice_throwsIllegalArgumentException() {
+        JournalCompactor compactor = new JournalCompactor(
+                new JournaledAddressBookStorage(testFolder.resolve("TMS.json")));
+        compactor.start(60_000);
+        assertThrows(IllegalArgumentException.class, () -> compactor.start(60_000));
+        compactor.close();
+    }
+}
@@ -0,0 +1,199 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DataCompression;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.CompressionUtil;
+import seedu.address.model.ReadOnlyTuteeManagingSystem;
+import seedu.address.model.TuteeManagingSystem;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.util.SyntheticRoster;
+import seedu.address.testutil.TuteeTestBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(testFolder.resolve("Missing.json"));
+        assertFalse(storage.readAddressBook().isPresent());
+        assertFalse(storage.readTutees((tutee, fractionRead) -> { }));
+    }
+
+    @Test
+    public void readAddressBook_plainDataFile_readAsSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        TuteeManagingSystem original = new SyntheticRoster().generateTuteeManagingSystem(20);
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(original, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_changesSaved_appendedToJournalOnly() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        List<Tutee> extra = new SyntheticRoster().generate(103).subList(100, 103);
+        TuteeManagingSystem tuteeManagingSystem = saveAndMarkSaved(storage, 100);
+        String snapshot = Files.readString(filePath);
+        long bytesBefore = storage.getBytesWritten();
+
+        changeTutees(tuteeManagingSystem, extra);
+        storage.saveAddressBook(tuteeManagingSystem);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertTrue(storage.hasJournal());
+        assertTrue(storage.getJournalBytes() > 0);
+        assertEquals(Long.valueOf(Files.size(JournaledAddressBookStorage.getJournalFile(filePath, 1))),
+                Long.valueOf(storage.getBytesWritten() - bytesBefore));
+        assertSameTutees(tuteeManagingSystem, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void compact_journalFoldedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, DataCompression.GZIP,
+                CompressionUtil.DEFAULT_LEVEL);
+        TuteeManagingSystem tuteeManagingSystem = saveAndMarkSaved(storage, 100);
+        changeTutees(tuteeManagingSystem, new SyntheticRoster().generate(103).subList(100, 103));
+        storage.saveAddressBook(tuteeManagingSystem);
+
+        assertTrue(storage.compact());
+        assertFalse(storage.hasJournal());
+        assertFalse(storage.compact());
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFile(filePath, 1)));
+        assertSameTutees(tuteeManagingSystem, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_compactionCutShort_recovered() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        TuteeManagingSystem tuteeManagingSystem = saveAndMarkSaved(storage, 100);
+        changeTutees(tuteeManagingSystem, new SyntheticRoster().generate(103).subList(100, 103));
+        storage.saveAddressBook(tuteeManagingSystem);
+        Path journal = JournaledAddressBookStorage.getJournalFile(filePath, 1);
+        Path journalCopy = testFolder.resolve("journal");
+        Files.copy(journal, journalCopy);
+
+        // As if the app stopped after writing the new snapshot, but before deleting the journal it includes
+        storage.compact();
+        Files.copy(journalCopy, journal);
+        Files.writeString(testFolder.resolve("TempAddressBook.json.tmp"), "{ \"persons\" : [");
+
+        JournaledAddressBookStorage restarted = new JournaledAddressBookStorage(filePath);
+        assertSameTutees(tuteeManagingSystem, restarted.readAddressBook().get());
+        assertFalse(Files.exists(journal));
+        assertFalse(Files.exists(testFolder.resolve("TempAddressBook.json.tmp")));
+        assertFalse(restarted.hasJournal());
+    }
+
+    @Test
+    public void readAddressBook_lastJournalLineCutShort_ignored() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        TuteeManagingSystem tuteeManagingSystem = saveAndMarkSaved(storage, 50);
+        changeTutees(tuteeManagingSystem, new SyntheticRoster().generate(53).subList(50, 53));
+        storage.saveAddressBook(tuteeManagingSystem);
+        Files.writeString(JournaledAddressBookStorage.getJournalFile(filePath, 1), "{\"changes\":[{\"tut",
+                StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage restarted = new JournaledAddressBookStorage(filePath);
+        assertSameTutees(tuteeManagingSystem, restarted.readAddressBook().get());
+
+        // Later saves go to a new journal, after the line that was cut short
+        tuteeManagingSystem.markSaved();
+        tuteeManagingSystem.removePerson(tuteeManagingSystem.getPersonList().get(0));
+        restarted.saveAddressBook(tuteeManagingSystem);
+        assertTrue(Files.exists(JournaledAddressBookStorage.getJournalFile(filePath, 2)));
+        assertSameTutees(tuteeManagingSystem, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_invalidJournalLine_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        saveAndMarkSaved(new JournaledAddressBookStorage(filePath), 10);
+        Files.writeString(JournaledAddressBookStorage.getJournalFile(filePath, 1), "not json\n{\"changes\":[]}\n");
+
+        assertThrows(DataConversionException.class, () -> new JournaledAddressBookStorage(filePath)
+                .readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_everythingChanged_newSnapshotWithoutJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        TuteeManagingSystem tuteeManagingSystem = saveAndMarkSaved(storage, 30);
+        tuteeManagingSystem.removePerson(tuteeManagingSystem.getPersonList().get(3));
+        storage.saveAddressBook(tuteeManagingSystem);
+        assertTrue(Files.exists(JournaledAddressBookStorage.getJournalFile(filePath, 1)));
+
+        TuteeManagingSystem replacement = new SyntheticRoster(1).generateTuteeManagingSystem(5);
+        storage.saveAddressBook(replacement);
+
+        assertFalse(storage.hasJournal());
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFile(filePath, 1)));
+        assertEquals(replacement, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    /**
+     * Asserts that {@code actual} lists the same tutees as {@code expected} in the same order, with the same
+     * attendance and remarks, which {@code Tutee#equals} ignores.
+     */
+    private static void assertSameTutees(ReadOnlyTuteeManagingSystem expected, ReadOnlyTuteeManagingSystem actual) {
+        assertEquals(expected, actual);
+        for (int i = 0; i < expected.getPersonList().size(); i++) {
+            Tutee expectedTutee = expected.getPersonList().get(i);
+            Tutee actualTutee = actual.getPersonList().get(i);
+            assertEquals(expectedTutee.getAttendance(), actualTutee.getAttendance());
+            assertEquals(expectedTutee.getRemark(), actualTutee.getRemark());
+        }
+    }
+
+    /**
+     * Saves a roster of {@code count} tutees to {@code storage} and returns it, with no unsaved changes.
+     */
+    private static TuteeManagingSystem saveAndMarkSaved(JournaledAddressBookStorage storage, int count)
+            throws Exception {
+        TuteeManagingSystem tuteeManagingSystem = new SyntheticRoster().generateTuteeManagingSystem(count);
+        storage.saveAddressBook(tuteeManagingSystem);
+        tuteeManagingSystem.markSaved();
+        return tuteeManagingSystem;
+    }
+
+    /**
+     * Marks, edits, removes and adds tutees the way commands do.
+     */
+    private static void changeTutees(TuteeManagingSystem tuteeManagingSystem, List<Tutee> extra) {
+        List<Tutee> tutees = new ArrayList<>(tuteeManagingSystem.getPersonList());
+        Tutee marked = tutees.get(7);
+        tuteeManagingSystem.setPerson(marked, new Tutee(marked.getName(), marked.getPhone(), marked.getEmail(),
+                marked.getAddress(), marked.getAttendance().markAttendance(LocalDate.of(2023, 4, 8)),
+                marked.getRemark(), marked.getSubject(), marked.getSchedule(), marked.getStartTime(),
+                marked.getEndTime(), marked.getTags(), marked.getLessons()));
+        Tutee remarked = tutees.get(8);
+        tuteeManagingSystem.setPerson(remarked, new TuteeTestBuilder(remarked).withRemark("Prefers worked examples")
+                .build());
+        tuteeManagingSystem.removePerson(tutees.get(2));
+        tuteeManagingSystem.addPerson(extra.get(0));
+        tuteeManagingSystem.setPerson(tutees.get(20), extra.get(1));
+        tuteeManagingSystem.addPerson(extra.get(2));
+        tuteeManagingSystem.removePerson(extra.get(0));
+    }
+}
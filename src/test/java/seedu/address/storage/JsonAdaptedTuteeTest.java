@@ -1,6 +1,8 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.BENSON;
@@ -13,10 +15,14 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tutee.Tutee;
 import seedu.address.model.tutee.fields.Address;
 import seedu.address.model.tutee.fields.Email;
 import seedu.address.model.tutee.fields.Name;
 import seedu.address.model.tutee.fields.Phone;
+import seedu.address.model.util.SyntheticRoster;
 
 public class JsonAdaptedTuteeTest {
     private static final String INVALID_NAME = "R@chel";
@@ -56,6 +62,39 @@ public class JsonAdaptedTuteeTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toJsonString_tuteeWithAttendance_attendanceReadBack() throws Exception {
+        Tutee tutee = getTuteeWithAttendance();
+        String json = JsonUtil.toJsonString(new JsonAdaptedPerson(tutee));
+        Tutee readBack = JsonUtil.fromJsonString(json, JsonAdaptedPerson.class).toModelType();
+        assertEquals(tutee.getAttendance(), readBack.getAttendance());
+    }
+
+    @Test
+    public void fromJsonString_attendanceDatesField_readWithoutAttendance() throws Exception {
+        // Files saved before attendance was saved under the name it is read from, which never held any dates
+        Tutee tutee = getTuteeWithAttendance();
+        String json = JsonUtil.toJsonString(new JsonAdaptedPerson(tutee))
+                .replace("\"attendances\"", "\"attendanceDates\"");
+        Tutee readBack = JsonUtil.fromJsonString(json, JsonAdaptedPerson.class).toModelType();
+        assertEquals(tutee, readBack);
+        assertFalse(readBack.getAttendance().stream().findAny().isPresent());
+    }
+
+    @Test
+    public void toModelType_sameFieldValues_sharedInstances() throws Exception {
+        Tutee tutee = new SyntheticRoster().tutee(0);
+        Tutee first = new JsonAdaptedPerson(tutee).toModelType();
+        Tutee second = new JsonAdaptedPerson(tutee).toModelType();
+        assertSame(first.getSubject(), second.getSubject());
+        assertSame(first.getSchedule(), second.getSchedule());
+        assertSame(first.getStartTime(), second.getStartTime());
+        assertSame(first.getEndTime(), second.getEndTime());
+        for (Tag tag : first.getTags()) {
+            assertSame(tag, Tag.of(tag.tagName));
+        }
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
@@ -138,4 +177,10 @@ public class JsonAdaptedTuteeTest {
         assertThrows(IllegalValueException.class, person::toModelType);
     }
 
+
+    private static Tutee getTuteeWithAttendance() {
+        return new SyntheticRoster().stream(100)
+                .filter(tutee -> tutee.getAttendance().stream().findAny().isPresent())
+                .findFirst().get();
+    }
 }
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,15 +10,26 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalTuteeManagingSystem;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.DataCompression;
+import seedu.address.commons.core.DurabilityMode;
+import seedu.address.commons.core.stats.PerformanceStats;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.CompressionUtil;
 import seedu.address.model.ReadOnlyTuteeManagingSystem;
 import seedu.address.model.TuteeManagingSystem;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.util.SyntheticRoster;
 
 public class JsonTuteeManagingSystemStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonTuteeManagingSystemStorageTest");
@@ -88,6 +100,131 @@ public class JsonTuteeManagingSystemStorageTest {
 
     }
 
+    @Test
+    public void saveTutees_generatedRoster_readBackEqual() throws Exception {
+        Path filePath = testFolder.resolve("TempGeneratedAddressBook.json");
+        SyntheticRoster roster = new SyntheticRoster();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        jsonAddressBookStorage.saveTutees(roster.stream(500), filePath);
+        ReadOnlyTuteeManagingSystem readBack = jsonAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(roster.generateTuteeManagingSystem(500), new TuteeManagingSystem(readBack));
+        assertEquals(roster.tutee(123).getAttendance(), readBack.getPersonList().get(123).getAttendance());
+    }
+
+    @Test
+    public void saveTutees_stoppedPartway_previousSaveKept() throws Exception {
+        Path filePath = testFolder.resolve("TempGeneratedAddressBook.json");
+        SyntheticRoster roster = new SyntheticRoster();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveTutees(roster.stream(20), filePath);
+
+        Stream<Tutee> stoppingTutees = IntStream.range(0, 100).mapToObj(i -> {
+            if (i == 50) {
+                throw new IllegalStateException("Stopped partway");
+            }
+            return roster.tutee(i);
+        });
+        assertThrows(IllegalStateException.class, () -> jsonAddressBookStorage.saveTutees(stoppingTutees, filePath));
+        assertEquals(roster.generateTuteeManagingSystem(20),
+                new TuteeManagingSystem(jsonAddressBookStorage.readAddressBook(filePath).get()));
+    }
+
+    @Test
+    public void saveTutees_perCommand_movedIntoPlaceInOneSync() throws Exception {
+        Path filePath = testFolder.resolve("TempGeneratedAddressBook.json");
+        PerformanceStats performanceStats = new PerformanceStats();
+        FileSyncer fileSyncer = new FileSyncer(DurabilityMode.PER_COMMAND, DurabilityMode.DEFAULT_GROUP_COMMIT_MILLIS,
+                DurabilityMode.DEFAULT_GROUP_COMMIT_COMMANDS, performanceStats);
+        new JsonAddressBookStorage(filePath, DataCompression.NONE, CompressionUtil.DEFAULT_LEVEL, fileSyncer)
+                .saveTutees(new SyntheticRoster().stream(20), filePath);
+
+        assertEquals(Long.valueOf(1), Long.valueOf(performanceStats.getSyncCount(DurabilityMode.PER_COMMAND)));
+        assertEquals(Long.valueOf(1), Long.valueOf(performanceStats.getSyncedCommandCount(DurabilityMode.PER_COMMAND)));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(Long.valueOf(1), Long.valueOf(files.count()));
+        }
+    }
+
+    @Test
+    public void saveAddressBook_compressed_smallerAndReadBackEqual() throws Exception {
+        TuteeManagingSystem original = new SyntheticRoster().generateTuteeManagingSystem(300);
+        Path plainPath = testFolder.resolve("TempPlainAddressBook.json");
+        new JsonAddressBookStorage(plainPath).saveAddressBook(original);
+
+        for (DataCompression compression : List.of(DataCompression.GZIP, DataCompression.DEFLATE)) {
+            Path filePath = testFolder.resolve("TempCompressedAddressBook.json");
+            JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, compression,
+                    CompressionUtil.MAX_LEVEL);
+            jsonAddressBookStorage.saveAddressBook(original);
+
+            assertTrue(Files.size(filePath) * 4 < Files.size(plainPath));
+            assertEquals(original, new TuteeManagingSystem(jsonAddressBookStorage.readAddressBook().get()));
+            List<Tutee> readBack = new ArrayList<>();
+            List<Double> fractionsRead = new ArrayList<>();
+            assertTrue(jsonAddressBookStorage.readTutees((tutee, fractionRead) -> {
+                readBack.add(tutee);
+                fractionsRead.add(fractionRead);
+            }));
+            assertEquals(original.getPersonList(), readBack);
+            assertTrue(fractionsRead.get(fractionsRead.size() - 1) <= 1);
+        }
+
+        // Plain files are still read by a storage that compresses
+        assertEquals(original, new TuteeManagingSystem(new JsonAddressBookStorage(plainPath, DataCompression.GZIP,
+                CompressionUtil.DEFAULT_LEVEL).readAddressBook().get()));
+    }
+
+    @Test
+    public void constructor_invalidCompressionLevel_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new JsonAddressBookStorage(Paths.get("SomeFile.json"),
+                DataCompression.GZIP, CompressionUtil.MAX_LEVEL + 1));
+    }
+
+    @Test
+    public void readTutees_generatedRoster_allInOrder() throws Exception {
+        Path filePath = testFolder.resolve("TempGeneratedAddressBook.json");
+        List<Tutee> tutees = new SyntheticRoster().generate(300);
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveTutees(tutees.stream(), filePath);
+
+        List<Tutee> readBack = new ArrayList<>();
+        List<Double> fractionsRead = new ArrayList<>();
+        assertTrue(jsonAddressBookStorage.readTutees((tutee, fractionRead) -> {
+            readBack.add(tutee);
+            fractionsRead.add(fractionRead);
+        }));
+
+        assertEquals(tutees, readBack);
+        for (int i = 1; i < fractionsRead.size(); i++) {
+            assertTrue(fractionsRead.get(i) >= fractionsRead.get(i - 1));
+        }
+        assertTrue(fractionsRead.get(0) > 0 && fractionsRead.get(fractionsRead.size() - 1) <= 1);
+    }
+
+    @Test
+    public void readTutees_missingFile_returnsFalse() throws Exception {
+        assertFalse(new JsonAddressBookStorage(TEST_DATA_FOLDER.resolve("NonExistentFile.json"))
+                .readTutees((tutee, fractionRead) -> { }));
+    }
+
+    @Test
+    public void readTutees_invalidAndValidPerson_throwDataConversionException() {
+        JsonAddressBookStorage jsonAddressBookStorage =
+                new JsonAddressBookStorage(TEST_DATA_FOLDER.resolve("invalidAndValidPersonTuteeManagingSystem.json"));
+        assertThrows(DataConversionException.class, () -> jsonAddressBookStorage.readTutees((tutee, fraction) -> { }));
+    }
+
+    @Test
+    public void readTutees_sameLessonTwice_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempDuplicateAddressBook.json");
+        Tutee tutee = new SyntheticRoster().tutee(0);
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveTutees(Stream.of(tutee, tutee), filePath);
+
+        assertThrows(DataConversionException.class, () -> jsonAddressBookStorage.readTutees((read, fraction) -> { }));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
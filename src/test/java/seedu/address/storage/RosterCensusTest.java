@@ -0,0 +1,54 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.ColumnarTuteeManagingSystem;
+import seedu.address.model.TuteeManagingSystem;
+import seedu.address.model.util.SyntheticRoster;
+
+public class RosterCensusTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(RosterCensus.read(new JsonAddressBookStorage(testFolder.resolve("Missing.json"))).isPresent());
+    }
+
+    @Test
+    public void read_dataFile_sameTuteesInSameOrder() throws Exception {
+        Path filePath = testFolder.resolve("TMS.json");
+        SyntheticRosterFile.write(300, SyntheticRoster.DEFAULT_SEED, filePath);
+        TuteeManagingSystem expected = new SyntheticRoster().generateTuteeManagingSystem(300);
+
+        ColumnarTuteeManagingSystem roster = RosterCensus.read(new JsonAddressBookStorage(filePath)).get();
+        assertEquals(expected.getPersonList(), roster.getPersonList());
+    }
+
+    @Test
+    public void summarise_countsByDayAndSubject() {
+        TuteeManagingSystem tutees = new SyntheticRoster().generateTuteeManagingSystem(300);
+        ColumnarTuteeManagingSystem roster = new ColumnarTuteeManagingSystem(tutees);
+        LocalDate date = LocalDate.of(2023, 4, 8);
+
+        String summary = RosterCensus.summarise(roster, Optional.of(date));
+        assertTrue(summary.startsWith("Tutees: 300\n"));
+        long mondays = tutees.getPersonList().stream()
+                .filter(tutee -> tutee.getSchedule().getDayOfWeek() == DayOfWeek.MONDAY).count();
+        assertTrue(summary.contains("\nMONDAY: " + mondays + "\n"));
+        long attended = tutees.getPersonList().stream()
+                .filter(tutee -> tutee.getAttendance().stream().anyMatch(date::equals)).count();
+        assertTrue(summary.endsWith("\nAttended on 2023-04-08: " + attended));
+    }
+}
@@ -0,0 +1,255 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.TuteeManagingSystem;
+import seedu.address.model.tutee.Tutee;
+import seedu.address.model.util.SyntheticRoster;
+
+public class SegmentedAddressBookStorageTest {
+
+    private static final FileTime UNTOUCHED = FileTime.fromMillis(0);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(testFolder.resolve("Missing.json"));
+        assertFalse(storage.readAddressBook().isPresent());
+        assertFalse(storage.readTutees((tutee, fractionRead) -> { }));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath);
+        TuteeManagingSystem original = new SyntheticRoster().generateTuteeManagingSystem(300);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+
+        List<Tutee> readBack = new ArrayList<>();
+        assertTrue(storage.readTutees((tutee, fractionRead) -> readBack.add(tutee)));
+        assertEquals(original.getPersonList(), readBack);
+
+        // Read with a new storage, as when the app is started again
+        assertEquals(original, new SegmentedAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_oneTuteeMarked_onlyItsSegmentWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath);
+        TuteeManagingSystem tuteeManagingSystem = new SyntheticRoster().generateTuteeManagingSystem(300);
+        storage.saveAddressBook(tuteeManagingSystem);
+        tuteeManagingSystem.markSaved();
+
+        Tutee target = tuteeManagingSystem.getPersonList().get(42);
+        tuteeManagingSystem.setPerson(target, markAttended(target, LocalDate.of(2023, 4, 8)));
+        markUntouched(filePath);
+        storage.saveAddressBook(tuteeManagingSystem);
+
+        // The manifest, and a new file for the segment of the tutee in place of its old one
+        List<Path> touchedFiles = getTouchedFiles(filePath);
+        assertEquals(2, touchedFiles.size());
+        assertEquals(filePath, touchedFiles.get(0));
+        assertTrue(touchedFiles.get(1).getFileName().toString().startsWith(String.format("segment-%04d-",
+                SegmentedAddressBookStorage.segmentOf(target, 16))));
+        assertEquals(16, listSegments(filePath).size());
+        assertEquals(tuteeManagingSystem, new SegmentedAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_tuteeRemoved_manifestAndSegmentRewritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath);
+        storage.saveAddressBook(new SyntheticRoster().generateTuteeManagingSystem(100));
+        TuteeManagingSystem tuteeManagingSystem = (TuteeManagingSystem) storage.readAddressBook().get();
+        tuteeManagingSystem.markSaved();
+
+        tuteeManagingSystem.removePerson(tuteeManagingSystem.getPersonList().get(0));
+        markUntouched(filePath);
+        storage.saveAddressBook(tuteeManagingSystem);
+
+        assertEquals(2, getTouchedFiles(filePath).size());
+        assertNotEquals(UNTOUCHED, Files.getLastModifiedTime(filePath));
+        assertEquals(tuteeManagingSystem, new SegmentedAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_tuteesRemovedAndRestored_orderKept() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath);
+        TuteeManagingSystem tuteeManagingSystem = new SyntheticRoster().generateTuteeManagingSystem(100);
+        tuteeManagingSystem.clearHistory();
+        storage.saveAddressBook(tuteeManagingSystem);
+        tuteeManagingSystem.markSaved();
+
+        tuteeManagingSystem.removePerson(tuteeManagingSystem.getPersonList().get(40));
+        tuteeManagingSystem.removePerson(tuteeManagingSystem.getPersonList().get(40));
+        tuteeManagingSystem.commit();
+        storage.saveAddressBook(tuteeManagingSystem);
+        tuteeManagingSystem.markSaved();
+
+        // Put back between the tutees that were their neighbours, which kept their positions
+        tuteeManagingSystem.undo();
+        Tutee target = tuteeManagingSystem.getPersonList().get(0);
+        tuteeManagingSystem.setPerson(target, markAttended(target, LocalDate.of(2023, 4, 8)));
+        tuteeManagingSystem.addPerson(new SyntheticRoster().tutee(100));
+        storage.saveAddressBook(tuteeManagingSystem);
+
+        TuteeManagingSystem readBack = (TuteeManagingSystem) new SegmentedAddressBookStorage(filePath)
+                .readAddressBook().get();
+        assertEquals(tuteeManagingSystem.getPersonList(), readBack.getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_moreTutees_manifestSameSize() throws Exception {
+        Path fewPath = testFolder.resolve("Few.json");
+        Path manyPath = testFolder.resolve("Many.json");
+        int manyTutees = SegmentedAddressBookStorage.TUTEES_PER_SEGMENT * SegmentedAddressBookStorage.MIN_SEGMENT_COUNT;
+        new SegmentedAddressBookStorage(fewPath).saveAddressBook(new SyntheticRoster().generateTuteeManagingSystem(10));
+        new SegmentedAddressBookStorage(manyPath).saveAddressBook(
+                new SyntheticRoster().generateTuteeManagingSystem(manyTutees));
+
+        // Only the number of tutees in each segment grows, not the number of entries
+        assertTrue(Files.size(manyPath) - Files.size(fewPath) < 4 * SegmentedAddressBookStorage.MIN_SEGMENT_COUNT);
+    }
+
+    @Test
+    public void saveAddressBook_fewerTutees_leftoverSegmentsRemoved() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath);
+        int manyTutees = SegmentedAddressBookStorage.TUTEES_PER_SEGMENT
+                * SegmentedAddressBookStorage.MIN_SEGMENT_COUNT * 2;
+        storage.saveAddressBook(new SyntheticRoster().generateTuteeManagingSystem(manyTutees));
+        assertEquals(SegmentedAddressBookStorage.MIN_SEGMENT_COUNT * 2, listSegments(filePath).size());
+
+        TuteeManagingSystem fewTutees = new SyntheticRoster().generateTuteeManagingSystem(10);
+        storage.saveAddressBook(fewTutees);
+        assertEquals(SegmentedAddressBookStorage.MIN_SEGMENT_COUNT, listSegments(filePath).size());
+        assertEquals(fewTutees, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_saveStoppedBeforeManifest_previousSaveRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path backupPath = testFolder.resolve("Backup.json");
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(filePath);
+        TuteeManagingSystem tuteeManagingSystem = new SyntheticRoster().generateTuteeManagingSystem(50);
+        storage.saveAddressBook(tuteeManagingSystem);
+        tuteeManagingSystem.markSaved();
+        copyFiles(filePath, backupPath);
+
+        Tutee target = tuteeManagingSystem.getPersonList().get(7);
+        TuteeManagingSystem expected = new TuteeManagingSystem(tuteeManagingSystem);
+        tuteeManagingSystem.setPerson(target, markAttended(target, LocalDate.of(2023, 4, 8)));
+        tuteeManagingSystem.removePerson(tuteeManagingSystem.getPersonList().get(0));
+        storage.saveAddressBook(tuteeManagingSystem);
+        // As if the app stopped after writing the segments of the second save but before moving its manifest
+        copyFiles(backupPath, filePath);
+
+        TuteeManagingSystem readBack = (TuteeManagingSystem) new SegmentedAddressBookStorage(filePath)
+                .readAddressBook().get();
+        assertEquals(expected, readBack);
+        assertEquals(expected.getPersonList().get(7).getAttendance(), readBack.getPersonList().get(7).getAttendance());
+    }
+
+    @Test
+    public void readAddressBook_segmentChanged_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new SegmentedAddressBookStorage(filePath).saveAddressBook(
+                new SyntheticRoster().generateTuteeManagingSystem(50));
+        Path segment = listSegments(filePath).get(0);
+        Files.writeString(segment, "{ \"persons\" : [ ] }");
+
+        assertThrows(DataConversionException.class, () -> new SegmentedAddressBookStorage(filePath)
+                .readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidManifest_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Files.writeString(filePath, "{ \"segmentCount\" : 16, \"segments\" : [ ] }");
+        assertThrows(DataConversionException.class, () -> new SegmentedAddressBookStorage(filePath)
+                .readAddressBook());
+    }
+
+    @Test
+    public void getSegmentCount() {
+        assertEquals(SegmentedAddressBookStorage.MIN_SEGMENT_COUNT, SegmentedAddressBookStorage.getSegmentCount(0));
+        assertEquals(64,
+                SegmentedAddressBookStorage.getSegmentCount(64 * SegmentedAddressBookStorage.TUTEES_PER_SEGMENT));
+        assertEquals(SegmentedAddressBookStorage.MAX_SEGMENT_COUNT,
+                SegmentedAddressBookStorage.getSegmentCount(Integer.MAX_VALUE));
+    }
+
+    private static Tutee markAttended(Tutee tutee, LocalDate date) {
+        return new Tutee(tutee.getName(), tutee.getPhone(), tutee.getEmail(), tutee.getAddress(),
+                tutee.getAttendance().markAttendance(date), tutee.getRemark(), tutee.getSubject(),
+                tutee.getSchedule(), tutee.getStartTime(), tutee.getEndTime(), tutee.getTags(), tutee.getLessons());
+    }
+
+    /**
+     * Copies the manifest at {@code from} over the one at {@code to}, and its segment files into the segments
+     * directory of {@code to}, leaving the other files there.
+     */
+    private static void copyFiles(Path from, Path to) throws IOException {
+        Files.copy(from, to, StandardCopyOption.REPLACE_EXISTING);
+        Path toDirectory = SegmentedAddressBookStorage.getSegmentsDirectory(to);
+        Files.createDirectories(toDirectory);
+        for (Path segment : listSegments(from)) {
+            Files.copy(segment, toDirectory.resolve(segment.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static List<Path> listSegments(Path filePath) throws IOException {
+        try (Stream<Path> files = Files.list(SegmentedAddressBookStorage.getSegmentsDirectory(filePath))) {
+            return files.sorted().collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Sets the modification time of the manifest and every segment to {@link #UNTOUCHED}.
+     */
+    private static void markUntouched(Path filePath) throws IOException {
+        Files.setLastModifiedTime(filePath, UNTOUCHED);
+        for (Path segment : listSegments(filePath)) {
+            Files.setLastModifiedTime(segment, UNTOUCHED);
+        }
+    }
+
+    /**
+     * Returns the manifest and segments written since {@link #markUntouched(Path)}.
+     */
+    private static List<Path> getTouchedFiles(Path filePath) throws IOException {
+        List<Path> touched = new ArrayList<>();
+        for (Path file : Stream.concat(Stream.of(filePath), listSegments(filePath).stream())
+                .collect(Collectors.toList())) {
+            if (!Files.getLastModifiedTime(file).equals(UNTOUCHED)) {
+                touched.add(file);
+            }
+        }
+        return touched;
+    }
+}